@@ -0,0 +1,124 @@
+package de.dytanic.cloudnet.common.document.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import de.dytanic.cloudnet.common.Validate;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field level deltas between two json objects. A delta contains every changed field of the current object, nested
+ * objects are compared field by field and other values, like arrays, are replaced completely. A removed field is
+ * contained as json null.
+ */
+public final class JsonDelta {
+
+    private JsonDelta()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the delta from the previous to the current object
+     *
+     * @param previous the previous object
+     * @param current  the current object
+     * @return the delta, which is empty if both objects are equal
+     */
+    public static JsonObject diff(JsonObject previous, JsonObject current)
+    {
+        Validate.checkNotNull(previous);
+        Validate.checkNotNull(current);
+
+        JsonObject delta = new JsonObject();
+
+        for (Map.Entry<String, JsonElement> entry : current.entrySet())
+        {
+            JsonElement previousValue = previous.get(entry.getKey());
+
+            if (Objects.equals(previousValue, entry.getValue())) continue;
+
+            if (previousValue != null && previousValue.isJsonObject() && entry.getValue().isJsonObject())
+                delta.add(entry.getKey(), diff(previousValue.getAsJsonObject(), entry.getValue().getAsJsonObject()));
+            else
+                delta.add(entry.getKey(), entry.getValue());
+        }
+
+        for (Map.Entry<String, JsonElement> entry : previous.entrySet())
+            if (!current.has(entry.getKey()))
+                delta.add(entry.getKey(), JsonNull.INSTANCE);
+
+        return delta;
+    }
+
+    /**
+     * Applies a delta to an object, without changing one of them. A field, which is json null in the delta, is removed
+     * from the object
+     *
+     * @param object the object
+     * @param delta  the delta
+     * @return the changed object
+     */
+    public static JsonObject apply(JsonObject object, JsonObject delta)
+    {
+        Validate.checkNotNull(object);
+        Validate.checkNotNull(delta);
+
+        JsonObject result = copy(object);
+
+        for (Map.Entry<String, JsonElement> entry : delta.entrySet())
+        {
+            JsonElement value = object.get(entry.getKey());
+
+            if (entry.getValue().isJsonNull())
+                result.remove(entry.getKey());
+            else if (entry.getValue().isJsonObject())
+                result.add(entry.getKey(), apply(value != null && value.isJsonObject() ? value.getAsJsonObject() : new JsonObject(),
+                    entry.getValue().getAsJsonObject()));
+            else
+                result.add(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    /**
+     * Merges a later delta into an earlier delta, without changing one of them. The removed fields stay json null in
+     * the merged delta, use {@link #apply(JsonObject, JsonObject)} to apply a delta to an object
+     *
+     * @param earlier the earlier delta
+     * @param later   the later delta
+     * @return the merged delta
+     */
+    public static JsonObject merge(JsonObject earlier, JsonObject later)
+    {
+        Validate.checkNotNull(earlier);
+        Validate.checkNotNull(later);
+
+        JsonObject result = copy(earlier);
+
+        for (Map.Entry<String, JsonElement> entry : later.entrySet())
+        {
+            JsonElement earlierValue = earlier.get(entry.getKey());
+
+            if (earlierValue != null && earlierValue.isJsonObject() && entry.getValue().isJsonObject())
+                result.add(entry.getKey(), merge(earlierValue.getAsJsonObject(), entry.getValue().getAsJsonObject()));
+            else
+                result.add(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    private static JsonObject copy(JsonObject object)
+    {
+        JsonObject result = new JsonObject();
+
+        for (Map.Entry<String, JsonElement> entry : object.entrySet())
+            result.add(entry.getKey(), entry.getValue());
+
+        return result;
+    }
+}
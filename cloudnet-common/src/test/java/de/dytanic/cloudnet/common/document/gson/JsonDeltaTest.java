@@ -0,0 +1,63 @@
+package de.dytanic.cloudnet.common.document.gson;
+
+import com.google.gson.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonDeltaTest {
+
+    @Test
+    public void testDiffAndMerge()
+    {
+        JsonObject previous = new JsonDocument()
+            .append("creationTime", 1)
+            .append("processSnapshot", new JsonDocument("heapUsageMemory", 100).append("cpuUsage", 2.5))
+            .append("properties", new JsonDocument("Players", new String[]{"a", "b"}).append("Motd", "Hello"))
+            .append("removed", true)
+            .toJsonObject();
+
+        JsonObject current = new JsonDocument()
+            .append("creationTime", 2)
+            .append("processSnapshot", new JsonDocument("heapUsageMemory", 100).append("cpuUsage", 3.5))
+            .append("properties", new JsonDocument("Players", new String[]{"a", "b", "c"}).append("Motd", "Hello"))
+            .toJsonObject();
+
+        JsonObject delta = JsonDelta.diff(previous, current);
+
+        Assert.assertEquals(4, delta.size());
+        Assert.assertEquals(1, delta.getAsJsonObject("processSnapshot").size());
+        Assert.assertEquals(3, delta.getAsJsonObject("properties").getAsJsonArray("Players").size());
+        Assert.assertFalse(delta.getAsJsonObject("properties").has("Motd"));
+        Assert.assertTrue(delta.get("removed").isJsonNull());
+
+        JsonObject result = JsonDelta.apply(previous, delta);
+
+        Assert.assertFalse(result.has("removed"));
+        Assert.assertEquals(current, result);
+        Assert.assertEquals(0, JsonDelta.diff(current, current).size());
+        Assert.assertTrue(previous.has("removed"));
+    }
+
+    @Test
+    public void testMergeDeltas()
+    {
+        JsonObject first = new JsonDocument("processSnapshot", new JsonDocument("cpuUsage", 2.5).append("threads", 10))
+            .append("removed", true)
+            .toJsonObject();
+
+        JsonObject second = new JsonDocument("processSnapshot", new JsonDocument("cpuUsage", 3.5)).append("properties", new JsonDocument("Motd", "Hello"))
+            .toJsonObject();
+
+        JsonObject third = new JsonDocument("processSnapshot", new JsonDocument("cpuUsage", 4.5)).append("properties", new JsonDocument("Online", true))
+            .toJsonObject();
+
+        JsonObject firstDelta = JsonDelta.diff(first, second), secondDelta = JsonDelta.diff(second, third);
+        JsonObject merged = JsonDelta.merge(firstDelta, secondDelta);
+
+        Assert.assertTrue(merged.get("removed").isJsonNull());
+        Assert.assertTrue(merged.getAsJsonObject("processSnapshot").get("threads").isJsonNull());
+        Assert.assertTrue(merged.getAsJsonObject("properties").get("Motd").isJsonNull());
+        Assert.assertEquals(third, JsonDelta.apply(first, merged));
+        Assert.assertEquals(third, JsonDelta.apply(JsonDelta.apply(first, firstDelta), secondDelta));
+    }
+}
@@ -1,6 +1,9 @@
 package de.dytanic.cloudnet.driver.event;
 
 import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 
 import java.lang.reflect.Method;
 import java.util.*;
@@ -11,6 +14,8 @@ public final class DefaultEventManager implements IEventManager {
     //Map<Channel, Listeners>
     private final Map<String, List<IRegisteredEventListener>> registeredListeners = new HashMap<>();
 
+    private final Map<Class<?>, Histogram> dispatchTimes = Maps.newConcurrentHashMap();
+
     @Override
     public IEventManager registerListener(Object listener)
     {
@@ -94,7 +99,15 @@ public final class DefaultEventManager implements IEventManager {
         if (channel == null) channel = "*";
         Validate.checkNotNull(event);
 
+        long startNanos = System.nanoTime();
+
         fireEvent(channel, event);
+
+        this.dispatchTimes.computeIfAbsent(event.getClass(), eventClass -> MetricsRegistry.getDefault().timer(
+            "cloudnet_event_dispatch_seconds",
+            "The time, which the listeners need to handle an event",
+            "event", eventClass.getSimpleName()
+        )).recordSince(startNanos);
         return event;
     }
 
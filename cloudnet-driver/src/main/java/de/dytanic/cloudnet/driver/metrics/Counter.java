@@ -0,0 +1,39 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonic counter, which can be incremented concurrently without contention
+ */
+public final class Counter extends Metric {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help, String[] labels)
+    {
+        super(name, help, labels);
+    }
+
+    public void increment()
+    {
+        this.value.increment();
+    }
+
+    public void add(long amount)
+    {
+        if (amount < 0) throw new IllegalArgumentException("A counter can't be decreased");
+
+        this.value.add(amount);
+    }
+
+    public long get()
+    {
+        return this.value.sum();
+    }
+
+    @Override
+    public MetricType getType()
+    {
+        return MetricType.COUNTER;
+    }
+}
@@ -0,0 +1,39 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import de.dytanic.cloudnet.common.Validate;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A gauge, which reads its current value from a supplier when the metrics are collected
+ */
+public final class Gauge extends Metric {
+
+    private final DoubleSupplier supplier;
+
+    Gauge(String name, String help, DoubleSupplier supplier, String[] labels)
+    {
+        super(name, help, labels);
+
+        Validate.checkNotNull(supplier);
+
+        this.supplier = supplier;
+    }
+
+    public double get()
+    {
+        try
+        {
+            return this.supplier.getAsDouble();
+        } catch (Exception ex)
+        {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public MetricType getType()
+    {
+        return MetricType.GAUGE;
+    }
+}
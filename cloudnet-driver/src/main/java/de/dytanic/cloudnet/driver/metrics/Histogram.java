@@ -0,0 +1,158 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import de.dytanic.cloudnet.common.Validate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram with log-linear buckets, like a HdrHistogram with a fixed precision. Every power of two is
+ * split into 8 linear sub buckets, so that a recorded value is resolved with a relative error of at most 12.5%, from 0
+ * up to 2^40. Larger values are counted in the highest bucket.
+ * <p>
+ * The values are recorded in their raw unit, for example nanoseconds. The scale converts them into the unit of the
+ * exposition, for example seconds, in which the exposition bounds are given.
+ */
+public final class Histogram extends Metric {
+
+    private static final int SUB_BUCKET_BITS = 3, SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS, MAX_VALUE_BITS = 40;
+
+    private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final double scale;
+
+    private final double[] exposedBounds;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder(), sum = new LongAdder();
+
+    Histogram(String name, String help, double scale, double[] exposedBounds, String[] labels)
+    {
+        super(name, help, labels);
+
+        Validate.checkNotNull(exposedBounds);
+
+        for (int index = 1; index < exposedBounds.length; index++)
+            if (exposedBounds[index] <= exposedBounds[index - 1])
+                throw new IllegalArgumentException("The bounds of " + name + " have to be in ascending order");
+
+        this.scale = scale;
+        this.exposedBounds = exposedBounds.clone();
+    }
+
+    public void record(long value)
+    {
+        if (value < 0) value = 0;
+
+        this.buckets.incrementAndGet(indexOf(value));
+        this.count.increment();
+        this.sum.add(value);
+    }
+
+    /**
+     * Records the time, which has passed since the given System.nanoTime() value
+     */
+    public void recordSince(long startNanos)
+    {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long duration, TimeUnit timeUnit)
+    {
+        this.record(timeUnit.toNanos(duration));
+    }
+
+    public long getCount()
+    {
+        return this.count.sum();
+    }
+
+    public long getSum()
+    {
+        return this.sum.sum();
+    }
+
+    public double getScale()
+    {
+        return this.scale;
+    }
+
+    public double[] getExposedBounds()
+    {
+        return this.exposedBounds.clone();
+    }
+
+    /**
+     * Returns the count of recorded values, which are less than or equal to the given value within the precision of
+     * the histogram
+     */
+    public long getCountAtOrBelow(long value)
+    {
+        if (value < 0) return 0;
+
+        long count = 0;
+
+        for (int index = 0, max = indexOf(value); index <= max; index++)
+            count += this.buckets.get(index);
+
+        return count;
+    }
+
+    /**
+     * Returns the highest value of the bucket, which contains the given percentile
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the raw value or -1, if nothing was recorded
+     */
+    public long getPercentile(double percentile)
+    {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+
+        for (int index = 0; index < counts.length; index++)
+            total += counts[index] = this.buckets.get(index);
+
+        if (total == 0) return -1;
+
+        long threshold = Math.max(1, (long) Math.ceil(total * (percentile / 100D))), current = 0;
+
+        for (int index = 0; index < counts.length; index++)
+            if ((current += counts[index]) >= threshold)
+                return highestValueOf(index);
+
+        return highestValueOf(BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public MetricType getType()
+    {
+        return MetricType.HISTOGRAM;
+    }
+
+    /*= ---------------------------------------------------------- =*/
+
+    static int indexOf(long value)
+    {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        if (exponent >= MAX_VALUE_BITS) return BUCKET_COUNT - 1;
+
+        int shift = exponent - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    static long highestValueOf(int index)
+    {
+        if (index < SUB_BUCKET_COUNT) return index;
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
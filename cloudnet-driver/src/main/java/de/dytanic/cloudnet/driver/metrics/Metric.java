@@ -0,0 +1,59 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import de.dytanic.cloudnet.common.Validate;
+import lombok.Getter;
+
+/**
+ * A named metric of the MetricsRegistry. Metrics with the same name differ by their labels, the labels are given
+ * as alternating label names and values.
+ */
+@Getter
+public abstract class Metric {
+
+    protected final String name, help;
+
+    protected final String[] labels;
+
+    protected Metric(String name, String help, String[] labels)
+    {
+        Validate.checkNotNull(name);
+        Validate.checkNotNull(help);
+        Validate.checkNotNull(labels);
+
+        if (!isValidName(name))
+            throw new IllegalArgumentException("Invalid metric name " + name);
+
+        if (labels.length % 2 != 0)
+            throw new IllegalArgumentException("The labels of " + name + " have to be pairs of names and values");
+
+        for (int index = 0; index < labels.length; index += 2)
+            if (labels[index] == null || labels[index + 1] == null || !isValidName(labels[index]) || labels[index].indexOf(':') != -1)
+                throw new IllegalArgumentException("Invalid label of " + name + " at index " + index);
+
+        this.name = name;
+        this.help = help;
+        this.labels = labels.clone();
+    }
+
+    public abstract MetricType getType();
+
+    public String[] getLabels()
+    {
+        return this.labels.clone();
+    }
+
+    static boolean isValidName(String name)
+    {
+        if (name.isEmpty()) return false;
+
+        for (int index = 0; index < name.length(); index++)
+        {
+            char c = name.charAt(index);
+
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_' || c == ':' || index > 0 && c >= '0' && c <= '9'))
+                return false;
+        }
+
+        return true;
+    }
+}
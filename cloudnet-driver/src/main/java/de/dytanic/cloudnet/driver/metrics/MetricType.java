@@ -0,0 +1,23 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+public enum MetricType {
+
+    COUNTER("counter"),
+    GAUGE("gauge"),
+    HISTOGRAM("histogram");
+
+    private final String name;
+
+    MetricType(String name)
+    {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the type in the text exposition format
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+}
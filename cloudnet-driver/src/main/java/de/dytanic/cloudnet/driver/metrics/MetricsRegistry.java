@@ -0,0 +1,140 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Maps;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The registry of the metrics of this process. The hot paths of the driver and the node lookup their metrics once and
+ * keep them in static fields, recording a value is lock-free.
+ * <p>
+ * A counter or histogram, which is registered again with the same name and labels, returns the existing one. A gauge
+ * replaces the existing one, so that a reloaded module can register its gauges again.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * The exposition bounds in seconds of the histograms, which are created by timer()
+     */
+    public static final double[] DURATION_BOUNDS = {
+        0.0001, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60
+    };
+
+    /**
+     * The exposition bounds in bytes for the histograms of packet and payload sizes
+     */
+    public static final double[] SIZE_BOUNDS = {
+        64, 256, 1024, 4096, 16384, 65536, 262144, 1048576, 4194304
+    };
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, Metric> metrics = Maps.newConcurrentHashMap();
+
+    public static MetricsRegistry getDefault()
+    {
+        return DEFAULT;
+    }
+
+    public Counter counter(String name, String help, String... labels)
+    {
+        return this.register(new Counter(name, help, labels), false);
+    }
+
+    public Gauge gauge(String name, String help, DoubleSupplier supplier, String... labels)
+    {
+        return this.register(new Gauge(name, help, supplier, labels), true);
+    }
+
+    /**
+     * Returns a histogram of durations, which are recorded in nanoseconds and exposed in seconds
+     */
+    public Histogram timer(String name, String help, String... labels)
+    {
+        return this.histogram(name, help, 1e-9, DURATION_BOUNDS, labels);
+    }
+
+    /**
+     * Returns a histogram of values
+     *
+     * @param scale         the factor, which converts a recorded value into the unit of the exposition
+     * @param exposedBounds the ascending bucket bounds of the exposition
+     */
+    public Histogram histogram(String name, String help, double scale, double[] exposedBounds, String... labels)
+    {
+        return this.register(new Histogram(name, help, scale, exposedBounds, labels), false);
+    }
+
+    public Metric getMetric(String name, String... labels)
+    {
+        Validate.checkNotNull(name);
+        Validate.checkNotNull(labels);
+
+        return this.metrics.get(key(name, labels));
+    }
+
+    public void unregister(Metric metric)
+    {
+        Validate.checkNotNull(metric);
+
+        this.metrics.remove(key(metric.name, metric.labels), metric);
+    }
+
+    /**
+     * Removes all metrics with the given name
+     */
+    public void unregister(String name)
+    {
+        Validate.checkNotNull(name);
+
+        this.metrics.values().removeIf(metric -> metric.name.equals(name));
+    }
+
+    public Collection<Metric> getMetrics()
+    {
+        return Collections.unmodifiableCollection(this.metrics.values());
+    }
+
+    /*= ---------------------------------------------------------- =*/
+
+    @SuppressWarnings("unchecked")
+    private <T extends Metric> T register(T metric, boolean replace)
+    {
+        for (Metric registered : this.metrics.values())
+            if (registered.name.equals(metric.name) && registered.getType() != metric.getType())
+                throw new IllegalArgumentException("The metric " + metric.name + " is already registered as " + registered.getType());
+
+        String key = key(metric.name, metric.labels);
+
+        if (replace)
+        {
+            this.metrics.put(key, metric);
+            return metric;
+        }
+
+        Metric registered = this.metrics.putIfAbsent(key, metric);
+
+        if (registered == null) return metric;
+
+        if (registered.getType() != metric.getType())
+            throw new IllegalArgumentException("The metric " + metric.name + " is already registered as " + registered.getType());
+
+        return (T) registered;
+    }
+
+    private static String key(String name, String[] labels)
+    {
+        if (labels.length == 0) return name;
+
+        StringBuilder stringBuilder = new StringBuilder(name);
+
+        for (String label : labels)
+            stringBuilder.append('\u0000').append(label);
+
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes metrics in the Prometheus text exposition format, version 0.0.4
+ */
+public final class MetricsTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private MetricsTextFormat()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public static String write(Collection<Metric> metrics)
+    {
+        StringBuilder stringBuilder = new StringBuilder();
+        write(metrics, stringBuilder);
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the metrics, grouped by their names, to the builder
+     */
+    public static void write(Collection<Metric> metrics, StringBuilder stringBuilder)
+    {
+        Validate.checkNotNull(metrics);
+        Validate.checkNotNull(stringBuilder);
+
+        List<Metric> sortedMetrics = Iterables.newArrayList(metrics);
+        sortedMetrics.sort(Comparator.comparing(Metric::getName));
+
+        String currentName = null;
+
+        for (Metric metric : sortedMetrics)
+        {
+            if (!metric.getName().equals(currentName))
+            {
+                currentName = metric.getName();
+
+                stringBuilder.append("# HELP ").append(currentName).append(' ');
+                escape(metric.getHelp(), false, stringBuilder);
+                stringBuilder.append('\n');
+                stringBuilder.append("# TYPE ").append(currentName).append(' ').append(metric.getType().getName()).append('\n');
+            }
+
+            switch (metric.getType())
+            {
+                case COUNTER:
+                    writeSample(stringBuilder, metric.name, "", metric.labels, null, null, ((Counter) metric).get());
+                    break;
+                case GAUGE:
+                    writeSample(stringBuilder, metric.name, "", metric.labels, null, null, ((Gauge) metric).get());
+                    break;
+                case HISTOGRAM:
+                    writeHistogram(stringBuilder, (Histogram) metric);
+                    break;
+            }
+        }
+    }
+
+    private static void writeHistogram(StringBuilder stringBuilder, Histogram histogram)
+    {
+        long count = histogram.getCount();
+
+        for (double bound : histogram.getExposedBounds())
+            writeSample(
+                stringBuilder,
+                histogram.name,
+                "_bucket",
+                histogram.labels,
+                "le",
+                formatValue(bound),
+                Math.min(count, histogram.getCountAtOrBelow((long) Math.floor(bound / histogram.getScale())))
+            );
+
+        writeSample(stringBuilder, histogram.name, "_bucket", histogram.labels, "le", "+Inf", count);
+        writeSample(stringBuilder, histogram.name, "_sum", histogram.labels, null, null, histogram.getSum() * histogram.getScale());
+        writeSample(stringBuilder, histogram.name, "_count", histogram.labels, null, null, count);
+    }
+
+    private static void writeSample(StringBuilder stringBuilder, String name, String suffix, String[] labels, String extraLabel, String extraValue, double value)
+    {
+        stringBuilder.append(name).append(suffix);
+
+        if (labels.length > 0 || extraLabel != null)
+        {
+            stringBuilder.append('{');
+
+            for (int index = 0; index < labels.length; index += 2)
+            {
+                if (index > 0) stringBuilder.append(',');
+
+                stringBuilder.append(labels[index]).append("=\"");
+                escape(labels[index + 1], true, stringBuilder);
+                stringBuilder.append('"');
+            }
+
+            if (extraLabel != null)
+            {
+                if (labels.length > 0) stringBuilder.append(',');
+
+                stringBuilder.append(extraLabel).append("=\"").append(extraValue).append('"');
+            }
+
+            stringBuilder.append('}');
+        }
+
+        stringBuilder.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    private static String formatValue(double value)
+    {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+
+        return Double.toString(value);
+    }
+
+    private static void escape(String text, boolean quotes, StringBuilder stringBuilder)
+    {
+        for (int index = 0; index < text.length(); index++)
+        {
+            char c = text.charAt(index);
+
+            if (c == '\\')
+                stringBuilder.append("\\\\");
+            else if (c == '\n')
+                stringBuilder.append("\\n");
+            else if (c == '"' && quotes)
+                stringBuilder.append("\\\"");
+            else
+                stringBuilder.append(c);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package de.dytanic.cloudnet.driver.network;
 
+import de.dytanic.cloudnet.common.concurrent.ITask;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListenerRegistry;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketSender;
 
@@ -47,4 +49,35 @@ public interface INetworkChannel extends IPacketSender, AutoCloseable {
      * Returns that, the channel based of the client site connection
      */
     boolean isClientProvidedChannel();
+
+    /**
+     * Returns true, if the outbound buffer of this channel is not full and packets can be written without queueing them in memory
+     */
+    boolean isWritable();
+
+    /**
+     * Sends a packet, which can be dropped, because a later packet with the same coalesce key replaces its information.
+     * While the channel is not writable, a queued packet with the same key is replaced by this packet and the packet is
+     * dropped, if too many droppable packets are queued. The sending thread is never blocked.
+     *
+     * @param packet      the packet, which should be sent
+     * @param coalesceKey the key, which identifies the information of the packet, for example the unique id of a service
+     * @return false, if the packet was dropped, because the channel is closed
+     */
+    boolean sendDroppablePacket(IPacket packet, Object coalesceKey);
+
+    /**
+     * Sends a packet and returns a task, which completes after the packet is written to the connection. The result of the
+     * task is false, if the channel was closed before the packet could be written. Callers, which have to wait until a
+     * queued packet is written, should wait for this task instead of blocking the sending of other packets.
+     *
+     * @param packet the packet, which should be sent
+     * @return the task, which completes after the packet is written
+     */
+    ITask<Boolean> sendPacketAsync(IPacket packet);
+
+    /**
+     * Returns the count of the droppable packets, which were dropped or replaced by a later packet on this channel
+     */
+    long getDroppedPackets();
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package de.dytanic.cloudnet.driver.network;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The transport settings of the netty based network components of the node and the wrapper
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class NetworkTransportConfiguration {
+
+    /**
+     * The default settings with one acceptor thread, one worker thread per available processor,
+     * the default netty write buffer watermarks and pooled direct buffers
+     */
+    public static final NetworkTransportConfiguration DEFAULT = new NetworkTransportConfiguration(
+        1,
+        0,
+        false,
+        1,
+        32 * 1024,
+        64 * 1024,
+        true,
+        true
+    );
+
+    /**
+     * The amount of the threads, which accept new connections and the amount of the threads, which handle the
+     * connections. A value lower than 1 uses the amount of the available processors
+     */
+    protected final int bossThreads, workerThreads;
+
+    /**
+     * Binds a listener with multiple acceptors on the same port with SO_REUSEPORT, if the native epoll transport is available
+     */
+    protected final boolean reusePort;
+
+    protected final int reusePortAcceptors;
+
+    /**
+     * The outbound buffer size in bytes, after that a channel is not writable anymore and the size, after that
+     * the channel is writable again
+     */
+    protected final int writeBufferLowWaterMark, writeBufferHighWaterMark;
+
+    protected final boolean pooledAllocator, preferDirectBuffers;
+
+    public int getBossThreads()
+    {
+        return this.bossThreads > 0 ? this.bossThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getWorkerThreads()
+    {
+        return this.workerThreads > 0 ? this.workerThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getReusePortAcceptors()
+    {
+        return Math.max(1, this.reusePortAcceptors);
+    }
+}
@@ -8,6 +8,9 @@ import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ITaskListener;
 import de.dytanic.cloudnet.common.concurrent.ListenableTask;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.def.PacketConstants;
 import de.dytanic.cloudnet.driver.network.protocol.Packet;
@@ -29,6 +32,17 @@ public final class InternalSyncPacketChannel {
 
     private final static Map<UUID, SynchronizedCallback> WAITING_PACKETS = Maps.newConcurrentHashMap();
 
+    private static final Histogram ROUND_TRIP_TIME = MetricsRegistry.getDefault()
+        .timer("cloudnet_sync_packet_round_trip_seconds", "The time between sending a callable packet and receiving its response");
+
+    private static final Counter TIMEOUTS = MetricsRegistry.getDefault()
+        .counter("cloudnet_sync_packet_timeouts_total", "The count of callable packets, which didn't receive a response in time");
+
+    static
+    {
+        MetricsRegistry.getDefault().gauge("cloudnet_sync_packets_waiting", "The count of callable packets, which wait for their response", WAITING_PACKETS::size);
+    }
+
     private InternalSyncPacketChannel()
     {
         throw new UnsupportedOperationException();
@@ -43,6 +57,8 @@ public final class InternalSyncPacketChannel {
             try
             {
                 SynchronizedCallback syncEntry = WAITING_PACKETS.get(packet.getUniqueId());
+                ROUND_TRIP_TIME.recordSince(syncEntry.startNanos);
+
                 syncEntry.response = new Pair<>(packet.getHeader(), packet.getBody());
                 syncEntry.task.call();
             } catch (Throwable e)
@@ -95,6 +111,7 @@ public final class InternalSyncPacketChannel {
             if (entry.getValue().timeOut < systemCurrent)
             {
                 WAITING_PACKETS.remove(entry.getKey());
+                TIMEOUTS.increment();
 
                 try
                 {
@@ -113,6 +130,8 @@ public final class InternalSyncPacketChannel {
 
         private final long timeOut = System.currentTimeMillis() + 30000;
 
+        private final long startNanos = System.nanoTime();
+
         private volatile ITask<Pair<JsonDocument, byte[]>> task;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package de.dytanic.cloudnet.driver.network.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The gzip and deflate compression settings of a http server
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HttpCompressionConfiguration {
+
+    /**
+     * Compresses no responses and decompresses no requests
+     */
+    public static final HttpCompressionConfiguration DISABLED = new HttpCompressionConfiguration(
+        false,
+        false,
+        6,
+        1024,
+        Arrays.asList("application/json", "text/plain", "text/html", "text/css", "application/javascript")
+    );
+
+    /**
+     * Compresses the responses, if the client accepts gzip or deflate and decompresses requests with a content encoding
+     */
+    protected final boolean compressResponses, decompressRequests;
+
+    /**
+     * The compression level from 1 (fastest) to 9 (smallest)
+     */
+    protected final int compressionLevel;
+
+    /**
+     * The min size of a response body in bytes, which is compressed. A response without a known length is always compressed
+     */
+    protected final int minResponseSize;
+
+    /**
+     * The content types of the responses, which are compressed. All responses are compressed, if the collection is empty
+     */
+    protected final Collection<String> contentTypes;
+
+    public int getCompressionLevel()
+    {
+        return Math.max(1, Math.min(9, this.compressionLevel));
+    }
+}
@@ -0,0 +1,53 @@
+package de.dytanic.cloudnet.driver.network.http;
+
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
+
+/**
+ * The counters of the compressed responses of the http servers. The counters are registered in the default
+ * MetricsRegistry, so they are shared by all http servers of this process
+ */
+public final class HttpCompressionStatistics {
+
+    private final Counter
+        compressedResponses = MetricsRegistry.getDefault()
+        .counter("cloudnet_http_compressed_responses_total", "The http responses, which were compressed"),
+        uncompressedBytes = MetricsRegistry.getDefault()
+            .counter("cloudnet_http_compression_input_bytes_total", "The bytes of the http responses before the compression"),
+        compressedBytes = MetricsRegistry.getDefault()
+            .counter("cloudnet_http_compression_output_bytes_total", "The bytes of the http responses after the compression");
+
+    public void recordResponse()
+    {
+        this.compressedResponses.increment();
+    }
+
+    public void recordBytes(long uncompressedBytes, long compressedBytes)
+    {
+        this.uncompressedBytes.add(uncompressedBytes);
+        this.compressedBytes.add(compressedBytes);
+    }
+
+    public long getCompressedResponses()
+    {
+        return this.compressedResponses.get();
+    }
+
+    public long getUncompressedBytes()
+    {
+        return this.uncompressedBytes.get();
+    }
+
+    public long getCompressedBytes()
+    {
+        return this.compressedBytes.get();
+    }
+
+    /**
+     * Returns the bytes, which the compression has saved. The value can be negative, if a response was not compressible
+     */
+    public long getSavedBytes()
+    {
+        return this.uncompressedBytes.get() - this.compressedBytes.get();
+    }
+}
@@ -0,0 +1,19 @@
+package de.dytanic.cloudnet.driver.network.http;
+
+/**
+ * Defines on which thread the http handlers of a registered path are invoked
+ */
+public enum HttpExecutionPolicy {
+
+    /**
+     * The handler is invoked directly on the network thread of the connection. Only handlers
+     * that never block, should use this policy
+     */
+    INLINE,
+
+    /**
+     * The handler and all following handlers of the request are invoked on the bounded handler executor
+     * of the http server. If the executor is saturated, the request is answered with 503
+     */
+    OFFLOADED
+}
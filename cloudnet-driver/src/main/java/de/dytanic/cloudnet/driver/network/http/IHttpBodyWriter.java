@@ -0,0 +1,18 @@
+package de.dytanic.cloudnet.driver.network.http;
+
+import java.io.OutputStream;
+
+/**
+ * Writes the body of a http response as a stream of chunks. The writer is invoked after the status and the headers
+ * have been sent, so a handler which uses a writer should be registered with HttpExecutionPolicy.OFFLOADED.
+ */
+public interface IHttpBodyWriter {
+
+    /**
+     * Writes the body into the output stream. Every flush and every filled chunk is sent to the client immediately.
+     *
+     * @param outputStream the output stream of the response body, which is closed by the server
+     */
+    void write(OutputStream outputStream) throws Exception;
+
+}
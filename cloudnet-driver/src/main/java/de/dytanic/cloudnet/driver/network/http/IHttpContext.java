@@ -22,6 +22,10 @@ public interface IHttpContext {
 
     IHttpComponent<?> component();
 
+    /**
+     * Closes the connection after an error response. A successful response keeps the connection alive, if the
+     * client has requested it.
+     */
     IHttpContext closeAfter(boolean value);
 
     boolean closeAfter();
@@ -1,5 +1,6 @@
 package de.dytanic.cloudnet.driver.network.http;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -15,4 +16,10 @@ public interface IHttpRequest extends IHttpMessage<IHttpRequest> {
 
     Map<String, List<String>> queryParameters();
 
-}
\ No newline at end of file
+    /**
+     * Returns the body of the request as stream. Large bodies are buffered in a temporary file instead of the
+     * memory, so this method should be preferred to body() for uploads.
+     */
+    InputStream bodyStream();
+
+}
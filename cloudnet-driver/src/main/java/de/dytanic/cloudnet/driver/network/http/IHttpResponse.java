@@ -1,9 +1,27 @@
 package de.dytanic.cloudnet.driver.network.http;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+
 public interface IHttpResponse extends IHttpMessage<IHttpResponse> {
 
     int statusCode();
 
     IHttpResponse statusCode(int code);
 
-}
\ No newline at end of file
+    /**
+     * Sends the file as body, without loading it into the memory
+     */
+    IHttpResponse body(Path path);
+
+    /**
+     * Sends the content of the input stream as chunked body and closes the stream afterwards
+     */
+    IHttpResponse body(InputStream inputStream);
+
+    /**
+     * Sends the output of the writer as chunked body
+     */
+    IHttpResponse body(IHttpBodyWriter bodyWriter);
+
+}
@@ -8,4 +8,19 @@ public interface IHttpServer extends IHttpComponent<IHttpServer> {
 
     boolean addListener(HostAndPort hostAndPort);
 
-}
\ No newline at end of file
+    /**
+     * Registers the handlers with an execution policy. Handlers, which block on I/O, databases or files, should be
+     * registered with HttpExecutionPolicy.OFFLOADED, so they don't block the network threads of the server.
+     */
+    IHttpServer registerHandler(String path, Integer port, int priority, HttpExecutionPolicy executionPolicy, IHttpHandler... handlers);
+
+    /**
+     * Sets the compression settings for the connections, which are accepted after this call
+     */
+    IHttpServer setCompression(HttpCompressionConfiguration compressionConfiguration);
+
+    HttpCompressionConfiguration getCompression();
+
+    HttpCompressionStatistics getCompressionStatistics();
+
+}
@@ -24,6 +24,12 @@ public interface IWebSocketChannel extends AutoCloseable {
 
     void close(int statusCode, String reasonText);
 
+    /**
+     * Returns true, if the write buffer of the connection is below its high water mark. A sender of many frames
+     * should stop sending, while the channel is not writable.
+     */
+    boolean isWritable();
+
     IHttpChannel channel();
 
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.codec.http.DefaultHttpContent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the written bytes as http chunks into a channel. If the channel isn't writable, the writing thread waits
+ * until the last chunk has been sent, so a slow client doesn't let the chunks pile up in the memory.
+ */
+final class NettyHttpChunkedOutputStream extends OutputStream {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final Channel channel;
+
+    private ByteBuf buffer;
+
+    NettyHttpChunkedOutputStream(Channel channel)
+    {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        this.buffer().writeByte(b);
+
+        if (this.buffer.writableBytes() == 0) this.flush();
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException
+    {
+        while (length > 0)
+        {
+            int count = Math.min(length, this.buffer().writableBytes());
+
+            this.buffer.writeBytes(bytes, offset, count);
+            offset += count;
+            length -= count;
+
+            if (this.buffer.writableBytes() == 0) this.flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        if (this.buffer == null || !this.buffer.isReadable()) return;
+
+        if (!this.channel.isActive())
+        {
+            this.close();
+            throw new IOException("Channel closed");
+        }
+
+        ChannelFuture channelFuture = this.channel.writeAndFlush(new DefaultHttpContent(this.buffer));
+        this.buffer = null;
+
+        if (!this.channel.isWritable() && !this.channel.eventLoop().inEventLoop())
+        {
+            channelFuture.awaitUninterruptibly();
+
+            if (!channelFuture.isSuccess()) throw new IOException(channelFuture.cause());
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (this.buffer != null && this.channel.isActive())
+            this.flush();
+
+        if (this.buffer != null)
+        {
+            this.buffer.release();
+            this.buffer = null;
+        }
+    }
+
+    private ByteBuf buffer()
+    {
+        if (this.buffer == null) this.buffer = this.channel.alloc().buffer(CHUNK_SIZE, CHUNK_SIZE);
+
+        return this.buffer;
+    }
+}
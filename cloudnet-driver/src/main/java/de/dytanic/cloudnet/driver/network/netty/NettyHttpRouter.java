@@ -0,0 +1,216 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The registered http handlers of a NettyHttpServer, compiled into a segment radix tree. Every node of the tree
+ * has static children, one parameter child for "{param}" and "*" segments and the routes which end with a trailing "*".
+ * <p>
+ * The router is immutable and compiled again after every change of the registered handlers, so that a lookup
+ * doesn't need to copy, sort or split the handler paths.
+ */
+final class NettyHttpRouter {
+
+    static final NettyHttpRouter EMPTY = new NettyHttpRouter(new Node());
+
+    private final Node root;
+
+    private NettyHttpRouter(Node root)
+    {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the handler entries. The routes are ordered by their priority, from high to low, and by their
+     * registration order for the same priority.
+     */
+    static NettyHttpRouter compile(Collection<NettyHttpServer.HttpHandlerEntry> httpHandlerEntries)
+    {
+        if (httpHandlerEntries.isEmpty()) return EMPTY;
+
+        List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList(httpHandlerEntries);
+        entries.sort(null);
+
+        Node root = new Node();
+
+        for (int rank = 0; rank < entries.size(); rank++)
+        {
+            NettyHttpServer.HttpHandlerEntry httpHandlerEntry = entries.get(rank);
+            String[] segments = segments(httpHandlerEntry.path);
+            String[] parameterNames = new String[segments.length];
+            boolean parameters = false, wildcard = false;
+
+            Node node = root;
+
+            for (int index = 0; index < segments.length; index++)
+            {
+                String segment = segments[index];
+
+                if (segment.equals("*") && index == segments.length - 1)
+                    wildcard = true;
+                else if (segment.equals("*"))
+                    node = node.parameterChild();
+                else if (segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}"))
+                {
+                    parameterNames[index] = segment.substring(1, segment.length() - 1);
+                    parameters = true;
+                    node = node.parameterChild();
+                } else
+                    node = node.staticChild(segment);
+            }
+
+            Route route = new Route(httpHandlerEntry, rank, parameters ? parameterNames : null);
+
+            if (wildcard)
+                node.wildcardRoutes = append(node.wildcardRoutes, route);
+            else
+                node.routes = append(node.routes, route);
+        }
+
+        return new NettyHttpRouter(root);
+    }
+
+    /**
+     * Returns all routes, which match the path and the port, in the order in which their handlers should be invoked
+     *
+     * @param path the normalized request path, which starts with "/" and doesn't end with "/"
+     * @param port the port on which the request was received
+     * @return the matching routes
+     */
+    List<Route> match(String path, int port)
+    {
+        List<Route> routes = Iterables.newArrayList();
+
+        this.match(this.root, path, path.length() > 1 ? 1 : path.length() + 1, port, routes);
+
+        return routes;
+    }
+
+    private void match(Node node, String path, int offset, int port, List<Route> result)
+    {
+        if (offset > path.length())
+        {
+            add(node.routes, port, result);
+            return;
+        }
+
+        int end = path.indexOf('/', offset);
+        if (end == -1) end = path.length();
+
+        int length = end - offset;
+
+        for (int index = 0; index < node.staticSegments.length; index++)
+            if (node.staticSegments[index].length() == length && path.regionMatches(offset, node.staticSegments[index], 0, length))
+                this.match(node.staticChildren[index], path, end + 1, port, result);
+
+        if (node.parameterChild != null)
+            this.match(node.parameterChild, path, end + 1, port, result);
+
+        add(node.wildcardRoutes, port, result);
+    }
+
+    private static void add(Route[] routes, int port, List<Route> result)
+    {
+        for (Route route : routes)
+        {
+            if (route.httpHandlerEntry.port != null && route.httpHandlerEntry.port != port) continue;
+
+            int index = result.size();
+
+            while (index > 0 && result.get(index - 1).rank > route.rank) index--;
+
+            result.add(index, route);
+        }
+    }
+
+    private static String[] segments(String path)
+    {
+        return path.length() > 1 ? path.substring(1).split("/", -1) : new String[0];
+    }
+
+    private static <T> T[] append(T[] array, T value)
+    {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+
+        return result;
+    }
+
+    /*= ---------------------------------------------------------- =*/
+
+    static final class Route {
+
+        final NettyHttpServer.HttpHandlerEntry httpHandlerEntry;
+
+        private final int rank;
+
+        private final String[] parameterNames;
+
+        private Route(NettyHttpServer.HttpHandlerEntry httpHandlerEntry, int rank, String[] parameterNames)
+        {
+            this.httpHandlerEntry = httpHandlerEntry;
+            this.rank = rank;
+            this.parameterNames = parameterNames;
+        }
+
+        /**
+         * Puts the values of the "{param}" segments of this route into the path parameters
+         */
+        void bindPathParameters(String path, Map<String, String> pathParameters)
+        {
+            if (this.parameterNames == null) return;
+
+            int offset = 1;
+
+            for (int index = 0; index < this.parameterNames.length && offset <= path.length(); index++)
+            {
+                int end = path.indexOf('/', offset);
+                if (end == -1) end = path.length();
+
+                if (this.parameterNames[index] != null)
+                    pathParameters.put(this.parameterNames[index], path.substring(offset, end));
+
+                offset = end + 1;
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private static final Route[] NO_ROUTES = new Route[0];
+
+        private String[] staticSegments = new String[0];
+
+        private Node[] staticChildren = new Node[0];
+
+        private Node parameterChild;
+
+        private Route[] routes = NO_ROUTES, wildcardRoutes = NO_ROUTES;
+
+        private Node staticChild(String segment)
+        {
+            for (int index = 0; index < this.staticSegments.length; index++)
+                if (this.staticSegments[index].equals(segment))
+                    return this.staticChildren[index];
+
+            Node node = new Node();
+
+            this.staticSegments = append(this.staticSegments, segment);
+            this.staticChildren = append(this.staticChildren, node);
+
+            return node;
+        }
+
+        private Node parameterChild()
+        {
+            if (this.parameterChild == null) this.parameterChild = new Node();
+
+            return this.parameterChild;
+        }
+    }
+}
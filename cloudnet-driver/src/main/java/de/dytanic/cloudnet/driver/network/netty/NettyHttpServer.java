@@ -4,12 +4,18 @@ import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.collection.Pair;
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionStatistics;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
 import de.dytanic.cloudnet.driver.network.http.IHttpHandler;
 import de.dytanic.cloudnet.driver.network.http.IHttpServer;
 import de.dytanic.cloudnet.driver.network.ssl.SSLConfiguration;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
@@ -21,15 +27,37 @@ import lombok.ToString;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public final class NettyHttpServer extends NettySSLServer implements IHttpServer {
 
+    private static final int
+        HANDLER_THREADS = Integer.getInteger("cloudnet.http.handler.threads", Math.max(4, Runtime.getRuntime().availableProcessors())),
+        HANDLER_QUEUE_SIZE = Integer.getInteger("cloudnet.http.handler.queue", 256);
+
     protected final Map<Integer, Pair<HostAndPort, ChannelFuture>> channelFutures = Maps.newConcurrentHashMap();
 
     protected final List<HttpHandlerEntry> registeredHandlers = Iterables.newCopyOnWriteArrayList();
 
-    protected final EventLoopGroup bossGroup = NettyUtils.newEventLoopGroup(), workerGroup = NettyUtils.newEventLoopGroup();
+    protected final NetworkTransportConfiguration transportConfiguration;
+
+    protected final EventLoopGroup bossGroup, workerGroup;
+
+    protected final Map<String, Histogram> routeLatencies = Maps.newConcurrentHashMap();
+
+    protected final Map<String, Counter> rejectedRequests = Maps.newConcurrentHashMap();
+
+    protected final ThreadPoolExecutor handlerExecutor = newHandlerExecutor();
+
+    protected final HttpCompressionStatistics compressionStatistics = new HttpCompressionStatistics();
+
+    protected volatile NettyHttpRouter router = NettyHttpRouter.EMPTY;
+
+    protected volatile HttpCompressionConfiguration compressionConfiguration = HttpCompressionConfiguration.DISABLED;
 
     public NettyHttpServer() throws Exception
     {
@@ -37,8 +65,16 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
     }
 
     public NettyHttpServer(SSLConfiguration sslConfiguration) throws Exception
+    {
+        this(sslConfiguration, NetworkTransportConfiguration.DEFAULT);
+    }
+
+    public NettyHttpServer(SSLConfiguration sslConfiguration, NetworkTransportConfiguration transportConfiguration) throws Exception
     {
         super(sslConfiguration);
+        this.transportConfiguration = transportConfiguration != null ? transportConfiguration : NetworkTransportConfiguration.DEFAULT;
+        this.bossGroup = NettyUtils.newEventLoopGroup(this.transportConfiguration.getBossThreads());
+        this.workerGroup = NettyUtils.newEventLoopGroup(this.transportConfiguration.getWorkerThreads());
 
         this.init();
     }
@@ -68,10 +104,12 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
             {
                 this.channelFutures.put(hostAndPort.getPort(), new Pair<>(hostAndPort, new ServerBootstrap()
                     .group(bossGroup, workerGroup)
+                    .option(ChannelOption.ALLOCATOR, NettyUtils.getAllocator(transportConfiguration))
                     .childOption(ChannelOption.TCP_NODELAY, true)
                     .childOption(ChannelOption.IP_TOS, 24)
                     .childOption(ChannelOption.AUTO_READ, true)
-                    .childOption(ChannelOption.ALLOCATOR, ByteBufAllocator.DEFAULT)
+                    .childOption(ChannelOption.ALLOCATOR, NettyUtils.getAllocator(transportConfiguration))
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, NettyUtils.getWriteBufferWaterMark(transportConfiguration))
                     .channel(NettyUtils.getServerSocketChannelClass())
                     .childHandler(new NettyHttpServerInitializer(this, hostAndPort))
                     .bind(hostAndPort.getHost(), hostAndPort.getPort())
@@ -104,8 +142,15 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
 
     @Override
     public IHttpServer registerHandler(String path, Integer port, int priority, IHttpHandler... handlers)
+    {
+        return this.registerHandler(path, port, priority, HttpExecutionPolicy.INLINE, handlers);
+    }
+
+    @Override
+    public IHttpServer registerHandler(String path, Integer port, int priority, HttpExecutionPolicy executionPolicy, IHttpHandler... handlers)
     {
         Validate.checkNotNull(path);
+        Validate.checkNotNull(executionPolicy);
         Validate.checkNotNull(handlers);
 
         if (!path.startsWith("/")) path = "/" + path;
@@ -123,9 +168,10 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
                         break;
                     }
 
-                if (value) this.registeredHandlers.add(new HttpHandlerEntry(path, httpHandler, port, priority));
+                if (value) this.registeredHandlers.add(new HttpHandlerEntry(path, httpHandler, port, priority, executionPolicy));
             }
 
+        this.compileRouter();
         return this;
     }
 
@@ -138,6 +184,7 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
             if (registeredHandler.httpHandler.equals(handler))
                 this.registeredHandlers.remove(registeredHandler);
 
+        this.compileRouter();
         return this;
     }
 
@@ -150,6 +197,7 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
             if (registeredHandler.httpHandler.getClass().equals(handler))
                 this.registeredHandlers.remove(registeredHandler);
 
+        this.compileRouter();
         return this;
     }
 
@@ -162,6 +210,7 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
             if (registeredHandler.httpHandler.getClass().getClassLoader().equals(classLoader))
                 this.registeredHandlers.remove(registeredHandler);
 
+        this.compileRouter();
         return this;
     }
 
@@ -177,10 +226,32 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
         });
     }
 
+    @Override
+    public IHttpServer setCompression(HttpCompressionConfiguration compressionConfiguration)
+    {
+        Validate.checkNotNull(compressionConfiguration);
+
+        this.compressionConfiguration = compressionConfiguration;
+        return this;
+    }
+
+    @Override
+    public HttpCompressionConfiguration getCompression()
+    {
+        return this.compressionConfiguration;
+    }
+
+    @Override
+    public HttpCompressionStatistics getCompressionStatistics()
+    {
+        return this.compressionStatistics;
+    }
+
     @Override
     public IHttpServer clearHandlers()
     {
         this.registeredHandlers.clear();
+        this.compileRouter();
         return this;
     }
 
@@ -192,9 +263,48 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
 
         this.bossGroup.shutdownGracefully();
         this.workerGroup.shutdownGracefully();
+        this.handlerExecutor.shutdownNow();
         this.clearHandlers();
     }
 
+    private synchronized void compileRouter()
+    {
+        this.router = NettyHttpRouter.compile(this.registeredHandlers);
+    }
+
+    Histogram getRouteLatency(String path)
+    {
+        return this.routeLatencies.computeIfAbsent(path, key -> MetricsRegistry.getDefault()
+            .timer("cloudnet_http_request_duration_seconds", "The time, which the http handlers need to handle a request", "route", key));
+    }
+
+    Counter getRejectedRequests(String path)
+    {
+        return this.rejectedRequests.computeIfAbsent(path, key -> MetricsRegistry.getDefault()
+            .counter("cloudnet_http_requests_rejected_total", "The requests, which were rejected because the handler queue was full", "route", key));
+    }
+
+    private static ThreadPoolExecutor newHandlerExecutor()
+    {
+        AtomicInteger threadId = new AtomicInteger();
+
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            HANDLER_THREADS,
+            HANDLER_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(HANDLER_QUEUE_SIZE),
+            runnable -> {
+                Thread thread = new Thread(runnable, "HttpHandler-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
     /*= ---------------------------------------------------------- =*/
 
     @ToString
@@ -210,12 +320,14 @@ public final class NettyHttpServer extends NettySSLServer implements IHttpServer
 
         public final int priority;
 
+        public final HttpExecutionPolicy executionPolicy;
+
         @Override
         public int compareTo(HttpHandlerEntry httpHandlerEntry)
         {
             Validate.checkNotNull(httpHandlerEntry);
 
-            return this.priority + httpHandlerEntry.priority;
+            return Integer.compare(httpHandlerEntry.priority, this.priority);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionStatistics;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.*;
+
+import java.util.List;
+
+/**
+ * Compresses the responses with the allowed content types and a min size and counts the bytes before and after
+ * the compression
+ */
+final class NettyHttpServerCompressor extends HttpContentCompressor {
+
+    private final HttpCompressionConfiguration compressionConfiguration;
+
+    private final HttpCompressionStatistics compressionStatistics;
+
+    private boolean compressing;
+
+    NettyHttpServerCompressor(HttpCompressionConfiguration compressionConfiguration, HttpCompressionStatistics compressionStatistics)
+    {
+        super(compressionConfiguration.getCompressionLevel());
+
+        this.compressionConfiguration = compressionConfiguration;
+        this.compressionStatistics = compressionStatistics;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception
+    {
+        long inputBytes = msg instanceof HttpContent ? ((HttpContent) msg).content().readableBytes() : 0;
+        int index = out.size();
+
+        super.encode(ctx, msg, out);
+
+        if (this.compressing)
+        {
+            long outputBytes = 0;
+
+            for (; index < out.size(); index++)
+                if (out.get(index) instanceof HttpContent)
+                    outputBytes += ((HttpContent) out.get(index)).content().readableBytes();
+
+            this.compressionStatistics.recordBytes(inputBytes, outputBytes);
+        }
+
+        if (msg instanceof LastHttpContent) this.compressing = false;
+    }
+
+    @Override
+    protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception
+    {
+        if (!this.isCompressible(headers)) return null;
+
+        Result result = super.beginEncode(headers, acceptEncoding);
+
+        if (result != null)
+        {
+            this.compressing = true;
+            this.compressionStatistics.recordResponse();
+        }
+
+        return result;
+    }
+
+    private boolean isCompressible(HttpResponse response)
+    {
+        long length = response instanceof FullHttpResponse ?
+            ((FullHttpResponse) response).content().readableBytes() :
+            HttpUtil.getContentLength(response, -1L);
+
+        if (length != -1 && length < this.compressionConfiguration.getMinResponseSize()) return false;
+
+        if (this.compressionConfiguration.getContentTypes() == null || this.compressionConfiguration.getContentTypes().isEmpty()) return true;
+
+        String contentType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+
+        if (contentType == null) return false;
+
+        int index = contentType.indexOf(';');
+        if (index != -1) contentType = contentType.substring(0, index);
+
+        return this.compressionConfiguration.getContentTypes().contains(contentType.trim().toLowerCase());
+    }
+}
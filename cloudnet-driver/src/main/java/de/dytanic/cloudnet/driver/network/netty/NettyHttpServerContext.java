@@ -5,6 +5,10 @@ import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.driver.network.http.*;
 import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketChannel;
 import io.netty.channel.Channel;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.DefaultCookie;
@@ -43,14 +47,15 @@ final class NettyHttpServerContext implements IHttpContext {
     @Setter
     protected IHttpHandler lastHandler;
 
-    public NettyHttpServerContext(NettyHttpServer nettyHttpServer, NettyHttpChannel channel, URI uri, Map<String, String> pathParameters, HttpRequest httpRequest)
+    public NettyHttpServerContext(NettyHttpServer nettyHttpServer, NettyHttpChannel channel, URI uri, Map<String, String> pathParameters,
+                                  HttpRequest httpRequest, NettyHttpServerRequestBody requestBody)
     {
         this.nettyHttpServer = nettyHttpServer;
         this.channel = channel;
         this.httpRequest = httpRequest;
         this.nettyChannel = channel.getChannel();
 
-        this.httpServerRequest = new NettyHttpServerRequest(this, httpRequest, pathParameters, uri);
+        this.httpServerRequest = new NettyHttpServerRequest(this, httpRequest, requestBody, pathParameters, uri);
         this.httpServerResponse = new NettyHttpServerResponse(this, httpRequest);
 
         if (this.httpRequest.headers().contains("Cookie"))
@@ -85,8 +90,15 @@ final class NettyHttpServerContext implements IHttpContext {
 
             nettyChannel.pipeline().remove("http-server-handler");
 
-            WebSocketServerHandshaker webSocketServerHandshaker = webSocketServerHandshakerFactory.newHandshaker(httpRequest);
-            webSocketServerHandshaker.handshake(nettyChannel, httpRequest);
+            for (String name : new String[]{"http-idle-state", "http-decompressor"})
+                if (nettyChannel.pipeline().get(name) != null)
+                    nettyChannel.pipeline().remove(name);
+
+            FullHttpRequest fullHttpRequest = new DefaultFullHttpRequest(httpRequest.protocolVersion(), httpRequest.method(), httpRequest.uri(),
+                Unpooled.EMPTY_BUFFER, httpRequest.headers(), EmptyHttpHeaders.INSTANCE);
+
+            WebSocketServerHandshaker webSocketServerHandshaker = webSocketServerHandshakerFactory.newHandshaker(fullHttpRequest);
+            webSocketServerHandshaker.handshake(nettyChannel, fullHttpRequest);
 
             webSocketServerChannel = new NettyWebSocketServerChannel(channel, nettyChannel, webSocketServerHandshaker);
             nettyChannel.pipeline().addLast("websocket-server-channel-handler", new NettyWebSocketServerChannelHandler(webSocketServerChannel));
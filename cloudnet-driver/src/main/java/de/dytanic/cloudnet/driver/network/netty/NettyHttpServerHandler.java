@@ -1,21 +1,37 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
-import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
+import de.dytanic.cloudnet.driver.network.http.HttpResponseCode;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.codec.DecoderResult;
-import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.*;
+import io.netty.handler.timeout.IdleStateEvent;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Handles the requests of one http connection. The connection is kept alive as requested by the client, until the
+ * max requests per connection are reached or the response of a handler is an error with closeAfter(true).
+ * <p>
+ * Pipelined requests are queued and handled one after another, so their responses are written in the order of the
+ * requests, even if a handler is offloaded. The connection stops reading, while the max pipelined requests are queued.
+ */
 @RequiredArgsConstructor
-final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpRequest> {
+final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpObject> {
+
+    private static final int MAX_REQUESTS_PER_CONNECTION = Integer.getInteger("cloudnet.http.keepalive.max.requests", 1000);
+
+    private static final int MAX_PIPELINED_REQUESTS = Integer.getInteger("cloudnet.http.pipelining.max", 16);
 
     private final NettyHttpServer nettyHttpServer;
 
@@ -23,6 +39,16 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
 
     private NettyHttpChannel channel;
 
+    private HttpRequest httpRequest;
+
+    private NettyHttpServerRequestBody requestBody;
+
+    private final Deque<PendingRequest> pendingRequests = new ArrayDeque<>();
+
+    private boolean requestInFlight;
+
+    private int handledRequests;
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception
     {
@@ -32,6 +58,13 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception
     {
+        this.resetRequest();
+
+        PendingRequest pendingRequest;
+
+        while ((pendingRequest = this.pendingRequests.poll()) != null)
+            pendingRequest.requestBody.close();
+
         if (!ctx.channel().isActive() || !ctx.channel().isOpen() || !ctx.channel().isWritable())
         {
             ctx.channel().close();
@@ -45,6 +78,20 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
             cause.printStackTrace();
     }
 
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception
+    {
+        if (evt instanceof IdleStateEvent)
+        {
+            if (!this.requestInFlight && this.pendingRequests.isEmpty() && this.httpRequest == null)
+                ctx.channel().close();
+
+            return;
+        }
+
+        super.userEventTriggered(ctx, evt);
+    }
+
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) throws Exception
     {
@@ -52,18 +99,90 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
     }
 
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx, HttpRequest msg) throws Exception
+    protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) throws Exception
     {
         if (msg.decoderResult() != DecoderResult.SUCCESS)
         {
+            this.resetRequest();
             ctx.channel().close();
             return;
         }
 
-        this.handleMessage(ctx.channel(), msg);
+        if (msg instanceof HttpRequest)
+        {
+            HttpRequest httpRequest = (HttpRequest) msg;
+
+            this.resetRequest();
+
+            if (HttpUtil.getContentLength(httpRequest, 0L) > NettyHttpServerRequestBody.MAX_LENGTH)
+            {
+                this.sendTooLargeResponse(ctx.channel());
+                return;
+            }
+
+            if (HttpUtil.is100ContinueExpected(httpRequest))
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+
+            this.httpRequest = httpRequest;
+            this.requestBody = new NettyHttpServerRequestBody(ctx.alloc());
+        }
+
+        if (msg instanceof HttpContent && this.httpRequest != null)
+        {
+            if (!this.requestBody.append(((HttpContent) msg).content()))
+            {
+                this.resetRequest();
+                this.sendTooLargeResponse(ctx.channel());
+                return;
+            }
+
+            if (msg instanceof LastHttpContent)
+            {
+                HttpRequest httpRequest = this.httpRequest;
+                NettyHttpServerRequestBody requestBody = this.requestBody;
+
+                this.httpRequest = null;
+                this.requestBody = null;
+
+                this.pendingRequests.offer(new PendingRequest(httpRequest, requestBody));
+
+                if (this.pendingRequests.size() >= MAX_PIPELINED_REQUESTS)
+                    ctx.channel().config().setAutoRead(false);
+
+                this.handleNextRequest(ctx.channel());
+            }
+        }
+    }
+
+    private void handleNextRequest(Channel channel)
+    {
+        if (this.requestInFlight || !channel.isActive()) return;
+
+        PendingRequest pendingRequest = this.pendingRequests.poll();
+
+        if (pendingRequest == null) return;
+
+        if (!channel.config().isAutoRead() && this.pendingRequests.size() < MAX_PIPELINED_REQUESTS)
+            channel.config().setAutoRead(true);
+
+        this.requestInFlight = true;
+        this.handledRequests++;
+
+        try
+        {
+            this.handleMessage(channel, pendingRequest.httpRequest, pendingRequest.requestBody,
+                HttpUtil.isKeepAlive(pendingRequest.httpRequest) && this.handledRequests < MAX_REQUESTS_PER_CONNECTION);
+
+        } catch (Exception ex)
+        {
+            ex.printStackTrace();
+
+            pendingRequest.requestBody.close();
+            channel.close();
+        }
     }
 
-    private void handleMessage(Channel channel, HttpRequest httpRequest) throws Exception
+    private void handleMessage(Channel channel, HttpRequest httpRequest, NettyHttpServerRequestBody requestBody, boolean keepAlive) throws Exception
     {
         URI uri = URI.create(httpRequest.uri());
         String fullPath = uri.getPath();
@@ -72,88 +191,163 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
         if (fullPath.endsWith("/") && !fullPath.equals("/")) fullPath = fullPath.substring(0, fullPath.length() - 1);
 
         Map<String, String> pathParameters = Maps.newHashMap();
-        List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList(this.nettyHttpServer.registeredHandlers);
-        String[] pathEntries = fullPath.split("/"), handlerPathEntries;
-        Collections.sort(entries);
+        List<NettyHttpRouter.Route> routes = this.nettyHttpServer.router.match(fullPath, this.connectedAddress.getPort());
 
-        NettyHttpServerContext context = new NettyHttpServerContext(this.nettyHttpServer, this.channel, uri, pathParameters, httpRequest);
+        NettyHttpServerContext context = new NettyHttpServerContext(this.nettyHttpServer, this.channel, uri, pathParameters, httpRequest, requestBody);
 
-        for (NettyHttpServer.HttpHandlerEntry httpHandlerEntry : entries)
+        this.dispatch(new RequestExecution(channel, requestBody, context, pathParameters, routes, fullPath, keepAlive, System.nanoTime()), false);
+    }
+
+    private void dispatch(RequestExecution execution, boolean offloaded)
+    {
+        NettyHttpServerContext context = execution.context;
+
+        for (; execution.index < execution.routes.size(); execution.index++)
         {
             if (context.cancelNext) break;
-            handlerPathEntries = httpHandlerEntry.path.split("/");
 
-            if (this.handleMessage0(httpHandlerEntry, context, pathParameters, fullPath, pathEntries, handlerPathEntries))
-                context.lastHandler = httpHandlerEntry.httpHandler;
+            NettyHttpRouter.Route route = execution.routes.get(execution.index);
+            NettyHttpServer.HttpHandlerEntry httpHandlerEntry = route.httpHandlerEntry;
+
+            if (!offloaded && httpHandlerEntry.executionPolicy == HttpExecutionPolicy.OFFLOADED)
+            {
+                this.offload(execution, httpHandlerEntry);
+                return;
+            }
+
+            route.bindPathParameters(execution.fullPath, execution.pathParameters);
+
+            try
+            {
+                httpHandlerEntry.httpHandler.handle(execution.fullPath, context);
+            } catch (Throwable ex)
+            {
+                ex.printStackTrace();
+            }
+
+            context.lastHandler = httpHandlerEntry.httpHandler;
+            execution.route = httpHandlerEntry.path;
         }
 
-        if (!context.cancelSendResponse)
+        this.sendResponse(execution);
+    }
+
+    private void offload(RequestExecution execution, NettyHttpServer.HttpHandlerEntry httpHandlerEntry)
+    {
+        try
         {
-            if (context.httpServerResponse.statusCode() == 404 && context.httpServerResponse.httpResponse.content().readableBytes() == 0)
-                context.httpServerResponse.httpResponse.content().writeBytes("Resource not found!".getBytes());
+            this.nettyHttpServer.handlerExecutor.execute(() -> this.dispatch(execution, true));
 
-            ChannelFuture channelFuture = channel.writeAndFlush(context.httpServerResponse.httpResponse).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        } catch (RejectedExecutionException ex)
+        {
+            execution.route = httpHandlerEntry.path;
+            this.nettyHttpServer.getRejectedRequests(execution.route).increment();
 
-            if (context.closeAfter())
-                channelFuture.addListener(ChannelFutureListener.CLOSE);
+            execution.context.httpServerResponse.statusCode(HttpResponseCode.HTTP_UNAVAILABLE).body("Service unavailable");
+            execution.context.cancelSendResponse = false;
+            this.sendResponse(execution);
         }
     }
 
-    private boolean handleMessage0(NettyHttpServer.HttpHandlerEntry httpHandlerEntry, NettyHttpServerContext context,
-                                   Map<String, String> pathParameters, String fullPath, String[] pathEntries, String[] handlerPathEntries)
+    private void sendResponse(RequestExecution execution)
     {
-        if (httpHandlerEntry.port != null && httpHandlerEntry.port != connectedAddress.getPort())
-            return false;
+        NettyHttpServerContext context = execution.context;
+        boolean keepAlive = execution.keepAlive && !(context.closeAfter() && context.httpServerResponse.statusCode() >= 400);
+
+        if (execution.route != null)
+            this.nettyHttpServer.getRouteLatency(execution.route).recordSince(execution.startTime);
+
+        if (!context.cancelSendResponse)
+        {
+            if (context.httpServerResponse.statusCode() == 404 && !context.httpServerResponse.hasBodySource() &&
+                context.httpServerResponse.httpResponse.content().readableBytes() == 0)
+                context.httpServerResponse.httpResponse.content().writeBytes("Resource not found!".getBytes());
 
-        if (!httpHandlerEntry.path.endsWith("*") && pathEntries.length != handlerPathEntries.length)
-            return false;
+            HttpUtil.setKeepAlive(context.httpServerResponse.httpResponse, keepAlive);
 
-        if (pathEntries.length < handlerPathEntries.length)
-            return false;
+            try
+            {
+                ChannelFuture channelFuture = context.httpServerResponse.write(execution.channel).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
 
-        boolean wildCard = false;
+                if (!keepAlive)
+                    channelFuture.addListener(ChannelFutureListener.CLOSE);
 
-        if (!(pathEntries.length == 1 && handlerPathEntries.length == 1))
-            for (int index = 1; index < pathEntries.length; ++index)
+            } catch (IOException ex)
             {
-                if (wildCard) continue;
-
-                if (index >= handlerPathEntries.length)
-                {
-                    return false;
-                }
-
-                if (handlerPathEntries[index].equals("*") && handlerPathEntries.length - 1 == index)
-                {
-                    wildCard = true;
-                    continue;
-                }
-
-                if (handlerPathEntries[index].startsWith("{") && handlerPathEntries[index].endsWith("}") && handlerPathEntries[index].length() > 2)
-                {
-                    String replacedString = handlerPathEntries[index].replaceFirst("\\{", "");
-                    pathParameters.put(replacedString.substring(0, replacedString.length() - 1), pathEntries[index]);
-                    continue;
-                }
-
-                if (handlerPathEntries[index].equals("*"))
-                {
-                    continue;
-                }
-
-                if (!handlerPathEntries[index].equals(pathEntries[index]))
-                {
-                    return false;
-                }
+                ex.printStackTrace();
+                execution.channel.close();
             }
+        }
 
-        try
+        execution.requestBody.close();
+
+        if (context.webSocketServerChannel == null && keepAlive)
+            execution.channel.eventLoop().execute(() -> {
+                this.requestInFlight = false;
+                this.handleNextRequest(execution.channel);
+            });
+    }
+
+    private void sendTooLargeResponse(Channel channel)
+    {
+        channel.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, Unpooled.EMPTY_BUFFER))
+            .addListener(ChannelFutureListener.CLOSE);
+    }
+
+    private void resetRequest()
+    {
+        if (this.requestBody != null) this.requestBody.close();
+
+        this.httpRequest = null;
+        this.requestBody = null;
+    }
+
+    private static final class RequestExecution {
+
+        private final Channel channel;
+
+        private final NettyHttpServerRequestBody requestBody;
+
+        private final NettyHttpServerContext context;
+
+        private final Map<String, String> pathParameters;
+
+        private final List<NettyHttpRouter.Route> routes;
+
+        private final String fullPath;
+
+        private final boolean keepAlive;
+
+        private final long startTime;
+
+        private int index;
+
+        private String route;
+
+        private RequestExecution(Channel channel, NettyHttpServerRequestBody requestBody, NettyHttpServerContext context, Map<String, String> pathParameters,
+                                 List<NettyHttpRouter.Route> routes, String fullPath, boolean keepAlive, long startTime)
         {
-            httpHandlerEntry.httpHandler.handle(fullPath, context);
-        } catch (Throwable ex)
+            this.channel = channel;
+            this.requestBody = requestBody;
+            this.context = context;
+            this.pathParameters = pathParameters;
+            this.routes = routes;
+            this.fullPath = fullPath;
+            this.keepAlive = keepAlive;
+            this.startTime = startTime;
+        }
+    }
+
+    private static final class PendingRequest {
+
+        private final HttpRequest httpRequest;
+
+        private final NettyHttpServerRequestBody requestBody;
+
+        private PendingRequest(HttpRequest httpRequest, NettyHttpServerRequestBody requestBody)
         {
-            ex.printStackTrace();
+            this.httpRequest = httpRequest;
+            this.requestBody = requestBody;
         }
-        return true;
     }
 }
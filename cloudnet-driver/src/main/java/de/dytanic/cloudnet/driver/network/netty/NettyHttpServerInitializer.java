@@ -1,15 +1,20 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateHandler;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 final class NettyHttpServerInitializer extends ChannelInitializer<Channel> {
 
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = Integer.getInteger("cloudnet.http.keepalive.timeout", 60);
+
     private final NettyHttpServer nettyHttpServer;
 
     private final HostAndPort hostAndPort;
@@ -21,9 +26,20 @@ final class NettyHttpServerInitializer extends ChannelInitializer<Channel> {
             ch.pipeline()
                 .addLast(nettyHttpServer.sslContext.newHandler(ch.alloc()));
 
+        HttpCompressionConfiguration compressionConfiguration = nettyHttpServer.compressionConfiguration;
+
+        ch.pipeline()
+            .addLast("http-idle-state", new IdleStateHandler(0, 0, KEEP_ALIVE_TIMEOUT_SECONDS))
+            .addLast("http-server-codec", new HttpServerCodec());
+
+        if (compressionConfiguration.isDecompressRequests())
+            ch.pipeline().addLast("http-decompressor", new HttpContentDecompressor());
+
+        if (compressionConfiguration.isCompressResponses())
+            ch.pipeline().addLast("http-compressor", new NettyHttpServerCompressor(compressionConfiguration, nettyHttpServer.compressionStatistics));
+
         ch.pipeline()
-            .addLast("http-server-codec", new HttpServerCodec())
-            .addLast("http-object-aggregator", new HttpObjectAggregator(Short.MAX_VALUE))
+            .addLast("http-chunked-writer", new ChunkedWriteHandler())
             .addLast("http-server-handler", new NettyHttpServerHandler(nettyHttpServer, hostAndPort))
         ;
     }
@@ -5,10 +5,13 @@ import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.driver.network.http.HttpVersion;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.network.http.IHttpRequest;
-import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.QueryStringDecoder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -26,12 +29,16 @@ final class NettyHttpServerRequest implements IHttpRequest {
 
     protected final Map<String, List<String>> queryParameters;
 
+    protected final NettyHttpServerRequestBody requestBody;
+
     protected byte[] body;
 
-    public NettyHttpServerRequest(NettyHttpServerContext context, HttpRequest httpRequest, Map<String, String> pathParameters, URI uri)
+    public NettyHttpServerRequest(NettyHttpServerContext context, HttpRequest httpRequest, NettyHttpServerRequestBody requestBody,
+                                  Map<String, String> pathParameters, URI uri)
     {
         this.context = context;
         this.httpRequest = httpRequest;
+        this.requestBody = requestBody;
         this.uri = uri;
         this.pathParameters = pathParameters;
         this.queryParameters = new QueryStringDecoder(httpRequest.uri()).parameters();
@@ -155,27 +162,31 @@ final class NettyHttpServerRequest implements IHttpRequest {
     @Override
     public byte[] body()
     {
-        if (httpRequest instanceof FullHttpRequest)
-        {
-            if (body == null)
+        if (this.body == null)
+            try
+            {
+                this.body = this.requestBody != null ? this.requestBody.toByteArray() : new byte[0];
+            } catch (IOException ex)
             {
-                FullHttpRequest httpRequest = (FullHttpRequest) this.httpRequest;
+                throw new UncheckedIOException(ex);
+            }
 
-                int length = httpRequest.content().readableBytes();
+        return this.body;
+    }
 
-                if (httpRequest.content().hasArray())
-                    body = httpRequest.content().array();
-                else
-                {
-                    body = new byte[length];
-                    httpRequest.content().getBytes(httpRequest.content().readerIndex(), body);
-                }
-            }
+    @Override
+    public InputStream bodyStream()
+    {
+        if (this.body != null || this.requestBody == null)
+            return new ByteArrayInputStream(this.body());
 
-            return body;
+        try
+        {
+            return this.requestBody.openStream();
+        } catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
         }
-
-        return new byte[0];
     }
 
     @Override
@@ -0,0 +1,115 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The received body of a http request. The body is kept in the memory up to a threshold and is buffered in a
+ * temporary file afterwards, so large uploads don't need to fit into the memory.
+ */
+final class NettyHttpServerRequestBody implements AutoCloseable {
+
+    private static final int MEMORY_THRESHOLD = Integer.getInteger("cloudnet.http.body.memory", 64 * 1024);
+
+    static final long MAX_LENGTH = Long.getLong("cloudnet.http.body.max", 512L * 1024 * 1024);
+
+    private final CompositeByteBuf buffer;
+
+    private long length, filePosition;
+
+    private Path file;
+
+    private FileChannel fileChannel;
+
+    NettyHttpServerRequestBody(ByteBufAllocator allocator)
+    {
+        this.buffer = allocator.compositeBuffer(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Appends a received chunk of the body
+     *
+     * @return false, if the body exceeds the max length
+     */
+    boolean append(ByteBuf content) throws IOException
+    {
+        int readableBytes = content.readableBytes();
+
+        if (readableBytes == 0) return true;
+
+        if ((this.length += readableBytes) > MAX_LENGTH) return false;
+
+        if (this.file == null && this.length <= MEMORY_THRESHOLD)
+        {
+            this.buffer.addComponent(true, content.retain());
+            return true;
+        }
+
+        if (this.file == null)
+        {
+            this.file = Files.createTempFile("cloudnet-http-", ".body");
+            this.fileChannel = FileChannel.open(this.file, StandardOpenOption.WRITE);
+
+            this.write(this.buffer);
+            this.buffer.removeComponents(0, this.buffer.numComponents());
+        }
+
+        this.write(content);
+        return true;
+    }
+
+    InputStream openStream() throws IOException
+    {
+        if (this.file == null)
+            return new ByteBufInputStream(this.buffer.duplicate());
+
+        return Files.newInputStream(this.file);
+    }
+
+    byte[] toByteArray() throws IOException
+    {
+        if (this.file == null)
+            return ByteBufUtil.getBytes(this.buffer);
+
+        return Files.readAllBytes(this.file);
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.buffer.refCnt() > 0) this.buffer.release();
+
+        if (this.file != null)
+            try
+            {
+                this.fileChannel.close();
+                Files.deleteIfExists(this.file);
+            } catch (IOException ex)
+            {
+                ex.printStackTrace();
+            }
+    }
+
+    private void write(ByteBuf byteBuf) throws IOException
+    {
+        int offset = byteBuf.readerIndex(), end = byteBuf.writerIndex(), count;
+
+        while (offset < end)
+        {
+            count = byteBuf.getBytes(offset, this.fileChannel, this.filePosition, end - offset);
+
+            offset += count;
+            this.filePosition += count;
+        }
+    }
+}
@@ -3,14 +3,23 @@ package de.dytanic.cloudnet.driver.network.netty;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.driver.network.http.HttpVersion;
+import de.dytanic.cloudnet.driver.network.http.IHttpBodyWriter;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.network.http.IHttpResponse;
 import io.netty.buffer.Unpooled;
-import io.netty.handler.codec.http.DefaultFullHttpResponse;
-import io.netty.handler.codec.http.HttpRequest;
-import io.netty.handler.codec.http.HttpResponseStatus;
-
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.*;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 
 final class NettyHttpServerResponse implements IHttpResponse {
@@ -19,6 +28,12 @@ final class NettyHttpServerResponse implements IHttpResponse {
 
     protected final DefaultFullHttpResponse httpResponse;
 
+    protected Path bodyPath;
+
+    protected InputStream bodyStream;
+
+    protected IHttpBodyWriter bodyWriter;
+
     public NettyHttpServerResponse(NettyHttpServerContext context, HttpRequest httpRequest)
     {
         this.context = context;
@@ -144,6 +159,7 @@ final class NettyHttpServerResponse implements IHttpResponse {
     {
         Validate.checkNotNull(byteArray);
 
+        this.resetBodySource();
         this.httpResponse.content().clear();
         this.httpResponse.content().writeBytes(byteArray);
         return this;
@@ -154,11 +170,108 @@ final class NettyHttpServerResponse implements IHttpResponse {
     {
         Validate.checkNotNull(text);
 
+        this.resetBodySource();
         this.httpResponse.content().clear();
         this.httpResponse.content().writeBytes(text.getBytes(StandardCharsets.UTF_8));
         return this;
     }
 
+    @Override
+    public IHttpResponse body(Path path)
+    {
+        Validate.checkNotNull(path);
+
+        this.resetBodySource();
+        this.bodyPath = path;
+        return this;
+    }
+
+    @Override
+    public IHttpResponse body(InputStream inputStream)
+    {
+        Validate.checkNotNull(inputStream);
+
+        this.resetBodySource();
+        this.bodyStream = inputStream;
+        return this;
+    }
+
+    @Override
+    public IHttpResponse body(IHttpBodyWriter bodyWriter)
+    {
+        Validate.checkNotNull(bodyWriter);
+
+        this.resetBodySource();
+        this.bodyWriter = bodyWriter;
+        return this;
+    }
+
+    boolean hasBodySource()
+    {
+        return this.bodyPath != null || this.bodyStream != null || this.bodyWriter != null;
+    }
+
+    /**
+     * Writes the response into the channel. A file body is sent with a file region, or as chunked file if the channel
+     * is encrypted, an input stream or a body writer are sent as chunked body.
+     *
+     * @return the future of the last write
+     */
+    ChannelFuture write(Channel channel) throws IOException
+    {
+        if (!this.hasBodySource())
+        {
+            if (this.httpResponse.status().code() != 204 && this.httpResponse.status().code() != 304)
+                HttpUtil.setContentLength(this.httpResponse, this.httpResponse.content().readableBytes());
+
+            return channel.writeAndFlush(this.httpResponse);
+        }
+
+        HttpResponse response = new DefaultHttpResponse(this.httpResponse.protocolVersion(), this.httpResponse.status(), this.httpResponse.headers());
+        this.httpResponse.release();
+
+        if (this.bodyPath != null)
+        {
+            RandomAccessFile file = new RandomAccessFile(this.bodyPath.toFile(), "r");
+            long length = file.length();
+
+            HttpUtil.setContentLength(response, length);
+            channel.write(response);
+
+            if (channel.pipeline().get(SslHandler.class) == null && channel.pipeline().get(NettyHttpServerCompressor.class) == null)
+            {
+                channel.write(new DefaultFileRegion(file.getChannel(), 0, length));
+                return channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            }
+
+            return channel.writeAndFlush(new HttpChunkedInput(new ChunkedNioFile(file.getChannel())));
+        }
+
+        HttpUtil.setTransferEncodingChunked(response, true);
+        channel.write(response);
+
+        if (this.bodyStream != null)
+            return channel.writeAndFlush(new HttpChunkedInput(new ChunkedStream(this.bodyStream)));
+
+        try (NettyHttpChunkedOutputStream outputStream = new NettyHttpChunkedOutputStream(channel))
+        {
+            this.bodyWriter.write(outputStream);
+        } catch (Exception ex)
+        {
+            ex.printStackTrace();
+            return channel.close();
+        }
+
+        return channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+
+    private void resetBodySource()
+    {
+        this.bodyPath = null;
+        this.bodyStream = null;
+        this.bodyWriter = null;
+    }
+
     private HttpVersion getCloudNetHttpVersion(io.netty.handler.codec.http.HttpVersion httpVersion)
     {
         if (httpVersion == io.netty.handler.codec.http.HttpVersion.HTTP_1_0)
@@ -1,6 +1,9 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
 import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.concurrent.ITask;
+import de.dytanic.cloudnet.common.concurrent.ListenableTask;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.INetworkChannelHandler;
@@ -8,25 +11,28 @@ import de.dytanic.cloudnet.driver.network.protocol.DefaultPacketListenerRegistry
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListenerRegistry;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Getter
 final class NettyNetworkChannel implements INetworkChannel {
 
-    private static final Callable<Void> EMPTY_TASK = new Callable<Void>() {
-        @Override
-        public Void call() throws Exception
-        {
-            return null;
-        }
-    };
-
     private static final AtomicLong CHANNEL_ID_COUNTER = new AtomicLong();
 
+    /**
+     * The maximum count of droppable packets, which are queued per channel while the channel is not writable
+     */
+    private static final int MAX_PENDING_DROPPABLE_PACKETS = Integer.getInteger("cloudnet.network.pending.droppable.max", 1024);
+
     private final long channelId = CHANNEL_ID_COUNTER.addAndGet(1);
 
     /*= ------------------------------------------------------------------------------ =*/
@@ -42,6 +48,18 @@ final class NettyNetworkChannel implements INetworkChannel {
     @Setter
     private INetworkChannelHandler handler;
 
+    /**
+     * The packets, which wait for the channel to become writable again. Only accessed by the event loop of the channel.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Deque<PendingPacket> pendingPackets = new ArrayDeque<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Object, PendingPacket> pendingDroppablePackets = Maps.newHashMap();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong droppedPackets = new AtomicLong();
+
     public NettyNetworkChannel(Channel channel, IPacketListenerRegistry packetRegistry, INetworkChannelHandler handler,
                                HostAndPort serverAddress, HostAndPort clientAddress, boolean clientProvidedChannel)
     {
@@ -60,29 +78,190 @@ final class NettyNetworkChannel implements INetworkChannel {
     {
         Validate.checkNotNull(packet);
 
-        if (this.channel.eventLoop().inEventLoop())
-            sendPacket0(packet);
-        else
-            this.channel.eventLoop().execute(new Runnable() {
+        this.execute(new Runnable() {
+            @Override
+            public void run()
+            {
+                writeOrQueue(new PendingPacket(packet, null, false), true);
+            }
+        });
+    }
+
+    @Override
+    public void sendPacket(IPacket... packets)
+    {
+        Validate.checkNotNull(packets);
+
+        this.execute(new Runnable() {
+            @Override
+            public void run()
+            {
+                boolean written = false;
+
+                for (IPacket packet : packets)
+                    if (packet != null)
+                        written |= writeOrQueue(new PendingPacket(packet, null, false), false);
+
+                if (written) channel.flush();
+            }
+        });
+    }
+
+    @Override
+    public boolean sendDroppablePacket(IPacket packet, Object coalesceKey)
+    {
+        Validate.checkNotNull(packet);
+        Validate.checkNotNull(coalesceKey);
+
+        if (!this.channel.isActive())
+        {
+            this.droppedPackets.incrementAndGet();
+            return false;
+        }
+
+        this.execute(new Runnable() {
+            @Override
+            public void run()
+            {
+                PendingPacket pendingPacket = pendingDroppablePackets.get(coalesceKey);
+
+                if (pendingPacket != null)
+                {
+                    pendingPacket.packet = packet;
+                    droppedPackets.incrementAndGet();
+                    return;
+                }
+
+                if (!pendingPackets.isEmpty() && pendingDroppablePackets.size() >= MAX_PENDING_DROPPABLE_PACKETS)
+                {
+                    droppedPackets.incrementAndGet();
+                    return;
+                }
+
+                writeOrQueue(new PendingPacket(packet, coalesceKey, false), true);
+            }
+        });
+
+        return true;
+    }
+
+    @Override
+    public ITask<Boolean> sendPacketAsync(IPacket packet)
+    {
+        Validate.checkNotNull(packet);
+
+        PendingPacket pendingPacket = new PendingPacket(packet, null, true);
+
+        this.execute(new Runnable() {
+            @Override
+            public void run()
+            {
+                writeOrQueue(pendingPacket, true);
+            }
+        });
+
+        return pendingPacket.task;
+    }
+
+    @Override
+    public boolean isWritable()
+    {
+        return this.channel.isWritable();
+    }
+
+    @Override
+    public long getDroppedPackets()
+    {
+        return this.droppedPackets.get();
+    }
+
+    /**
+     * Writes the queued packets in their order, while the channel is writable. If the channel is closed, all queued packets
+     * are discarded and their waiting callers are completed.
+     */
+    void handleWritabilityChanged()
+    {
+        if (!this.channel.eventLoop().inEventLoop())
+        {
+            this.execute(new Runnable() {
                 @Override
                 public void run()
                 {
-                    sendPacket0(packet);
+                    handleWritabilityChanged();
                 }
             });
+            return;
+        }
+
+        if (!this.channel.isActive())
+        {
+            PendingPacket pendingPacket;
+
+            while ((pendingPacket = this.pendingPackets.poll()) != null)
+                if (pendingPacket.task != null)
+                    pendingPacket.task.call();
+
+            this.pendingDroppablePackets.clear();
+            return;
+        }
+
+        boolean written = false;
+
+        while (this.channel.isWritable() && !this.pendingPackets.isEmpty())
+        {
+            this.write(this.pendingPackets.poll());
+            written = true;
+        }
+
+        if (written) this.channel.flush();
     }
 
-    private void sendPacket0(IPacket packet)
+    private boolean writeOrQueue(PendingPacket pendingPacket, boolean flush)
     {
-        this.channel.writeAndFlush(packet, this.channel.voidPromise());
+        if (!this.pendingPackets.isEmpty() || !this.channel.isWritable())
+        {
+            this.pendingPackets.offer(pendingPacket);
+
+            if (pendingPacket.coalesceKey != null)
+                this.pendingDroppablePackets.put(pendingPacket.coalesceKey, pendingPacket);
+
+            if (!this.channel.isActive()) this.handleWritabilityChanged();
+            return false;
+        }
+
+        this.write(pendingPacket);
+
+        if (flush) this.channel.flush();
+        return true;
     }
 
-    @Override
-    public void sendPacket(IPacket... packets)
+    private void write(PendingPacket pendingPacket)
     {
-        Validate.checkNotNull(packets);
+        if (pendingPacket.coalesceKey != null)
+            this.pendingDroppablePackets.remove(pendingPacket.coalesceKey);
+
+        if (pendingPacket.task == null)
+        {
+            this.channel.write(pendingPacket.packet, this.channel.voidPromise());
+            return;
+        }
+
+        this.channel.write(pendingPacket.packet).addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception
+            {
+                pendingPacket.written = future.isSuccess();
+                pendingPacket.task.call();
+            }
+        });
+    }
 
-        for (IPacket packet : packets) this.sendPacket(packet);
+    private void execute(Runnable runnable)
+    {
+        if (this.channel.eventLoop().inEventLoop())
+            runnable.run();
+        else
+            this.channel.eventLoop().execute(runnable);
     }
 
     @Override
@@ -91,4 +270,27 @@ final class NettyNetworkChannel implements INetworkChannel {
         this.channel.close();
     }
 
+    private static final class PendingPacket {
+
+        private final Object coalesceKey;
+
+        private final ListenableTask<Boolean> task;
+
+        private IPacket packet;
+
+        private volatile boolean written;
+
+        private PendingPacket(IPacket packet, Object coalesceKey, boolean awaitable)
+        {
+            this.packet = packet;
+            this.coalesceKey = coalesceKey;
+            this.task = awaitable ? new ListenableTask<>(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception
+                {
+                    return written;
+                }
+            }) : null;
+        }
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.INetworkChannelHandler;
 import de.dytanic.cloudnet.driver.network.INetworkClient;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.network.protocol.DefaultPacketListenerRegistry;
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListenerRegistry;
@@ -34,7 +35,9 @@ public final class NettyNetworkClient implements INetworkClient {
     @Getter
     protected final IPacketListenerRegistry packetRegistry = new DefaultPacketListenerRegistry();
 
-    protected final EventLoopGroup eventLoopGroup = NettyUtils.newEventLoopGroup();
+    protected final NetworkTransportConfiguration transportConfiguration;
+
+    protected final EventLoopGroup eventLoopGroup;
 
     protected final Callable<INetworkChannelHandler> networkChannelHandler;
 
@@ -53,6 +56,14 @@ public final class NettyNetworkClient implements INetworkClient {
 
     public NettyNetworkClient(Callable<INetworkChannelHandler> networkChannelHandler, SSLConfiguration sslConfiguration, ITaskScheduler taskScheduler)
     {
+        this(networkChannelHandler, sslConfiguration, taskScheduler, NetworkTransportConfiguration.DEFAULT);
+    }
+
+    public NettyNetworkClient(Callable<INetworkChannelHandler> networkChannelHandler, SSLConfiguration sslConfiguration, ITaskScheduler taskScheduler,
+                              NetworkTransportConfiguration transportConfiguration)
+    {
+        this.transportConfiguration = transportConfiguration != null ? transportConfiguration : NetworkTransportConfiguration.DEFAULT;
+        this.eventLoopGroup = NettyUtils.newEventLoopGroup(this.transportConfiguration.getWorkerThreads());
         this.networkChannelHandler = networkChannelHandler;
         this.sslConfiguration = sslConfiguration;
 
@@ -118,6 +129,8 @@ public final class NettyNetworkClient implements INetworkClient {
                 .option(ChannelOption.AUTO_READ, true)
                 .option(ChannelOption.IP_TOS, 24)
                 .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.ALLOCATOR, NettyUtils.getAllocator(transportConfiguration))
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, NettyUtils.getWriteBufferWaterMark(transportConfiguration))
                 .channel(NettyUtils.getSocketChannelClass())
                 .handler(new NettyNetworkClientInitializer(this, hostAndPort))
                 .connect(hostAndPort.getHost(), hostAndPort.getPort())
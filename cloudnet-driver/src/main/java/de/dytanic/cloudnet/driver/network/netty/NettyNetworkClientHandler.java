@@ -40,6 +40,7 @@ final class NettyNetworkClientHandler extends SimpleChannelInboundHandler<Packet
                 this.channel.getHandler().handleChannelClose(this.channel);
 
             ctx.channel().close();
+            this.channel.handleWritabilityChanged();
 
             this.nettyNetworkClient.channels.remove(this.channel);
         }
@@ -52,6 +53,15 @@ final class NettyNetworkClientHandler extends SimpleChannelInboundHandler<Packet
             cause.printStackTrace();
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception
+    {
+        if (this.channel != null)
+            this.channel.handleWritabilityChanged();
+
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) throws Exception
     {
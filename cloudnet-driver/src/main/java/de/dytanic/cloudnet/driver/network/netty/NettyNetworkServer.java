@@ -10,6 +10,7 @@ import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.INetworkChannelHandler;
 import de.dytanic.cloudnet.driver.network.INetworkServer;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.network.protocol.DefaultPacketListenerRegistry;
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListenerRegistry;
@@ -19,6 +20,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import lombok.Getter;
 
 import java.util.Collection;
@@ -35,7 +37,11 @@ public final class NettyNetworkServer extends NettySSLServer implements INetwork
     @Getter
     protected final IPacketListenerRegistry packetRegistry = new DefaultPacketListenerRegistry();
 
-    protected final EventLoopGroup bossEventLoopGroup = NettyUtils.newEventLoopGroup(), workerEventLoopGroup = NettyUtils.newEventLoopGroup();
+    protected final Collection<ChannelFuture> reusePortChannelFutures = Iterables.newConcurrentLinkedQueue();
+
+    protected final NetworkTransportConfiguration transportConfiguration;
+
+    protected final EventLoopGroup bossEventLoopGroup, workerEventLoopGroup;
 
     protected final ITaskScheduler taskScheduler;
 
@@ -54,8 +60,17 @@ public final class NettyNetworkServer extends NettySSLServer implements INetwork
     }
 
     public NettyNetworkServer(Callable<INetworkChannelHandler> networkChannelHandler, SSLConfiguration sslConfiguration, ITaskScheduler taskScheduler)
+    {
+        this(networkChannelHandler, sslConfiguration, taskScheduler, NetworkTransportConfiguration.DEFAULT);
+    }
+
+    public NettyNetworkServer(Callable<INetworkChannelHandler> networkChannelHandler, SSLConfiguration sslConfiguration, ITaskScheduler taskScheduler,
+                              NetworkTransportConfiguration transportConfiguration)
     {
         super(sslConfiguration);
+        this.transportConfiguration = transportConfiguration != null ? transportConfiguration : NetworkTransportConfiguration.DEFAULT;
+        this.bossEventLoopGroup = NettyUtils.newEventLoopGroup(this.transportConfiguration.getBossThreads());
+        this.workerEventLoopGroup = NettyUtils.newEventLoopGroup(this.transportConfiguration.getWorkerThreads());
         this.networkChannelHandler = networkChannelHandler;
         this.taskSchedulerFromConstructor = taskScheduler != null;
         this.taskScheduler = taskScheduler == null ? new DefaultTaskScheduler(Runtime.getRuntime().availableProcessors()) : taskScheduler;
@@ -92,19 +107,29 @@ public final class NettyNetworkServer extends NettySSLServer implements INetwork
         if (!this.channelFutures.containsKey(hostAndPort.getPort()))
             try
             {
-                this.channelFutures.put(hostAndPort.getPort(), new Pair<>(hostAndPort, new ServerBootstrap()
+                ServerBootstrap serverBootstrap = new ServerBootstrap()
                     .group(bossEventLoopGroup, workerEventLoopGroup)
+                    .option(ChannelOption.ALLOCATOR, NettyUtils.getAllocator(transportConfiguration))
                     .childOption(ChannelOption.TCP_NODELAY, true)
                     .childOption(ChannelOption.IP_TOS, 24)
                     .childOption(ChannelOption.AUTO_READ, true)
+                    .childOption(ChannelOption.ALLOCATOR, NettyUtils.getAllocator(transportConfiguration))
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, NettyUtils.getWriteBufferWaterMark(transportConfiguration))
                     .channel(NettyUtils.getServerSocketChannelClass())
-                    .childHandler(new NettyNetworkServerInitializer(this, hostAndPort))
-                    .bind(hostAndPort.getHost(), hostAndPort.getPort())
-                    .addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE)
-                    .addListener(ChannelFutureListener.CLOSE_ON_FAILURE)
-                    .sync()
-                    .channel()
-                    .closeFuture()));
+                    .childHandler(new NettyNetworkServerInitializer(this, hostAndPort));
+
+                int acceptors = 1;
+
+                if (transportConfiguration.isReusePort() && NettyUtils.isReusePortAvailable())
+                {
+                    serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+                    acceptors = transportConfiguration.getReusePortAcceptors();
+                }
+
+                this.channelFutures.put(hostAndPort.getPort(), new Pair<>(hostAndPort, this.bind(serverBootstrap, hostAndPort)));
+
+                for (int i = 1; i < acceptors; i++)
+                    this.reusePortChannelFutures.add(this.bind(serverBootstrap, hostAndPort));
 
                 return true;
             } catch (InterruptedException e)
@@ -115,6 +140,17 @@ public final class NettyNetworkServer extends NettySSLServer implements INetwork
         return false;
     }
 
+    private ChannelFuture bind(ServerBootstrap serverBootstrap, HostAndPort hostAndPort) throws InterruptedException
+    {
+        return serverBootstrap
+            .bind(hostAndPort.getHost(), hostAndPort.getPort())
+            .addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE)
+            .addListener(ChannelFutureListener.CLOSE_ON_FAILURE)
+            .sync()
+            .channel()
+            .closeFuture();
+    }
+
     @Override
     public void close() throws Exception
     {
@@ -124,6 +160,9 @@ public final class NettyNetworkServer extends NettySSLServer implements INetwork
         for (Pair<HostAndPort, ChannelFuture> entry : this.channelFutures.values())
             entry.getSecond().cancel(true);
 
+        for (ChannelFuture channelFuture : this.reusePortChannelFutures)
+            channelFuture.cancel(true);
+
         this.bossEventLoopGroup.shutdownGracefully();
         this.workerEventLoopGroup.shutdownGracefully();
     }
@@ -39,6 +39,7 @@ final class NettyNetworkServerHandler extends SimpleChannelInboundHandler<Packet
                 this.channel.getHandler().handleChannelClose(this.channel);
 
             ctx.channel().close();
+            this.channel.handleWritabilityChanged();
 
             this.nettyNetworkServer.channels.remove(this.channel);
         }
@@ -51,6 +52,15 @@ final class NettyNetworkServerHandler extends SimpleChannelInboundHandler<Packet
             cause.printStackTrace();
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception
+    {
+        if (this.channel != null)
+            this.channel.handleWritabilityChanged();
+
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) throws Exception
     {
@@ -1,6 +1,9 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.network.protocol.Packet;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -11,10 +14,21 @@ import java.util.UUID;
 
 final class NettyPacketDecoder extends ByteToMessageDecoder {
 
+    private static final Counter DECODED_PACKETS = MetricsRegistry.getDefault()
+        .counter("cloudnet_packets_decoded_total", "The count of decoded packets");
+
+    private static final Counter DECODE_FAILURES = MetricsRegistry.getDefault()
+        .counter("cloudnet_packet_decode_failures_total", "The count of packets, which couldn't be decoded");
+
+    private static final Histogram DECODED_PACKET_SIZE = MetricsRegistry.getDefault()
+        .histogram("cloudnet_packet_decoded_bytes", "The size of the decoded packets in bytes", 1, MetricsRegistry.SIZE_BOUNDS);
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> out)
     {
-        if (byteBuf.readableBytes() == 0) return;
+        int readableBytes = byteBuf.readableBytes();
+
+        if (readableBytes == 0) return;
 
         try
         {
@@ -24,8 +38,12 @@ final class NettyPacketDecoder extends ByteToMessageDecoder {
                 JsonDocument.newDocument(NettyUtils.readString(byteBuf)),
                 NettyUtils.toByteArray(byteBuf, NettyUtils.readVarInt(byteBuf))
             ));
+
+            DECODED_PACKETS.increment();
+            DECODED_PACKET_SIZE.record(readableBytes);
         } catch (Exception ex)
         {
+            DECODE_FAILURES.increment();
             ex.printStackTrace();
         }
     }
@@ -1,5 +1,8 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.Packet;
 import io.netty.buffer.ByteBuf;
@@ -10,9 +13,17 @@ import java.util.UUID;
 
 final class NettyPacketEncoder extends MessageToByteEncoder<IPacket> {
 
+    private static final Counter ENCODED_PACKETS = MetricsRegistry.getDefault()
+        .counter("cloudnet_packets_encoded_total", "The count of encoded packets");
+
+    private static final Histogram ENCODED_PACKET_SIZE = MetricsRegistry.getDefault()
+        .histogram("cloudnet_packet_encoded_bytes", "The size of the encoded packets in bytes", 1, MetricsRegistry.SIZE_BOUNDS);
+
     @Override
     protected void encode(ChannelHandlerContext ctx, IPacket packet, ByteBuf byteBuf)
     {
+        int writerIndex = byteBuf.writerIndex();
+
         //Writing the channelId
         NettyUtils.writeVarInt(byteBuf, packet.getChannel());
 
@@ -38,5 +49,8 @@ final class NettyPacketEncoder extends MessageToByteEncoder<IPacket> {
         if (data == null || data.length == 0) data = Packet.EMPTY_PACKET_BYTE_ARRAY;
 
         NettyUtils.writeVarInt(byteBuf, data.length).writeBytes(data);
+
+        ENCODED_PACKETS.increment();
+        ENCODED_PACKET_SIZE.record(byteBuf.writerIndex() - writerIndex);
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
@@ -25,6 +30,12 @@ import java.util.concurrent.ThreadFactory;
 
 public final class NettyUtils {
 
+    private static final ByteBufAllocator
+        POOLED_DIRECT_ALLOCATOR = new PooledByteBufAllocator(true),
+        POOLED_HEAP_ALLOCATOR = new PooledByteBufAllocator(false),
+        UNPOOLED_DIRECT_ALLOCATOR = new UnpooledByteBufAllocator(true),
+        UNPOOLED_HEAP_ALLOCATOR = new UnpooledByteBufAllocator(false);
+
     static
     {
         ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.DISABLED);
@@ -36,12 +47,37 @@ public final class NettyUtils {
     }
 
     public static EventLoopGroup newEventLoopGroup()
+    {
+        return newEventLoopGroup(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static EventLoopGroup newEventLoopGroup(int threads)
     {
         return Epoll.isAvailable() ?
-            new EpollEventLoopGroup(Runtime.getRuntime().availableProcessors(), threadFactory()) :
+            new EpollEventLoopGroup(threads, threadFactory()) :
             KQueue.isAvailable() ?
-                new KQueueEventLoopGroup(Runtime.getRuntime().availableProcessors(), threadFactory()) :
-                new NioEventLoopGroup(Runtime.getRuntime().availableProcessors(), threadFactory());
+                new KQueueEventLoopGroup(threads, threadFactory()) :
+                new NioEventLoopGroup(threads, threadFactory());
+    }
+
+    public static ByteBufAllocator getAllocator(NetworkTransportConfiguration transportConfiguration)
+    {
+        if (transportConfiguration.isPooledAllocator())
+            return transportConfiguration.isPreferDirectBuffers() ? POOLED_DIRECT_ALLOCATOR : POOLED_HEAP_ALLOCATOR;
+        else
+            return transportConfiguration.isPreferDirectBuffers() ? UNPOOLED_DIRECT_ALLOCATOR : UNPOOLED_HEAP_ALLOCATOR;
+    }
+
+    public static WriteBufferWaterMark getWriteBufferWaterMark(NetworkTransportConfiguration transportConfiguration)
+    {
+        int low = Math.max(0, transportConfiguration.getWriteBufferLowWaterMark());
+
+        return new WriteBufferWaterMark(low, Math.max(low, transportConfiguration.getWriteBufferHighWaterMark()));
+    }
+
+    public static boolean isReusePortAvailable()
+    {
+        return Epoll.isAvailable();
     }
 
     public static Class<? extends SocketChannel> getSocketChannelClass()
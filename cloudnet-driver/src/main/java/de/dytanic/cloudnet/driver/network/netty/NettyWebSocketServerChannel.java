@@ -133,6 +133,12 @@ final class NettyWebSocketServerChannel implements IWebSocketChannel {
         return this;
     }
 
+    @Override
+    public boolean isWritable()
+    {
+        return this.channel.isWritable();
+    }
+
     @Override
     public IHttpChannel channel()
     {
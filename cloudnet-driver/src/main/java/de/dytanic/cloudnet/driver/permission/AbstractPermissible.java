@@ -3,12 +3,14 @@ package de.dytanic.cloudnet.driver.permission;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.document.gson.BasicJsonDocPropertyable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Predicate;
 
 @Getter
@@ -22,11 +24,19 @@ public abstract class AbstractPermissible extends BasicJsonDocPropertyable imple
 
     protected final long createdTime;
 
-    @Setter
     protected List<Permission> permissions;
 
     protected Map<String, Collection<Permission>> groupPermissions;
 
+    private static final AtomicLongFieldUpdater<AbstractPermissible> PERMISSION_MODIFICATIONS =
+        AtomicLongFieldUpdater.newUpdater(AbstractPermissible.class, "permissionModifications");
+
+    @Getter(AccessLevel.NONE)
+    private transient volatile long permissionModifications;
+
+    @Getter(AccessLevel.NONE)
+    private transient volatile CompiledPermissions compiledPermissions;
+
     public AbstractPermissible()
     {
         this.createdTime = System.currentTimeMillis();
@@ -44,6 +54,7 @@ public abstract class AbstractPermissible extends BasicJsonDocPropertyable imple
         if (exist != null) this.permissions.remove(exist);
 
         this.permissions.add(permission);
+        this.invalidatePermissionCache();
 
         return true;
     }
@@ -57,6 +68,8 @@ public abstract class AbstractPermissible extends BasicJsonDocPropertyable imple
             groupPermissions.put(group, Iterables.newArrayList());
 
         groupPermissions.get(group).add(permission);
+        this.invalidatePermissionCache();
+
         return true;
     }
 
@@ -67,8 +80,13 @@ public abstract class AbstractPermissible extends BasicJsonDocPropertyable imple
 
         Permission exist = this.getPermission(permission);
 
-        if (exist != null) return this.permissions.remove(exist);
-        else return false;
+        if (exist != null)
+        {
+            boolean result = this.permissions.remove(exist);
+
+            this.invalidatePermissionCache();
+            return result;
+        } else return false;
     }
 
     @Override
@@ -89,8 +107,84 @@ public abstract class AbstractPermissible extends BasicJsonDocPropertyable imple
             if (p != null) groupPermissions.get(group).remove(p);
 
             if (groupPermissions.get(group).isEmpty()) groupPermissions.remove(group);
+
+            this.invalidatePermissionCache();
         }
 
         return true;
     }
-}
\ No newline at end of file
+
+    public void setPermissions(List<Permission> permissions)
+    {
+        this.permissions = permissions;
+        this.invalidatePermissionCache();
+    }
+
+    @Override
+    public PermissionCheckResult hasPermission(Permission permission)
+    {
+        if (permission == null || permission.getName() == null) return PermissionCheckResult.DENIED;
+
+        CompiledPermissions compiledPermissions = this.getCompiledPermissions();
+        PermissionMatcher permissionMatcher = compiledPermissions.permissionMatcher;
+
+        if (permissionMatcher == null)
+            compiledPermissions.permissionMatcher = permissionMatcher = PermissionMatcher.compile(this.permissions);
+
+        return permissionMatcher.check(permission, this.potency);
+    }
+
+    @Override
+    public PermissionCheckResult hasPermission(String group, Permission permission)
+    {
+        if (group == null || permission == null || permission.getName() == null) return PermissionCheckResult.DENIED;
+
+        CompiledPermissions compiledPermissions = this.getCompiledPermissions();
+        PermissionMatcher permissionMatcher = compiledPermissions.groupPermissionMatchers.get(group);
+
+        if (permissionMatcher == null)
+        {
+            if (this.groupPermissions == null || !this.groupPermissions.containsKey(group)) return PermissionCheckResult.DENIED;
+
+            permissionMatcher = PermissionMatcher.compile(this.groupPermissions.get(group));
+            compiledPermissions.groupPermissionMatchers.put(group, permissionMatcher);
+        }
+
+        return permissionMatcher.check(permission, this.potency);
+    }
+
+    @Override
+    public void invalidatePermissionCache()
+    {
+        PERMISSION_MODIFICATIONS.incrementAndGet(this);
+    }
+
+    /**
+     * Returns the matchers, which were compiled since the last modification. A matcher, which is compiled while the
+     * permissions are modified, is stored in the matchers of the previous modification count and is never used again
+     */
+    private CompiledPermissions getCompiledPermissions()
+    {
+        long modifications = this.permissionModifications;
+        CompiledPermissions compiledPermissions = this.compiledPermissions;
+
+        if (compiledPermissions == null || compiledPermissions.modifications != modifications)
+            this.compiledPermissions = compiledPermissions = new CompiledPermissions(modifications);
+
+        return compiledPermissions;
+    }
+
+    private static final class CompiledPermissions {
+
+        private final long modifications;
+
+        private final Map<String, PermissionMatcher> groupPermissionMatchers = Maps.newConcurrentHashMap();
+
+        private volatile PermissionMatcher permissionMatcher;
+
+        private CompiledPermissions(long modifications)
+        {
+            this.modifications = modifications;
+        }
+    }
+}
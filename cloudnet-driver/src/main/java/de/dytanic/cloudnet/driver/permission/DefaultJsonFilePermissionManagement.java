@@ -55,6 +55,7 @@ public final class DefaultJsonFilePermissionManagement implements IPermissionMan
     public void updateUser(IPermissionUser permissionUser)
     {
         Validate.checkNotNull(permissionUser);
+        permissionUser.invalidatePermissionCache();
 
         if (permissionManagementHandler != null) permissionManagementHandler.handleUpdateUser(this, permissionUser);
 
@@ -183,6 +184,40 @@ public final class DefaultJsonFilePermissionManagement implements IPermissionMan
         this.save();
     }
 
+    public void updateUser0(IPermissionUser permissionUser)
+    {
+        Validate.checkNotNull(permissionUser);
+        permissionUser.invalidatePermissionCache();
+
+        testPermissionUser(permissionUser);
+        this.permissionUsers.put(permissionUser.getUniqueId(), permissionUser);
+        this.save();
+    }
+
+    public void deleteUser0(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        if (this.permissionUsers.remove(uniqueId) != null) this.save();
+    }
+
+    public void updateGroup0(IPermissionGroup permissionGroup)
+    {
+        Validate.checkNotNull(permissionGroup);
+        permissionGroup.invalidatePermissionCache();
+
+        testPermissionGroup(permissionGroup);
+        this.permissionGroups.put(permissionGroup.getName(), permissionGroup);
+        this.save();
+    }
+
+    public void deleteGroup0(String name)
+    {
+        Validate.checkNotNull(name);
+
+        if (this.permissionGroups.remove(name) != null) this.save();
+    }
+
     @Override
     public Collection<IPermissionUser> getUsers()
     {
@@ -210,7 +245,7 @@ public final class DefaultJsonFilePermissionManagement implements IPermissionMan
     {
         Validate.checkNotNull(users);
 
-        this.permissionGroups.clear();
+        this.permissionUsers.clear();
 
         for (IPermissionUser permissionUser : users)
         {
@@ -252,6 +287,7 @@ public final class DefaultJsonFilePermissionManagement implements IPermissionMan
     public void updateGroup(IPermissionGroup permissionGroup)
     {
         Validate.checkNotNull(permissionGroup);
+        permissionGroup.invalidatePermissionCache();
 
         if (permissionManagementHandler != null) permissionManagementHandler.handleUpdateGroup(this, permissionGroup);
 
@@ -102,33 +102,7 @@ public interface IPermissible extends INameable, IJsonDocPropertyable, Comparabl
         if (permissions == null || permission == null || permission.getName() == null)
             return PermissionCheckResult.DENIED;
 
-        Permission targetPerms = Iterables.first(permissions, new Predicate<Permission>() {
-            @Override
-            public boolean test(Permission perm)
-            {
-                return perm.getName().equalsIgnoreCase(permission.getName());
-            }
-        });
-
-        if (targetPerms != null && permission.getName().equalsIgnoreCase(targetPerms.getName()) && targetPerms.getPotency() < 0)
-            return PermissionCheckResult.FORBIDDEN;
-
-        for (Permission permissionEntry : permissions)
-        {
-
-            if (permissionEntry.getName().equals("*") && (permissionEntry.getPotency() >= permission.getPotency() || getPotency() >= permission.getPotency()))
-                return PermissionCheckResult.ALLOWED;
-
-            if (permissionEntry.getName().endsWith("*") && permission.getName().contains(permissionEntry.getName().replace("*", ""))
-                && (permissionEntry.getPotency() >= permission.getPotency() || getPotency() >= permission.getPotency()))
-                return PermissionCheckResult.ALLOWED;
-
-            if (permission.getName().equalsIgnoreCase(permissionEntry.getName()) &&
-                (permissionEntry.getPotency() >= permission.getPotency() || getPotency() >= permission.getPotency()))
-                return PermissionCheckResult.ALLOWED;
-        }
-
-        return PermissionCheckResult.DENIED;
+        return PermissionMatcher.check(permissions, permission, getPotency());
     }
 
     default PermissionCheckResult hasPermission(String group, Permission permission)
@@ -148,6 +122,14 @@ public interface IPermissible extends INameable, IJsonDocPropertyable, Comparabl
         return hasPermission(new Permission(permission, 0));
     }
 
+    /**
+     * Drops the compiled permission matchers of this permissible. It has to be called, if the collections
+     * of getPermissions() or getGroupPermissions() are modified directly
+     */
+    default void invalidatePermissionCache()
+    {
+    }
+
     @Override
     default int compareTo(IPermissible o)
     {
@@ -0,0 +1,220 @@
+package de.dytanic.cloudnet.driver.permission;
+
+import de.dytanic.cloudnet.common.collection.Maps;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A compiled, read-only view of a collection of permissions. The permission names are
+ * case-folded and split by '.' into a segment trie, so that a check costs O(segments)
+ * instead of a scan over every permission entry.
+ * <p>
+ * The following entries are supported:
+ * <ul>
+ * <li>"a.b.c" an exact permission</li>
+ * <li>"a.b.*" every permission below "a.b"</li>
+ * <li>"a.b*" every permission whose segment after "a" starts with "b"</li>
+ * <li>"*" every permission</li>
+ * </ul>
+ * An exact entry is resolved before the wildcards, and more specific wildcards are resolved before
+ * less specific ones. Segment prefixes of the same segment are resolved in the order of the entries, so
+ * "a.b*" is resolved before "a.bc*" if it was added first. An entry with a negative potency forbids the permission.
+ */
+public final class PermissionMatcher {
+
+    /**
+     * A matcher without any permission entry
+     */
+    public static final PermissionMatcher EMPTY = new PermissionMatcher(new Node());
+
+    private final Node root;
+
+    private PermissionMatcher(Node root)
+    {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given permissions into a new matcher
+     *
+     * @param permissions the permissions, that should be compiled
+     * @return the compiled matcher or EMPTY, if the collection is null or empty
+     */
+    public static PermissionMatcher compile(Collection<Permission> permissions)
+    {
+        if (permissions == null || permissions.isEmpty()) return EMPTY;
+
+        Node root = new Node();
+
+        for (Permission permission : permissions)
+            if (permission != null && permission.getName() != null)
+                root.insert(permission.getName().toLowerCase(Locale.ROOT), permission);
+
+        return new PermissionMatcher(root);
+    }
+
+    /**
+     * Checks the permission against the compiled entries
+     *
+     * @param permission the permission, which should be checked
+     * @param potency    the potency of the permissible, which owns the compiled permissions
+     * @return ALLOWED if an entry grants the permission, FORBIDDEN if an entry with a negative potency matches first, otherwise DENIED
+     */
+    public PermissionCheckResult check(Permission permission, int potency)
+    {
+        if (permission == null || permission.getName() == null) return PermissionCheckResult.DENIED;
+
+        PermissionCheckResult result = this.root.resolve(permission.getName().toLowerCase(Locale.ROOT), 0, permission.getPotency(), potency);
+
+        return result != null ? result : PermissionCheckResult.DENIED;
+    }
+
+    /**
+     * Checks the permission with a linear scan over the given entries by the same rules as a compiled matcher. This is
+     * cheaper than compiling a matcher for a collection, which is only checked once
+     *
+     * @param permissions the permission entries
+     * @param permission  the permission, which should be checked
+     * @param potency     the potency of the permissible, which owns the permission entries
+     * @return ALLOWED if an entry grants the permission, FORBIDDEN if an entry with a negative potency matches first, otherwise DENIED
+     */
+    public static PermissionCheckResult check(Collection<Permission> permissions, Permission permission, int potency)
+    {
+        if (permissions == null || permission == null || permission.getName() == null) return PermissionCheckResult.DENIED;
+
+        String name = permission.getName().toLowerCase(Locale.ROOT);
+        PermissionCheckResult result = null;
+        int resultPrecedence = -1;
+
+        for (Permission entry : permissions)
+        {
+            if (entry == null || entry.getName() == null) continue;
+
+            int precedence = precedence(entry.getName().toLowerCase(Locale.ROOT), name);
+
+            if (precedence <= resultPrecedence) continue;
+
+            PermissionCheckResult entryResult = test(entry, permission.getPotency(), potency);
+
+            if (entryResult != null)
+            {
+                result = entryResult;
+                resultPrecedence = precedence;
+            }
+        }
+
+        return result != null ? result : PermissionCheckResult.DENIED;
+    }
+
+    /**
+     * Returns the order, in which the trie would resolve the entry for the name. Deeper entries are resolved first and
+     * at the same depth an exact entry before a segment prefix and a segment prefix before '*'.
+     *
+     * @return the precedence of the entry or -1, if the entry doesn't match the name
+     */
+    private static int precedence(String entry, String name)
+    {
+        int index = entry.lastIndexOf('.') + 1, depth = 0;
+
+        if (!name.startsWith(entry.substring(0, index))) return -1;
+
+        for (int i = 0; i < index; i++)
+            if (entry.charAt(i) == '.') depth++;
+
+        String segment = entry.substring(index);
+        int end = name.indexOf('.', index);
+        String nameSegment = end == -1 ? name.substring(index) : name.substring(index, end);
+
+        if (segment.equals("*"))
+            return depth * 3;
+
+        if (segment.endsWith("*"))
+            return nameSegment.startsWith(segment.substring(0, segment.length() - 1)) ? depth * 3 + 1 : -1;
+
+        return end == -1 && nameSegment.equals(segment) ? depth * 3 + 2 : -1;
+    }
+
+    private static PermissionCheckResult test(Permission entry, int requiredPotency, int potency)
+    {
+        if (entry == null) return null;
+
+        if (entry.getPotency() < 0) return PermissionCheckResult.FORBIDDEN;
+
+        return entry.getPotency() >= requiredPotency || potency >= requiredPotency ? PermissionCheckResult.ALLOWED : null;
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> children;
+
+        //keeps the order of the entries, which is the resolve order of the segment prefixes
+        private Map<String, Permission> segmentWildcards;
+
+        private Permission exact, wildcard;
+
+        private void insert(String name, int offset, Permission permission)
+        {
+            int index = name.indexOf('.', offset);
+
+            if (index == -1)
+            {
+                String segment = name.substring(offset);
+
+                if (segment.equals("*"))
+                {
+                    if (this.wildcard == null) this.wildcard = permission;
+                } else if (segment.endsWith("*"))
+                {
+                    if (this.segmentWildcards == null) this.segmentWildcards = Maps.newLinkedHashMap();
+
+                    this.segmentWildcards.putIfAbsent(segment.substring(0, segment.length() - 1), permission);
+                } else
+                    this.child(segment).setExact(permission);
+
+                return;
+            }
+
+            this.child(name.substring(offset, index)).insert(name, index + 1, permission);
+        }
+
+        private void insert(String name, Permission permission)
+        {
+            this.insert(name, 0, permission);
+        }
+
+        private Node child(String segment)
+        {
+            if (this.children == null) this.children = Maps.newHashMap();
+
+            return this.children.computeIfAbsent(segment, key -> new Node());
+        }
+
+        private void setExact(Permission permission)
+        {
+            if (this.exact == null) this.exact = permission;
+        }
+
+        private PermissionCheckResult resolve(String name, int offset, int requiredPotency, int potency)
+        {
+            int index = name.indexOf('.', offset);
+            String segment = index == -1 ? name.substring(offset) : name.substring(offset, index);
+
+            Node child = this.children != null ? this.children.get(segment) : null;
+            PermissionCheckResult result = null;
+
+            if (child != null)
+                result = index == -1 ? test(child.exact, requiredPotency, potency) : child.resolve(name, index + 1, requiredPotency, potency);
+
+            if (result != null) return result;
+
+            if (this.segmentWildcards != null)
+                for (Map.Entry<String, Permission> entry : this.segmentWildcards.entrySet())
+                    if (segment.startsWith(entry.getKey()) && (result = test(entry.getValue(), requiredPotency, potency)) != null)
+                        return result;
+
+            return test(this.wildcard, requiredPotency, potency);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package de.dytanic.cloudnet.driver.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testHistogramBuckets()
+    {
+        for (long value : new long[]{0, 1, 7, 8, 15, 16, 100, 1023, 1024, 123456789L, 1L << 39})
+        {
+            int index = Histogram.indexOf(value);
+
+            Assert.assertTrue(Histogram.highestValueOf(index) >= value);
+            Assert.assertTrue(index == 0 || Histogram.highestValueOf(index - 1) < value);
+            Assert.assertTrue(Histogram.highestValueOf(index) - value <= value / 8);
+        }
+
+        Assert.assertEquals(Histogram.indexOf(1L << 40), Histogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testMetricsRegistry()
+    {
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+        Counter counter = metricsRegistry.counter("test_requests_total", "The requests", "path", "/a\"b");
+        counter.increment();
+        counter.add(2);
+
+        Assert.assertSame(counter, metricsRegistry.counter("test_requests_total", "The requests", "path", "/a\"b"));
+        Assert.assertNotSame(counter, metricsRegistry.counter("test_requests_total", "The requests", "path", "/c"));
+        Assert.assertEquals(3, counter.get());
+
+        metricsRegistry.gauge("test_value", "A value", () -> 2.5);
+
+        Histogram histogram = metricsRegistry.timer("test_duration_seconds", "The durations");
+
+        for (int i = 0; i < 90; i++) histogram.record(2, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 10; i++) histogram.record(2, TimeUnit.SECONDS);
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertTrue(histogram.getPercentile(50) >= TimeUnit.MILLISECONDS.toNanos(2));
+        Assert.assertTrue(histogram.getPercentile(50) < TimeUnit.MILLISECONDS.toNanos(3));
+        Assert.assertTrue(histogram.getPercentile(99) >= TimeUnit.SECONDS.toNanos(2));
+
+        try
+        {
+            metricsRegistry.gauge("test_requests_total", "The requests", () -> 1);
+            Assert.fail();
+        } catch (IllegalArgumentException ignored)
+        {
+        }
+
+        String text = MetricsTextFormat.write(metricsRegistry.getMetrics());
+
+        Assert.assertTrue(text.contains("# TYPE test_requests_total counter\n"));
+        Assert.assertEquals(text.indexOf("# HELP test_requests_total"), text.lastIndexOf("# HELP test_requests_total"));
+        Assert.assertTrue(text.contains("test_requests_total{path=\"/a\\\"b\"} 3\n"));
+        Assert.assertTrue(text.contains("test_value 2.5\n"));
+        Assert.assertTrue(text.contains("test_duration_seconds_bucket{le=\"0.001\"} 0\n"));
+        Assert.assertTrue(text.contains("test_duration_seconds_bucket{le=\"0.0025\"} 90\n"));
+        Assert.assertTrue(text.contains("test_duration_seconds_bucket{le=\"+Inf\"} 100\n"));
+        Assert.assertTrue(text.contains("test_duration_seconds_count 100\n"));
+
+        metricsRegistry.unregister("test_value");
+        Assert.assertNull(metricsRegistry.getMetric("test_value"));
+    }
+}
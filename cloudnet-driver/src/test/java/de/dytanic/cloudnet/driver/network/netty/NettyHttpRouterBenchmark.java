@@ -0,0 +1,194 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
+import de.dytanic.cloudnet.driver.network.http.IHttpHandler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the route lookup of the compiled NettyHttpRouter against the previous linear scan of the NettyHttpServerHandler,
+ * which copied, sorted and split every registered handler path for each request. It is not a unit test and has to be
+ * started manually, for example with "java -cp ... NettyHttpRouterBenchmark [routes] [lookups]".
+ */
+public final class NettyHttpRouterBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3, ROUNDS = 5, PORT = 2812;
+
+    private static final IHttpHandler HTTP_HANDLER = (path, context) -> {
+    };
+
+    private static volatile int blackhole;
+
+    public static void main(String... args) throws Exception
+    {
+        int routeCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+
+        NettyHttpServer nettyHttpServer = new NettyHttpServer();
+
+        try
+        {
+            List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList();
+
+            for (int i = 0; entries.size() < routeCount; i++)
+            {
+                entries.add(nettyHttpServer.new HttpHandlerEntry("/api/v1/module" + i, HTTP_HANDLER, null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.INLINE));
+                entries.add(nettyHttpServer.new HttpHandlerEntry("/api/v1/module" + i + "/{name}", HTTP_HANDLER, null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.INLINE));
+                entries.add(nettyHttpServer.new HttpHandlerEntry("/api/v1/module" + i + "/{name}/config", HTTP_HANDLER, null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.INLINE));
+                entries.add(nettyHttpServer.new HttpHandlerEntry("/api/v1/module" + i + "/{name}/files/*", HTTP_HANDLER, null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.INLINE));
+            }
+
+            int modules = entries.size() / 4;
+            String[] paths = new String[1024];
+
+            for (int i = 0; i < paths.length; i++)
+                switch (i % 4)
+                {
+                    case 0:
+                        paths[i] = "/api/v1/module" + (i % modules);
+                        break;
+                    case 1:
+                        paths[i] = "/api/v1/module" + (i % modules) + "/lobby/config";
+                        break;
+                    case 2:
+                        paths[i] = "/api/v1/module" + (i % modules) + "/lobby/files/plugins/config.yml";
+                        break;
+                    default:
+                        paths[i] = "/api/v1/unknown" + i;
+                        break;
+                }
+
+            long compileNanos = System.nanoTime();
+            NettyHttpRouter router = NettyHttpRouter.compile(entries);
+            compileNanos = System.nanoTime() - compileNanos;
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++)
+            {
+                matchRouter(router, paths, lookups);
+                matchLinear(entries, paths, lookups / 10);
+            }
+
+            long routerNanos = 0, linearNanos = 0;
+
+            for (int i = 0; i < ROUNDS; i++)
+            {
+                routerNanos += matchRouter(router, paths, lookups);
+                //the linear scan is too slow for the full amount of lookups
+                linearNanos += matchLinear(entries, paths, lookups / 10) * 10;
+            }
+
+            System.out.println(String.format(
+                "%d routes: compile %.3f ms | router %.1f ns/lookup | linear %.1f ns/lookup",
+                entries.size(),
+                compileNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                routerNanos / (double) ROUNDS / lookups,
+                linearNanos / (double) ROUNDS / lookups
+            ));
+
+        } finally
+        {
+            nettyHttpServer.close();
+        }
+    }
+
+    private static long matchRouter(NettyHttpRouter router, String[] paths, int lookups)
+    {
+        int matches = 0;
+        long nanos = System.nanoTime();
+
+        for (int i = 0; i < lookups; i++)
+        {
+            String path = paths[i & (paths.length - 1)];
+            Map<String, String> pathParameters = Maps.newHashMap();
+
+            for (NettyHttpRouter.Route route : router.match(path, PORT))
+            {
+                route.bindPathParameters(path, pathParameters);
+                matches++;
+            }
+        }
+
+        nanos = System.nanoTime() - nanos;
+        blackhole += matches;
+
+        return nanos;
+    }
+
+    private static long matchLinear(List<NettyHttpServer.HttpHandlerEntry> registeredHandlers, String[] paths, int lookups)
+    {
+        int matches = 0;
+        long nanos = System.nanoTime();
+
+        for (int i = 0; i < lookups; i++)
+        {
+            String path = paths[i & (paths.length - 1)];
+            Map<String, String> pathParameters = Maps.newHashMap();
+
+            List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList(registeredHandlers);
+            String[] pathEntries = path.split("/");
+            Collections.sort(entries);
+
+            for (NettyHttpServer.HttpHandlerEntry httpHandlerEntry : entries)
+                if (matchLinear(httpHandlerEntry, pathParameters, pathEntries, httpHandlerEntry.path.split("/")))
+                    matches++;
+        }
+
+        nanos = System.nanoTime() - nanos;
+        blackhole += matches;
+
+        return nanos;
+    }
+
+    /**
+     * The matching of the previous NettyHttpServerHandler, without the invocation of the handler
+     */
+    private static boolean matchLinear(NettyHttpServer.HttpHandlerEntry httpHandlerEntry, Map<String, String> pathParameters,
+                                       String[] pathEntries, String[] handlerPathEntries)
+    {
+        if (httpHandlerEntry.port != null && httpHandlerEntry.port != PORT)
+            return false;
+
+        if (!httpHandlerEntry.path.endsWith("*") && pathEntries.length != handlerPathEntries.length)
+            return false;
+
+        if (pathEntries.length < handlerPathEntries.length)
+            return false;
+
+        boolean wildCard = false;
+
+        if (!(pathEntries.length == 1 && handlerPathEntries.length == 1))
+            for (int index = 1; index < pathEntries.length; ++index)
+            {
+                if (wildCard) continue;
+
+                if (index >= handlerPathEntries.length)
+                    return false;
+
+                if (handlerPathEntries[index].equals("*") && handlerPathEntries.length - 1 == index)
+                {
+                    wildCard = true;
+                    continue;
+                }
+
+                if (handlerPathEntries[index].startsWith("{") && handlerPathEntries[index].endsWith("}") && handlerPathEntries[index].length() > 2)
+                {
+                    String replacedString = handlerPathEntries[index].replaceFirst("\\{", "");
+                    pathParameters.put(replacedString.substring(0, replacedString.length() - 1), pathEntries[index]);
+                    continue;
+                }
+
+                if (handlerPathEntries[index].equals("*"))
+                    continue;
+
+                if (!handlerPathEntries[index].equals(pathEntries[index]))
+                    return false;
+            }
+
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
+import de.dytanic.cloudnet.driver.network.http.IHttpHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class NettyHttpRouterTest {
+
+    private static final IHttpHandler HTTP_HANDLER = (path, context) -> {
+    };
+
+    @Test
+    public void testRouter() throws Exception
+    {
+        NettyHttpServer nettyHttpServer = new NettyHttpServer();
+
+        List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList();
+
+        entries.add(entry(nettyHttpServer, "/api/v1/services/{uuid}", null, IHttpHandler.PRIORITY_NORMAL));
+        entries.add(entry(nettyHttpServer, "/api/v1/*", null, IHttpHandler.PRIORITY_HIGH));
+        entries.add(entry(nettyHttpServer, "/api/v1/services/{uuid}/{operation}", null, IHttpHandler.PRIORITY_NORMAL));
+        entries.add(entry(nettyHttpServer, "/api/v1/services/*/start", 8080, IHttpHandler.PRIORITY_LOW));
+        entries.add(entry(nettyHttpServer, "/api/v1", null, IHttpHandler.PRIORITY_NORMAL));
+        entries.add(entry(nettyHttpServer, "/", null, IHttpHandler.PRIORITY_NORMAL));
+
+        NettyHttpRouter router = NettyHttpRouter.compile(entries);
+
+        List<NettyHttpRouter.Route> routes = router.match("/api/v1/services/abc/start", 8080);
+        Assert.assertEquals(3, routes.size());
+        Assert.assertEquals("/api/v1/*", routes.get(0).httpHandlerEntry.path);
+        Assert.assertEquals("/api/v1/services/{uuid}/{operation}", routes.get(1).httpHandlerEntry.path);
+        Assert.assertEquals("/api/v1/services/*/start", routes.get(2).httpHandlerEntry.path);
+
+        Map<String, String> pathParameters = Maps.newHashMap();
+        routes.get(1).bindPathParameters("/api/v1/services/abc/start", pathParameters);
+
+        Assert.assertEquals("abc", pathParameters.get("uuid"));
+        Assert.assertEquals("start", pathParameters.get("operation"));
+
+        Assert.assertEquals(2, router.match("/api/v1/services/abc/start", 2812).size());
+        Assert.assertEquals(2, router.match("/api/v1/services/abc", 2812).size());
+        Assert.assertEquals(1, router.match("/api/v1", 2812).size());
+        Assert.assertEquals("/", router.match("/", 2812).get(0).httpHandlerEntry.path);
+        Assert.assertEquals(0, router.match("/api", 2812).size());
+
+        nettyHttpServer.close();
+    }
+
+    @Test
+    public void testRouterWithManyRoutes() throws Exception
+    {
+        NettyHttpServer nettyHttpServer = new NettyHttpServer();
+
+        List<NettyHttpServer.HttpHandlerEntry> entries = Iterables.newArrayList();
+
+        for (int i = 0; i < 25; i++)
+        {
+            entries.add(entry(nettyHttpServer, "/api/v1/module" + i, null, IHttpHandler.PRIORITY_NORMAL));
+            entries.add(entry(nettyHttpServer, "/api/v1/module" + i + "/{name}", null, IHttpHandler.PRIORITY_NORMAL));
+            entries.add(entry(nettyHttpServer, "/api/v1/module" + i + "/{name}/config", null, IHttpHandler.PRIORITY_NORMAL));
+            entries.add(entry(nettyHttpServer, "/api/v1/module" + i + "/{name}/files/*", null, IHttpHandler.PRIORITY_NORMAL));
+        }
+
+        NettyHttpRouter router = NettyHttpRouter.compile(entries);
+
+        Assert.assertEquals(1, router.match("/api/v1/module0", 2812).size());
+        Assert.assertEquals(1, router.match("/api/v1/module12/lobby/config", 2812).size());
+        Assert.assertEquals(1, router.match("/api/v1/module24/lobby/files/plugins/config.yml", 2812).size());
+        Assert.assertEquals("/api/v1/module24/{name}/files/*", router.match("/api/v1/module24/lobby/files/plugins/config.yml", 2812).get(0).httpHandlerEntry.path);
+        Assert.assertEquals(0, router.match("/api/v1/unknown", 2812).size());
+
+        nettyHttpServer.close();
+    }
+
+    private static NettyHttpServer.HttpHandlerEntry entry(NettyHttpServer nettyHttpServer, String path, Integer port, int priority)
+    {
+        return nettyHttpServer.new HttpHandlerEntry(path, HTTP_HANDLER, port, priority, HttpExecutionPolicy.INLINE);
+    }
+}
@@ -1,5 +1,10 @@
 package de.dytanic.cloudnet.driver.network.netty;
 
+import de.dytanic.cloudnet.common.io.FileUtils;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.network.http.IHttpHandler;
 import de.dytanic.cloudnet.driver.network.http.IHttpServer;
@@ -7,11 +12,19 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.Socket;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
 
 public class NettyHttpServerTest {
 
@@ -124,4 +137,242 @@ public class NettyHttpServerTest {
         httpURLConnection.disconnect();
         httpServer.close();
     }
+
+    @Test
+    public void testHttpServerWithOffloadedHandler() throws Exception
+    {
+        IHttpServer httpServer = new NettyHttpServer();
+
+        Assert.assertNotNull(httpServer.registerHandler("/offloaded", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                context
+                    .response()
+                    .header("Handler-Thread", Thread.currentThread().getName())
+                    .body(context.request().body())
+                    .statusCode(200)
+                    .context()
+                    .cancelNext()
+                ;
+            }
+        }));
+
+        Assert.assertTrue(httpServer.addListener(2918));
+
+        HttpURLConnection httpURLConnection = (HttpURLConnection) new URL("http://localhost:2918/offloaded").openConnection();
+        httpURLConnection.setRequestMethod("POST");
+        httpURLConnection.setDoOutput(true);
+        httpURLConnection.setUseCaches(false);
+        httpURLConnection.connect();
+
+        try (OutputStream outputStream = httpURLConnection.getOutputStream())
+        {
+            outputStream.write(TEST_STRING_2_MESSAGE.getBytes());
+            outputStream.flush();
+        }
+
+        Assert.assertEquals(200, httpURLConnection.getResponseCode());
+        Assert.assertTrue(httpURLConnection.getHeaderField("Handler-Thread").startsWith("HttpHandler-"));
+
+        try (InputStream inputStream = httpURLConnection.getInputStream(); BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
+            inputStream
+        )))
+        {
+            Assert.assertEquals(TEST_STRING_2_MESSAGE, bufferedReader.readLine());
+        }
+
+        Histogram routeLatency = (Histogram) MetricsRegistry.getDefault().getMetric("cloudnet_http_request_duration_seconds", "route", "/offloaded");
+        Assert.assertNotNull(routeLatency);
+        Assert.assertEquals(1, routeLatency.getCount());
+
+        httpURLConnection.disconnect();
+        httpServer.close();
+    }
+
+    @Test
+    public void testHttpServerWithStreamingBodies() throws Exception
+    {
+        IHttpServer httpServer = new NettyHttpServer();
+
+        byte[] content = new byte[256 * 1024];
+        new Random(5).nextBytes(content);
+
+        Path file = Files.createTempFile("cloudnet-http-test", ".bin");
+        Files.write(file, content);
+
+        httpServer.registerHandler("/upload", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                InputStream inputStream = context.request().bodyStream();
+
+                context
+                    .response()
+                    .body(outputStream -> FileUtils.copy(inputStream, outputStream))
+                    .statusCode(200)
+                    .context()
+                    .cancelNext()
+                ;
+            }
+        });
+
+        httpServer.registerHandler("/download", new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                context
+                    .response()
+                    .body(file)
+                    .statusCode(200)
+                    .context()
+                    .cancelNext()
+                ;
+            }
+        });
+
+        Assert.assertTrue(httpServer.addListener(2919));
+
+        HttpURLConnection httpURLConnection = (HttpURLConnection) new URL("http://localhost:2919/upload").openConnection();
+        httpURLConnection.setRequestMethod("POST");
+        httpURLConnection.setDoOutput(true);
+        httpURLConnection.setChunkedStreamingMode(8192);
+        httpURLConnection.connect();
+
+        try (OutputStream outputStream = httpURLConnection.getOutputStream())
+        {
+            outputStream.write(content);
+        }
+
+        Assert.assertEquals(200, httpURLConnection.getResponseCode());
+
+        try (InputStream inputStream = httpURLConnection.getInputStream())
+        {
+            Assert.assertArrayEquals(content, FileUtils.toByteArray(inputStream));
+        }
+
+        httpURLConnection.disconnect();
+
+        httpURLConnection = (HttpURLConnection) new URL("http://localhost:2919/download").openConnection();
+        httpURLConnection.connect();
+
+        Assert.assertEquals(200, httpURLConnection.getResponseCode());
+        Assert.assertEquals(content.length, httpURLConnection.getContentLengthLong());
+
+        try (InputStream inputStream = httpURLConnection.getInputStream())
+        {
+            Assert.assertArrayEquals(content, FileUtils.toByteArray(inputStream));
+        }
+
+        httpURLConnection.disconnect();
+        httpServer.close();
+
+        Files.delete(file);
+    }
+
+    @Test
+    public void testHttpServerWithPipelinedKeepAliveRequests() throws Exception
+    {
+        IHttpServer httpServer = new NettyHttpServer();
+
+        Assert.assertNotNull(httpServer.registerHandler("/slow", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                Thread.sleep(100);
+                context.response().body("slow").statusCode(200).context().closeAfter(true).cancelNext();
+            }
+        }));
+
+        Assert.assertNotNull(httpServer.registerHandler("/fast", new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                context.response().body("fast").statusCode(200).context().closeAfter(true).cancelNext();
+            }
+        }));
+
+        Assert.assertTrue(httpServer.addListener(2920));
+
+        try (Socket socket = new Socket("localhost", 2920))
+        {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write((
+                "GET /slow HTTP/1.1\r\nHost: localhost\r\n\r\n" +
+                    "GET /fast HTTP/1.1\r\nHost: localhost\r\n\r\n" +
+                    "GET /fast HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+            ).getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            FileUtils.copy(socket.getInputStream(), byteArrayOutputStream);
+
+            String responses = new String(byteArrayOutputStream.toByteArray(), StandardCharsets.UTF_8);
+
+            Assert.assertEquals(3, responses.split("HTTP/1.1 200", -1).length - 1);
+            Assert.assertTrue(responses.indexOf("slow") < responses.indexOf("fast"));
+            Assert.assertTrue(responses.trim().endsWith("fast"));
+        }
+
+        httpServer.close();
+    }
+
+    @Test
+    public void testHttpServerWithCompression() throws Exception
+    {
+        IHttpServer httpServer = new NettyHttpServer();
+        httpServer.setCompression(new HttpCompressionConfiguration(true, true, 6, 1024, Collections.singletonList("application/json")));
+
+        StringBuilder stringBuilder = new StringBuilder("[");
+
+        for (int i = 0; i < 256; i++)
+            stringBuilder.append(i == 0 ? "" : ",").append("{\"name\":\"Lobby-").append(i).append("\",\"online\":true}");
+
+        String json = stringBuilder.append("]").toString();
+
+        Assert.assertNotNull(httpServer.registerHandler("/compressed/{size}", new IHttpHandler() {
+            @Override
+            public void handle(String path, IHttpContext context) throws Exception
+            {
+                context
+                    .response()
+                    .header("Content-Type", "application/json")
+                    .body(context.request().pathParameters().get("size").equals("large") ? json : "[]")
+                    .statusCode(200)
+                    .context()
+                    .cancelNext()
+                ;
+            }
+        }));
+
+        Assert.assertTrue(httpServer.addListener(2921));
+
+        HttpURLConnection httpURLConnection = (HttpURLConnection) new URL("http://localhost:2921/compressed/large").openConnection();
+        httpURLConnection.setRequestProperty("Accept-Encoding", "gzip");
+        httpURLConnection.connect();
+
+        Assert.assertEquals(200, httpURLConnection.getResponseCode());
+        Assert.assertEquals("gzip", httpURLConnection.getHeaderField("Content-Encoding"));
+
+        try (InputStream inputStream = new GZIPInputStream(httpURLConnection.getInputStream()))
+        {
+            Assert.assertEquals(json, new String(FileUtils.toByteArray(inputStream), StandardCharsets.UTF_8));
+        }
+
+        httpURLConnection.disconnect();
+
+        httpURLConnection = (HttpURLConnection) new URL("http://localhost:2921/compressed/small").openConnection();
+        httpURLConnection.setRequestProperty("Accept-Encoding", "gzip");
+        httpURLConnection.connect();
+
+        Assert.assertEquals(200, httpURLConnection.getResponseCode());
+        Assert.assertNull(httpURLConnection.getHeaderField("Content-Encoding"));
+
+        httpURLConnection.disconnect();
+
+        Assert.assertEquals(1, httpServer.getCompressionStatistics().getCompressedResponses());
+        Assert.assertTrue(httpServer.getCompressionStatistics().getSavedBytes() > 0);
+
+        httpServer.close();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.concurrent.ITask;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.protocol.DefaultPacketListenerRegistry;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class NettyNetworkChannelTest {
+
+    @Test
+    public void testQueueWhileNotWritable() throws Exception
+    {
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        NettyNetworkChannel channel = new NettyNetworkChannel(embeddedChannel, new DefaultPacketListenerRegistry(), null, null, null, false);
+
+        Packet first = packet(1), second = packet(2), third = packet(3);
+
+        channel.sendPacket(first);
+        Assert.assertSame(first, embeddedChannel.readOutbound());
+
+        this.setWritable(embeddedChannel, false);
+
+        channel.sendPacket(second);
+        channel.sendPacket(third);
+        Assert.assertNull(embeddedChannel.readOutbound());
+
+        this.setWritable(embeddedChannel, true);
+        channel.handleWritabilityChanged();
+
+        Assert.assertSame(second, embeddedChannel.readOutbound());
+        Assert.assertSame(third, embeddedChannel.readOutbound());
+        Assert.assertNull(embeddedChannel.readOutbound());
+    }
+
+    @Test
+    public void testCoalesceDroppablePackets() throws Exception
+    {
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        NettyNetworkChannel channel = new NettyNetworkChannel(embeddedChannel, new DefaultPacketListenerRegistry(), null, null, null, false);
+
+        Packet first = packet(1), second = packet(2), third = packet(3), fourth = packet(4);
+
+        this.setWritable(embeddedChannel, false);
+
+        Assert.assertTrue(channel.sendDroppablePacket(first, "service"));
+        channel.sendPacket(second);
+        Assert.assertTrue(channel.sendDroppablePacket(third, "service"));
+        Assert.assertTrue(channel.sendDroppablePacket(fourth, "other"));
+
+        Assert.assertNull(embeddedChannel.readOutbound());
+        Assert.assertEquals(1, channel.getDroppedPackets());
+
+        this.setWritable(embeddedChannel, true);
+        channel.handleWritabilityChanged();
+
+        Assert.assertSame(third, embeddedChannel.readOutbound());
+        Assert.assertSame(second, embeddedChannel.readOutbound());
+        Assert.assertSame(fourth, embeddedChannel.readOutbound());
+        Assert.assertNull(embeddedChannel.readOutbound());
+
+        Assert.assertTrue(channel.sendDroppablePacket(first, "service"));
+        Assert.assertSame(first, embeddedChannel.readOutbound());
+    }
+
+    @Test
+    public void testSendPacketAsync() throws Exception
+    {
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel();
+        NettyNetworkChannel channel = new NettyNetworkChannel(embeddedChannel, new DefaultPacketListenerRegistry(), null, null, null, false);
+
+        this.setWritable(embeddedChannel, false);
+
+        ITask<Boolean> task = channel.sendPacketAsync(packet(1));
+        Assert.assertFalse(task.isDone());
+
+        this.setWritable(embeddedChannel, true);
+        channel.handleWritabilityChanged();
+
+        Assert.assertTrue(task.isDone());
+        Assert.assertTrue(task.get(1, TimeUnit.SECONDS));
+
+        this.setWritable(embeddedChannel, false);
+
+        task = channel.sendPacketAsync(packet(2));
+        embeddedChannel.close();
+        channel.handleWritabilityChanged();
+
+        Assert.assertTrue(task.isDone());
+        Assert.assertFalse(task.get(1, TimeUnit.SECONDS));
+        Assert.assertFalse(channel.sendDroppablePacket(packet(3), "service"));
+    }
+
+    private void setWritable(EmbeddedChannel embeddedChannel, boolean writable)
+    {
+        embeddedChannel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        Assert.assertEquals(writable, embeddedChannel.isWritable());
+    }
+
+    private static Packet packet(int index)
+    {
+        return new Packet(6, new JsonDocument("index", index), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
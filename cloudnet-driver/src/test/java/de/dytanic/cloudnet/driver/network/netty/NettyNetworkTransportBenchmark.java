@@ -0,0 +1,122 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.*;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the packet throughput over loopback for different transport configurations. It is not a unit test and has to be
+ * started manually, for example with "java -cp ... NettyNetworkTransportBenchmark [packets] [body size]".
+ */
+public final class NettyNetworkTransportBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3, ROUNDS = 5, BATCH_SIZE = 64;
+
+    public static void main(String... args) throws Exception
+    {
+        int packets = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int bodySize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+
+        benchmark("default", NetworkTransportConfiguration.DEFAULT, 43307, packets, bodySize);
+        benchmark("small watermarks", new NetworkTransportConfiguration(1, 1, false, 1, 32 * 1024, 64 * 1024, true, true), 43308, packets, bodySize);
+        benchmark("large watermarks", new NetworkTransportConfiguration(1, 2, false, 1, 1024 * 1024, 4 * 1024 * 1024, true, true), 43309, packets, bodySize);
+        benchmark("unpooled heap", new NetworkTransportConfiguration(1, 2, false, 1, 256 * 1024, 1024 * 1024, false, false), 43310, packets, bodySize);
+    }
+
+    private static void benchmark(String name, NetworkTransportConfiguration transportConfiguration, int port, int packets, int bodySize) throws Exception
+    {
+        ChannelHandler serverHandler = new ChannelHandler();
+
+        INetworkServer networkServer = new NettyNetworkServer(() -> serverHandler, null, null, transportConfiguration);
+        INetworkClient networkClient = new NettyNetworkClient(ChannelHandler::new, null, null, transportConfiguration);
+
+        try
+        {
+            HostAndPort address = new HostAndPort("127.0.0.1", port);
+
+            if (!networkServer.addListener(address) || !networkClient.connect(address))
+                throw new IllegalStateException("Cannot connect to " + address);
+
+            for (int i = 0; i < 100 && networkClient.getChannels().isEmpty(); i++)
+                Thread.sleep(10);
+
+            INetworkChannel channel = networkClient.getChannels().iterator().next();
+            byte[] body = new byte[bodySize];
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++)
+                send(channel, serverHandler, packets, body, false);
+
+            for (boolean batched : new boolean[]{false, true})
+            {
+                long nanos = 0;
+
+                for (int i = 0; i < ROUNDS; i++)
+                    nanos += send(channel, serverHandler, packets, body, batched);
+
+                double seconds = nanos / (double) ROUNDS / TimeUnit.SECONDS.toNanos(1);
+
+                System.out.printf("%-18s %-8s %,12.0f packets/s %,10.1f MB/s%n", name, batched ? "batched" : "single",
+                    packets / seconds, packets * (double) bodySize / seconds / (1024 * 1024));
+            }
+        } finally
+        {
+            networkClient.close();
+            networkServer.close();
+        }
+    }
+
+    private static long send(INetworkChannel channel, ChannelHandler serverHandler, int packets, byte[] body, boolean batched) throws Exception
+    {
+        CountDownLatch countDownLatch = new CountDownLatch(packets);
+        serverHandler.countDownLatch = countDownLatch;
+
+        long start = System.nanoTime();
+
+        if (batched)
+            for (int i = 0; i < packets; i += BATCH_SIZE)
+            {
+                Packet[] batch = new Packet[Math.min(BATCH_SIZE, packets - i)];
+
+                for (int j = 0; j < batch.length; j++)
+                    batch[j] = new Packet(6, new JsonDocument("index", i + j), body);
+
+                channel.sendPacket(batch);
+            }
+        else
+            for (int i = 0; i < packets; i++)
+                channel.sendPacket(new Packet(6, new JsonDocument("index", i), body));
+
+        if (!countDownLatch.await(2, TimeUnit.MINUTES))
+            throw new IllegalStateException("Only " + (packets - countDownLatch.getCount()) + " of " + packets + " packets were received");
+
+        return System.nanoTime() - start;
+    }
+
+    private static final class ChannelHandler implements INetworkChannelHandler {
+
+        private volatile CountDownLatch countDownLatch;
+
+        @Override
+        public void handleChannelInitialize(INetworkChannel channel)
+        {
+        }
+
+        @Override
+        public boolean handlePacketReceive(INetworkChannel channel, Packet packet)
+        {
+            CountDownLatch countDownLatch = this.countDownLatch;
+
+            if (countDownLatch != null) countDownLatch.countDown();
+
+            return false;
+        }
+
+        @Override
+        public void handleChannelClose(INetworkChannel channel)
+        {
+        }
+    }
+}
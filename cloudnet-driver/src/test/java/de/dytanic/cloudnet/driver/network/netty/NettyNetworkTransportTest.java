@@ -0,0 +1,105 @@
+package de.dytanic.cloudnet.driver.network.netty;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.*;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class NettyNetworkTransportTest {
+
+    private static final int PACKETS = 20000, BATCH_SIZE = 64;
+
+    @Test
+    public void testLoopbackTransportConfigurations() throws Exception
+    {
+        this.sendPackets(NetworkTransportConfiguration.DEFAULT, 43207);
+        this.sendPackets(new NetworkTransportConfiguration(1, 2, false, 1, 32 * 1024, 64 * 1024, false, false), 43208);
+        this.sendPackets(new NetworkTransportConfiguration(2, 2, true, 2, 256 * 1024, 1024 * 1024, true, true), 43209);
+    }
+
+    @Test
+    public void testBackpressure() throws Exception
+    {
+        this.sendPackets(new NetworkTransportConfiguration(1, 1, false, 1, 1024, 2048, true, true), 43210);
+    }
+
+    private void sendPackets(NetworkTransportConfiguration transportConfiguration, int port) throws Exception
+    {
+        CountDownLatch countDownLatch = new CountDownLatch(PACKETS);
+
+        INetworkServer networkServer = new NettyNetworkServer(() -> new ChannelHandler(countDownLatch), null, null, transportConfiguration);
+        INetworkClient networkClient = new NettyNetworkClient(() -> new ChannelHandler(null), null, null, transportConfiguration);
+
+        try
+        {
+            HostAndPort address = new HostAndPort("127.0.0.1", port);
+
+            Assert.assertTrue(networkServer.addListener(address));
+            Assert.assertTrue(networkClient.connect(address));
+
+            for (int i = 0; i < 100 && networkClient.getChannels().isEmpty(); i++)
+                Thread.sleep(10);
+
+            Assert.assertEquals(1, networkClient.getChannels().size());
+
+            INetworkChannel channel = networkClient.getChannels().iterator().next();
+            byte[] body = new byte[256];
+
+            Packet[] packets = new Packet[BATCH_SIZE];
+
+            for (int i = 0; i < PACKETS; i += BATCH_SIZE)
+            {
+                int size = Math.min(BATCH_SIZE, PACKETS - i);
+
+                for (int j = 0; j < size; j++)
+                    packets[j] = new Packet(6, new JsonDocument("index", i + j), body);
+
+                if (size == BATCH_SIZE)
+                    channel.sendPacket(packets);
+                else
+                    for (int j = 0; j < size; j++)
+                        channel.sendPacket(packets[j]);
+
+                packets = new Packet[BATCH_SIZE];
+            }
+
+            Assert.assertTrue(countDownLatch.await(30, TimeUnit.SECONDS));
+        } finally
+        {
+            networkClient.close();
+            networkServer.close();
+        }
+    }
+
+    private static final class ChannelHandler implements INetworkChannelHandler {
+
+        private final CountDownLatch countDownLatch;
+
+        private ChannelHandler(CountDownLatch countDownLatch)
+        {
+            this.countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public void handleChannelInitialize(INetworkChannel channel)
+        {
+        }
+
+        @Override
+        public boolean handlePacketReceive(INetworkChannel channel, Packet packet)
+        {
+            if (this.countDownLatch != null) this.countDownLatch.countDown();
+
+            return false;
+        }
+
+        @Override
+        public void handleChannelClose(INetworkChannel channel)
+        {
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package de.dytanic.cloudnet.driver.permission;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the permission checks of a compiled PermissionMatcher against the linear scan over the same permission
+ * entries for trees with 500 nodes. It is not a unit test and has to be started manually, for example with
+ * "java -cp ... PermissionMatcherBenchmark [permissions] [checks]".
+ */
+public final class PermissionMatcherBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3, ROUNDS = 5;
+
+    private static volatile int blackhole;
+
+    public static void main(String... args)
+    {
+        int permissionCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int checks = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+
+        benchmark("flat", createPermissions(permissionCount, 1, 0), checks);
+        benchmark("nested", createPermissions(permissionCount, 4, 0), checks);
+        benchmark("wildcards", createPermissions(permissionCount, 4, 10), checks);
+    }
+
+    private static void benchmark(String name, List<Permission> permissions, int checks)
+    {
+        Permission[] names = createNames(permissions, 1024);
+
+        PermissionMatcher permissionMatcher = PermissionMatcher.compile(permissions);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            permissionMatcher = PermissionMatcher.compile(permissions);
+            checkCompiled(permissionMatcher, names, checks);
+            checkLinear(permissions, names, checks / 100);
+        }
+
+        long compileNanos = 0, compiledNanos = 0, linearNanos = 0;
+
+        for (int i = 0; i < ROUNDS; i++)
+        {
+            long nanos = System.nanoTime();
+            permissionMatcher = PermissionMatcher.compile(permissions);
+            compileNanos += System.nanoTime() - nanos;
+
+            compiledNanos += checkCompiled(permissionMatcher, names, checks);
+            //the linear scan is too slow for the full amount of checks
+            linearNanos += checkLinear(permissions, names, checks / 100) * 100;
+        }
+
+        System.out.println(String.format(
+            "%s (%d permissions): compile %.3f ms | compiled %.1f ns/check | linear %.1f ns/check",
+            name,
+            permissions.size(),
+            compileNanos / (double) ROUNDS / TimeUnit.MILLISECONDS.toNanos(1),
+            compiledNanos / (double) ROUNDS / checks,
+            linearNanos / (double) ROUNDS / checks
+        ));
+    }
+
+    private static long checkCompiled(PermissionMatcher permissionMatcher, Permission[] names, int checks)
+    {
+        int allowed = 0;
+        long nanos = System.nanoTime();
+
+        for (int i = 0; i < checks; i++)
+            if (permissionMatcher.check(names[i & (names.length - 1)], 0) == PermissionCheckResult.ALLOWED) allowed++;
+
+        nanos = System.nanoTime() - nanos;
+        blackhole += allowed;
+
+        return nanos;
+    }
+
+    private static long checkLinear(Collection<Permission> permissions, Permission[] names, int checks)
+    {
+        int allowed = 0;
+        long nanos = System.nanoTime();
+
+        for (int i = 0; i < checks; i++)
+            if (PermissionMatcher.check(permissions, names[i & (names.length - 1)], 0) == PermissionCheckResult.ALLOWED) allowed++;
+
+        nanos = System.nanoTime() - nanos;
+        blackhole += allowed;
+
+        return nanos;
+    }
+
+    private static List<Permission> createPermissions(int count, int depth, int wildcardPercentage)
+    {
+        List<Permission> permissions = Iterables.newArrayList();
+        Random random = new Random(count * 31 + depth);
+
+        for (int i = 0; i < count; i++)
+        {
+            StringBuilder name = new StringBuilder("plugin").append(i % 25);
+
+            for (int j = 1; j < depth; j++)
+                name.append(".node").append(random.nextInt(8));
+
+            if (random.nextInt(100) < wildcardPercentage)
+                name.append(random.nextBoolean() ? ".*" : ".command*");
+            else
+                name.append(".command").append(i);
+
+            permissions.add(new Permission(name.toString(), random.nextInt(10) == 0 ? -1 : 0));
+        }
+
+        return permissions;
+    }
+
+    private static Permission[] createNames(List<Permission> permissions, int count)
+    {
+        Permission[] names = new Permission[count];
+        Random random = new Random(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            //every second name isn't granted, so the misses are measured too
+            String name = permissions.get(random.nextInt(permissions.size())).getName().replace("*", "use");
+            names[i] = new Permission(i % 2 == 0 ? name : name + ".missing" + i);
+        }
+
+        return names;
+    }
+}
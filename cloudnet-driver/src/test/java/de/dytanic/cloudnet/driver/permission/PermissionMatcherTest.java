@@ -0,0 +1,135 @@
+package de.dytanic.cloudnet.driver.permission;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collection;
+
+public class PermissionMatcherTest {
+
+    @Test
+    public void testPermissionMatcher()
+    {
+        Collection<Permission> permissions = Iterables.newArrayList();
+
+        permissions.add(new Permission("cloudnet.command.Service", 10));
+        permissions.add(new Permission("bukkit.command.*", 0));
+        permissions.add(new Permission("bukkit.command.stop", -1));
+        permissions.add(new Permission("worldedit.wand*", 0));
+        permissions.add(new Permission("essentials.*", -1));
+
+        PermissionMatcher permissionMatcher = PermissionMatcher.compile(permissions);
+
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("cloudnet.command.service"), 0));
+        Assert.assertEquals(PermissionCheckResult.DENIED, permissionMatcher.check(new Permission("cloudnet.command.service", 11), 0));
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("cloudnet.command.service", 11), 11));
+        Assert.assertEquals(PermissionCheckResult.DENIED, permissionMatcher.check(new Permission("cloudnet.command"), 0));
+
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("bukkit.command.reload"), 0));
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("Bukkit.Command.Plugins.List"), 0));
+        Assert.assertEquals(PermissionCheckResult.FORBIDDEN, permissionMatcher.check(new Permission("bukkit.command.stop"), 0));
+        Assert.assertEquals(PermissionCheckResult.DENIED, permissionMatcher.check(new Permission("bukkit.command"), 0));
+
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("worldedit.wand"), 0));
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("worldedit.wandtoggle.other"), 0));
+        Assert.assertEquals(PermissionCheckResult.DENIED, permissionMatcher.check(new Permission("worldedit.brush"), 0));
+
+        Assert.assertEquals(PermissionCheckResult.FORBIDDEN, permissionMatcher.check(new Permission("essentials.fly"), 100));
+
+        permissions.add(new Permission("*", 0));
+        permissionMatcher = PermissionMatcher.compile(permissions);
+
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, permissionMatcher.check(new Permission("worldedit.brush"), 0));
+        Assert.assertEquals(PermissionCheckResult.FORBIDDEN, permissionMatcher.check(new Permission("essentials.fly"), 0));
+        Assert.assertEquals(PermissionCheckResult.DENIED, PermissionMatcher.EMPTY.check(new Permission("worldedit.brush"), 0));
+    }
+
+    @Test
+    public void testLinearCheck()
+    {
+        Collection<Permission> permissions = Iterables.newArrayList();
+
+        permissions.add(new Permission("cloudnet.command.Service", 10));
+        permissions.add(new Permission("bukkit.command.*", 0));
+        permissions.add(new Permission("bukkit.command.stop", -1));
+        permissions.add(new Permission("bukkit.*", -1));
+        permissions.add(new Permission("worldedit.wand*", 0));
+        permissions.add(new Permission("worldedit.wandtoggle", -1));
+        permissions.add(new Permission("essentials.*", -1));
+        permissions.add(new Permission("*", 5));
+
+        PermissionMatcher permissionMatcher = PermissionMatcher.compile(permissions);
+
+        String[] names = {
+            "cloudnet.command.service", "cloudnet.command", "bukkit.command.reload", "Bukkit.Command.Plugins.List", "bukkit.command.stop",
+            "bukkit.command", "bukkit.help", "worldedit.wand", "worldedit.wandtoggle", "worldedit.wandtoggle.other", "worldedit.brush",
+            "essentials.fly", "essentials", "other"
+        };
+
+        for (String name : names)
+            for (int potency : new int[]{0, 6, 11})
+            {
+                Permission permission = new Permission(name, potency);
+
+                Assert.assertEquals(name + " " + potency, permissionMatcher.check(permission, 0), PermissionMatcher.check(permissions, permission, 0));
+                Assert.assertEquals(name + " " + potency, permissionMatcher.check(permission, 11), PermissionMatcher.check(permissions, permission, 11));
+            }
+    }
+
+    @Test
+    public void testSegmentWildcardOrder()
+    {
+        for (int i = 0; i < 20; i++)
+        {
+            Collection<Permission> permissions = Iterables.newArrayList();
+
+            for (int j = 0; j < i; j++)
+                permissions.add(new Permission("plugin.other" + j + "*", 0));
+
+            permissions.add(new Permission("plugin.command*", -1));
+            permissions.add(new Permission("plugin.commandspy*", 0));
+
+            PermissionMatcher permissionMatcher = PermissionMatcher.compile(permissions);
+            Permission permission = new Permission("plugin.commandspy.use");
+
+            Assert.assertEquals(PermissionCheckResult.FORBIDDEN, permissionMatcher.check(permission, 0));
+            Assert.assertEquals(PermissionMatcher.check(permissions, permission, 0), permissionMatcher.check(permission, 0));
+        }
+
+        Collection<Permission> permissions = Iterables.newArrayList();
+
+        permissions.add(new Permission("plugin.commandspy*", 0));
+        permissions.add(new Permission("plugin.command*", -1));
+
+        Assert.assertEquals(PermissionCheckResult.ALLOWED, PermissionMatcher.compile(permissions).check(new Permission("plugin.commandspy.use"), 0));
+        Assert.assertEquals(PermissionCheckResult.FORBIDDEN, PermissionMatcher.compile(permissions).check(new Permission("plugin.command.use"), 0));
+    }
+
+    @Test
+    public void testPermissibleCache()
+    {
+        PermissionGroup permissionGroup = new PermissionGroup("Admin", 100);
+
+        for (int i = 0; i < 500; i++)
+            permissionGroup.addPermission("plugin" + (i % 25) + ".command" + (i / 25) + ".use");
+
+        Assert.assertTrue(permissionGroup.hasPermission("plugin24.command19.use").asBoolean());
+        Assert.assertFalse(permissionGroup.hasPermission("plugin25.command19.use").asBoolean());
+
+        permissionGroup.addPermission("plugin25.*");
+        Assert.assertTrue(permissionGroup.hasPermission("plugin25.command19.use").asBoolean());
+
+        permissionGroup.removePermission("plugin24.command19.use");
+        Assert.assertFalse(permissionGroup.hasPermission("plugin24.command19.use").asBoolean());
+
+        permissionGroup.getPermissions().add(new Permission("plugin24.command19.use", -1));
+        permissionGroup.invalidatePermissionCache();
+        Assert.assertEquals(PermissionCheckResult.FORBIDDEN, permissionGroup.hasPermission("plugin24.command19.use"));
+
+        permissionGroup.addPermission("Lobby", "plugin0.command0.use");
+        Assert.assertTrue(permissionGroup.hasPermission("Lobby", new Permission("plugin0.command0.use")).asBoolean());
+        Assert.assertFalse(permissionGroup.hasPermission("Lobby", new Permission("plugin0.command1.use")).asBoolean());
+        Assert.assertFalse(permissionGroup.hasPermission("Survival", new Permission("plugin0.command0.use")).asBoolean());
+    }
+}
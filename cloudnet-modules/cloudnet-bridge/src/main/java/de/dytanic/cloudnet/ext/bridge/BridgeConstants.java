@@ -16,11 +16,14 @@ public interface BridgeConstants {
         BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_PROXY_DISCONNECT = "proxy_player_disconnect_event",
         BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVER_LOGIN_REQUEST = "server_player_login_request_event",
         BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVER_LOGIN_SUCCESS = "server_player_login_success_event",
-        BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVER_DISCONNECT = "server_player_disconnect_event";
+        BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVER_DISCONNECT = "server_player_disconnect_event",
+        BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVICE_STATIC_PROPERTIES = "service_static_properties";
 
     /*= ------------------------------------------------------------------------------- =*/
 
     String BRIDGE_CUSTOM_MESSAGING_CHANNEL_PLAYER_API_CHANNEL_NAME = "cloudnet-bridge-channel-player-api";
 
     String BRIDGE_CUSTOM_CALLABLE_CHANNEL_PLAYER_API_CHANNEL_NAME = "cloudnet-bridge-channel-player-api";
+
+    String BRIDGE_CUSTOM_CALLABLE_CHANNEL_SERVICE_API_CHANNEL_NAME = "cloudnet-bridge-channel-service-api";
 }
\ No newline at end of file
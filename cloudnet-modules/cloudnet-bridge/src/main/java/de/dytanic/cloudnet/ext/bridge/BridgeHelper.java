@@ -1,6 +1,8 @@
 package de.dytanic.cloudnet.ext.bridge;
 
+import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.annotation.UnsafeClass;
+import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
@@ -10,10 +12,14 @@ import de.dytanic.cloudnet.ext.bridge.player.NetworkServiceInfo;
 import de.dytanic.cloudnet.wrapper.Wrapper;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 @UnsafeClass
 public final class BridgeHelper {
 
+    private static final AtomicBoolean STATIC_SERVICE_PROPERTIES_PUBLISHED = new AtomicBoolean();
+
     private BridgeHelper()
     {
         throw new UnsupportedOperationException();
@@ -24,6 +30,57 @@ public final class BridgeHelper {
         Wrapper.getInstance().publishServiceInfoUpdate();
     }
 
+    public static boolean isStaticServicePropertiesPublished()
+    {
+        return STATIC_SERVICE_PROPERTIES_PUBLISHED.get();
+    }
+
+    /**
+     * Sends the properties of this service, which don't change while the service is running, like the plugins and the
+     * worlds, once to the nodes. They aren't part of the ServiceInfoSnapshot, so they aren't sent with every update.
+     *
+     * @param properties the static properties of this service
+     * @see #getStaticServicePropertiesAsync(UUID)
+     */
+    public static void publishStaticServiceProperties(JsonDocument properties)
+    {
+        Validate.checkNotNull(properties);
+
+        if (!STATIC_SERVICE_PROPERTIES_PUBLISHED.compareAndSet(false, true)) return;
+
+        CloudNetDriver.getInstance().sendChannelMessage(
+            BridgeConstants.BRIDGE_CUSTOM_CHANNEL_MESSAGING_CHANNEL,
+            BridgeConstants.BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVICE_STATIC_PROPERTIES,
+            new JsonDocument("uniqueId", Wrapper.getInstance().getServiceId().getUniqueId())
+                .append("properties", properties)
+        );
+    }
+
+    /**
+     * Requests the static properties, like "Plugins" and "Worlds", of a service from the node
+     *
+     * @param uniqueId the uniqueId of the service
+     * @return the static properties or null, if the service hasn't published them
+     */
+    public static ITask<JsonDocument> getStaticServicePropertiesAsync(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        return CloudNetDriver.getInstance().sendCallablePacket(
+            CloudNetDriver.getInstance().getNetworkClient().getChannels().iterator().next(),
+            BridgeConstants.BRIDGE_CUSTOM_CALLABLE_CHANNEL_SERVICE_API_CHANNEL_NAME,
+            "get_static_service_properties",
+            new JsonDocument("uniqueId", uniqueId),
+            new Function<JsonDocument, JsonDocument>() {
+                @Override
+                public JsonDocument apply(JsonDocument jsonDocument)
+                {
+                    return jsonDocument.getDocument("properties");
+                }
+            }
+        );
+    }
+
     public static void sendChannelMessageProxyLoginRequest(NetworkConnectionInfo networkConnectionInfo)
     {
         CloudNetDriver.getInstance().sendChannelMessage(
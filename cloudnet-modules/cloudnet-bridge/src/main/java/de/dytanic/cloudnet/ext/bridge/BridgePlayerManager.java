@@ -85,6 +85,34 @@ public final class BridgePlayerManager implements IPlayerManager {
         return Iterables.newArrayList();
     }
 
+    @Override
+    public int getOnlineCount()
+    {
+        try
+        {
+            return getOnlineCountAsync().get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e)
+        {
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public int getOnlineCount(ServiceEnvironmentType environment)
+    {
+        try
+        {
+            return getOnlineCountAsync(environment).get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e)
+        {
+            e.printStackTrace();
+        }
+
+        return 0;
+    }
+
     @Override
     public ICloudOfflinePlayer getOfflinePlayer(UUID uniqueId)
     {
@@ -213,6 +241,46 @@ public final class BridgePlayerManager implements IPlayerManager {
         );
     }
 
+    @Override
+    public ITask<Integer> getOnlineCountAsync()
+    {
+        return getCloudNetDriver().sendCallablePacket(
+            getCloudNetDriver().getNetworkClient().getChannels().iterator().next(),
+            BridgeConstants.BRIDGE_CUSTOM_CALLABLE_CHANNEL_PLAYER_API_CHANNEL_NAME,
+            "get_online_count",
+            new JsonDocument(),
+            new Function<JsonDocument, Integer>() {
+                @Override
+                public Integer apply(JsonDocument jsonDocument)
+                {
+                    return jsonDocument.getInt("onlineCount");
+                }
+            }
+        );
+    }
+
+    @Override
+    public ITask<Integer> getOnlineCountAsync(ServiceEnvironmentType environment)
+    {
+        Validate.checkNotNull(environment);
+
+        return getCloudNetDriver().sendCallablePacket(
+            getCloudNetDriver().getNetworkClient().getChannels().iterator().next(),
+            BridgeConstants.BRIDGE_CUSTOM_CALLABLE_CHANNEL_PLAYER_API_CHANNEL_NAME,
+            "get_online_count_by_environment",
+            new JsonDocument()
+                .append("environment", environment)
+            ,
+            new Function<JsonDocument, Integer>() {
+                @Override
+                public Integer apply(JsonDocument jsonDocument)
+                {
+                    return jsonDocument.getInt("onlineCount");
+                }
+            }
+        );
+    }
+
     @Override
     public ITask<ICloudOfflinePlayer> getOfflinePlayerAsync(UUID uniqueId)
     {
@@ -16,6 +16,6 @@ public class ProxyFallback implements Comparable<ProxyFallback> {
     @Override
     public int compareTo(ProxyFallback o)
     {
-        return priority + o.priority;
+        return Integer.compare(o.priority, priority);
     }
 }
\ No newline at end of file
@@ -0,0 +1,402 @@
+package de.dytanic.cloudnet.ext.bridge;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.event.EventListener;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceUnregisterEvent;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.driver.service.ServiceLifeCycle;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Selects the fallback server of a proxy. The running services are kept in one candidate set per task, which is
+ * updated by the service events, so a login doesn't have to filter all services of the network.
+ * <p>
+ * Every selection counts as a pending player of the selected server, until the player is reported by the
+ * "Online-Count" of the server or no player was assigned for a while. A mass reconnect is spread over all fallback
+ * servers of the task this way, instead of sending all players to the server, which was the emptiest one at the last
+ * service info update.
+ */
+public final class ProxyFallbackBalancer {
+
+    private static final Strategy DEFAULT_STRATEGY = Strategy.byName(System.getProperty("cloudnet.bridge.fallback.strategy"), Strategy.LEAST_PLAYERS);
+
+    private static final boolean BURST_PROTECTION = Boolean.parseBoolean(System.getProperty("cloudnet.bridge.fallback.burst.protection", "true"));
+
+    private static final long PENDING_TIMEOUT_MILLIS = Long.getLong("cloudnet.bridge.fallback.pending.timeout", 5000);
+
+    private static final Comparator<Candidate> LOAD_COMPARATOR = new Comparator<Candidate>() {
+        @Override
+        public int compare(Candidate o1, Candidate o2)
+        {
+            int result = Integer.compare(o1.getLoad(), o2.getLoad());
+
+            return result != 0 ? result : o1.name.compareTo(o2.name);
+        }
+    };
+
+    private final Map<String, Candidates> candidates = Maps.newConcurrentHashMap();
+
+    private final Predicate<ServiceInfoSnapshot> filter;
+
+    private final Strategy strategy;
+
+    public ProxyFallbackBalancer(Predicate<ServiceInfoSnapshot> filter)
+    {
+        this(filter, DEFAULT_STRATEGY);
+    }
+
+    public ProxyFallbackBalancer(Predicate<ServiceInfoSnapshot> filter, Strategy strategy)
+    {
+        Validate.checkNotNull(filter);
+        Validate.checkNotNull(strategy);
+
+        this.filter = filter;
+        this.strategy = strategy;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    @EventListener
+    public void handle(CloudServiceEvent event)
+    {
+        if (event instanceof CloudServiceUnregisterEvent)
+            this.remove(event.getServiceInfo());
+        else
+            this.update(event.getServiceInfo());
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Adds or updates the service as candidate of its task, if it is running and accepted by the filter of the balancer,
+     * otherwise the service is removed
+     *
+     * @param serviceInfoSnapshot the current snapshot of the service
+     */
+    public void update(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        Validate.checkNotNull(serviceInfoSnapshot);
+
+        if (serviceInfoSnapshot.getLifeCycle() != ServiceLifeCycle.RUNNING || !this.filter.test(serviceInfoSnapshot))
+        {
+            this.remove(serviceInfoSnapshot);
+            return;
+        }
+
+        this.candidates.computeIfAbsent(serviceInfoSnapshot.getServiceId().getTaskName(), key -> new Candidates()).update(
+            serviceInfoSnapshot.getServiceId().getName(),
+            serviceInfoSnapshot.getProperties().getInt("Online-Count"),
+            serviceInfoSnapshot.getProperties().getInt("Max-Players")
+        );
+    }
+
+    public void remove(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        Validate.checkNotNull(serviceInfoSnapshot);
+
+        Candidates candidates = this.candidates.get(serviceInfoSnapshot.getServiceId().getTaskName());
+
+        if (candidates != null)
+            candidates.remove(serviceInfoSnapshot.getServiceId().getName());
+    }
+
+    /**
+     * Selects a server of the task with the strategy of the balancer
+     *
+     * @param task           the name of the fallback task
+     * @param excludedServer the server, which shouldn't be selected, for example the current server of the player, or null
+     * @return the name of the selected server or null, if the task has no server with free slots
+     */
+    public String select(String task, String excludedServer)
+    {
+        if (task == null) return null;
+
+        Candidates candidates = this.candidates.get(task);
+
+        return candidates != null ? candidates.select(this.strategy, excludedServer) : null;
+    }
+
+    public Strategy getStrategy()
+    {
+        return this.strategy;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public enum Strategy {
+
+        /**
+         * Selects the server with the lowest player count, in O(log n)
+         */
+        LEAST_PLAYERS,
+        /**
+         * Selects a random server, weighted by the free slots of the servers, in O(log n)
+         */
+        WEIGHTED_RANDOM,
+        /**
+         * Selects the server with the lower player count of two random servers, in O(1)
+         */
+        POWER_OF_TWO_CHOICES;
+
+        private static Strategy byName(String name, Strategy defaultStrategy)
+        {
+            if (name == null) return defaultStrategy;
+
+            try
+            {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException ex)
+            {
+                return defaultStrategy;
+            }
+        }
+    }
+
+    private static final class Candidate {
+
+        private final String name;
+
+        private int index, onlineCount, maxPlayers, pending;
+
+        private long weight;
+
+        private Candidate(String name)
+        {
+            this.name = name;
+        }
+
+        private int getLoad()
+        {
+            return this.onlineCount + this.pending;
+        }
+
+        private boolean isFull()
+        {
+            return this.maxPlayers > 0 && this.getLoad() >= this.maxPlayers;
+        }
+
+        private long computeWeight()
+        {
+            if (this.maxPlayers <= 0) return 1;
+
+            return Math.max(0, this.maxPlayers - this.getLoad());
+        }
+    }
+
+    /**
+     * The servers of one task. The servers are sorted by their load for the least players strategy and their free slots
+     * are summed up in a fenwick tree, which is indexed like the list of the servers, for the weighted random strategy.
+     */
+    private static final class Candidates {
+
+        private final Map<String, Candidate> byName = Maps.newHashMap();
+
+        private final List<Candidate> byIndex = Iterables.newArrayList();
+
+        private final TreeSet<Candidate> byLoad = new TreeSet<>(LOAD_COMPARATOR);
+
+        private long[] weights = new long[1];
+
+        private long lastAssignmentMillis;
+
+        private synchronized void update(String name, int onlineCount, int maxPlayers)
+        {
+            Candidate candidate = this.byName.get(name);
+
+            if (candidate == null)
+            {
+                candidate = new Candidate(name);
+                candidate.onlineCount = onlineCount;
+                candidate.maxPlayers = maxPlayers;
+
+                this.byName.put(name, candidate);
+                this.byIndex.add(candidate);
+                this.byLoad.add(candidate);
+                this.rebuildWeights();
+                return;
+            }
+
+            this.byLoad.remove(candidate);
+
+            if (onlineCount > candidate.onlineCount)
+                candidate.pending = Math.max(0, candidate.pending - (onlineCount - candidate.onlineCount));
+
+            candidate.onlineCount = onlineCount;
+            candidate.maxPlayers = maxPlayers;
+
+            this.byLoad.add(candidate);
+            this.updateWeight(candidate);
+        }
+
+        private synchronized void remove(String name)
+        {
+            Candidate candidate = this.byName.remove(name);
+
+            if (candidate == null) return;
+
+            this.byLoad.remove(candidate);
+            this.byIndex.remove(candidate.index);
+            this.rebuildWeights();
+        }
+
+        private synchronized String select(Strategy strategy, String excludedServer)
+        {
+            if (this.byIndex.isEmpty()) return null;
+
+            this.expirePendingAssignments();
+
+            Candidate excluded = excludedServer != null ? this.byName.get(excludedServer) : null, candidate;
+
+            switch (strategy)
+            {
+                case WEIGHTED_RANDOM:
+                    candidate = this.selectWeightedRandom(excluded);
+                    break;
+                case POWER_OF_TWO_CHOICES:
+                    candidate = this.selectPowerOfTwoChoices(excluded);
+                    break;
+                default:
+                    candidate = this.selectLeastPlayers(excluded);
+                    break;
+            }
+
+            if (candidate == null) return null;
+
+            if (BURST_PROTECTION)
+            {
+                this.byLoad.remove(candidate);
+                candidate.pending++;
+                this.byLoad.add(candidate);
+                this.updateWeight(candidate);
+
+                this.lastAssignmentMillis = System.currentTimeMillis();
+            }
+
+            return candidate.name;
+        }
+
+        private Candidate selectLeastPlayers(Candidate excluded)
+        {
+            for (Candidate candidate : this.byLoad)
+                if (candidate != excluded && !candidate.isFull())
+                    return candidate;
+
+            return null;
+        }
+
+        private Candidate selectWeightedRandom(Candidate excluded)
+        {
+            long total = this.prefixWeight(this.byIndex.size()) - (excluded != null ? excluded.weight : 0);
+
+            if (total <= 0) return null;
+
+            long value = ThreadLocalRandom.current().nextLong(total);
+
+            if (excluded != null && value >= this.prefixWeight(excluded.index))
+                value += excluded.weight;
+
+            return this.byIndex.get(this.findIndex(value));
+        }
+
+        private Candidate selectPowerOfTwoChoices(Candidate excluded)
+        {
+            int size = this.byIndex.size() - (excluded != null ? 1 : 0);
+
+            if (size <= 0) return null;
+
+            int first = ThreadLocalRandom.current().nextInt(size), second = first;
+
+            if (size > 1)
+            {
+                second = ThreadLocalRandom.current().nextInt(size - 1);
+                if (second >= first) second++;
+            }
+
+            Candidate candidate = this.candidateAt(first, excluded), other = this.candidateAt(second, excluded);
+
+            if (LOAD_COMPARATOR.compare(other, candidate) < 0) candidate = other;
+
+            return candidate.isFull() ? this.selectLeastPlayers(excluded) : candidate;
+        }
+
+        private Candidate candidateAt(int index, Candidate excluded)
+        {
+            return this.byIndex.get(excluded != null && index >= excluded.index ? index + 1 : index);
+        }
+
+        private void expirePendingAssignments()
+        {
+            if (this.lastAssignmentMillis == 0 || this.lastAssignmentMillis + PENDING_TIMEOUT_MILLIS > System.currentTimeMillis())
+                return;
+
+            this.lastAssignmentMillis = 0;
+            this.byLoad.clear();
+
+            for (Candidate candidate : this.byIndex)
+                candidate.pending = 0;
+
+            this.byLoad.addAll(this.byIndex);
+            this.rebuildWeights();
+        }
+
+        /*= ------------------------------------------------------------------------------------------ =*/
+
+        private void rebuildWeights()
+        {
+            this.weights = new long[this.byIndex.size() + 1];
+
+            for (int index = 0; index < this.byIndex.size(); index++)
+            {
+                Candidate candidate = this.byIndex.get(index);
+
+                candidate.index = index;
+                candidate.weight = candidate.computeWeight();
+                this.addWeight(index, candidate.weight);
+            }
+        }
+
+        private void updateWeight(Candidate candidate)
+        {
+            long weight = candidate.computeWeight();
+
+            this.addWeight(candidate.index, weight - candidate.weight);
+            candidate.weight = weight;
+        }
+
+        private void addWeight(int index, long delta)
+        {
+            for (index++; index < this.weights.length; index += index & -index)
+                this.weights[index] += delta;
+        }
+
+        private long prefixWeight(int index)
+        {
+            long weight = 0;
+
+            for (; index > 0; index -= index & -index)
+                weight += this.weights[index];
+
+            return weight;
+        }
+
+        private int findIndex(long value)
+        {
+            int index = 0;
+
+            for (int step = Integer.highestOneBit(this.weights.length - 1); step > 0; step >>= 1)
+                if (index + step < this.weights.length && this.weights[index + step] <= value)
+                {
+                    index += step;
+                    value -= this.weights[index];
+                }
+
+            return index;
+        }
+    }
+}
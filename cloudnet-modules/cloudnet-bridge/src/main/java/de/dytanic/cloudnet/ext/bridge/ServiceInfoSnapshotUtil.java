@@ -50,12 +50,23 @@ public final class ServiceInfoSnapshotUtil {
         return serviceInfoSnapshot.getProperties().getString("Extra");
     }
 
+    /**
+     * @deprecated the plugins aren't part of the ServiceInfoSnapshot anymore, they are sent once per service with the
+     * static properties, see BridgeHelper.getStaticServicePropertiesAsync()
+     */
+    @Deprecated
     public static Collection<PluginInfo> getPlugins(ServiceInfoSnapshot serviceInfoSnapshot)
     {
         return serviceInfoSnapshot.getProperties().get("Plugins", new TypeToken<PluginInfo>() {
         }.getType());
     }
 
+    /**
+     * @deprecated the players aren't part of the ServiceInfoSnapshot anymore, the snapshot contains only the
+     * "Online-Count". The joins and leaves of the players are published with the login and disconnect events of the
+     * bridge, like the BridgeServerPlayerLoginSuccessEvent, which contain the service of the player
+     */
+    @Deprecated
     public static Collection<JsonDocument> getPlayers(ServiceInfoSnapshot serviceInfoSnapshot)
     {
         return serviceInfoSnapshot.getProperties().get("Players", new TypeToken<JsonDocument>() {
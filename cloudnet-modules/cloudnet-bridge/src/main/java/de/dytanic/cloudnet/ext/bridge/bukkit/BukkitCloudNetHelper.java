@@ -5,6 +5,7 @@ import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ITaskListener;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
@@ -93,33 +94,6 @@ public final class BukkitCloudNetHelper {
     {
         Validate.checkNotNull(serviceInfoSnapshot);
 
-        Collection<BukkitCloudNetPlayerInfo> players = Iterables.newArrayList();
-        forEachPlayers(new Consumer<Player>() {
-            @Override
-            public void accept(Player player)
-            {
-                Location location = player.getLocation();
-
-                players.add(new BukkitCloudNetPlayerInfo(
-                    player.getUniqueId(),
-                    player.getName(),
-                    getHealthOfPlayer(player),
-                    getMaxHealthOfPlayer(player),
-                    player.getFoodLevel(),
-                    player.getLevel(),
-                    new WorldPosition(
-                        location.getX(),
-                        location.getY(),
-                        location.getZ(),
-                        location.getYaw(),
-                        location.getPitch(),
-                        location.getWorld().getName()
-                    ),
-                    new HostAndPort(player.getAddress())
-                ));
-            }
-        });
-
         serviceInfoSnapshot.getProperties()
             .append("Online", true)
             .append("Version", Bukkit.getVersion())
@@ -142,41 +116,44 @@ public final class BukkitCloudNetHelper {
             }))
             .append("Allow-Nether", Bukkit.getAllowNether())
             .append("Allow-End", Bukkit.getAllowEnd())
-            .append("Players", players)
-            .append("Plugins", Iterables.map(Arrays.asList(Bukkit.getPluginManager().getPlugins()), new Function<Plugin, PluginInfo>() {
-                @Override
-                public PluginInfo apply(Plugin plugin)
-                {
-                    PluginInfo pluginInfo = new PluginInfo(plugin.getName(), plugin.getDescription().getVersion());
-
-                    pluginInfo.getProperties()
-                        .append("authors", plugin.getDescription().getAuthors())
-                        .append("dependencies", plugin.getDescription().getDepend())
-                        .append("load-before", plugin.getDescription().getLoadBefore())
-                        .append("description", plugin.getDescription().getDescription())
-                        .append("commands", plugin.getDescription().getCommands())
-                        .append("soft-dependencies", plugin.getDescription().getSoftDepend())
-                        .append("website", plugin.getDescription().getWebsite())
-                        .append("main-class", plugin.getDescription().getMain())
-                        .append("prefix", plugin.getDescription().getPrefix())
-                    ;
-
-                    return pluginInfo;
-                }
-            }))
-            .append("Worlds", Iterables.map(Bukkit.getWorlds(), new Function<World, WorldInfo>() {
-                @Override
-                public WorldInfo apply(World world)
-                {
-                    Map<String, String> gameRules = Maps.newHashMap();
+        ;
 
-                    for (String entry : world.getGameRules())
-                        gameRules.put(entry, world.getGameRuleValue(entry));
+        if (!BridgeHelper.isStaticServicePropertiesPublished())
+            BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                .append("Plugins", Iterables.map(Arrays.asList(Bukkit.getPluginManager().getPlugins()), new Function<Plugin, PluginInfo>() {
+                    @Override
+                    public PluginInfo apply(Plugin plugin)
+                    {
+                        PluginInfo pluginInfo = new PluginInfo(plugin.getName(), plugin.getDescription().getVersion());
+
+                        pluginInfo.getProperties()
+                            .append("authors", plugin.getDescription().getAuthors())
+                            .append("dependencies", plugin.getDescription().getDepend())
+                            .append("load-before", plugin.getDescription().getLoadBefore())
+                            .append("description", plugin.getDescription().getDescription())
+                            .append("commands", plugin.getDescription().getCommands())
+                            .append("soft-dependencies", plugin.getDescription().getSoftDepend())
+                            .append("website", plugin.getDescription().getWebsite())
+                            .append("main-class", plugin.getDescription().getMain())
+                            .append("prefix", plugin.getDescription().getPrefix())
+                        ;
+
+                        return pluginInfo;
+                    }
+                }))
+                .append("Worlds", Iterables.map(Bukkit.getWorlds(), new Function<World, WorldInfo>() {
+                    @Override
+                    public WorldInfo apply(World world)
+                    {
+                        Map<String, String> gameRules = Maps.newHashMap();
 
-                    return new WorldInfo(world.getUID(), world.getName(), world.getDifficulty().name(), gameRules);
-                }
-            }))
-        ;
+                        for (String entry : world.getGameRules())
+                            gameRules.put(entry, world.getGameRuleValue(entry));
+
+                        return new WorldInfo(world.getUID(), world.getName(), world.getDifficulty().name(), gameRules);
+                    }
+                }))
+            );
     }
 
     public static void forEachPlayers(Consumer<Player> consumer)
@@ -55,7 +55,7 @@ public final class BungeeCloudNetBridgePlugin extends Plugin {
                 )));
 
                 BungeeCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.put(name, serviceInfoSnapshot);
-                BungeeCloudNetHelper.addItemToBungeeCordListenerPrioritySystem(serviceInfoSnapshot, name);
+                BungeeCloudNetHelper.FALLBACK_BALANCER.update(serviceInfoSnapshot);
             }
     }
 
@@ -69,9 +69,11 @@ public final class BungeeCloudNetBridgePlugin extends Plugin {
     {
         //BungeeCord API
         ProxyServer.getInstance().getPluginManager().registerListener(this, new BungeePlayerListener());
+        ProxyServer.getInstance().setReconnectHandler(new BungeeCloudNetReconnectHandler(ProxyServer.getInstance().getReconnectHandler()));
 
         //CloudNet
         CloudNetDriver.getInstance().getEventManager().registerListener(new BungeeCloudNetListener());
+        CloudNetDriver.getInstance().getEventManager().registerListener(BungeeCloudNetHelper.FALLBACK_BALANCER);
         CloudNetDriver.getInstance().getEventManager().registerListener(new BridgeCustomChannelMessageListener());
     }
 }
\ No newline at end of file
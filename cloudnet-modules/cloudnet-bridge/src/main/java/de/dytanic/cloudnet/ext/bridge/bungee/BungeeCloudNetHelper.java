@@ -3,6 +3,7 @@ package de.dytanic.cloudnet.ext.bridge.bungee;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
@@ -11,17 +12,14 @@ import de.dytanic.cloudnet.ext.bridge.player.NetworkConnectionInfo;
 import de.dytanic.cloudnet.ext.bridge.player.NetworkServiceInfo;
 import de.dytanic.cloudnet.wrapper.Wrapper;
 import net.md_5.bungee.api.ProxyServer;
-import net.md_5.bungee.api.config.ListenerInfo;
 import net.md_5.bungee.api.config.ServerInfo;
 import net.md_5.bungee.api.connection.PendingConnection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.plugin.Plugin;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.InetSocketAddress;
 import java.util.*;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -29,64 +27,20 @@ public final class BungeeCloudNetHelper {
 
     public static final Map<String, ServiceInfoSnapshot> SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION = Maps.newConcurrentHashMap();
 
+    public static final ProxyFallbackBalancer FALLBACK_BALANCER = new ProxyFallbackBalancer(new Predicate<ServiceInfoSnapshot>() {
+        @Override
+        public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
+        {
+            return isServiceEnvironmentTypeProvidedForBungeeCord(serviceInfoSnapshot) &&
+                !(serviceInfoSnapshot.getProperties().contains("Online-Mode") && serviceInfoSnapshot.getProperties().getBoolean("Online-Mode"));
+        }
+    });
+
     private BungeeCloudNetHelper()
     {
         throw new UnsupportedOperationException();
     }
 
-    public static void addItemToBungeeCordListenerPrioritySystem(ServiceInfoSnapshot serviceInfoSnapshot, String name)
-    {
-        Validate.checkNotNull(name);
-        Validate.checkNotNull(serviceInfoSnapshot);
-
-        handleWithListenerInfoServerPriority(new Consumer<Collection<String>>() {
-            @Override
-            public void accept(Collection<String> collection)
-            {
-                for (ProxyFallbackConfiguration bungeeFallbackConfiguration : BridgeConfigurationProvider.load().getBungeeFallbackConfigurations())
-                    if (bungeeFallbackConfiguration != null && bungeeFallbackConfiguration.getFallbacks() != null &&
-                        bungeeFallbackConfiguration.getTargetGroup() != null && Iterables.contains(bungeeFallbackConfiguration.getTargetGroup(),
-                        Wrapper.getInstance().getCurrentServiceInfoSnapshot().getConfiguration().getGroups()))
-                        if (!collection.contains(name) && bungeeFallbackConfiguration.getDefaultFallbackTask().equals(serviceInfoSnapshot.getServiceId().getTaskName()))
-                            collection.add(name);
-            }
-        });
-    }
-
-    public static void removeItemToBungeeCordListenerPrioritySystem(ServiceInfoSnapshot serviceInfoSnapshot, String name)
-    {
-        Validate.checkNotNull(name);
-
-        handleWithListenerInfoServerPriority(new Consumer<Collection<String>>() {
-            @Override
-            public void accept(Collection<String> collection)
-            {
-                collection.remove(name);
-            }
-        });
-    }
-
-    public static void handleWithListenerInfoServerPriority(Consumer<Collection<String>> listenerInfoConsumer)
-    {
-        try
-        {
-            Method method = ListenerInfo.class.getMethod("getServerPriority");
-            method.setAccessible(true);
-
-            for (ListenerInfo listenerInfo : ProxyServer.getInstance().getConfigurationAdapter().getListeners())
-            {
-                Object instance = method.invoke(listenerInfo);
-                listenerInfoConsumer.accept((Collection<String>) instance);
-            }
-
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored)
-        {
-        } catch (Exception ex)
-        {
-            ex.printStackTrace();
-        }
-    }
-
     public static boolean isOnAFallbackInstance(ProxiedPlayer proxiedPlayer)
     {
         ServiceInfoSnapshot serviceInfoSnapshot = SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.get(proxiedPlayer.getServer().getInfo().getName());
@@ -116,51 +70,23 @@ public final class BungeeCloudNetHelper {
                 List<ProxyFallback> proxyFallbacks = Iterables.newArrayList(proxyFallbackConfiguration.getFallbacks());
                 Collections.sort(proxyFallbacks);
 
-                String server = null;
-
                 for (ProxyFallback proxyFallback : proxyFallbacks)
                 {
-                    if (proxyFallback.getTask() != null) continue;
+                    if (proxyFallback.getTask() == null) continue;
                     if (proxyFallback.getPermission() != null && !proxiedPlayer.hasPermission(proxyFallback.getPermission()))
                         continue;
 
-                    List<Map.Entry<String, ServiceInfoSnapshot>> entries = getFilteredEntries(proxyFallback.getTask(), currentServer);
-
-                    if (entries.size() == 0) continue;
+                    String server = FALLBACK_BALANCER.select(proxyFallback.getTask(), currentServer);
 
-                    server = entries.get(new Random().nextInt(entries.size())).getKey();
+                    if (server != null) return server;
                 }
 
-                if (server == null)
-                {
-                    List<Map.Entry<String, ServiceInfoSnapshot>> entries = getFilteredEntries(proxyFallbackConfiguration.getDefaultFallbackTask(), currentServer);
-
-                    if (entries.size() > 0)
-                        server = entries.get(new Random().nextInt(entries.size())).getKey();
-                }
-
-                return server;
+                return FALLBACK_BALANCER.select(proxyFallbackConfiguration.getDefaultFallbackTask(), currentServer);
             }
 
         return null;
     }
 
-    private static List<Map.Entry<String, ServiceInfoSnapshot>> getFilteredEntries(String task, String currentServer)
-    {
-        return Iterables.filter(
-            SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.entrySet(), new Predicate<Map.Entry<String, ServiceInfoSnapshot>>() {
-
-                @Override
-                public boolean test(Map.Entry<String, ServiceInfoSnapshot> stringServiceInfoSnapshotEntry)
-                {
-                    if (currentServer != null && currentServer.equalsIgnoreCase(stringServiceInfoSnapshotEntry.getKey()))
-                        return false;
-
-                    return task.equals(stringServiceInfoSnapshotEntry.getValue().getServiceId().getTaskName());
-                }
-            });
-    }
-
     public static boolean isServiceEnvironmentTypeProvidedForBungeeCord(ServiceInfoSnapshot serviceInfoSnapshot)
     {
         Validate.checkNotNull(serviceInfoSnapshot);
@@ -178,35 +104,26 @@ public final class BungeeCloudNetHelper {
             .append("Online-Count", ProxyServer.getInstance().getOnlineCount())
             .append("Channels", ProxyServer.getInstance().getChannels())
             .append("BungeeCord-Name", ProxyServer.getInstance().getName())
-            .append("Players", Iterables.map(ProxyServer.getInstance().getPlayers(), new Function<ProxiedPlayer, BungeeCloudNetPlayerInfo>() {
-                @Override
-                public BungeeCloudNetPlayerInfo apply(ProxiedPlayer proxiedPlayer)
-                {
-                    return new BungeeCloudNetPlayerInfo(
-                        getUniqueIdOfPlayer(proxiedPlayer),
-                        proxiedPlayer.getName(),
-                        proxiedPlayer.getServer() != null ? proxiedPlayer.getServer().getInfo().getName() : null,
-                        proxiedPlayer.getPing(),
-                        new HostAndPort(proxiedPlayer.getPendingConnection().getAddress())
-                    );
-                }
-            }))
-            .append("Plugins", Iterables.map(ProxyServer.getInstance().getPluginManager().getPlugins(), new Function<Plugin, PluginInfo>() {
-                @Override
-                public PluginInfo apply(Plugin plugin)
-                {
-                    PluginInfo pluginInfo = new PluginInfo(plugin.getDescription().getName(), plugin.getDescription().getVersion());
-
-                    pluginInfo.getProperties()
-                        .append("author", plugin.getDescription().getAuthor())
-                        .append("main-class", plugin.getDescription().getMain())
-                        .append("depends", plugin.getDescription().getDepends())
-                    ;
-
-                    return pluginInfo;
-                }
-            }))
         ;
+
+        if (!BridgeHelper.isStaticServicePropertiesPublished())
+            BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                .append("Plugins", Iterables.map(ProxyServer.getInstance().getPluginManager().getPlugins(), new Function<Plugin, PluginInfo>() {
+                    @Override
+                    public PluginInfo apply(Plugin plugin)
+                    {
+                        PluginInfo pluginInfo = new PluginInfo(plugin.getDescription().getName(), plugin.getDescription().getVersion());
+
+                        pluginInfo.getProperties()
+                            .append("author", plugin.getDescription().getAuthor())
+                            .append("main-class", plugin.getDescription().getMain())
+                            .append("depends", plugin.getDescription().getDepends())
+                        ;
+
+                        return pluginInfo;
+                    }
+                }))
+            );
     }
 
     public static NetworkConnectionInfo createNetworkConnectionInfo(PendingConnection pendingConnection)
@@ -0,0 +1,50 @@
+package de.dytanic.cloudnet.ext.bridge.bungee;
+
+import net.md_5.bungee.api.ProxyServer;
+import net.md_5.bungee.api.ReconnectHandler;
+import net.md_5.bungee.api.config.ServerInfo;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
+
+/**
+ * Chooses the initial server of a player, which joins the proxy, with the fallback balancer. BungeeCord asks the
+ * reconnect handler for the initial server before it falls back to the configured priorities of the listener. If no
+ * fallback server is available, the previous reconnect handler of the proxy is asked.
+ */
+public final class BungeeCloudNetReconnectHandler implements ReconnectHandler {
+
+    private final ReconnectHandler reconnectHandler;
+
+    public BungeeCloudNetReconnectHandler(ReconnectHandler reconnectHandler)
+    {
+        this.reconnectHandler = reconnectHandler;
+    }
+
+    @Override
+    public ServerInfo getServer(ProxiedPlayer player)
+    {
+        String server = BungeeCloudNetHelper.filterServiceForProxiedPlayer(player, null);
+
+        if (server != null && ProxyServer.getInstance().getServers().containsKey(server))
+            return ProxyServer.getInstance().getServerInfo(server);
+
+        return this.reconnectHandler != null ? this.reconnectHandler.getServer(player) : null;
+    }
+
+    @Override
+    public void setServer(ProxiedPlayer player)
+    {
+        if (this.reconnectHandler != null) this.reconnectHandler.setServer(player);
+    }
+
+    @Override
+    public void save()
+    {
+        if (this.reconnectHandler != null) this.reconnectHandler.save();
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.reconnectHandler != null) this.reconnectHandler.close();
+    }
+}
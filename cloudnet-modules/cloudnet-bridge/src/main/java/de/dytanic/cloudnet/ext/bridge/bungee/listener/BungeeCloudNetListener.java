@@ -46,8 +46,6 @@ public final class BungeeCloudNetListener {
                 event.getServiceInfo().getAddress().getHost(),
                 event.getServiceInfo().getAddress().getPort()
             )));
-
-            BungeeCloudNetHelper.addItemToBungeeCordListenerPrioritySystem(event.getServiceInfo(), name);
         }
 
         this.bungeeCall(new BungeeCloudServiceStartEvent(event.getServiceInfo()));
@@ -60,8 +58,6 @@ public final class BungeeCloudNetListener {
         {
             String name = event.getServiceInfo().getServiceId().getName();
             ProxyServer.getInstance().getServers().remove(name);
-
-            BungeeCloudNetHelper.removeItemToBungeeCordListenerPrioritySystem(event.getServiceInfo(), name);
         }
 
         this.bungeeCall(new BungeeCloudServiceStopEvent(event.getServiceInfo()));
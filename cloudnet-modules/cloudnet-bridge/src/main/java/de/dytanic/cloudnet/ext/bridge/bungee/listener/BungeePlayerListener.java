@@ -39,7 +39,9 @@ public final class BungeePlayerListener implements Listener {
     @EventHandler
     public void handle(ServerConnectEvent event)
     {
-        if (event.getPlayer().getServer() == null)
+        //the initial server is chosen by the reconnect handler, unless another plugin has replaced it
+        if (event.getPlayer().getServer() == null &&
+            (event.getTarget() == null || !BungeeCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.containsKey(event.getTarget().getName())))
         {
             String server = BungeeCloudNetHelper.filterServiceForProxiedPlayer(event.getPlayer(), null);
 
@@ -47,6 +49,8 @@ public final class BungeePlayerListener implements Listener {
                 event.setTarget(ProxyServer.getInstance().getServerInfo(server));
         }
 
+        if (event.getTarget() == null) return;
+
         ServiceInfoSnapshot serviceInfoSnapshot = BungeeCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.get(event.getTarget().getName());
 
         if (serviceInfoSnapshot != null)
@@ -4,6 +4,7 @@ import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ITaskListener;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
@@ -116,73 +117,43 @@ public final class GoMintCloudNetHelper {
             .append("TPS", GoMint.instance().getTPS());
 
         if (GoMint.instance().isMainThread())
-            serviceInfoSnapshot.getProperties()
-                .append("Online-Count", GoMint.instance().getPlayers().size())
-                .append("Players", Iterables.map(GoMint.instance().getPlayers(), new Function<EntityPlayer, GoMintCloudNetPlayerInfo>() {
-
-                    @Override
-                    public GoMintCloudNetPlayerInfo apply(EntityPlayer entityPlayer)
-                    {
-                        Location location = entityPlayer.getLocation();
-
-                        io.gomint.server.entity.EntityPlayer player = (io.gomint.server.entity.EntityPlayer) entityPlayer;
-
-                        return new GoMintCloudNetPlayerInfo(
-                            entityPlayer.getUUID(),
-                            entityPlayer.isOnline(),
-                            entityPlayer.getName(),
-                            entityPlayer.getDeviceInfo().getDeviceName(),
-                            entityPlayer.getXboxID(),
-                            entityPlayer.getGamemode().name(),
-                            entityPlayer.getHealth(),
-                            entityPlayer.getMaxHealth(),
-                            entityPlayer.getSaturation(),
-                            entityPlayer.getLevel(),
-                            entityPlayer.getPing(),
-                            entityPlayer.getLocale(),
-                            new WorldPosition(
-                                location.getX(),
-                                location.getY(),
-                                location.getZ(),
-                                location.getYaw(),
-                                location.getPitch(),
-                                location.getWorld().getWorldName()
-                            ),
-                            new HostAndPort(player.getConnection().getConnection().getAddress())
-                        );
-                    }
-                }))
-                .append("Worlds", Iterables.map(GoMint.instance().getWorlds(), new Function<World, WorldInfo>() {
-                    @Override
-                    public WorldInfo apply(World world)
-                    {
-                        Map<String, String> gameRules = Maps.newHashMap();
-
-                        for (Field field : Gamerule.class.getFields())
-                            if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()) &&
-                                Modifier.isPublic(field.getModifiers()) && Gamerule.class.isAssignableFrom(field.getType()))
-                            {
-                                try
-                                {
-                                    field.setAccessible(true);
-                                    Gamerule<?> gameRule = (Gamerule<?>) field.get(null);
-                                    gameRules.put(gameRule.getNbtName(), world.getGamerule(gameRule) + "");
-
-                                } catch (IllegalAccessException e)
+        {
+            serviceInfoSnapshot.getProperties().append("Online-Count", GoMint.instance().getPlayers().size());
+
+            if (!BridgeHelper.isStaticServicePropertiesPublished())
+                BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                    .append("Worlds", Iterables.map(GoMint.instance().getWorlds(), new Function<World, WorldInfo>() {
+                        @Override
+                        public WorldInfo apply(World world)
+                        {
+                            Map<String, String> gameRules = Maps.newHashMap();
+
+                            for (Field field : Gamerule.class.getFields())
+                                if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()) &&
+                                    Modifier.isPublic(field.getModifiers()) && Gamerule.class.isAssignableFrom(field.getType()))
                                 {
-                                    e.printStackTrace();
+                                    try
+                                    {
+                                        field.setAccessible(true);
+                                        Gamerule<?> gameRule = (Gamerule<?>) field.get(null);
+                                        gameRules.put(gameRule.getNbtName(), world.getGamerule(gameRule) + "");
+
+                                    } catch (IllegalAccessException e)
+                                    {
+                                        e.printStackTrace();
+                                    }
                                 }
-                            }
 
-                        return new WorldInfo(
-                            UUID.randomUUID(),
-                            world.getLevelName(),
-                            world.getDifficulty().name(),
-                            gameRules
-                        );
-                    }
-                }))
-                ;
+                            return new WorldInfo(
+                                UUID.randomUUID(),
+                                world.getLevelName(),
+                                world.getDifficulty().name(),
+                                gameRules
+                            );
+                        }
+                    }))
+                );
+        }
     }
 
     public static NetworkConnectionInfo createNetworkConnectionInfo(EntityPlayer entityPlayer)
@@ -15,6 +15,7 @@ import de.dytanic.cloudnet.ext.bridge.node.listener.IncludePluginListener;
 import de.dytanic.cloudnet.ext.bridge.node.listener.NetworkListenerRegisterListener;
 import de.dytanic.cloudnet.ext.bridge.node.listener.NodeCustomChannelMessageListener;
 import de.dytanic.cloudnet.ext.bridge.node.listener.PlayerManagerListener;
+import de.dytanic.cloudnet.ext.bridge.node.listener.ServiceStaticPropertiesListener;
 import de.dytanic.cloudnet.ext.bridge.node.player.NodePlayerManager;
 import de.dytanic.cloudnet.module.NodeCloudNetModule;
 import lombok.Getter;
@@ -81,6 +82,13 @@ public final class CloudNetBridgeModule extends NodeCloudNetModule {
         registerListener(new PlayerManagerListener());
     }
 
+    @ModuleTask(order = 36, event = ModuleLifeCycle.STOPPED)
+    public void closeNodePlayerManager()
+    {
+        if (NodePlayerManager.getInstance() != null)
+            NodePlayerManager.getInstance().close();
+    }
+
     @ModuleTask(order = 35, event = ModuleLifeCycle.STARTED)
     public void registerHandlers()
     {
@@ -98,6 +106,7 @@ public final class CloudNetBridgeModule extends NodeCloudNetModule {
     @ModuleTask(order = 8, event = ModuleLifeCycle.STARTED)
     public void initListeners()
     {
-        registerListeners(new NetworkListenerRegisterListener(), new IncludePluginListener(), new NodeCustomChannelMessageListener());
+        registerListeners(new NetworkListenerRegisterListener(), new IncludePluginListener(), new NodeCustomChannelMessageListener(),
+            new ServiceStaticPropertiesListener());
     }
 }
\ No newline at end of file
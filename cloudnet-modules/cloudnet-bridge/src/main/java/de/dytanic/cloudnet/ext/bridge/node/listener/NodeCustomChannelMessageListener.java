@@ -15,6 +15,7 @@ import de.dytanic.cloudnet.ext.bridge.node.player.NodePlayerManager;
 import de.dytanic.cloudnet.ext.bridge.player.*;
 
 import java.io.File;
+import java.util.List;
 import java.util.function.Predicate;
 
 public final class NodeCustomChannelMessageListener {
@@ -186,22 +187,43 @@ public final class NodeCustomChannelMessageListener {
 
     private void loginPlayer(NetworkConnectionInfo networkConnectionInfo, NetworkPlayerServerInfo networkPlayerServerInfo)
     {
-        CloudPlayer cloudPlayer = NodePlayerManager.getInstance().getOnlinePlayer(networkConnectionInfo.getUniqueId());
+        NodePlayerManager playerManager = NodePlayerManager.getInstance();
+
+        //the stored player is merged into the online player with the lock of the player manager
+        synchronized (playerManager)
+        {
+            loginPlayer(playerManager, networkConnectionInfo, networkPlayerServerInfo);
+        }
+    }
+
+    private void loginPlayer(NodePlayerManager playerManager, NetworkConnectionInfo networkConnectionInfo, NetworkPlayerServerInfo networkPlayerServerInfo)
+    {
+        CloudPlayer cloudPlayer = playerManager.getOnlinePlayer(networkConnectionInfo.getUniqueId());
 
         if (cloudPlayer == null)
         {
-            cloudPlayer = Iterables.first(NodePlayerManager.getInstance().getOnlineCloudPlayers().values(), new Predicate<CloudPlayer>() {
+            cloudPlayer = Iterables.first(playerManager.getOnlinePlayer(networkConnectionInfo.getName()), new Predicate<CloudPlayer>() {
                 @Override
                 public boolean test(CloudPlayer cloudPlayer)
                 {
-                    return cloudPlayer.getName().equalsIgnoreCase(networkConnectionInfo.getName()) &&
-                        cloudPlayer.getLoginService().getUniqueId().equals(networkConnectionInfo.getNetworkService().getUniqueId());
+                    return cloudPlayer.getLoginService().getUniqueId().equals(networkConnectionInfo.getNetworkService().getUniqueId());
                 }
             });
 
             if (cloudPlayer == null)
             {
-                ICloudOfflinePlayer cloudOfflinePlayer = getOrRegisterOfflinePlayer(networkConnectionInfo);
+                ICloudOfflinePlayer cloudOfflinePlayer = playerManager.getCachedOfflinePlayer(networkConnectionInfo.getUniqueId());
+                boolean cached = cloudOfflinePlayer != null;
+
+                if (!cached)
+                    cloudOfflinePlayer = new CloudOfflinePlayer(
+                        networkConnectionInfo.getUniqueId(),
+                        networkConnectionInfo.getName(),
+                        null,
+                        System.currentTimeMillis(),
+                        System.currentTimeMillis(),
+                        networkConnectionInfo
+                    );
 
                 cloudPlayer = new CloudPlayer(
                     cloudOfflinePlayer,
@@ -212,7 +234,10 @@ public final class NodeCustomChannelMessageListener {
                 );
 
                 cloudPlayer.setLastLoginTimeMillis(System.currentTimeMillis());
-                NodePlayerManager.getInstance().getOnlineCloudPlayers().put(cloudPlayer.getUniqueId(), cloudPlayer);
+                playerManager.addOnlinePlayer(cloudPlayer);
+
+                //the stored player is merged asynchronously, the login doesn't wait for the database
+                if (!cached) playerManager.loadOfflinePlayer(cloudPlayer);
             }
         }
 
@@ -224,47 +249,31 @@ public final class NodeCustomChannelMessageListener {
             if (networkPlayerServerInfo.getXBoxId() != null) cloudPlayer.setXBoxId(networkPlayerServerInfo.getXBoxId());
         }
 
-        NodePlayerManager.getInstance().updateOnlinePlayer0(cloudPlayer);
+        playerManager.updateOnlinePlayer0(cloudPlayer);
     }
 
-    private ICloudOfflinePlayer getOrRegisterOfflinePlayer(NetworkConnectionInfo networkConnectionInfo)
+    private void logoutPlayer(NetworkConnectionInfo networkConnectionInfo)
     {
-        ICloudOfflinePlayer cloudOfflinePlayer = NodePlayerManager.getInstance().getOfflinePlayer(networkConnectionInfo.getUniqueId());
+        NodePlayerManager playerManager = NodePlayerManager.getInstance();
 
-        if (cloudOfflinePlayer == null)
+        CloudPlayer cloudPlayer;
+
+        if (networkConnectionInfo.getUniqueId() != null)
+            cloudPlayer = playerManager.getOnlinePlayer(networkConnectionInfo.getUniqueId());
+        else
         {
-            cloudOfflinePlayer = new CloudOfflinePlayer(
-                networkConnectionInfo.getUniqueId(),
-                networkConnectionInfo.getName(),
-                null,
-                System.currentTimeMillis(),
-                System.currentTimeMillis(),
-                networkConnectionInfo
-            );
-
-            NodePlayerManager.getInstance().getDatabase().insert(
-                cloudOfflinePlayer.getUniqueId().toString(),
-                JsonDocument.newDocument(cloudOfflinePlayer)
-            );
+            List<CloudPlayer> cloudPlayers = playerManager.getOnlinePlayer(networkConnectionInfo.getName());
+            cloudPlayer = cloudPlayers.isEmpty() ? null : cloudPlayers.get(0);
         }
 
-        return cloudOfflinePlayer;
-    }
-
-    private void logoutPlayer(NetworkConnectionInfo networkConnectionInfo)
-    {
-        CloudPlayer cloudPlayer = networkConnectionInfo.getUniqueId() != null ?
-            NodePlayerManager.getInstance().getOnlinePlayer(networkConnectionInfo.getUniqueId()) :
-            Iterables.first(NodePlayerManager.getInstance().getOnlineCloudPlayers().values(), new Predicate<CloudPlayer>() {
-                @Override
-                public boolean test(CloudPlayer cloudPlayer)
-                {
-                    return cloudPlayer.getName().equalsIgnoreCase(networkConnectionInfo.getName());
-                }
-            });
-
         if (cloudPlayer != null)
             if (cloudPlayer.getLoginService().getUniqueId().equals(networkConnectionInfo.getNetworkService().getUniqueId()))
-                NodePlayerManager.getInstance().getOnlineCloudPlayers().remove(cloudPlayer.getUniqueId());
+                synchronized (playerManager)
+                {
+                    //the online player may have been replaced by the merge of the stored player
+                    CloudPlayer removedCloudPlayer = playerManager.removeOnlinePlayer(cloudPlayer.getUniqueId());
+
+                    if (removedCloudPlayer != null) playerManager.updateOnlinePlayer0(removedCloudPlayer);
+                }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package de.dytanic.cloudnet.ext.bridge.node.listener;
 
 import com.google.gson.reflect.TypeToken;
+import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
@@ -10,6 +11,7 @@ import de.dytanic.cloudnet.event.cluster.NetworkChannelAuthClusterNodeSuccessEve
 import de.dytanic.cloudnet.event.network.NetworkChannelReceiveCallablePacketEvent;
 import de.dytanic.cloudnet.ext.bridge.BridgeConstants;
 import de.dytanic.cloudnet.ext.bridge.node.player.NodePlayerManager;
+import de.dytanic.cloudnet.ext.bridge.node.player.NodePlayerShards;
 import de.dytanic.cloudnet.ext.bridge.player.CloudOfflinePlayer;
 import de.dytanic.cloudnet.ext.bridge.player.CloudPlayer;
 import de.dytanic.cloudnet.ext.bridge.player.ICloudOfflinePlayer;
@@ -29,16 +31,28 @@ public final class PlayerManagerListener {
     {
         for (ICloudPlayer cloudPlayer : NodePlayerManager.getInstance().getOnlineCloudPlayers().values())
             if (cloudPlayer.getLoginService() != null && cloudPlayer.getLoginService().getUniqueId().equals(event.getServiceInfo().getServiceId().getUniqueId()))
-                NodePlayerManager.getInstance().getOnlineCloudPlayers().remove(cloudPlayer.getUniqueId());
+                NodePlayerManager.getInstance().removeOnlinePlayer(cloudPlayer.getUniqueId());
     }
 
+    /**
+     * Sends the online players to a node, which has joined the cluster. Every node sends only the players of its own
+     * shard, as it was before the node has joined, so the new node receives every player exactly once.
+     */
     @EventListener
     public void handle(NetworkChannelAuthClusterNodeSuccessEvent event)
     {
+        List<CloudPlayer> cloudPlayers = Iterables.newArrayList();
+
+        for (CloudPlayer cloudPlayer : NodePlayerManager.getInstance().getOnlineCloudPlayers().values())
+            if (NodePlayerShards.isLocalOwner(cloudPlayer.getUniqueId(), event.getNode().getNodeInfo().getUniqueId()))
+                cloudPlayers.add(cloudPlayer);
+
+        if (cloudPlayers.isEmpty()) return;
+
         event.getNode().sendCustomChannelMessage(
             BridgeConstants.BRIDGE_CUSTOM_MESSAGING_CHANNEL_PLAYER_API_CHANNEL_NAME,
             "send_all_online_players",
-            new JsonDocument("cloudPlayers", NodePlayerManager.getInstance().getOnlineCloudPlayers().values())
+            new JsonDocument("cloudPlayers", cloudPlayers)
         );
     }
 
@@ -56,7 +70,7 @@ public final class PlayerManagerListener {
 
                 if (cloudPlayers != null)
                     for (CloudPlayer cloudPlayer : cloudPlayers)
-                        NodePlayerManager.getInstance().getOnlineCloudPlayers().put(cloudPlayer.getUniqueId(), cloudPlayer);
+                        NodePlayerManager.getInstance().addOnlinePlayer(cloudPlayer);
             }
             break;
             case "update_offline_cloud_player":
@@ -114,6 +128,20 @@ public final class PlayerManagerListener {
                 );
             }
             break;
+            case "get_online_count":
+            {
+                event.setCallbackPacket(new JsonDocument()
+                    .append("onlineCount", NodePlayerManager.getInstance().getOnlineCount())
+                );
+            }
+            break;
+            case "get_online_count_by_environment":
+            {
+                event.setCallbackPacket(new JsonDocument()
+                    .append("onlineCount", NodePlayerManager.getInstance().getOnlineCount(event.getHeader().get("environment", ServiceEnvironmentType.class)))
+                );
+            }
+            break;
             case "get_offline_player_by_uuid":
             {
                 event.setCallbackPacket(new JsonDocument()
@@ -0,0 +1,55 @@
+package de.dytanic.cloudnet.ext.bridge.node.listener;
+
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.event.EventListener;
+import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceUnregisterEvent;
+import de.dytanic.cloudnet.event.network.NetworkChannelReceiveCallablePacketEvent;
+import de.dytanic.cloudnet.ext.bridge.BridgeConstants;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the static properties of the services, like the plugins and the worlds, which every service publishes once
+ * instead of sending them with every ServiceInfoSnapshot update.
+ */
+public final class ServiceStaticPropertiesListener {
+
+    private final Map<UUID, JsonDocument> staticProperties = Maps.newConcurrentHashMap();
+
+    @EventListener
+    public void handle(ChannelMessageReceiveEvent event)
+    {
+        if (!event.getChannel().equalsIgnoreCase(BridgeConstants.BRIDGE_CUSTOM_CHANNEL_MESSAGING_CHANNEL) ||
+            !event.getMessage().equalsIgnoreCase(BridgeConstants.BRIDGE_EVENT_CHANNEL_MESSAGE_NAME_SERVICE_STATIC_PROPERTIES))
+            return;
+
+        UUID uniqueId = event.getData().get("uniqueId", UUID.class);
+        JsonDocument properties = event.getData().getDocument("properties");
+
+        if (uniqueId != null && properties != null)
+            this.staticProperties.put(uniqueId, properties);
+    }
+
+    @EventListener
+    public void handle(CloudServiceUnregisterEvent event)
+    {
+        this.staticProperties.remove(event.getServiceInfo().getServiceId().getUniqueId());
+    }
+
+    @EventListener
+    public void handle(NetworkChannelReceiveCallablePacketEvent event)
+    {
+        if (!event.getChannelName().equalsIgnoreCase(BridgeConstants.BRIDGE_CUSTOM_CALLABLE_CHANNEL_SERVICE_API_CHANNEL_NAME))
+            return;
+
+        if (event.getId().equalsIgnoreCase("get_static_service_properties"))
+        {
+            UUID uniqueId = event.getHeader().get("uniqueId", UUID.class);
+
+            event.setCallbackPacket(new JsonDocument("properties", uniqueId != null ? this.staticProperties.get(uniqueId) : null));
+        }
+    }
+}
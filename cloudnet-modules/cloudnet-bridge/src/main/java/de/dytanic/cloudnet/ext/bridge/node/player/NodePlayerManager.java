@@ -11,12 +11,12 @@ import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
 import de.dytanic.cloudnet.ext.bridge.BridgeConstants;
 import de.dytanic.cloudnet.ext.bridge.player.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -27,8 +27,29 @@ public final class NodePlayerManager implements IPlayerManager {
     @Getter
     private static NodePlayerManager instance;
 
+    private static final int OFFLINE_PLAYER_CACHE_SIZE = Integer.getInteger("cloudnet.bridge.player.cache.size", 8192);
+
+    @Getter(AccessLevel.NONE)
     private final Map<UUID, CloudPlayer> onlineCloudPlayers = Maps.newConcurrentHashMap();
 
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Set<UUID>> onlinePlayerNameIndex = Maps.newConcurrentHashMap();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<ServiceEnvironmentType, Set<UUID>> onlinePlayerEnvironmentIndex = Maps.newConcurrentHashMap();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, ICloudOfflinePlayer> offlinePlayerCache = Collections.synchronizedMap(new LinkedHashMap<UUID, ICloudOfflinePlayer>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, ICloudOfflinePlayer> eldest)
+        {
+            return this.size() > OFFLINE_PLAYER_CACHE_SIZE;
+        }
+    });
+
+    @Getter(AccessLevel.NONE)
+    private final NodePlayerWriteQueue writeQueue = new NodePlayerWriteQueue(this::getDatabase);
+
     private final String databaseName;
 
     public NodePlayerManager(String databaseName)
@@ -47,6 +68,86 @@ public final class NodePlayerManager implements IPlayerManager {
         return CloudNet.getInstance().getDatabaseProvider().getDatabase(databaseName);
     }
 
+    /**
+     * Stops the write queue and writes the pending updates of the players into the database
+     */
+    public void close()
+    {
+        this.writeQueue.close();
+    }
+
+    /*= ---------------------------------------------------------------- =*/
+
+    /**
+     * Returns an unmodifiable view of the online players. The players have to be added and removed with
+     * addOnlinePlayer() and removeOnlinePlayer(), which maintain the name and the environment index. A changed login or
+     * connected service of an online player is indexed by updateOnlinePlayer0().
+     */
+    public Map<UUID, CloudPlayer> getOnlineCloudPlayers()
+    {
+        return Collections.unmodifiableMap(this.onlineCloudPlayers);
+    }
+
+    public synchronized void addOnlinePlayer(CloudPlayer cloudPlayer)
+    {
+        Validate.checkNotNull(cloudPlayer);
+
+        CloudPlayer previousCloudPlayer = this.onlineCloudPlayers.put(cloudPlayer.getUniqueId(), cloudPlayer);
+
+        if (previousCloudPlayer != null) this.removeFromNameIndex(previousCloudPlayer);
+
+        this.onlinePlayerNameIndex.compute(cloudPlayer.getName().toLowerCase(), (name, uniqueIds) -> {
+            Set<UUID> result = uniqueIds != null ? new HashSet<>(uniqueIds) : new HashSet<>();
+            result.add(cloudPlayer.getUniqueId());
+
+            return result;
+        });
+
+        this.updateEnvironmentIndex(cloudPlayer);
+    }
+
+    public synchronized CloudPlayer removeOnlinePlayer(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        CloudPlayer cloudPlayer = this.onlineCloudPlayers.remove(uniqueId);
+
+        if (cloudPlayer != null) this.removeFromNameIndex(cloudPlayer);
+
+        for (Set<UUID> uniqueIds : this.onlinePlayerEnvironmentIndex.values())
+            uniqueIds.remove(uniqueId);
+
+        return cloudPlayer;
+    }
+
+    /**
+     * Moves the online player into the environment index of its login and connected service
+     */
+    private synchronized void updateEnvironmentIndex(CloudPlayer cloudPlayer)
+    {
+        if (this.onlineCloudPlayers.get(cloudPlayer.getUniqueId()) != cloudPlayer) return;
+
+        for (ServiceEnvironmentType environment : ServiceEnvironmentType.values())
+            if (isInEnvironment(cloudPlayer, environment))
+                this.onlinePlayerEnvironmentIndex.computeIfAbsent(environment, key -> ConcurrentHashMap.newKeySet()).add(cloudPlayer.getUniqueId());
+            else
+            {
+                Set<UUID> uniqueIds = this.onlinePlayerEnvironmentIndex.get(environment);
+
+                if (uniqueIds != null) uniqueIds.remove(cloudPlayer.getUniqueId());
+            }
+    }
+
+    private void removeFromNameIndex(CloudPlayer cloudPlayer)
+    {
+        this.onlinePlayerNameIndex.computeIfPresent(cloudPlayer.getName().toLowerCase(), (name, uniqueIds) -> {
+            Set<UUID> result = new HashSet<>(uniqueIds);
+            result.remove(cloudPlayer.getUniqueId());
+
+            return result.isEmpty() ? null : result;
+        });
+    }
+
     /*= ---------------------------------------------------------------- =*/
 
     @Override
@@ -56,17 +157,23 @@ public final class NodePlayerManager implements IPlayerManager {
     }
 
     @Override
-    public List<? extends ICloudPlayer> getOnlinePlayer(String name)
+    public List<CloudPlayer> getOnlinePlayer(String name)
     {
         Validate.checkNotNull(name);
 
-        return Iterables.filter(onlineCloudPlayers.values(), new Predicate<CloudPlayer>() {
-            @Override
-            public boolean test(CloudPlayer cloudPlayer)
+        Set<UUID> uniqueIds = this.onlinePlayerNameIndex.get(name.toLowerCase());
+        List<CloudPlayer> cloudPlayers = Iterables.newArrayList();
+
+        if (uniqueIds != null)
+            for (UUID uniqueId : uniqueIds)
             {
-                return cloudPlayer.getName().equalsIgnoreCase(name);
+                CloudPlayer cloudPlayer = this.onlineCloudPlayers.get(uniqueId);
+
+                if (cloudPlayer != null && cloudPlayer.getName().equalsIgnoreCase(name))
+                    cloudPlayers.add(cloudPlayer);
             }
-        });
+
+        return cloudPlayers;
     }
 
     @Override
@@ -74,14 +181,39 @@ public final class NodePlayerManager implements IPlayerManager {
     {
         Validate.checkNotNull(environment);
 
-        return Iterables.filter(onlineCloudPlayers.values(), new Predicate<CloudPlayer>() {
-            @Override
-            public boolean test(CloudPlayer cloudPlayer)
+        Set<UUID> uniqueIds = this.onlinePlayerEnvironmentIndex.get(environment);
+        List<CloudPlayer> cloudPlayers = Iterables.newArrayList();
+
+        if (uniqueIds != null)
+            for (UUID uniqueId : uniqueIds)
             {
-                return (cloudPlayer.getLoginService() != null && cloudPlayer.getLoginService().getEnvironment() == environment) ||
-                    (cloudPlayer.getConnectedService() != null && cloudPlayer.getConnectedService().getEnvironment() == environment);
+                CloudPlayer cloudPlayer = this.onlineCloudPlayers.get(uniqueId);
+
+                if (cloudPlayer != null) cloudPlayers.add(cloudPlayer);
             }
-        });
+
+        return cloudPlayers;
+    }
+
+    @Override
+    public int getOnlineCount()
+    {
+        return this.onlineCloudPlayers.size();
+    }
+
+    @Override
+    public int getOnlineCount(ServiceEnvironmentType environment)
+    {
+        Validate.checkNotNull(environment);
+
+        Set<UUID> uniqueIds = this.onlinePlayerEnvironmentIndex.get(environment);
+        return uniqueIds != null ? uniqueIds.size() : 0;
+    }
+
+    private static boolean isInEnvironment(CloudPlayer cloudPlayer, ServiceEnvironmentType environment)
+    {
+        return (cloudPlayer.getLoginService() != null && cloudPlayer.getLoginService().getEnvironment() == environment) ||
+            (cloudPlayer.getConnectedService() != null && cloudPlayer.getConnectedService().getEnvironment() == environment);
     }
 
     @Override
@@ -95,9 +227,88 @@ public final class NodePlayerManager implements IPlayerManager {
     {
         Validate.checkNotNull(uniqueId);
 
+        ICloudOfflinePlayer cloudOfflinePlayer = this.getCachedOfflinePlayer(uniqueId);
+
+        if (cloudOfflinePlayer != null) return cloudOfflinePlayer;
+
         JsonDocument jsonDocument = getDatabase().get(uniqueId.toString());
 
-        return jsonDocument != null ? jsonDocument.toInstanceOf(CloudOfflinePlayer.TYPE) : null;
+        if (jsonDocument == null) return null;
+
+        cloudOfflinePlayer = jsonDocument.toInstanceOf(CloudOfflinePlayer.TYPE);
+        this.offlinePlayerCache.putIfAbsent(uniqueId, cloudOfflinePlayer);
+
+        return cloudOfflinePlayer;
+    }
+
+    /**
+     * Returns the offline player from the pending writes or the cache, without reading the database
+     *
+     * @param uniqueId the uniqueId of the player
+     * @return the cached offline player or null, if the player isn't cached
+     */
+    public ICloudOfflinePlayer getCachedOfflinePlayer(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        ICloudOfflinePlayer cloudOfflinePlayer = this.writeQueue.getPendingWrite(uniqueId);
+
+        return cloudOfflinePlayer != null ? cloudOfflinePlayer : this.offlinePlayerCache.get(uniqueId);
+    }
+
+    /**
+     * Loads the stored offline player of an online player asynchronously and merges its first login time, xbox id and
+     * properties into the online player. Used by the login, if the offline player wasn't cached. The merged player is
+     * sent to the services and the other nodes.
+     *
+     * @see #mergeOfflinePlayer(UUID, ICloudOfflinePlayer)
+     */
+    public void loadOfflinePlayer(CloudPlayer cloudPlayer)
+    {
+        Validate.checkNotNull(cloudPlayer);
+
+        UUID uniqueId = cloudPlayer.getUniqueId();
+
+        this.writeQueue.load(uniqueId, () -> {
+            JsonDocument jsonDocument = getDatabase().get(uniqueId.toString());
+
+            if (jsonDocument == null) return;
+
+            CloudPlayer mergedCloudPlayer = this.mergeOfflinePlayer(uniqueId, jsonDocument.toInstanceOf(CloudOfflinePlayer.TYPE));
+
+            if (mergedCloudPlayer != null) this.updateOnlinePlayer(mergedCloudPlayer);
+        });
+    }
+
+    /**
+     * Merges a stored offline player into a copy of the online player and replaces the online player with the copy. The
+     * merge holds the lock of this manager, which the login and the logout of the player hold too, and the previous
+     * online player instance is never changed, so a thread, which still reads it, doesn't see a half merged player.
+     *
+     * @param uniqueId                  the uniqueId of the player
+     * @param storedCloudOfflinePlayer the offline player, which was stored in the database
+     * @return the merged online player or null, if the player isn't online anymore
+     */
+    synchronized CloudPlayer mergeOfflinePlayer(UUID uniqueId, ICloudOfflinePlayer storedCloudOfflinePlayer)
+    {
+        CloudPlayer onlineCloudPlayer = this.onlineCloudPlayers.get(uniqueId);
+
+        if (onlineCloudPlayer == null) return null;
+
+        CloudPlayer cloudPlayer = JsonDocument.newDocument(onlineCloudPlayer).toInstanceOf(CloudPlayer.TYPE);
+
+        cloudPlayer.setFirstLoginTimeMillis(Math.min(cloudPlayer.getFirstLoginTimeMillis(), storedCloudOfflinePlayer.getFirstLoginTimeMillis()));
+
+        if (cloudPlayer.getXBoxId() == null) cloudPlayer.setXBoxId(storedCloudOfflinePlayer.getXBoxId());
+
+        if (storedCloudOfflinePlayer.getProperties() != null)
+            cloudPlayer.setProperties(cloudPlayer.getProperties() != null ?
+                new JsonDocument().append(storedCloudOfflinePlayer.getProperties()).append(cloudPlayer.getProperties()) :
+                storedCloudOfflinePlayer.getProperties());
+
+        this.addOnlinePlayer(cloudPlayer);
+
+        return cloudPlayer;
     }
 
     @Override
@@ -105,19 +316,27 @@ public final class NodePlayerManager implements IPlayerManager {
     {
         Validate.checkNotNull(name);
 
-        return Iterables.map(getDatabase().get(new JsonDocument("name", name)), new Function<JsonDocument, ICloudOfflinePlayer>() {
+        List<ICloudOfflinePlayer> cloudOfflinePlayers = Iterables.map(getDatabase().get(new JsonDocument("name", name)), new Function<JsonDocument, ICloudOfflinePlayer>() {
             @Override
             public ICloudOfflinePlayer apply(JsonDocument jsonDocument)
             {
                 return jsonDocument.toInstanceOf(CloudOfflinePlayer.TYPE);
             }
         });
+
+        return this.withPendingWrites(cloudOfflinePlayers, new Predicate<ICloudOfflinePlayer>() {
+            @Override
+            public boolean test(ICloudOfflinePlayer cloudOfflinePlayer)
+            {
+                return cloudOfflinePlayer.getName() != null && cloudOfflinePlayer.getName().equalsIgnoreCase(name);
+            }
+        });
     }
 
     @Override
     public List<? extends ICloudOfflinePlayer> getRegisteredPlayers()
     {
-        List<? extends ICloudOfflinePlayer> cloudOfflinePlayers = Iterables.newArrayList();
+        List<ICloudOfflinePlayer> cloudOfflinePlayers = Iterables.newArrayList();
 
         getDatabase().iterate(new BiConsumer<String, JsonDocument>() {
             @Override
@@ -127,7 +346,24 @@ public final class NodePlayerManager implements IPlayerManager {
             }
         });
 
-        return cloudOfflinePlayers;
+        return this.withPendingWrites(cloudOfflinePlayers, cloudOfflinePlayer -> true);
+    }
+
+    /**
+     * Replaces the stored players by their pending writes and adds the matching pending players, which aren't stored yet
+     */
+    private List<ICloudOfflinePlayer> withPendingWrites(List<ICloudOfflinePlayer> cloudOfflinePlayers, Predicate<ICloudOfflinePlayer> predicate)
+    {
+        Map<UUID, ICloudOfflinePlayer> result = Maps.newLinkedHashMap();
+
+        for (ICloudOfflinePlayer cloudOfflinePlayer : cloudOfflinePlayers)
+            result.put(cloudOfflinePlayer.getUniqueId(), cloudOfflinePlayer);
+
+        for (ICloudOfflinePlayer cloudOfflinePlayer : this.writeQueue.getPendingWrites())
+            if (result.containsKey(cloudOfflinePlayer.getUniqueId()) || predicate.test(cloudOfflinePlayer))
+                result.put(cloudOfflinePlayer.getUniqueId(), cloudOfflinePlayer);
+
+        return Iterables.newArrayList(result.values());
     }
 
     /*= ---------------------------------------------------------------------------------- =*/
@@ -180,6 +416,30 @@ public final class NodePlayerManager implements IPlayerManager {
         });
     }
 
+    @Override
+    public ITask<Integer> getOnlineCountAsync()
+    {
+        return schedule(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception
+            {
+                return getOnlineCount();
+            }
+        });
+    }
+
+    @Override
+    public ITask<Integer> getOnlineCountAsync(ServiceEnvironmentType environment)
+    {
+        return schedule(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception
+            {
+                return getOnlineCount(environment);
+            }
+        });
+    }
+
     @Override
     public ITask<ICloudOfflinePlayer> getOfflinePlayerAsync(UUID uniqueId)
     {
@@ -233,9 +493,18 @@ public final class NodePlayerManager implements IPlayerManager {
         );
     }
 
+    /**
+     * Updates the cached offline player and writes it asynchronously into the database, if this node owns the player.
+     * Every update reaches all nodes, so only the owner has to persist it.
+     *
+     * @see NodePlayerShards
+     */
     public void updateOfflinePlayer0(ICloudOfflinePlayer cloudOfflinePlayer)
     {
-        getDatabase().update(cloudOfflinePlayer.getUniqueId().toString(), JsonDocument.newDocument(cloudOfflinePlayer));
+        this.offlinePlayerCache.put(cloudOfflinePlayer.getUniqueId(), cloudOfflinePlayer);
+
+        if (NodePlayerShards.isLocalOwner(cloudOfflinePlayer.getUniqueId()))
+            this.writeQueue.write(cloudOfflinePlayer);
     }
 
     @Override
@@ -255,6 +524,9 @@ public final class NodePlayerManager implements IPlayerManager {
 
     public void updateOnlinePlayer0(ICloudPlayer cloudPlayer)
     {
+        if (cloudPlayer instanceof CloudPlayer)
+            this.updateEnvironmentIndex((CloudPlayer) cloudPlayer);
+
         updateOfflinePlayer0(CloudOfflinePlayer.of(cloudPlayer));
     }
 
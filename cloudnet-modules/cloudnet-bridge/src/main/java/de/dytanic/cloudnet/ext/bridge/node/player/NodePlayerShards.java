@@ -0,0 +1,81 @@
+package de.dytanic.cloudnet.ext.bridge.node.player;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.cluster.IClusterNodeServer;
+import de.dytanic.cloudnet.common.Validate;
+
+import java.util.UUID;
+
+/**
+ * Assigns every player to one node of the cluster, the owner of the player, with rendezvous hashing over the unique ids
+ * of the local node and the connected nodes. The owner persists the player, all other nodes only keep the player in
+ * their local read cache.
+ * <p>
+ * A node, which joins or leaves the cluster, only moves the players of its own shard.
+ * <p>
+ * Only the persistence is sharded. The online players are still kept and updated on every node of the cluster, because
+ * every node receives the login, switch and disconnect messages of the proxies anyway to call the bridge events. A node
+ * answers the online count queries of its services from its local indexes, without sending player objects.
+ * <p>
+ * The assignment is computed from the local view of the connected nodes, without a consensus between the nodes. While
+ * the cluster is partitioned, every partition assigns the players of the unreachable nodes to its own nodes, so two
+ * nodes can write the same player at the same time. On a shared database the last write wins, until the partition is
+ * resolved and only one owner remains.
+ */
+public final class NodePlayerShards {
+
+    private NodePlayerShards()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+    public static boolean isLocalOwner(UUID uniqueId)
+    {
+        return isLocalOwner(uniqueId, null);
+    }
+
+    /**
+     * Returns true, if this node owns the player in the local view of the cluster. During a partition, another node can
+     * own the same player in its view
+     *
+     * @param uniqueId             the uniqueId of the player
+     * @param excludedNodeUniqueId a node, which is ignored for the assignment, or null
+     */
+    public static boolean isLocalOwner(UUID uniqueId, String excludedNodeUniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        String localNodeUniqueId = CloudNet.getInstance().getConfig().getIdentity().getUniqueId();
+        long localScore = score(uniqueId, localNodeUniqueId);
+
+        for (IClusterNodeServer clusterNodeServer : CloudNet.getInstance().getClusterNodeServerProvider().getNodeServers())
+        {
+            if (!clusterNodeServer.isConnected()) continue;
+
+            String nodeUniqueId = clusterNodeServer.getNodeInfo().getUniqueId();
+
+            if (nodeUniqueId.equals(localNodeUniqueId) || nodeUniqueId.equals(excludedNodeUniqueId)) continue;
+
+            long score = score(uniqueId, nodeUniqueId);
+
+            if (score > localScore || (score == localScore && nodeUniqueId.compareTo(localNodeUniqueId) < 0))
+                return false;
+        }
+
+        return true;
+    }
+
+    static long score(UUID uniqueId, String nodeUniqueId)
+    {
+        long hash = uniqueId.getMostSignificantBits() * 31 + uniqueId.getLeastSignificantBits();
+        hash ^= nodeUniqueId.hashCode() * 0x9E3779B97F4A7C15L;
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
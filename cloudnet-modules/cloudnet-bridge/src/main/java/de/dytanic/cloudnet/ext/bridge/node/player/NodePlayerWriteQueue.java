@@ -0,0 +1,165 @@
+package de.dytanic.cloudnet.ext.bridge.node.player;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.database.IDatabase;
+import de.dytanic.cloudnet.ext.bridge.player.ICloudOfflinePlayer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Persists the offline players of the NodePlayerManager on its own thread. The writes are coalesced by the uniqueId
+ * of the player and flushed as batch with a fixed delay, so a player, which switches the server several times in a
+ * short time, is written only once. A pending write stays visible until the database write of it is completed.
+ * <p>
+ * The loads of players, which logged in without being cached, are executed in order before the writes. The pending
+ * write of a player is held back until its load is completed, so the stored data isn't overwritten by the login.
+ */
+final class NodePlayerWriteQueue {
+
+    private static final long WRITE_DELAY_MILLIS = Long.getLong("cloudnet.bridge.player.write.delay", 1000);
+
+    private final Supplier<IDatabase> databaseSupplier;
+
+    private final long writeDelayMillis;
+
+    private final BlockingQueue<Runnable> loads = new LinkedBlockingQueue<>();
+
+    private final Set<UUID> pendingLoads = ConcurrentHashMap.newKeySet();
+
+    private final Map<UUID, ICloudOfflinePlayer> pendingWrites = Maps.newConcurrentHashMap();
+
+    private final Thread thread = new Thread(this::run, "NodePlayerWriteQueue");
+
+    NodePlayerWriteQueue(Supplier<IDatabase> databaseSupplier)
+    {
+        this(databaseSupplier, WRITE_DELAY_MILLIS);
+    }
+
+    NodePlayerWriteQueue(Supplier<IDatabase> databaseSupplier, long writeDelayMillis)
+    {
+        this.databaseSupplier = databaseSupplier;
+        this.writeDelayMillis = writeDelayMillis;
+
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    void write(ICloudOfflinePlayer cloudOfflinePlayer)
+    {
+        this.pendingWrites.put(cloudOfflinePlayer.getUniqueId(), cloudOfflinePlayer);
+    }
+
+    void load(UUID uniqueId, Runnable load)
+    {
+        this.pendingLoads.add(uniqueId);
+        this.loads.offer(() -> {
+            try
+            {
+                load.run();
+            } finally
+            {
+                this.pendingLoads.remove(uniqueId);
+            }
+        });
+    }
+
+    ICloudOfflinePlayer getPendingWrite(UUID uniqueId)
+    {
+        return this.pendingWrites.get(uniqueId);
+    }
+
+    List<ICloudOfflinePlayer> getPendingWrites()
+    {
+        return Iterables.newArrayList(this.pendingWrites.values());
+    }
+
+    /**
+     * Stops the thread and executes the remaining loads and writes on the calling thread
+     */
+    void close()
+    {
+        this.thread.interrupt();
+
+        try
+        {
+            this.thread.join(5000);
+        } catch (InterruptedException ignored)
+        {
+        }
+
+        this.runLoads();
+        this.flush(true);
+    }
+
+    /*= ---------------------------------------------------------------- =*/
+
+    private void run()
+    {
+        long nextFlush = System.currentTimeMillis() + this.writeDelayMillis;
+
+        while (!Thread.currentThread().isInterrupted())
+            try
+            {
+                Runnable load = this.loads.poll(Math.max(0, nextFlush - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+
+                if (load != null)
+                {
+                    this.execute(load);
+                    continue;
+                }
+
+                if (System.currentTimeMillis() < nextFlush) continue;
+
+                this.runLoads();
+                this.flush(false);
+
+                nextFlush = System.currentTimeMillis() + this.writeDelayMillis;
+
+            } catch (InterruptedException ex)
+            {
+                return;
+            }
+    }
+
+    private void runLoads()
+    {
+        Runnable load;
+
+        while ((load = this.loads.poll()) != null)
+            this.execute(load);
+    }
+
+    private void flush(boolean force)
+    {
+        for (Map.Entry<UUID, ICloudOfflinePlayer> entry : this.pendingWrites.entrySet())
+        {
+            if (!force && this.pendingLoads.contains(entry.getKey())) continue;
+
+            this.execute(() -> this.databaseSupplier.get().update(entry.getKey().toString(), JsonDocument.newDocument(entry.getValue())));
+
+            //a newer write, which was queued during the database write, stays pending
+            this.pendingWrites.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void execute(Runnable runnable)
+    {
+        try
+        {
+            runnable.run();
+        } catch (Exception ex)
+        {
+            ex.printStackTrace();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ITaskListener;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
@@ -94,82 +95,62 @@ public final class NukkitCloudNetHelper {
             .append("State", state)
             .append("Allow-Nether", Server.getInstance().isNetherAllowed())
             .append("Allow-Flight", Server.getInstance().getAllowFlight())
-            .append("Players", Iterables.map(Server.getInstance().getOnlinePlayers().values(), new Function<Player, NukkitCloudNetPlayerInfo>() {
-                @Override
-                public NukkitCloudNetPlayerInfo apply(Player player)
-                {
-                    return new NukkitCloudNetPlayerInfo(
-                        player.getUniqueId(),
-                        player.getName(),
-                        player.getHealth(),
-                        player.getMaxHealth(),
-                        player.getFoodData().getLevel(),
-                        player.getExperienceLevel(),
-                        player.getPing(),
-                        new WorldPosition(
-                            player.getX(),
-                            player.getY(),
-                            player.getZ(),
-                            player.getYaw(),
-                            player.getPitch(),
-                            player.getLevel().getName()
-                        ),
-                        new HostAndPort(player.getAddress(), player.getPort())
-                    );
-                }
-            }))
-            .append("Plugins", Iterables.map(Server.getInstance().getPluginManager().getPlugins().values(), new Function<Plugin, PluginInfo>() {
-                @Override
-                public PluginInfo apply(Plugin plugin)
-                {
-                    PluginInfo pluginInfo = new PluginInfo(plugin.getName(), plugin.getDescription().getVersion());
-
-                    pluginInfo.getProperties()
-                        .append("authors", plugin.getDescription().getAuthors())
-                        .append("dependencies", plugin.getDescription().getDepend())
-                        .append("load-before", plugin.getDescription().getLoadBefore())
-                        .append("description", plugin.getDescription().getDescription())
-                        .append("commands", plugin.getDescription().getCommands())
-                        .append("soft-dependencies", plugin.getDescription().getSoftDepend())
-                        .append("website", plugin.getDescription().getWebsite())
-                        .append("main-class", plugin.getClass().getName())
-                        .append("prefix", plugin.getDescription().getPrefix())
-                    ;
-
-                    return pluginInfo;
-                }
-            }))
-            .append("Worlds", Iterables.map(Server.getInstance().getLevels().values(), new Function<Level, WorldInfo>() {
-                @Override
-                public WorldInfo apply(Level level)
-                {
-                    Map<String, String> gameRules = Maps.newHashMap();
+        ;
 
-                    for (GameRule gameRule : level.getGameRules().getRules())
+        if (!BridgeHelper.isStaticServicePropertiesPublished())
+            BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                .append("Plugins", Iterables.map(Server.getInstance().getPluginManager().getPlugins().values(), new Function<Plugin, PluginInfo>() {
+                    @Override
+                    public PluginInfo apply(Plugin plugin)
                     {
-                        GameRules.Value type = level.getGameRules().getGameRules().get(gameRule);
+                        PluginInfo pluginInfo = new PluginInfo(plugin.getName(), plugin.getDescription().getVersion());
+
+                        pluginInfo.getProperties()
+                            .append("authors", plugin.getDescription().getAuthors())
+                            .append("dependencies", plugin.getDescription().getDepend())
+                            .append("load-before", plugin.getDescription().getLoadBefore())
+                            .append("description", plugin.getDescription().getDescription())
+                            .append("commands", plugin.getDescription().getCommands())
+                            .append("soft-dependencies", plugin.getDescription().getSoftDepend())
+                            .append("website", plugin.getDescription().getWebsite())
+                            .append("main-class", plugin.getClass().getName())
+                            .append("prefix", plugin.getDescription().getPrefix())
+                        ;
+
+                        return pluginInfo;
+                    }
+                }))
+                .append("Worlds", Iterables.map(Server.getInstance().getLevels().values(), new Function<Level, WorldInfo>() {
+                    @Override
+                    public WorldInfo apply(Level level)
+                    {
+                        Map<String, String> gameRules = Maps.newHashMap();
 
-                        switch (type.getType())
+                        for (GameRule gameRule : level.getGameRules().getRules())
                         {
-                            case FLOAT:
-                                gameRules.put(gameRule.getName(), level.getGameRules().getFloat(gameRule) + "");
-                                break;
-                            case BOOLEAN:
-                                gameRules.put(gameRule.getName(), level.getGameRules().getBoolean(gameRule) + "");
-                                break;
-                            case INTEGER:
-                                gameRules.put(gameRule.getName(), level.getGameRules().getInteger(gameRule) + "");
-                                break;
-                            default:
-                                gameRules.put(gameRule.getName(), level.getGameRules().getString(gameRule) + "");
-                                break;
+                            GameRules.Value type = level.getGameRules().getGameRules().get(gameRule);
+
+                            switch (type.getType())
+                            {
+                                case FLOAT:
+                                    gameRules.put(gameRule.getName(), level.getGameRules().getFloat(gameRule) + "");
+                                    break;
+                                case BOOLEAN:
+                                    gameRules.put(gameRule.getName(), level.getGameRules().getBoolean(gameRule) + "");
+                                    break;
+                                case INTEGER:
+                                    gameRules.put(gameRule.getName(), level.getGameRules().getInteger(gameRule) + "");
+                                    break;
+                                default:
+                                    gameRules.put(gameRule.getName(), level.getGameRules().getString(gameRule) + "");
+                                    break;
+                            }
                         }
-                    }
 
-                    return new WorldInfo(null, level.getName(), getDifficultyToString(Server.getInstance().getDifficulty()), gameRules);
-                }
-            }))
-        ;
+                        return new WorldInfo(null, level.getName(), getDifficultyToString(Server.getInstance().getDifficulty()), gameRules);
+                    }
+                }))
+            );
     }
 
     public static String getDifficultyToString(int value)
@@ -16,6 +16,10 @@ public interface IPlayerManager {
 
     List<? extends ICloudPlayer> getOnlinePlayers();
 
+    int getOnlineCount();
+
+    int getOnlineCount(ServiceEnvironmentType environment);
+
     ICloudOfflinePlayer getOfflinePlayer(UUID uniqueId);
 
     List<? extends ICloudOfflinePlayer> getOfflinePlayer(String name);
@@ -32,6 +36,10 @@ public interface IPlayerManager {
 
     ITask<List<? extends ICloudPlayer>> getOnlinePlayersAsync();
 
+    ITask<Integer> getOnlineCountAsync();
+
+    ITask<Integer> getOnlineCountAsync(ServiceEnvironmentType environment);
+
     ITask<ICloudOfflinePlayer> getOfflinePlayerAsync(UUID uniqueId);
 
     ITask<List<? extends ICloudOfflinePlayer>> getOfflinePlayerAsync(String name);
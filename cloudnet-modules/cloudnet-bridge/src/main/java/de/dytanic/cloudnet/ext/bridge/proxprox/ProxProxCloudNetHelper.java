@@ -3,6 +3,7 @@ package de.dytanic.cloudnet.ext.bridge.proxprox;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
@@ -47,40 +48,29 @@ public final class ProxProxCloudNetHelper {
                 getProxyServer().getConfig().getDefaultServer().getIp(),
                 getProxyServer().getConfig().getDefaultServer().getPort())
             )
-            .append("Players", Iterables.map(getProxyServer().getPlayers(), new Function<Player, ProxProxCloudNetPlayerInfo>() {
-                @Override
-                public ProxProxCloudNetPlayerInfo apply(Player player)
-                {
-                    return new ProxProxCloudNetPlayerInfo(
-                        player.getUUID(),
-                        player.getLocale(),
-                        player.getName(),
-                        player.getXboxId(),
-                        new HostAndPort(player.getAddress()),
-                        player.getServer() != null ? new HostAndPort(player.getServer().getIP(), player.getServer().getPort()) : null,
-                        player.getPing()
-                    );
-                }
-            }))
-            .append("Plugins", Iterables.map(getProxyServer().getPluginManager().getPlugins(), new Function<Plugin, PluginInfo>() {
-                @Override
-                public PluginInfo apply(Plugin plugin)
-                {
-                    PluginInfo pluginInfo = new PluginInfo(
-                        plugin.getMeta().getName(),
-                        plugin.getMeta().getVersion().getMajor() + "." + plugin.getMeta().getVersion().getMinor()
-                    );
-
-                    pluginInfo.getProperties()
-                        .append("description", plugin.getMeta().getDescription())
-                        .append("main-class", plugin.getClass().getName())
-                        .append("depends", plugin.getMeta().getDepends())
-                    ;
-
-                    return pluginInfo;
-                }
-            }))
         ;
+
+        if (!BridgeHelper.isStaticServicePropertiesPublished())
+            BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                .append("Plugins", Iterables.map(getProxyServer().getPluginManager().getPlugins(), new Function<Plugin, PluginInfo>() {
+                    @Override
+                    public PluginInfo apply(Plugin plugin)
+                    {
+                        PluginInfo pluginInfo = new PluginInfo(
+                            plugin.getMeta().getName(),
+                            plugin.getMeta().getVersion().getMajor() + "." + plugin.getMeta().getVersion().getMinor()
+                        );
+
+                        pluginInfo.getProperties()
+                            .append("description", plugin.getMeta().getDescription())
+                            .append("main-class", plugin.getClass().getName())
+                            .append("depends", plugin.getMeta().getDepends())
+                        ;
+
+                        return pluginInfo;
+                    }
+                }))
+            );
     }
 
     public static boolean isServiceEnvironmentTypeProvidedForProxProx(ServiceInfoSnapshot serviceInfoSnapshot)
@@ -4,6 +4,7 @@ import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ITaskListener;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
@@ -98,56 +99,33 @@ public final class SpongeCloudNetHelper {
             .append("Incoming-Channels", Sponge.getChannelRegistrar().getRegisteredChannels(Platform.Type.CLIENT))
             .append("Online-Mode", Sponge.getServer().getOnlineMode())
             .append("Whitelist-Enabled", Sponge.getServer().hasWhitelist())
-            .append("Players", Iterables.map(Sponge.getServer().getOnlinePlayers(), new Function<Player, SpongeCloudNetPlayerInfo>() {
-                @Override
-                public SpongeCloudNetPlayerInfo apply(Player player)
-                {
-                    Location<World> location = player.getLocation();
-
-                    Optional<ExperienceHolderData> holderData = player.get(ExperienceHolderData.class);
-
-                    return new SpongeCloudNetPlayerInfo(
-                        player.getUniqueId(),
-                        player.getName(),
-                        player.getConnection().getLatency(),
-                        player.getHealthData().health().get(),
-                        player.getHealthData().maxHealth().get(),
-                        player.saturation().get(),
-                        holderData.isPresent() ? holderData.get().level().get() : 0,
-                        new WorldPosition(
-                            location.getX(),
-                            location.getY(),
-                            location.getZ(),
-                            0F,
-                            0F,
-                            player.getWorld().getName()
-                        ),
-                        new HostAndPort(player.getConnection().getAddress())
-                    );
-                }
-            }))
-            .append("Plugins", Iterables.map(Sponge.getGame().getPluginManager().getPlugins(), new Function<PluginContainer, PluginInfo>() {
-                @Override
-                public PluginInfo apply(PluginContainer pluginContainer)
-                {
-                    PluginInfo pluginInfo = new PluginInfo(pluginContainer.getId(), pluginContainer.getVersion().isPresent() ? pluginContainer.getVersion().get() : null);
+        ;
 
-                    pluginInfo.getProperties()
-                        .append("name", pluginContainer.getName())
-                        .append("authors", pluginContainer.getAuthors())
-                        .append("url", pluginContainer.getUrl().isPresent() ? pluginContainer.getUrl().get() : null)
-                        .append("description", pluginContainer.getDescription().isPresent() ? pluginContainer.getDescription().get() : null);
+        if (!BridgeHelper.isStaticServicePropertiesPublished())
+            BridgeHelper.publishStaticServiceProperties(new JsonDocument()
+                .append("Plugins", Iterables.map(Sponge.getGame().getPluginManager().getPlugins(), new Function<PluginContainer, PluginInfo>() {
+                    @Override
+                    public PluginInfo apply(PluginContainer pluginContainer)
+                    {
+                        PluginInfo pluginInfo = new PluginInfo(pluginContainer.getId(), pluginContainer.getVersion().isPresent() ? pluginContainer.getVersion().get() : null);
 
-                    return pluginInfo;
-                }
-            }))
-            .append("Worlds", Iterables.map(Sponge.getServer().getWorlds(), new Function<World, WorldInfo>() {
-                @Override
-                public WorldInfo apply(World world)
-                {
-                    return new WorldInfo(world.getUniqueId(), world.getName(), world.getDifficulty().getName(), world.getGameRules());
-                }
-            }));
+                        pluginInfo.getProperties()
+                            .append("name", pluginContainer.getName())
+                            .append("authors", pluginContainer.getAuthors())
+                            .append("url", pluginContainer.getUrl().isPresent() ? pluginContainer.getUrl().get() : null)
+                            .append("description", pluginContainer.getDescription().isPresent() ? pluginContainer.getDescription().get() : null);
+
+                        return pluginInfo;
+                    }
+                }))
+                .append("Worlds", Iterables.map(Sponge.getServer().getWorlds(), new Function<World, WorldInfo>() {
+                    @Override
+                    public WorldInfo apply(World world)
+                    {
+                        return new WorldInfo(world.getUniqueId(), world.getName(), world.getDifficulty().getName(), world.getGameRules());
+                    }
+                }))
+            );
     }
 
     public static NetworkConnectionInfo createNetworkConnectionInfo(Player player)
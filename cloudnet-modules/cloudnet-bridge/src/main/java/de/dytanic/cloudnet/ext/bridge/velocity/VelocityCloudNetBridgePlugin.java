@@ -69,6 +69,7 @@ public final class VelocityCloudNetBridgePlugin {
 
         //CloudNet
         CloudNetDriver.getInstance().getEventManager().registerListener(new VelocityCloudNetListener());
+        CloudNetDriver.getInstance().getEventManager().registerListener(VelocityCloudNetHelper.FALLBACK_BALANCER);
         CloudNetDriver.getInstance().getEventManager().registerListener(new BridgeCustomChannelMessageListener());
     }
 
@@ -94,7 +95,7 @@ public final class VelocityCloudNetBridgePlugin {
                 )));
 
                 VelocityCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.put(name, serviceInfoSnapshot);
-                VelocityCloudNetHelper.addServerToVelocityPrioritySystemConfiguration(serviceInfoSnapshot, name);
+                VelocityCloudNetHelper.FALLBACK_BALANCER.update(serviceInfoSnapshot);
             }
     }
 }
\ No newline at end of file
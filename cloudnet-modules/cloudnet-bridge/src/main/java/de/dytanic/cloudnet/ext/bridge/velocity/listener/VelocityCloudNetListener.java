@@ -45,8 +45,6 @@ public final class VelocityCloudNetListener {
                 event.getServiceInfo().getAddress().getHost(),
                 event.getServiceInfo().getAddress().getPort()
             )));
-
-            VelocityCloudNetHelper.addServerToVelocityPrioritySystemConfiguration(event.getServiceInfo(), name);
         }
 
         this.velocityCall(new VelocityCloudServiceStartEvent(event.getServiceInfo()));
@@ -62,7 +60,6 @@ public final class VelocityCloudNetListener {
             if (VelocityCloudNetHelper.getProxyServer().getServer(name).isPresent())
                 VelocityCloudNetHelper.getProxyServer().unregisterServer(VelocityCloudNetHelper.getProxyServer().getServer(name).get().getServerInfo());
 
-            VelocityCloudNetHelper.removeServerToVelocityPrioritySystemConfiguration(event.getServiceInfo(), name);
             VelocityCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.put(event.getServiceInfo().getServiceId().getName(), event.getServiceInfo());
         }
 
@@ -5,6 +5,7 @@ import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.LoginEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.event.player.KickedFromServerEvent;
+import com.velocitypowered.api.event.player.PlayerChooseInitialServerEvent;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.event.player.ServerPreConnectEvent;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
@@ -36,15 +37,18 @@ public final class VelocityPlayerListener {
     }
 
     @Subscribe
-    public void handle(ServerPreConnectEvent event)
+    public void handle(PlayerChooseInitialServerEvent event)
     {
-        if (!event.getPlayer().getCurrentServer().isPresent())
-        {
-            String server = VelocityCloudNetHelper.filterServiceForPlayer(event.getPlayer(), null);
+        String server = VelocityCloudNetHelper.filterServiceForPlayer(event.getPlayer(), null);
 
-            if (server != null && VelocityCloudNetHelper.getProxyServer().getServer(server).isPresent())
-                event.setResult(ServerPreConnectEvent.ServerResult.allowed(VelocityCloudNetHelper.getProxyServer().getServer(server).get()));
-        }
+        if (server != null && VelocityCloudNetHelper.getProxyServer().getServer(server).isPresent())
+            event.setInitialServer(VelocityCloudNetHelper.getProxyServer().getServer(server).get());
+    }
+
+    @Subscribe
+    public void handle(ServerPreConnectEvent event)
+    {
+        if (!event.getResult().getServer().isPresent()) return;
 
         ServiceInfoSnapshot serviceInfoSnapshot = VelocityCloudNetHelper.SERVER_TO_SERVICE_INFO_SNAPSHOT_ASSOCIATION.get(event.getResult().getServer().get().getServerInfo().getName());
 
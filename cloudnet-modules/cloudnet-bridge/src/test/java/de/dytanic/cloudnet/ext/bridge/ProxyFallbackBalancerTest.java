@@ -0,0 +1,112 @@
+package de.dytanic.cloudnet.ext.bridge;
+
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.service.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+public final class ProxyFallbackBalancerTest {
+
+    @Test
+    public void testLeastPlayers()
+    {
+        this.testStrategy(ProxyFallbackBalancer.Strategy.LEAST_PLAYERS);
+
+        ProxyFallbackBalancer balancer = this.createBalancer(ProxyFallbackBalancer.Strategy.LEAST_PLAYERS);
+
+        Assert.assertEquals("Lobby-2", balancer.select("Lobby", null));
+        Assert.assertEquals("Lobby-1", balancer.select("Lobby", "Lobby-2"));
+    }
+
+    @Test
+    public void testWeightedRandom()
+    {
+        this.testStrategy(ProxyFallbackBalancer.Strategy.WEIGHTED_RANDOM);
+    }
+
+    @Test
+    public void testPowerOfTwoChoices()
+    {
+        this.testStrategy(ProxyFallbackBalancer.Strategy.POWER_OF_TWO_CHOICES);
+    }
+
+    private void testStrategy(ProxyFallbackBalancer.Strategy strategy)
+    {
+        ProxyFallbackBalancer balancer = this.createBalancer(strategy);
+
+        Assert.assertEquals(strategy, balancer.getStrategy());
+        Assert.assertNull(balancer.select("Unknown", null));
+        Assert.assertNull(balancer.select(null, null));
+
+        //every selection is pending on the selected server, so the free slots of the other servers are used up
+        Map<String, Integer> selections = this.selectAll(balancer, "Lobby-2");
+
+        Assert.assertEquals(1, selections.size());
+        Assert.assertEquals(40, (int) selections.get("Lobby-1"));
+
+        selections = this.selectAll(balancer, null);
+
+        Assert.assertEquals(1, selections.size());
+        Assert.assertEquals(45, (int) selections.get("Lobby-2"));
+
+        ServiceInfoSnapshot lobby = this.createServiceInfoSnapshot(3, ServiceLifeCycle.RUNNING, 20, 50);
+        balancer.update(lobby);
+
+        Assert.assertEquals("Lobby-3", balancer.select("Lobby", null));
+        Assert.assertNull(balancer.select("Lobby", "Lobby-3"));
+
+        balancer.remove(lobby);
+
+        Assert.assertNull(balancer.select("Lobby", null));
+    }
+
+    private Map<String, Integer> selectAll(ProxyFallbackBalancer balancer, String excludedServer)
+    {
+        Map<String, Integer> selections = Maps.newHashMap();
+        String server;
+
+        for (int i = 0; i < 1000 && (server = balancer.select("Lobby", excludedServer)) != null; i++)
+            selections.merge(server, 1, Integer::sum);
+
+        return selections;
+    }
+
+    private ProxyFallbackBalancer createBalancer(ProxyFallbackBalancer.Strategy strategy)
+    {
+        ProxyFallbackBalancer balancer = new ProxyFallbackBalancer(
+            serviceInfoSnapshot -> !serviceInfoSnapshot.getProperties().contains("Online-Mode"),
+            strategy
+        );
+
+        balancer.update(this.createServiceInfoSnapshot(1, ServiceLifeCycle.RUNNING, 10, 50));
+        balancer.update(this.createServiceInfoSnapshot(2, ServiceLifeCycle.RUNNING, 5, 50));
+        balancer.update(this.createServiceInfoSnapshot(3, ServiceLifeCycle.RUNNING, 50, 50));
+        balancer.update(this.createServiceInfoSnapshot(4, ServiceLifeCycle.PREPARED, 0, 50));
+
+        ServiceInfoSnapshot onlineModeService = this.createServiceInfoSnapshot(5, ServiceLifeCycle.RUNNING, 0, 50);
+        onlineModeService.getProperties().append("Online-Mode", true);
+        balancer.update(onlineModeService);
+
+        return balancer;
+    }
+
+    private ServiceInfoSnapshot createServiceInfoSnapshot(int taskServiceId, ServiceLifeCycle lifeCycle, int onlineCount, int maxPlayers)
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = new ServiceInfoSnapshot(
+            System.currentTimeMillis(),
+            new ServiceId(UUID.randomUUID(), "Node-1", "Lobby", taskServiceId, ServiceEnvironmentType.MINECRAFT_SERVER),
+            null,
+            true,
+            lifeCycle,
+            null,
+            null
+        );
+
+        serviceInfoSnapshot.getProperties().append("Online-Count", onlineCount).append("Max-Players", maxPlayers);
+
+        return serviceInfoSnapshot;
+    }
+}
@@ -0,0 +1,59 @@
+package de.dytanic.cloudnet.ext.bridge.node.player;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
+import de.dytanic.cloudnet.ext.bridge.player.CloudOfflinePlayer;
+import de.dytanic.cloudnet.ext.bridge.player.CloudPlayer;
+import de.dytanic.cloudnet.ext.bridge.player.NetworkServiceInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public final class NodePlayerManagerTest {
+
+    @Test
+    public void testMergeOfflinePlayer()
+    {
+        NodePlayerManager playerManager = new NodePlayerManager("cloudnet_cloud_players");
+
+        try
+        {
+            UUID uniqueId = UUID.randomUUID();
+            NetworkServiceInfo proxy = new NetworkServiceInfo(ServiceEnvironmentType.BUNGEECORD, UUID.randomUUID(), "Proxy-1");
+
+            CloudPlayer cloudPlayer = new CloudPlayer(new CloudOfflinePlayer(uniqueId, "Steve", null, 2000, 2000, null), proxy, proxy, null, null);
+            cloudPlayer.setProperties(new JsonDocument("rank", "Premium"));
+            playerManager.addOnlinePlayer(cloudPlayer);
+
+            CloudOfflinePlayer storedCloudOfflinePlayer = new CloudOfflinePlayer(uniqueId, "Steve", "xbox", 1000, 1500, null);
+            storedCloudOfflinePlayer.setProperties(new JsonDocument("coins", 10).append("rank", "Default"));
+
+            CloudPlayer mergedCloudPlayer = playerManager.mergeOfflinePlayer(uniqueId, storedCloudOfflinePlayer);
+
+            Assert.assertNotNull(mergedCloudPlayer);
+            Assert.assertNotSame(cloudPlayer, mergedCloudPlayer);
+            Assert.assertSame(mergedCloudPlayer, playerManager.getOnlinePlayer(uniqueId));
+            Assert.assertEquals(1, playerManager.getOnlinePlayer("steve").size());
+
+            Assert.assertEquals(1000, mergedCloudPlayer.getFirstLoginTimeMillis());
+            Assert.assertEquals("xbox", mergedCloudPlayer.getXBoxId());
+            Assert.assertEquals(10, mergedCloudPlayer.getProperties().getInt("coins"));
+            Assert.assertEquals("Premium", mergedCloudPlayer.getProperties().getString("rank"));
+
+            //the previous online player isn't changed by the merge
+            Assert.assertEquals(2000, cloudPlayer.getFirstLoginTimeMillis());
+            Assert.assertNull(cloudPlayer.getXBoxId());
+            Assert.assertFalse(cloudPlayer.getProperties().contains("coins"));
+
+            playerManager.removeOnlinePlayer(uniqueId);
+
+            Assert.assertNull(playerManager.mergeOfflinePlayer(uniqueId, storedCloudOfflinePlayer));
+            Assert.assertNull(playerManager.getOnlinePlayer(uniqueId));
+
+        } finally
+        {
+            playerManager.close();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package de.dytanic.cloudnet.ext.bridge.node.player;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.database.AbstractDatabaseProvider;
+import de.dytanic.cloudnet.database.IDatabase;
+import de.dytanic.cloudnet.database.h2.H2DatabaseProvider;
+import de.dytanic.cloudnet.ext.bridge.player.CloudOfflinePlayer;
+import de.dytanic.cloudnet.ext.bridge.player.ICloudOfflinePlayer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class NodePlayerWriteQueueTest {
+
+    private static final long WRITE_DELAY_MILLIS = 50;
+
+    @Test
+    public void testCoalescedWrites() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = this.createDatabaseProvider();
+
+        try
+        {
+            AtomicInteger updates = new AtomicInteger();
+            IDatabase database = this.countUpdates(databaseProvider.getDatabase("cloudnet_cloud_players"), updates);
+
+            NodePlayerWriteQueue writeQueue = new NodePlayerWriteQueue(() -> database, WRITE_DELAY_MILLIS);
+            UUID uniqueId = UUID.randomUUID();
+
+            writeQueue.write(this.createPlayer(uniqueId, "Steve"));
+            writeQueue.write(this.createPlayer(uniqueId, "Alex"));
+
+            Assert.assertEquals(1, writeQueue.getPendingWrites().size());
+            Assert.assertEquals("Alex", writeQueue.getPendingWrite(uniqueId).getName());
+
+            this.awaitWrites(writeQueue);
+
+            Assert.assertEquals(1, updates.get());
+            Assert.assertEquals("Alex", database.get(uniqueId.toString()).getString("name"));
+
+            writeQueue.close();
+
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    @Test
+    public void testLoadsBeforeWrites() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = this.createDatabaseProvider();
+
+        try
+        {
+            IDatabase database = databaseProvider.getDatabase("cloudnet_cloud_players");
+            NodePlayerWriteQueue writeQueue = new NodePlayerWriteQueue(() -> database, WRITE_DELAY_MILLIS);
+
+            UUID uniqueId = UUID.randomUUID(), otherUniqueId = UUID.randomUUID();
+            database.insert(uniqueId.toString(), JsonDocument.newDocument(this.createPlayer(uniqueId, "Steve")));
+
+            List<String> loadedNames = new CopyOnWriteArrayList<>();
+            CountDownLatch releaseLoad = new CountDownLatch(1);
+
+            writeQueue.load(uniqueId, () -> {
+                try
+                {
+                    releaseLoad.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored)
+                {
+                }
+
+                loadedNames.add(database.get(uniqueId.toString()).getString("name"));
+            });
+            writeQueue.load(otherUniqueId, () -> loadedNames.add("Other"));
+
+            //the login of the player is written while its load is pending
+            writeQueue.write(this.createPlayer(uniqueId, "Alex"));
+
+            Thread.sleep(WRITE_DELAY_MILLIS * 4);
+
+            Assert.assertTrue(loadedNames.isEmpty());
+            Assert.assertEquals("Steve", database.get(uniqueId.toString()).getString("name"));
+            Assert.assertEquals("Alex", writeQueue.getPendingWrite(uniqueId).getName());
+
+            releaseLoad.countDown();
+            this.awaitWrites(writeQueue);
+
+            Assert.assertEquals(2, loadedNames.size());
+            Assert.assertEquals("Steve", loadedNames.get(0));
+            Assert.assertEquals("Other", loadedNames.get(1));
+            Assert.assertEquals("Alex", database.get(uniqueId.toString()).getString("name"));
+
+            writeQueue.close();
+
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    @Test
+    public void testPendingWriteUntilDatabaseWrite() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = this.createDatabaseProvider();
+
+        try
+        {
+            IDatabase database = databaseProvider.getDatabase("cloudnet_cloud_players");
+            NodePlayerWriteQueue writeQueue = new NodePlayerWriteQueue(() -> database, WRITE_DELAY_MILLIS);
+
+            UUID uniqueId = UUID.randomUUID();
+            ICloudOfflinePlayer cloudOfflinePlayer = this.createPlayer(uniqueId, "Steve");
+
+            writeQueue.write(cloudOfflinePlayer);
+
+            //a read after the write sees the queued player, before and after it was written
+            Assert.assertSame(cloudOfflinePlayer, writeQueue.getPendingWrite(uniqueId));
+            Assert.assertNull(database.get(uniqueId.toString()));
+
+            this.awaitWrites(writeQueue);
+
+            Assert.assertNull(writeQueue.getPendingWrite(uniqueId));
+            Assert.assertEquals("Steve", database.get(uniqueId.toString()).getString("name"));
+
+            writeQueue.close();
+
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = this.createDatabaseProvider();
+
+        try
+        {
+            IDatabase database = databaseProvider.getDatabase("cloudnet_cloud_players");
+            NodePlayerWriteQueue writeQueue = new NodePlayerWriteQueue(() -> database, TimeUnit.HOURS.toMillis(1));
+
+            UUID uniqueId = UUID.randomUUID();
+            AtomicInteger loads = new AtomicInteger();
+
+            writeQueue.write(this.createPlayer(uniqueId, "Steve"));
+            writeQueue.load(uniqueId, loads::incrementAndGet);
+            writeQueue.close();
+
+            Assert.assertEquals(1, loads.get());
+            Assert.assertTrue(writeQueue.getPendingWrites().isEmpty());
+            Assert.assertEquals("Steve", database.get(uniqueId.toString()).getString("name"));
+
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    /*= ---------------------------------------------------------------- =*/
+
+    private AbstractDatabaseProvider createDatabaseProvider() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = new H2DatabaseProvider("build/h2players");
+        Assert.assertTrue(databaseProvider.init());
+
+        databaseProvider.getDatabase("cloudnet_cloud_players").clear();
+        return databaseProvider;
+    }
+
+    private IDatabase countUpdates(IDatabase database, AtomicInteger updates)
+    {
+        return (IDatabase) Proxy.newProxyInstance(IDatabase.class.getClassLoader(), new Class<?>[]{IDatabase.class}, (proxy, method, args) -> {
+            if (method.getName().equals("update")) updates.incrementAndGet();
+
+            return method.invoke(database, args);
+        });
+    }
+
+    private void awaitWrites(NodePlayerWriteQueue writeQueue) throws InterruptedException
+    {
+        long timeout = System.currentTimeMillis() + 5000;
+
+        while (!writeQueue.getPendingWrites().isEmpty() && System.currentTimeMillis() < timeout)
+            Thread.sleep(10);
+
+        Assert.assertTrue(writeQueue.getPendingWrites().isEmpty());
+    }
+
+    private ICloudOfflinePlayer createPlayer(UUID uniqueId, String name)
+    {
+        return new CloudOfflinePlayer(uniqueId, name, null, 1, 2, null);
+    }
+}
@@ -0,0 +1,187 @@
+package de.dytanic.cloudnet.ext.cloudperms;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.permission.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The resolved permission view of one permission user on this service. The groups of the user, their
+ * extended groups and the default group are resolved once, and every checked permission result is cached,
+ * so a repeated check is a single map lookup. The view has to be rebuilt, after the user or a group has been
+ * updated or the next time out of a group membership or permission has passed.
+ */
+final class CloudPermissionsEffectivePermissions {
+
+    private static final int MAX_CACHED_RESULTS = 4096;
+
+    private final IPermissionUser permissionUser;
+
+    private final String[] groups;
+
+    private final List<GroupNode> groupNodes = Iterables.newArrayList();
+
+    private final Map<String, Boolean> results = Maps.newConcurrentHashMap();
+
+    private long nextTimeOutMillis = Long.MAX_VALUE;
+
+    CloudPermissionsEffectivePermissions(IPermissionManagement permissionManagement, IPermissionUser permissionUser, String[] groups)
+    {
+        this.permissionUser = permissionUser;
+        this.groups = groups;
+
+        long currentTimeMillis = System.currentTimeMillis();
+
+        permissionManagement.testPermissible(permissionUser);
+        this.trackTimeOuts(permissionUser);
+
+        for (PermissionUserGroupInfo groupInfo : permissionUser.getGroups())
+        {
+            if (groupInfo.getTimeOutMillis() > 0)
+            {
+                if (groupInfo.getTimeOutMillis() < currentTimeMillis) continue;
+
+                this.nextTimeOutMillis = Math.min(this.nextTimeOutMillis, groupInfo.getTimeOutMillis());
+            }
+
+            GroupNode groupNode = this.resolve(permissionManagement, permissionManagement.getGroup(groupInfo.getGroup()), Iterables.newArrayList());
+
+            if (groupNode != null) this.groupNodes.add(groupNode);
+        }
+
+        GroupNode defaultGroupNode = this.resolve(permissionManagement, permissionManagement.getDefaultPermissionGroup(), Iterables.newArrayList());
+
+        if (defaultGroupNode != null) this.groupNodes.add(defaultGroupNode);
+    }
+
+    /**
+     * Returns true, if this view has been built for the given instance of the permission user and no time out has passed since.
+     *
+     * @param permissionUser the current permission user instance
+     * @return true if the view can be used for the given user
+     */
+    boolean isValid(IPermissionUser permissionUser)
+    {
+        return this.permissionUser == permissionUser && System.currentTimeMillis() < this.nextTimeOutMillis;
+    }
+
+    boolean hasPermission(String permission)
+    {
+        Boolean result = this.results.get(permission);
+
+        if (result == null)
+        {
+            result = this.resolvePermission(new Permission(permission, 0));
+
+            if (this.results.size() >= MAX_CACHED_RESULTS) this.results.clear();
+
+            this.results.put(permission, result);
+        }
+
+        return result;
+    }
+
+    /*= ------------------------------------------------------------------------------------ =*/
+
+    private boolean resolvePermission(Permission permission)
+    {
+        for (String group : this.groups)
+            if (this.resolvePermission(group, permission))
+                return true;
+
+        return this.resolvePermission(null, permission);
+    }
+
+    private boolean resolvePermission(String group, Permission permission)
+    {
+        switch (group == null ? this.permissionUser.hasPermission(permission) : this.permissionUser.hasPermission(group, permission))
+        {
+            case ALLOWED:
+                return true;
+            case FORBIDDEN:
+                return false;
+            default:
+                for (GroupNode groupNode : this.groupNodes)
+                    if (groupNode.hasPermission(group, permission))
+                        return true;
+                break;
+        }
+
+        return false;
+    }
+
+    private GroupNode resolve(IPermissionManagement permissionManagement, IPermissionGroup permissionGroup, List<String> parents)
+    {
+        if (permissionGroup == null || parents.contains(permissionGroup.getName())) return null;
+
+        permissionManagement.testPermissionGroup(permissionGroup);
+        this.trackTimeOuts(permissionGroup);
+
+        GroupNode groupNode = new GroupNode(permissionGroup);
+
+        if (permissionGroup.getGroups() != null)
+        {
+            parents.add(permissionGroup.getName());
+
+            for (String group : permissionGroup.getGroups())
+            {
+                GroupNode extended = group != null ? this.resolve(permissionManagement, permissionManagement.getGroup(group), parents) : null;
+
+                if (extended != null) groupNode.extendedGroups.add(extended);
+            }
+
+            parents.remove(parents.size() - 1);
+        }
+
+        return groupNode;
+    }
+
+    private void trackTimeOuts(IPermissible permissible)
+    {
+        for (Permission permission : permissible.getPermissions())
+            this.trackTimeOut(permission);
+
+        for (Collection<Permission> permissions : permissible.getGroupPermissions().values())
+            for (Permission permission : permissions)
+                this.trackTimeOut(permission);
+    }
+
+    private void trackTimeOut(Permission permission)
+    {
+        if (permission.getTimeOutMillis() > System.currentTimeMillis())
+            this.nextTimeOutMillis = Math.min(this.nextTimeOutMillis, permission.getTimeOutMillis());
+    }
+
+    private static final class GroupNode {
+
+        private final IPermissionGroup permissionGroup;
+
+        private final List<GroupNode> extendedGroups = Iterables.newArrayList();
+
+        private GroupNode(IPermissionGroup permissionGroup)
+        {
+            this.permissionGroup = permissionGroup;
+        }
+
+        private boolean hasPermission(String group, Permission permission)
+        {
+            switch (group == null ? this.permissionGroup.hasPermission(permission) : this.permissionGroup.hasPermission(group, permission))
+            {
+                case ALLOWED:
+                    return true;
+                case FORBIDDEN:
+                    return false;
+                default:
+                    for (GroupNode groupNode : this.extendedGroups)
+                        if (groupNode.hasPermission(group, permission))
+                            return true;
+                    break;
+            }
+
+            return false;
+        }
+    }
+}
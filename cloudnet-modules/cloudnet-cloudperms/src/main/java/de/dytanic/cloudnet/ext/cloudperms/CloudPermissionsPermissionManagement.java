@@ -6,6 +6,7 @@ import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.permission.*;
 import de.dytanic.cloudnet.ext.cloudperms.listener.PermissionsUpdateListener;
 import de.dytanic.cloudnet.wrapper.Wrapper;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
@@ -15,6 +16,7 @@ import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Getter
 public final class CloudPermissionsPermissionManagement implements IPermissionManagement {
@@ -26,13 +28,33 @@ public final class CloudPermissionsPermissionManagement implements IPermissionMa
 
     private final Map<UUID, IPermissionUser> cachedPermissionUsers = Maps.newConcurrentHashMap();
 
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, CloudPermissionsEffectivePermissions> effectivePermissions = Maps.newConcurrentHashMap();
+
+    /**
+     * Counts the invalidations of the effective permissions. A view, which was built while an invalidation happened, is
+     * used for the current check, but not cached, because it can contain the old state of the user or a group.
+     */
+    @Getter(AccessLevel.NONE)
+    private long effectivePermissionsGeneration;
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String[]> serviceGroupsSupplier;
+
     public CloudPermissionsPermissionManagement()
     {
+        this(() -> Wrapper.getInstance().getServiceConfiguration().getGroups());
+
         instance = this;
 
         init();
     }
 
+    CloudPermissionsPermissionManagement(Supplier<String[]> serviceGroupsSupplier)
+    {
+        this.serviceGroupsSupplier = serviceGroupsSupplier;
+    }
+
     private void init()
     {
         for (IPermissionGroup permissionGroup : getDriver().getGroups())
@@ -43,13 +65,66 @@ public final class CloudPermissionsPermissionManagement implements IPermissionMa
 
     public boolean hasPlayerPermission(IPermissionUser permissionUser, String perm)
     {
-        Permission permission = new Permission(perm, 0);
+        if (permissionUser == null || perm == null) return false;
+
+        CloudPermissionsEffectivePermissions permissions = effectivePermissions.get(permissionUser.getUniqueId());
+
+        if (permissions == null || !permissions.isValid(permissionUser))
+        {
+            long generation;
+
+            synchronized (this.effectivePermissions)
+            {
+                generation = this.effectivePermissionsGeneration;
+            }
+
+            permissions = new CloudPermissionsEffectivePermissions(this, permissionUser, this.serviceGroupsSupplier.get());
+
+            synchronized (this.effectivePermissions)
+            {
+                if (generation == this.effectivePermissionsGeneration && cachedPermissionUsers.containsKey(permissionUser.getUniqueId()))
+                    effectivePermissions.put(permissionUser.getUniqueId(), permissions);
+            }
+        }
 
-        for (String group : Wrapper.getInstance().getServiceConfiguration().getGroups())
-            if (hasPermission(permissionUser, group, permission))
-                return true;
+        return permissions.hasPermission(perm);
+    }
+
+    public void addCachedPermissionUser(IPermissionUser permissionUser)
+    {
+        Validate.checkNotNull(permissionUser);
 
-        return hasPermission(permissionUser, permission);
+        cachedPermissionUsers.put(permissionUser.getUniqueId(), permissionUser);
+        Wrapper.getInstance().subscribePermissionUser(permissionUser.getUniqueId());
+    }
+
+    public void removeCachedPermissionUser(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        cachedPermissionUsers.remove(uniqueId);
+        invalidateEffectivePermissions(uniqueId);
+        Wrapper.getInstance().unsubscribePermissionUser(uniqueId);
+    }
+
+    public void invalidateEffectivePermissions(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        synchronized (this.effectivePermissions)
+        {
+            this.effectivePermissionsGeneration++;
+            effectivePermissions.remove(uniqueId);
+        }
+    }
+
+    public void invalidateEffectivePermissions()
+    {
+        synchronized (this.effectivePermissions)
+        {
+            this.effectivePermissionsGeneration++;
+            effectivePermissions.clear();
+        }
     }
 
     /*= ---------------------------------------------------------------------------------- =*/
@@ -86,6 +161,7 @@ public final class CloudPermissionsPermissionManagement implements IPermissionMa
     public void updateUser(IPermissionUser permissionUser)
     {
         Validate.checkNotNull(permissionUser);
+        permissionUser.invalidatePermissionCache();
 
         getDriver().updateUser(permissionUser);
     }
@@ -174,6 +250,7 @@ public final class CloudPermissionsPermissionManagement implements IPermissionMa
     public void updateGroup(IPermissionGroup permissionGroup)
     {
         Validate.checkNotNull(permissionGroup);
+        permissionGroup.invalidatePermissionCache();
 
         getDriver().updateGroup(permissionGroup);
     }
@@ -234,6 +311,7 @@ public final class CloudPermissionsPermissionManagement implements IPermissionMa
         for (IPermissionGroup group : permissionGroups)
             cachedPermissionGroups.put(group.getName(), group);
 
+        invalidateEffectivePermissions();
         return true;
     }
 
@@ -32,7 +32,7 @@ public final class BukkitCloudNetCloudPermissionsPlayerListener implements Liste
 
         if (permissionUser != null)
         {
-            CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+            CloudPermissionsPermissionManagement.getInstance().addCachedPermissionUser(permissionUser);
 
             if (Bukkit.getOnlineMode())
             {
@@ -47,6 +47,6 @@ public final class BukkitCloudNetCloudPermissionsPlayerListener implements Liste
     @EventHandler
     public void handle(PlayerQuitEvent event)
     {
-        CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(event.getPlayer().getUniqueId());
+        CloudPermissionsPermissionManagement.getInstance().removeCachedPermissionUser(event.getPlayer().getUniqueId());
     }
 }
\ No newline at end of file
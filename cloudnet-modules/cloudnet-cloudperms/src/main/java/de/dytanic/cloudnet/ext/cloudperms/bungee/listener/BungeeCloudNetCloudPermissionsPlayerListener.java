@@ -38,7 +38,7 @@ public final class BungeeCloudNetCloudPermissionsPlayerListener implements Liste
 
             if (permissionUser != null)
             {
-                CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+                CloudPermissionsPermissionManagement.getInstance().addCachedPermissionUser(permissionUser);
 
                 permissionUser.setName(event.getConnection().getName());
                 CloudPermissionsPermissionManagement.getInstance().updateUser(permissionUser);
@@ -66,7 +66,7 @@ public final class BungeeCloudNetCloudPermissionsPlayerListener implements Liste
         UUID uniqueId = getUniqueId(event.getPlayer().getClass(), event.getPlayer());
 
         if (uniqueId != null)
-            CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(uniqueId);
+            CloudPermissionsPermissionManagement.getInstance().removeCachedPermissionUser(uniqueId);
     }
 
     /*= --------------------------------------------------------- =*/
@@ -30,7 +30,7 @@ public final class GoMintCloudNetCloudPermissionsPlayerListener implements Event
 
         if (permissionUser != null)
         {
-            CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+            CloudPermissionsPermissionManagement.getInstance().addCachedPermissionUser(permissionUser);
             permissionUser.setName(event.getPlayer().getName());
             CloudPermissionsPermissionManagement.getInstance().updateUser(permissionUser);
         }
@@ -41,6 +41,6 @@ public final class GoMintCloudNetCloudPermissionsPlayerListener implements Event
     @EventHandler
     public void handle(PlayerQuitEvent event)
     {
-        CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(event.getPlayer().getUUID());
+        CloudPermissionsPermissionManagement.getInstance().removeCachedPermissionUser(event.getPlayer().getUUID());
     }
 }
\ No newline at end of file
@@ -20,12 +20,15 @@ public final class PermissionsUpdateListener {
     {
         if (CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().containsKey(event.getPermissionUser().getUniqueId()))
             CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(event.getPermissionUser().getUniqueId(), event.getPermissionUser());
+
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions(event.getPermissionUser().getUniqueId());
     }
 
     @EventListener
     public void handle(PermissionDeleteUserEvent event)
     {
         CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(event.getPermissionUser().getUniqueId());
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions(event.getPermissionUser().getUniqueId());
     }
 
     /*
@@ -40,18 +43,21 @@ public final class PermissionsUpdateListener {
     public void handle(PermissionAddGroupEvent event)
     {
         CloudPermissionsPermissionManagement.getInstance().getCachedPermissionGroups().put(event.getPermissionGroup().getName(), event.getPermissionGroup());
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions();
     }
 
     @EventListener
     public void handle(PermissionUpdateGroupEvent event)
     {
         CloudPermissionsPermissionManagement.getInstance().getCachedPermissionGroups().put(event.getPermissionGroup().getName(), event.getPermissionGroup());
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions();
     }
 
     @EventListener
     public void handle(PermissionDeleteGroupEvent event)
     {
         CloudPermissionsPermissionManagement.getInstance().getCachedPermissionGroups().remove(event.getPermissionGroup().getName());
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions();
     }
 
     @EventListener
@@ -61,5 +67,7 @@ public final class PermissionsUpdateListener {
 
         for (IPermissionGroup permissionGroup : event.getGroups())
             CloudPermissionsPermissionManagement.getInstance().getCachedPermissionGroups().put(permissionGroup.getName(), permissionGroup);
+
+        CloudPermissionsPermissionManagement.getInstance().invalidateEffectivePermissions();
     }
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ public final class NukkitCloudNetCloudPermissionsPlayerListener implements Liste
 
         if (permissionUser != null)
         {
-            CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+            CloudPermissionsPermissionManagement.getInstance().addCachedPermissionUser(permissionUser);
 
             if (Server.getInstance().getPropertyBoolean("xbox-auth", true))
             {
@@ -46,6 +46,6 @@ public final class NukkitCloudNetCloudPermissionsPlayerListener implements Liste
     @EventHandler
     public void handle(PlayerQuitEvent event)
     {
-        CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(event.getPlayer().getUniqueId());
+        CloudPermissionsPermissionManagement.getInstance().removeCachedPermissionUser(event.getPlayer().getUniqueId());
     }
 }
\ No newline at end of file
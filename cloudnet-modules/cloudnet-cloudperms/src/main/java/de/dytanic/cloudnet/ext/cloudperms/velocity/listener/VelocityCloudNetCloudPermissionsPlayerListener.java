@@ -31,7 +31,7 @@ public final class VelocityCloudNetCloudPermissionsPlayerListener {
 
         if (permissionUser != null)
         {
-            CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+            CloudPermissionsPermissionManagement.getInstance().addCachedPermissionUser(permissionUser);
             permissionUser.setName(event.getPlayer().getUsername());
             CloudPermissionsPermissionManagement.getInstance().updateUser(permissionUser);
         }
@@ -46,6 +46,6 @@ public final class VelocityCloudNetCloudPermissionsPlayerListener {
     @Subscribe
     public void handle(DisconnectEvent event)
     {
-        CloudPermissionsPermissionManagement.getInstance().getCachedPermissionUsers().remove(event.getPlayer().getUniqueId());
+        CloudPermissionsPermissionManagement.getInstance().removeCachedPermissionUser(event.getPlayer().getUniqueId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package de.dytanic.cloudnet.ext.cloudperms;
+
+import de.dytanic.cloudnet.driver.permission.PermissionGroup;
+import de.dytanic.cloudnet.driver.permission.PermissionUser;
+import de.dytanic.cloudnet.driver.permission.PermissionUserGroupInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class CloudPermissionsPermissionManagementTest {
+
+    @Test
+    public void testCachedEffectivePermissions()
+    {
+        CloudPermissionsPermissionManagement permissionManagement = createPermissionManagement();
+        CountingPermissionUser permissionUser = new CountingPermissionUser(null);
+
+        permissionManagement.getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertFalse(permissionManagement.hasPlayerPermission(permissionUser, "lobby.build"));
+        Assert.assertEquals(1, permissionUser.builds);
+
+        permissionManagement.invalidateEffectivePermissions(permissionUser.getUniqueId());
+
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertEquals(2, permissionUser.builds);
+    }
+
+    @Test
+    public void testUncachedUser()
+    {
+        CloudPermissionsPermissionManagement permissionManagement = createPermissionManagement();
+        CountingPermissionUser permissionUser = new CountingPermissionUser(null);
+
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertEquals(2, permissionUser.builds);
+    }
+
+    @Test
+    public void testGroupInvalidation()
+    {
+        CloudPermissionsPermissionManagement permissionManagement = createPermissionManagement();
+        CountingPermissionUser permissionUser = new CountingPermissionUser(null);
+
+        permissionManagement.getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+
+        Assert.assertFalse(permissionManagement.hasPlayerPermission(permissionUser, "lobby.build"));
+
+        permissionManagement.getGroup("default").addPermission("lobby.build");
+
+        Assert.assertFalse(permissionManagement.hasPlayerPermission(permissionUser, "lobby.build"));
+
+        permissionManagement.invalidateEffectivePermissions();
+
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.build"));
+    }
+
+    @Test
+    public void testInvalidationWhileBuilding()
+    {
+        CloudPermissionsPermissionManagement permissionManagement = createPermissionManagement();
+        CountingPermissionUser permissionUser = new CountingPermissionUser(permissionManagement);
+
+        permissionManagement.getCachedPermissionUsers().put(permissionUser.getUniqueId(), permissionUser);
+
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+        Assert.assertTrue(permissionManagement.hasPlayerPermission(permissionUser, "lobby.join"));
+
+        Assert.assertEquals(2, permissionUser.builds);
+    }
+
+    private static CloudPermissionsPermissionManagement createPermissionManagement()
+    {
+        CloudPermissionsPermissionManagement permissionManagement = new CloudPermissionsPermissionManagement(() -> new String[]{"Lobby"});
+
+        PermissionGroup defaultGroup = new PermissionGroup("default", 0);
+        defaultGroup.setDefaultGroup(true);
+        defaultGroup.addPermission("lobby.join");
+
+        permissionManagement.getCachedPermissionGroups().put(defaultGroup.getName(), defaultGroup);
+
+        return permissionManagement;
+    }
+
+    /**
+     * Counts the builds of its effective permissions. The first build invalidates the effective permissions, if a
+     * permission management is given, as an update of the user would do, which is received while the view is built.
+     */
+    private static final class CountingPermissionUser extends PermissionUser {
+
+        private final transient CloudPermissionsPermissionManagement invalidatingPermissionManagement;
+
+        private int builds;
+
+        private CountingPermissionUser(CloudPermissionsPermissionManagement invalidatingPermissionManagement)
+        {
+            super(UUID.randomUUID(), "Tester", null, 0);
+
+            this.invalidatingPermissionManagement = invalidatingPermissionManagement;
+        }
+
+        @Override
+        public Collection<PermissionUserGroupInfo> getGroups()
+        {
+            if (++this.builds == 1 && this.invalidatingPermissionManagement != null)
+                this.invalidatingPermissionManagement.invalidateEffectivePermissions(this.getUniqueId());
+
+            return super.getGroups();
+        }
+    }
+}
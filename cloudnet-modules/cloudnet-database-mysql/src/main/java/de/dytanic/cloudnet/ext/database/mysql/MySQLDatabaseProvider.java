@@ -8,6 +8,9 @@ import de.dytanic.cloudnet.common.collection.Pair;
 import de.dytanic.cloudnet.common.concurrent.IThrowableCallback;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.database.AbstractDatabaseProvider;
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.database.IDatabase;
 import de.dytanic.cloudnet.ext.database.mysql.util.MySQLConnectionEndpoint;
 import lombok.Getter;
@@ -28,6 +31,15 @@ public final class MySQLDatabaseProvider extends AbstractDatabaseProvider {
 
     private static final long NEW_CREATION_DELAY = 600000;
 
+    private static final Histogram UPDATE_TIME = MetricsRegistry.getDefault()
+        .timer("cloudnet_database_operation_seconds", "The execution time of the database statements", "provider", "mysql", "operation", "update");
+
+    private static final Histogram QUERY_TIME = MetricsRegistry.getDefault()
+        .timer("cloudnet_database_operation_seconds", "The execution time of the database statements", "provider", "mysql", "operation", "query");
+
+    private static final Counter FAILURES = MetricsRegistry.getDefault()
+        .counter("cloudnet_database_operation_failures_total", "The count of failed database statements", "provider", "mysql");
+
     /*= ---------------------------------------------------------------------- =*/
 
     protected final NetorHashMap<String, Long, MySQLDatabase> cachedDatabaseInstances = new NetorHashMap<>();
@@ -144,6 +156,8 @@ public final class MySQLDatabaseProvider extends AbstractDatabaseProvider {
         Validate.checkNotNull(query);
         Validate.checkNotNull(objects);
 
+        long startNanos = System.nanoTime();
+
         try (
             Connection connection = getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query))
@@ -156,7 +170,11 @@ public final class MySQLDatabaseProvider extends AbstractDatabaseProvider {
 
         } catch (SQLException e)
         {
+            FAILURES.increment();
             e.printStackTrace();
+        } finally
+        {
+            UPDATE_TIME.recordSince(startNanos);
         }
 
         return -1;
@@ -168,6 +186,8 @@ public final class MySQLDatabaseProvider extends AbstractDatabaseProvider {
         Validate.checkNotNull(callback);
         Validate.checkNotNull(objects);
 
+        long startNanos = System.nanoTime();
+
         try (Connection connection = getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query))
         {
@@ -182,7 +202,11 @@ public final class MySQLDatabaseProvider extends AbstractDatabaseProvider {
 
         } catch (Throwable e)
         {
+            FAILURES.increment();
             e.printStackTrace();
+        } finally
+        {
+            QUERY_TIME.recordSince(startNanos);
         }
 
         return null;
@@ -1,13 +1,21 @@
 package de.dytanic.cloudnet.ext.rest;
 
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.module.ModuleLifeCycle;
 import de.dytanic.cloudnet.driver.module.ModuleTask;
+import de.dytanic.cloudnet.driver.network.http.HttpExecutionPolicy;
 import de.dytanic.cloudnet.driver.network.http.IHttpHandler;
+import de.dytanic.cloudnet.ext.rest.cache.V1HttpResponseCache;
 import de.dytanic.cloudnet.ext.rest.http.*;
+import de.dytanic.cloudnet.ext.rest.stream.V1WebSocketStreamManager;
 import de.dytanic.cloudnet.module.NodeCloudNetModule;
 
 public final class CloudNetRestModule extends NodeCloudNetModule {
 
+    private final V1HttpResponseCache responseCache = new V1HttpResponseCache();
+
+    private final V1WebSocketStreamManager webSocketStreamManager = new V1WebSocketStreamManager();
+
     @ModuleTask(order = 127, event = ModuleLifeCycle.STARTED)
     public void initHttpHandlers()
     {
@@ -19,23 +27,54 @@ public final class CloudNetRestModule extends NodeCloudNetModule {
             .registerHandler("/api/v1/logout", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerLogout())
             .registerHandler("/api/v1/ping", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerPing("cloudnet.http.v1.ping"))
             .registerHandler("/api/v1/status", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerStatus("cloudnet.http.v1.status"))
-            .registerHandler("/api/v1/command", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerCommand("cloudnet.http.v1.command"))
+            .registerHandler("/api/v1/command", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerCommand("cloudnet.http.v1.command"))
             .registerHandler("/api/v1/modules", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerModules("cloudnet.http.v1.modules"))
-            .registerHandler("/api/v1/cluster", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerCluster("cloudnet.http.v1.cluster"))
-            .registerHandler("/api/v1/cluster/{node}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerCluster("cloudnet.http.v1.cluster"))
-            .registerHandler("/api/v1/services", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerServices("cloudnet.http.v1.services"))
-            .registerHandler("/api/v1/services/{uuid}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerServices("cloudnet.http.v1.services"))
-            .registerHandler("/api/v1/services/{uuid}/{operation}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerServices("cloudnet.http.v1.services.operation"))
-            .registerHandler("/api/v1/tasks", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerTasks("cloudnet.http.v1.tasks"))
-            .registerHandler("/api/v1/tasks/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerTasks("cloudnet.http.v1.tasks"))
-            .registerHandler("/api/v1/groups", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerGroups("cloudnet.http.v1.groups"))
-            .registerHandler("/api/v1/groups/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerGroups("cloudnet.http.v1.groups"))
-            .registerHandler("/api/v1/db/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerDatabase("cloudnet.http.v1.database"))
-            .registerHandler("/api/v1/db/{name}/{key}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerDatabase("cloudnet.http.v1.database"))
-            .registerHandler("/api/v1/local_templates", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerLocalTemplate("cloudnet.http.v1.lt.list"))
-            .registerHandler("/api/v1/local_templates/{prefix}/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerLocalTemplate("cloudnet.http.v1.lt.template"))
-            .registerHandler("/api/v1/local_templates/{prefix}/{name}/files", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerLocalTemplateFileSystem("cloudnet.http.v1.lt.files"))
-            .registerHandler("/api/v1/local_templates/{prefix}/{name}/files/*", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerLocalTemplateFileSystem("cloudnet.http.v1.lt.files"))
+            .registerHandler("/api/v1/cluster", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerCluster("cloudnet.http.v1.cluster", this.responseCache))
+            .registerHandler("/api/v1/cluster/{node}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerCluster("cloudnet.http.v1.cluster", this.responseCache))
+            .registerHandler("/api/v1/services", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerServices("cloudnet.http.v1.services", this.responseCache))
+            .registerHandler("/api/v1/services/{uuid}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerServices("cloudnet.http.v1.services", this.responseCache))
+            .registerHandler("/api/v1/services/{uuid}/{operation}", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerServices("cloudnet.http.v1.services.operation", this.responseCache))
+            .registerHandler("/api/v1/tasks", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerTasks("cloudnet.http.v1.tasks", this.responseCache))
+            .registerHandler("/api/v1/tasks/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerTasks("cloudnet.http.v1.tasks", this.responseCache))
+            .registerHandler("/api/v1/groups", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerGroups("cloudnet.http.v1.groups", this.responseCache))
+            .registerHandler("/api/v1/groups/{name}", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerGroups("cloudnet.http.v1.groups", this.responseCache))
+            .registerHandler("/api/v1/db/{name}", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerDatabase("cloudnet.http.v1.database"))
+            .registerHandler("/api/v1/db/{name}/{key}", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerDatabase("cloudnet.http.v1.database"))
+            .registerHandler("/api/v1/metrics", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerMetrics("cloudnet.http.v1.metrics"))
+            .registerHandler("/api/v1/websocket", IHttpHandler.PRIORITY_NORMAL, new V1HttpHandlerWebSocket("cloudnet.http.v1.websocket", this.webSocketStreamManager))
+            .registerHandler("/api/v1/local_templates", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerLocalTemplate("cloudnet.http.v1.lt.list"))
+            .registerHandler("/api/v1/local_templates/{prefix}/{name}", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerLocalTemplate("cloudnet.http.v1.lt.template"))
+            .registerHandler("/api/v1/local_templates/{prefix}/{name}/files", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerLocalTemplateFileSystem("cloudnet.http.v1.lt.files"))
+            .registerHandler("/api/v1/local_templates/{prefix}/{name}/files/*", null, IHttpHandler.PRIORITY_NORMAL, HttpExecutionPolicy.OFFLOADED, new V1HttpHandlerLocalTemplateFileSystem("cloudnet.http.v1.lt.files"))
         ;
+
+        registerListeners(this.responseCache, this.webSocketStreamManager);
+    }
+
+    @ModuleTask(order = 126, event = ModuleLifeCycle.STARTED)
+    public void registerMetrics()
+    {
+        MetricsRegistry metricsRegistry = MetricsRegistry.getDefault();
+
+        metricsRegistry.gauge("cloudnet_node_services", "The count of services, which are running on this node",
+            () -> getCloudNet().getCloudServiceManager().getCloudServices().size());
+        metricsRegistry.gauge("cloudnet_node_heap_used_bytes", "The used heap memory of this node",
+            () -> Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+        metricsRegistry.gauge("cloudnet_node_heap_max_bytes", "The max heap memory of this node",
+            () -> Runtime.getRuntime().maxMemory());
+    }
+
+    @ModuleTask(order = 127, event = ModuleLifeCycle.STOPPED)
+    public void closeWebSocketStreams()
+    {
+        this.webSocketStreamManager.close();
+    }
+
+    @ModuleTask(order = 126, event = ModuleLifeCycle.STOPPED)
+    public void unregisterMetrics()
+    {
+        MetricsRegistry.getDefault().unregister("cloudnet_node_services");
+        MetricsRegistry.getDefault().unregister("cloudnet_node_heap_used_bytes");
+        MetricsRegistry.getDefault().unregister("cloudnet_node_heap_max_bytes");
     }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package de.dytanic.cloudnet.ext.rest.cache;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.event.EventListener;
+import de.dytanic.cloudnet.driver.event.events.network.NetworkChannelCloseEvent;
+import de.dytanic.cloudnet.driver.event.events.network.NetworkClusterNodeInfoUpdateEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceEvent;
+import de.dytanic.cloudnet.driver.network.http.HttpResponseCode;
+import de.dytanic.cloudnet.driver.network.http.IHttpContext;
+import de.dytanic.cloudnet.event.cluster.NetworkChannelAuthClusterNodeSuccessEvent;
+import de.dytanic.cloudnet.event.network.NetworkChannelReceiveGroupConfigurationsUpdateEvent;
+import de.dytanic.cloudnet.event.network.NetworkChannelReceiveServiceTasksUpdateEvent;
+import de.dytanic.cloudnet.event.service.task.ServiceTaskAddEvent;
+import de.dytanic.cloudnet.event.service.task.ServiceTaskRemoveEvent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Caches the serialized responses of the REST read endpoints. Every resource has a generation, which is incremented
+ * by the node events, which change the resource. A response carries the generation in its ETag, so a conditional
+ * request with the current ETag is answered with 304 Not Modified without serializing the resource again.
+ * <p>
+ * Not every change of a resource fires an event, so a cached response is validated again after the max age. If the
+ * serialized response has changed, the generation of the resource is incremented.
+ */
+public final class V1HttpResponseCache {
+
+    private static final long MAX_AGE_MILLIS = Long.getLong("cloudnet.rest.cache.max.age", 5000);
+
+    private static final int MAX_CACHED_RESPONSES = Integer.getInteger("cloudnet.rest.cache.max.size", 1024);
+
+    private final String instanceId = Integer.toHexString(new Random().nextInt());
+
+    private final AtomicLongArray generations = new AtomicLongArray(Resource.values().length);
+
+    private final Map<String, CachedResponse> cachedResponses = Maps.newConcurrentHashMap();
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Sends the cached response of the request uri, if it is still valid, or creates and caches a new one
+     *
+     * @param context  the context of the request
+     * @param resource the resource, which is returned by the request
+     * @param body     the function, which serializes the resource
+     */
+    public void respond(IHttpContext context, Resource resource, Supplier<byte[]> body)
+    {
+        Validate.checkNotNull(context);
+        Validate.checkNotNull(resource);
+        Validate.checkNotNull(body);
+
+        String key = resource + ":" + context.request().uri();
+        long now = System.currentTimeMillis(), generation = this.generations.get(resource.ordinal());
+
+        CachedResponse cachedResponse = this.cachedResponses.get(key);
+
+        if (cachedResponse == null || cachedResponse.generation != generation || cachedResponse.validatedMillis + MAX_AGE_MILLIS < now)
+        {
+            byte[] bytes = body.get();
+
+            if (cachedResponse != null && cachedResponse.generation == generation && !Arrays.equals(cachedResponse.body, bytes))
+                generation = this.invalidate0(resource, generation);
+
+            cachedResponse = new CachedResponse(generation, this.createETag(resource, generation), bytes, now);
+
+            if (this.cachedResponses.size() >= MAX_CACHED_RESPONSES) this.cachedResponses.clear();
+            this.cachedResponses.put(key, cachedResponse);
+        }
+
+        String ifNoneMatch = context.request().header("If-None-Match");
+
+        if (ifNoneMatch != null && (ifNoneMatch.contains(cachedResponse.etag) || ifNoneMatch.trim().equals("*")))
+            context
+                .response()
+                .statusCode(HttpResponseCode.HTTP_NOT_MODIFIED)
+                .header("ETag", cachedResponse.etag);
+        else
+            context
+                .response()
+                .statusCode(HttpResponseCode.HTTP_OK)
+                .header("Content-Type", "application/json")
+                .header("ETag", cachedResponse.etag)
+                .body(cachedResponse.body);
+
+        context
+            .response()
+            .header("Cache-Control", "no-cache")
+            .context()
+            .closeAfter(true)
+            .cancelNext();
+    }
+
+    public void invalidate(Resource resource)
+    {
+        Validate.checkNotNull(resource);
+
+        this.generations.incrementAndGet(resource.ordinal());
+    }
+
+    public long getGeneration(Resource resource)
+    {
+        Validate.checkNotNull(resource);
+
+        return this.generations.get(resource.ordinal());
+    }
+
+    private long invalidate0(Resource resource, long generation)
+    {
+        this.generations.compareAndSet(resource.ordinal(), generation, generation + 1);
+
+        return this.generations.get(resource.ordinal());
+    }
+
+    private String createETag(Resource resource, long generation)
+    {
+        return "\"" + this.instanceId + "-" + resource.ordinal() + "-" + generation + "\"";
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    @EventListener
+    public void handle(CloudServiceEvent event)
+    {
+        this.invalidate(Resource.SERVICES);
+    }
+
+    @EventListener
+    public void handle(ServiceTaskAddEvent event)
+    {
+        this.invalidate(Resource.TASKS);
+    }
+
+    @EventListener
+    public void handle(ServiceTaskRemoveEvent event)
+    {
+        this.invalidate(Resource.TASKS);
+    }
+
+    @EventListener
+    public void handle(NetworkChannelReceiveServiceTasksUpdateEvent event)
+    {
+        this.invalidate(Resource.TASKS);
+    }
+
+    @EventListener
+    public void handle(NetworkChannelReceiveGroupConfigurationsUpdateEvent event)
+    {
+        this.invalidate(Resource.GROUPS);
+    }
+
+    @EventListener
+    public void handle(NetworkClusterNodeInfoUpdateEvent event)
+    {
+        this.invalidate(Resource.CLUSTER);
+    }
+
+    @EventListener
+    public void handle(NetworkChannelAuthClusterNodeSuccessEvent event)
+    {
+        this.invalidate(Resource.CLUSTER);
+    }
+
+    @EventListener
+    public void handle(NetworkChannelCloseEvent event)
+    {
+        this.invalidate(Resource.CLUSTER);
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public enum Resource {
+        SERVICES,
+        TASKS,
+        GROUPS,
+        CLUSTER
+    }
+
+    private static final class CachedResponse {
+
+        private final long generation;
+
+        private final String etag;
+
+        private final byte[] body;
+
+        private final long validatedMillis;
+
+        private CachedResponse(long generation, String etag, byte[] body, long validatedMillis)
+        {
+            this.generation = generation;
+            this.etag = etag;
+            this.body = body;
+            this.validatedMillis = validatedMillis;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.http.HttpResponseCode;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.service.GroupConfiguration;
+import de.dytanic.cloudnet.ext.rest.cache.V1HttpResponseCache;
 import de.dytanic.cloudnet.http.V1HttpHandler;
 
 import java.lang.reflect.Type;
@@ -18,9 +19,13 @@ public final class V1HttpHandlerGroups extends V1HttpHandler {
     private static final Type TYPE = new TypeToken<GroupConfiguration>() {
     }.getType();
 
-    public V1HttpHandlerGroups(String permission)
+    private final V1HttpResponseCache responseCache;
+
+    public V1HttpHandlerGroups(String permission, V1HttpResponseCache responseCache)
     {
         super(permission);
+
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -34,42 +39,26 @@ public final class V1HttpHandlerGroups extends V1HttpHandler {
     {
         if (context.request().pathParameters().containsKey("name"))
         {
-            context
-                .response()
-                .statusCode(HttpResponseCode.HTTP_OK)
-                .header("Content-Type", "application/json")
-                .body(new JsonDocument("group", GSON.toJson(Iterables.first(CloudNetDriver.getInstance().getGroupConfigurations(), new Predicate<GroupConfiguration>() {
-                    @Override
-                    public boolean test(GroupConfiguration groupConfiguration)
-                    {
-                        return groupConfiguration.getName().toLowerCase().contains(context.request().pathParameters().get("name"));
-                    }
-                }))).toByteArray())
-                .context()
-                .closeAfter(true)
-                .cancelNext()
-            ;
+            this.responseCache.respond(context, V1HttpResponseCache.Resource.GROUPS, () -> new JsonDocument("group", GSON.toJson(Iterables.first(CloudNetDriver.getInstance().getGroupConfigurations(), new Predicate<GroupConfiguration>() {
+                @Override
+                public boolean test(GroupConfiguration groupConfiguration)
+                {
+                    return groupConfiguration.getName().toLowerCase().contains(context.request().pathParameters().get("name"));
+                }
+            }))).toByteArray());
         } else
         {
-            context
-                .response()
-                .statusCode(HttpResponseCode.HTTP_OK)
-                .header("Content-Type", "application/json")
-                .body(GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getGroupConfigurations(), new Predicate<GroupConfiguration>() {
-                    @Override
-                    public boolean test(GroupConfiguration groupConfiguration)
-                    {
-                        if (context.request().queryParameters().containsKey("name") &&
-                            !containsStringElementInCollection(context.request().queryParameters().get("name"), groupConfiguration.getName()))
-                            return false;
-
-                        return true;
-                    }
-                })))
-                .context()
-                .closeAfter(true)
-                .cancelNext()
-            ;
+            this.responseCache.respond(context, V1HttpResponseCache.Resource.GROUPS, () -> GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getGroupConfigurations(), new Predicate<GroupConfiguration>() {
+                @Override
+                public boolean test(GroupConfiguration groupConfiguration)
+                {
+                    if (context.request().queryParameters().containsKey("name") &&
+                        !containsStringElementInCollection(context.request().queryParameters().get("name"), groupConfiguration.getName()))
+                        return false;
+
+                    return true;
+                }
+            })).getBytes(StandardCharsets.UTF_8));
         }
     }
 
@@ -99,6 +88,7 @@ public final class V1HttpHandlerGroups extends V1HttpHandler {
             HttpResponseCode.HTTP_CREATED;
 
         CloudNetDriver.getInstance().addGroupConfiguration(groupConfiguration);
+        this.responseCache.invalidate(V1HttpResponseCache.Resource.GROUPS);
         context.response().statusCode(status);
     }
 
@@ -116,6 +106,8 @@ public final class V1HttpHandlerGroups extends V1HttpHandler {
         if (CloudNetDriver.getInstance().isGroupConfigurationPresent(name))
             CloudNetDriver.getInstance().removeGroupConfiguration(name);
 
+        this.responseCache.invalidate(V1HttpResponseCache.Resource.GROUPS);
+
         context.response().statusCode(HttpResponseCode.HTTP_OK);
     }
 }
\ No newline at end of file
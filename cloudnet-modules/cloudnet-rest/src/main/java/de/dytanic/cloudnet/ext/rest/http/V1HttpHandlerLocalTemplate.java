@@ -8,6 +8,8 @@ import de.dytanic.cloudnet.http.V1HttpHandler;
 import de.dytanic.cloudnet.template.ITemplateStorage;
 import de.dytanic.cloudnet.template.LocalTemplateStorage;
 
+import java.io.InputStream;
+
 public final class V1HttpHandlerLocalTemplate extends V1HttpHandler {
 
     public V1HttpHandlerLocalTemplate(String permission)
@@ -34,7 +36,7 @@ public final class V1HttpHandlerLocalTemplate extends V1HttpHandler {
                     .statusCode(HttpResponseCode.HTTP_OK)
                     .header("Content-Type", "application/octet-stream")
                     .header("Content-Disposition", "attachment; filename=\"" + serviceTemplate.getPrefix() + "." + serviceTemplate.getName() + ".zip\"")
-                    .body(getStorage().toZipByteArray(serviceTemplate))
+                    .body(outputStream -> getStorage().toZipStream(serviceTemplate, outputStream))
                     .context()
                     .closeAfter(true)
                     .cancelNext()
@@ -68,7 +70,11 @@ public final class V1HttpHandlerLocalTemplate extends V1HttpHandler {
         if (context.request().pathParameters().containsKey("prefix") && context.request().pathParameters().containsKey("name"))
         {
             ServiceTemplate serviceTemplate = createLocalTemplate(context.request().pathParameters().get("prefix"), context.request().pathParameters().get("name"));
-            getStorage().deploy(context.request().body(), serviceTemplate);
+
+            try (InputStream inputStream = context.request().bodyStream())
+            {
+                getStorage().deploy(inputStream, serviceTemplate);
+            }
         }
     }
 
@@ -11,10 +11,9 @@ import de.dytanic.cloudnet.http.V1HttpHandler;
 import de.dytanic.cloudnet.template.LocalTemplateStorage;
 import de.dytanic.cloudnet.template.LocalTemplateStorageUtil;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.nio.file.Files;
+import java.io.InputStream;
 import java.util.Collection;
 
 public final class V1HttpHandlerLocalTemplateFileSystem extends V1HttpHandler {
@@ -79,7 +78,7 @@ public final class V1HttpHandlerLocalTemplateFileSystem extends V1HttpHandler {
                     .statusCode(HttpResponseCode.HTTP_OK)
                     .header("Content-Type", "application/octet-stream")
                     .header("Content-Disposition", "attachment; filename=\"" + file.getName() + "\"")
-                    .body(Files.readAllBytes(file.toPath()))
+                    .body(file.toPath())
                     .context()
                     .closeAfter(true)
                     .cancelNext()
@@ -108,10 +107,10 @@ public final class V1HttpHandlerLocalTemplateFileSystem extends V1HttpHandler {
                 file.getParentFile().mkdirs();
                 file.createNewFile();
 
-                try (ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(context.request().body());
+                try (InputStream inputStream = context.request().bodyStream();
                      FileOutputStream fileOutputStream = new FileOutputStream(file))
                 {
-                    FileUtils.copy(byteArrayInputStream, fileOutputStream);
+                    FileUtils.copy(inputStream, fileOutputStream);
                 }
             }
 
@@ -0,0 +1,40 @@
+package de.dytanic.cloudnet.ext.rest.http;
+
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
+import de.dytanic.cloudnet.driver.metrics.MetricsTextFormat;
+import de.dytanic.cloudnet.driver.network.http.IHttpContext;
+import de.dytanic.cloudnet.http.V1HttpHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exposes the metrics of the node in the Prometheus text format
+ */
+public final class V1HttpHandlerMetrics extends V1HttpHandler {
+
+    public V1HttpHandlerMetrics(String permission)
+    {
+        super(permission);
+    }
+
+    @Override
+    public void handleOptions(String path, IHttpContext context) throws Exception
+    {
+        this.sendOptions(context, "OPTIONS, GET");
+    }
+
+    @Override
+    public void handleGet(String path, IHttpContext context) throws Exception
+    {
+        context
+            .response()
+            .header("Content-Type", MetricsTextFormat.CONTENT_TYPE)
+            .header("Cache-Control", "no-cache")
+            .body(MetricsTextFormat.write(MetricsRegistry.getDefault().getMetrics()).getBytes(StandardCharsets.UTF_8))
+            .statusCode(200)
+            .context()
+            .closeAfter(true)
+            .cancelNext()
+        ;
+    }
+}
@@ -6,16 +6,22 @@ import de.dytanic.cloudnet.driver.network.http.HttpResponseCode;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 import de.dytanic.cloudnet.driver.service.ServiceLifeCycle;
+import de.dytanic.cloudnet.ext.rest.cache.V1HttpResponseCache;
 import de.dytanic.cloudnet.http.V1HttpHandler;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Queue;
 import java.util.function.Predicate;
 
 public final class V1HttpHandlerServices extends V1HttpHandler {
 
-    public V1HttpHandlerServices(String permission)
+    private final V1HttpResponseCache responseCache;
+
+    public V1HttpHandlerServices(String permission, V1HttpResponseCache responseCache)
     {
         super(permission);
+
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -129,12 +135,10 @@ public final class V1HttpHandlerServices extends V1HttpHandler {
                 }
             } else
             {
-                context
-                    .response()
-                    .statusCode(HttpResponseCode.HTTP_OK)
-                    .header("Content-Type", "application/json")
-                    .body(GSON.toJson(serviceInfoSnapshot))
-                ;
+                ServiceInfoSnapshot result = serviceInfoSnapshot;
+
+                this.responseCache.respond(context, V1HttpResponseCache.Resource.SERVICES, () -> GSON.toJson(result).getBytes(StandardCharsets.UTF_8));
+                return;
             }
 
             context
@@ -144,32 +148,24 @@ public final class V1HttpHandlerServices extends V1HttpHandler {
             return;
         }
 
-        context
-            .response()
-            .header("Content-Type", "application/json")
-            .body(GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getCloudServices(), new Predicate<ServiceInfoSnapshot>() {
-                @Override
-                public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-                {
-                    if (context.request().queryParameters().containsKey("name") &&
-                        !context.request().queryParameters().get("name").contains(serviceInfoSnapshot.getServiceId().getName()))
-                        return false;
+        this.responseCache.respond(context, V1HttpResponseCache.Resource.SERVICES, () -> GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getCloudServices(), new Predicate<ServiceInfoSnapshot>() {
+            @Override
+            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
+            {
+                if (context.request().queryParameters().containsKey("name") &&
+                    !context.request().queryParameters().get("name").contains(serviceInfoSnapshot.getServiceId().getName()))
+                    return false;
 
-                    if (context.request().queryParameters().containsKey("task") &&
-                        !context.request().queryParameters().get("task").contains(serviceInfoSnapshot.getServiceId().getTaskName()))
-                        return false;
+                if (context.request().queryParameters().containsKey("task") &&
+                    !context.request().queryParameters().get("task").contains(serviceInfoSnapshot.getServiceId().getTaskName()))
+                    return false;
 
-                    if (context.request().queryParameters().containsKey("node") &&
-                        !context.request().queryParameters().get("node").contains(serviceInfoSnapshot.getServiceId().getNodeUniqueId()))
-                        return false;
+                if (context.request().queryParameters().containsKey("node") &&
+                    !context.request().queryParameters().get("node").contains(serviceInfoSnapshot.getServiceId().getNodeUniqueId()))
+                    return false;
 
-                    return true;
-                }
-            })))
-            .statusCode(200)
-            .context()
-            .closeAfter(true)
-            .cancelNext()
-        ;
+                return true;
+            }
+        })).getBytes(StandardCharsets.UTF_8));
     }
 }
\ No newline at end of file
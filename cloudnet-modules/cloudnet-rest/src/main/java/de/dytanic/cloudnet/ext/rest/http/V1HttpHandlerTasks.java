@@ -7,6 +7,7 @@ import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.network.http.HttpResponseCode;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
 import de.dytanic.cloudnet.driver.service.ServiceTask;
+import de.dytanic.cloudnet.ext.rest.cache.V1HttpResponseCache;
 import de.dytanic.cloudnet.http.V1HttpHandler;
 
 import java.lang.reflect.Type;
@@ -18,9 +19,13 @@ public final class V1HttpHandlerTasks extends V1HttpHandler {
     private static final Type TYPE = new TypeToken<ServiceTask>() {
     }.getType();
 
-    public V1HttpHandlerTasks(String permission)
+    private final V1HttpResponseCache responseCache;
+
+    public V1HttpHandlerTasks(String permission, V1HttpResponseCache responseCache)
     {
         super(permission);
+
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -34,41 +39,25 @@ public final class V1HttpHandlerTasks extends V1HttpHandler {
     {
         if (context.request().pathParameters().containsKey("name"))
         {
-            context
-                .response()
-                .statusCode(HttpResponseCode.HTTP_OK)
-                .header("Content-Type", "application/json")
-                .body(new JsonDocument("task", Iterables.first(CloudNetDriver.getInstance().getPermanentServiceTasks(), new Predicate<ServiceTask>() {
-                    @Override
-                    public boolean test(ServiceTask serviceTask)
-                    {
-                        return serviceTask.getName().toLowerCase().contains(context.request().pathParameters().get("name"));
-                    }
-                })).toByteArray())
-                .context()
-                .closeAfter(true)
-                .cancelNext()
-            ;
+            this.responseCache.respond(context, V1HttpResponseCache.Resource.TASKS, () -> new JsonDocument("task", Iterables.first(CloudNetDriver.getInstance().getPermanentServiceTasks(), new Predicate<ServiceTask>() {
+                @Override
+                public boolean test(ServiceTask serviceTask)
+                {
+                    return serviceTask.getName().toLowerCase().contains(context.request().pathParameters().get("name"));
+                }
+            })).toByteArray());
         } else
-            context
-                .response()
-                .statusCode(HttpResponseCode.HTTP_OK)
-                .header("Content-Type", "application/json")
-                .body(GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getPermanentServiceTasks(), new Predicate<ServiceTask>() {
-                    @Override
-                    public boolean test(ServiceTask serviceTask)
-                    {
-                        if (context.request().queryParameters().containsKey("name") &&
-                            !containsStringElementInCollection(context.request().queryParameters().get("name"), serviceTask.getName()))
-                            return false;
-
-                        return true;
-                    }
-                })))
-                .context()
-                .closeAfter(true)
-                .cancelNext()
-                ;
+            this.responseCache.respond(context, V1HttpResponseCache.Resource.TASKS, () -> GSON.toJson(Iterables.filter(CloudNetDriver.getInstance().getPermanentServiceTasks(), new Predicate<ServiceTask>() {
+                @Override
+                public boolean test(ServiceTask serviceTask)
+                {
+                    if (context.request().queryParameters().containsKey("name") &&
+                        !containsStringElementInCollection(context.request().queryParameters().get("name"), serviceTask.getName()))
+                        return false;
+
+                    return true;
+                }
+            })).getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
@@ -103,6 +92,7 @@ public final class V1HttpHandlerTasks extends V1HttpHandler {
             HttpResponseCode.HTTP_CREATED;
 
         CloudNetDriver.getInstance().addPermanentServiceTask(serviceTask);
+        this.responseCache.invalidate(V1HttpResponseCache.Resource.TASKS);
         context
             .response()
             .statusCode(status)
@@ -125,6 +115,8 @@ public final class V1HttpHandlerTasks extends V1HttpHandler {
         if (CloudNetDriver.getInstance().isServiceTaskPresent(name))
             CloudNetDriver.getInstance().removePermanentServiceTask(name);
 
+        this.responseCache.invalidate(V1HttpResponseCache.Resource.TASKS);
+
         context
             .response()
             .statusCode(HttpResponseCode.HTTP_OK)
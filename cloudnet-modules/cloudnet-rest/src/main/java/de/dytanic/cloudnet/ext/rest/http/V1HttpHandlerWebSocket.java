@@ -0,0 +1,30 @@
+package de.dytanic.cloudnet.ext.rest.http;
+
+import de.dytanic.cloudnet.driver.network.http.IHttpContext;
+import de.dytanic.cloudnet.ext.rest.stream.V1WebSocketStreamManager;
+import de.dytanic.cloudnet.http.V1HttpHandler;
+
+public final class V1HttpHandlerWebSocket extends V1HttpHandler {
+
+    private final V1WebSocketStreamManager streamManager;
+
+    public V1HttpHandlerWebSocket(String permission, V1WebSocketStreamManager streamManager)
+    {
+        super(permission);
+
+        this.streamManager = streamManager;
+    }
+
+    @Override
+    public void handleOptions(String path, IHttpContext context) throws Exception
+    {
+        this.sendOptions(context, "OPTIONS, GET");
+    }
+
+    @Override
+    public void handleGet(String path, IHttpContext context) throws Exception
+    {
+        this.streamManager.addChannel(context.upgrade());
+        context.cancelNext();
+    }
+}
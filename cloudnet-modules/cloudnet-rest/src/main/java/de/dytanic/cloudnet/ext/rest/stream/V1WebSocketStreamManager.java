@@ -0,0 +1,338 @@
+package de.dytanic.cloudnet.ext.rest.stream;
+
+import com.google.gson.JsonObject;
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.cluster.IClusterNodeServer;
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.Value;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDelta;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.event.EventListener;
+import de.dytanic.cloudnet.driver.event.events.network.NetworkClusterNodeInfoUpdateEvent;
+import de.dytanic.cloudnet.driver.event.events.service.*;
+import de.dytanic.cloudnet.driver.network.cluster.NetworkClusterNodeInfoSnapshot;
+import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketChannel;
+import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketListener;
+import de.dytanic.cloudnet.driver.network.http.websocket.WebSocketFrameType;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.event.service.CloudServiceConsoleLogReceiveEntryEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Pushes service lifecycle changes, service info deltas, node snapshots and service console lines to the subscribed
+ * websocket clients of the REST API.
+ * <p>
+ * A client sends {"action": "subscribe", "types": ["lifecycle", "update", "node", "console"], "tasks": [], "groups": [],
+ * "services": []} to set its subscription and receives the current state of the matching services and nodes afterwards.
+ * Every snapshot is serialized only once per change, the service updates contain only the changed fields. The changes of
+ * a lifecycle event are also sent as an update, so that the subscribers of updates only keep a consistent view. The
+ * initial snapshots are never dropped, later updates of a service are merged into its pending snapshot.
+ */
+public final class V1WebSocketStreamManager {
+
+    private static final long FLUSH_INTERVAL_MILLIS = Long.getLong("cloudnet.rest.websocket.flush.interval", 50);
+
+    private static final String
+        TYPE_LIFECYCLE = "lifecycle",
+        TYPE_UPDATE = "update",
+        TYPE_NODE = "node",
+        TYPE_CONSOLE = "console";
+
+    private final Collection<V1WebSocketStreamSession> sessions = Iterables.newCopyOnWriteArrayList();
+
+    private final Map<UUID, JsonObject> serviceSnapshots = Maps.newConcurrentHashMap();
+
+    private final Supplier<Collection<ServiceInfoSnapshot>> servicesSupplier;
+
+    private final Supplier<NetworkClusterNodeInfoSnapshot> localNodeInfoSnapshotSupplier;
+
+    private volatile NetworkClusterNodeInfoSnapshot localNodeInfoSnapshot;
+
+    private Thread flushThread;
+
+    public V1WebSocketStreamManager()
+    {
+        this(() -> CloudNet.getInstance().getCloudServices(), () -> CloudNet.getInstance().getCurrentNetworkClusterNodeInfoSnapshot());
+    }
+
+    V1WebSocketStreamManager(Supplier<Collection<ServiceInfoSnapshot>> servicesSupplier, Supplier<NetworkClusterNodeInfoSnapshot> localNodeInfoSnapshotSupplier)
+    {
+        this.servicesSupplier = servicesSupplier;
+        this.localNodeInfoSnapshotSupplier = localNodeInfoSnapshotSupplier;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public void addChannel(IWebSocketChannel channel)
+    {
+        Validate.checkNotNull(channel);
+
+        V1WebSocketStreamSession session = new V1WebSocketStreamSession(channel);
+
+        channel.addListener(new IWebSocketListener() {
+            @Override
+            public void handle(IWebSocketChannel channel, WebSocketFrameType type, byte[] bytes)
+            {
+                if (type == WebSocketFrameType.TEXT)
+                    handleMessage(session, JsonDocument.newDocument(new String(bytes, StandardCharsets.UTF_8)));
+            }
+
+            @Override
+            public void handleClose(IWebSocketChannel channel, Value<Integer> statusCode, Value<String> reasonText)
+            {
+                sessions.remove(session);
+            }
+        });
+
+        this.sessions.add(session);
+        this.startFlushThread();
+    }
+
+    public synchronized void close()
+    {
+        if (this.flushThread != null)
+        {
+            this.flushThread.interrupt();
+            this.flushThread = null;
+        }
+
+        for (V1WebSocketStreamSession session : this.sessions)
+            session.getChannel().close(1001, "going away");
+
+        this.sessions.clear();
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    @EventListener
+    public void handle(CloudServiceEvent event)
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = event.getServiceInfo();
+
+        if (event instanceof CloudServiceInfoUpdateEvent)
+        {
+            this.publishServiceUpdate(serviceInfoSnapshot);
+            return;
+        }
+
+        String lifecycle = getLifecycle(event);
+
+        if (lifecycle == null) return;
+
+        JsonObject snapshot;
+
+        if (event instanceof CloudServiceUnregisterEvent)
+        {
+            snapshot = this.serialize(serviceInfoSnapshot);
+            this.serviceSnapshots.remove(serviceInfoSnapshot.getServiceId().getUniqueId());
+        } else
+            snapshot = this.publishServiceUpdate(serviceInfoSnapshot);
+
+        if (this.sessions.isEmpty()) return;
+
+        JsonObject message = new JsonObject();
+        message.addProperty("type", "service_lifecycle");
+        message.addProperty("event", lifecycle);
+        message.add("service", snapshot);
+
+        String text = message.toString(), key = serviceKey(serviceInfoSnapshot);
+
+        for (V1WebSocketStreamSession session : this.sessions)
+        {
+            if (event instanceof CloudServiceUnregisterEvent) session.removeUpdate(key);
+
+            if (session.isSubscribed(TYPE_LIFECYCLE, serviceInfoSnapshot))
+                session.enqueue(text);
+        }
+    }
+
+    @EventListener
+    public void handle(NetworkClusterNodeInfoUpdateEvent event)
+    {
+        this.publishNodeSnapshot(event.getNetworkClusterNodeInfoSnapshot());
+    }
+
+    @EventListener
+    public void handle(CloudServiceConsoleLogReceiveEntryEvent event)
+    {
+        if (this.sessions.isEmpty()) return;
+
+        String text = null;
+
+        for (V1WebSocketStreamSession session : this.sessions)
+            if (session.isSubscribed(TYPE_CONSOLE, event.getServiceInfoSnapshot()))
+            {
+                if (text == null)
+                    text = new JsonDocument("type", "console")
+                        .append("serviceId", event.getServiceInfoSnapshot().getServiceId().getUniqueId())
+                        .append("name", event.getServiceInfoSnapshot().getServiceId().getName())
+                        .append("line", event.getMessage())
+                        .append("error", event.isErrorMessage())
+                        .toJson();
+
+                session.enqueue(text);
+            }
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private void handleMessage(V1WebSocketStreamSession session, JsonDocument document)
+    {
+        switch (document.getString("action", ""))
+        {
+            case "subscribe":
+            {
+                session.setFilter(new V1WebSocketStreamSession.Filter(document));
+
+                if (session.isSubscribed(TYPE_UPDATE) || session.isSubscribed(TYPE_LIFECYCLE))
+                    for (ServiceInfoSnapshot serviceInfoSnapshot : this.servicesSupplier.get())
+                        if (session.isSubscribed(TYPE_UPDATE, serviceInfoSnapshot) || session.isSubscribed(TYPE_LIFECYCLE, serviceInfoSnapshot))
+                        {
+                            JsonObject message = new JsonObject();
+                            message.addProperty("type", "service_snapshot");
+                            message.add("service", this.serviceSnapshots.computeIfAbsent(serviceInfoSnapshot.getServiceId().getUniqueId(), key -> this.serialize(serviceInfoSnapshot)));
+
+                            session.enqueueSnapshot(serviceKey(serviceInfoSnapshot), message);
+                        }
+
+                if (session.isSubscribed(TYPE_NODE))
+                {
+                    NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot = this.localNodeInfoSnapshotSupplier.get();
+
+                    if (networkClusterNodeInfoSnapshot != null)
+                        session.enqueueUpdate(nodeKey(networkClusterNodeInfoSnapshot), this.createNodeMessage(networkClusterNodeInfoSnapshot), false);
+
+                    for (IClusterNodeServer clusterNodeServer : CloudNet.getInstance().getClusterNodeServerProvider().getNodeServers())
+                        if (clusterNodeServer.getNodeInfoSnapshot() != null)
+                            session.enqueueUpdate(nodeKey(clusterNodeServer.getNodeInfoSnapshot()), this.createNodeMessage(clusterNodeServer.getNodeInfoSnapshot()), false);
+                }
+            }
+            break;
+            case "unsubscribe":
+                session.setFilter(null);
+                break;
+        }
+    }
+
+    private JsonObject publishServiceUpdate(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        JsonObject snapshot = this.serialize(serviceInfoSnapshot), previous = this.serviceSnapshots.put(serviceInfoSnapshot.getServiceId().getUniqueId(), snapshot);
+
+        if (this.sessions.isEmpty()) return snapshot;
+
+        JsonObject delta = previous != null ? JsonDelta.diff(previous, snapshot) : snapshot;
+
+        if (delta.size() == 0) return snapshot;
+
+        JsonObject message = new JsonObject();
+        message.addProperty("type", "service_update");
+        message.addProperty("serviceId", serviceInfoSnapshot.getServiceId().getUniqueId().toString());
+        message.addProperty("name", serviceInfoSnapshot.getServiceId().getName());
+        message.add("delta", delta);
+
+        String key = serviceKey(serviceInfoSnapshot);
+
+        for (V1WebSocketStreamSession session : this.sessions)
+            if (session.isSubscribed(TYPE_UPDATE, serviceInfoSnapshot))
+                session.enqueueUpdate(key, message, true);
+
+        return snapshot;
+    }
+
+    private void publishNodeSnapshot(NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot)
+    {
+        if (networkClusterNodeInfoSnapshot == null || this.sessions.isEmpty()) return;
+
+        JsonObject message = null;
+
+        for (V1WebSocketStreamSession session : this.sessions)
+            if (session.isSubscribed(TYPE_NODE))
+            {
+                if (message == null) message = this.createNodeMessage(networkClusterNodeInfoSnapshot);
+
+                session.enqueueUpdate(nodeKey(networkClusterNodeInfoSnapshot), message, false);
+            }
+    }
+
+    private JsonObject createNodeMessage(NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot)
+    {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", "node_snapshot");
+        message.add("node", JsonDocument.GSON.toJsonTree(networkClusterNodeInfoSnapshot));
+
+        return message;
+    }
+
+    private JsonObject serialize(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        return JsonDocument.GSON.toJsonTree(serviceInfoSnapshot).getAsJsonObject();
+    }
+
+    private synchronized void startFlushThread()
+    {
+        if (this.flushThread != null) return;
+
+        this.flushThread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted())
+            {
+                try
+                {
+                    Thread.sleep(FLUSH_INTERVAL_MILLIS);
+
+                    NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot = this.localNodeInfoSnapshotSupplier.get();
+
+                    if (networkClusterNodeInfoSnapshot != this.localNodeInfoSnapshot)
+                    {
+                        this.localNodeInfoSnapshot = networkClusterNodeInfoSnapshot;
+                        this.publishNodeSnapshot(networkClusterNodeInfoSnapshot);
+                    }
+
+                    for (V1WebSocketStreamSession session : this.sessions)
+                        if (session.hasPendingMessages())
+                            session.flush();
+
+                } catch (InterruptedException ex)
+                {
+                    return;
+                } catch (Exception ex)
+                {
+                    ex.printStackTrace();
+                }
+            }
+        }, "RestWebSocketStream");
+
+        this.flushThread.setDaemon(true);
+        this.flushThread.start();
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private static String serviceKey(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        return "service:" + serviceInfoSnapshot.getServiceId().getUniqueId();
+    }
+
+    private static String nodeKey(NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot)
+    {
+        return "node:" + networkClusterNodeInfoSnapshot.getNode().getUniqueId();
+    }
+
+    private static String getLifecycle(CloudServiceEvent event)
+    {
+        if (event instanceof CloudServiceRegisterEvent) return "register";
+        if (event instanceof CloudServiceStartEvent) return "start";
+        if (event instanceof CloudServiceConnectNetworkEvent) return "connect";
+        if (event instanceof CloudServiceDisconnectNetworkEvent) return "disconnect";
+        if (event instanceof CloudServiceStopEvent) return "stop";
+        if (event instanceof CloudServiceUnregisterEvent) return "unregister";
+
+        return null;
+    }
+}
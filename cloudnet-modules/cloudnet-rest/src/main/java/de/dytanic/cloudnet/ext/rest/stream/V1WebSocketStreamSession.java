@@ -0,0 +1,202 @@
+package de.dytanic.cloudnet.ext.rest.stream;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDelta;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketChannel;
+import de.dytanic.cloudnet.driver.network.http.websocket.WebSocketFrameType;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+
+import java.util.*;
+
+/**
+ * One websocket client of the stream. The client subscribes message types and filters the services by task, group or
+ * name. Lifecycle and console messages are queued up to a max size, the oldest messages are dropped if the client
+ * is too slow. Snapshots, service and node updates are coalesced by their key and never dropped, so a slow client only
+ * receives the latest state.
+ */
+final class V1WebSocketStreamSession {
+
+    private static final int MAX_QUEUED_MESSAGES = Integer.getInteger("cloudnet.rest.websocket.queue.max", 1024);
+
+    private final IWebSocketChannel channel;
+
+    private final Deque<String> messages = new ArrayDeque<>();
+
+    private final Map<String, JsonObject> updates = Maps.newLinkedHashMap();
+
+    private volatile Filter filter;
+
+    private long droppedMessages;
+
+    V1WebSocketStreamSession(IWebSocketChannel channel)
+    {
+        this.channel = channel;
+    }
+
+    IWebSocketChannel getChannel()
+    {
+        return this.channel;
+    }
+
+    void setFilter(Filter filter)
+    {
+        this.filter = filter;
+
+        synchronized (this)
+        {
+            this.messages.clear();
+            this.updates.clear();
+        }
+    }
+
+    boolean isSubscribed(String type)
+    {
+        Filter filter = this.filter;
+
+        return filter != null && filter.types.contains(type);
+    }
+
+    boolean isSubscribed(String type, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        Filter filter = this.filter;
+
+        return filter != null && filter.types.contains(type) && filter.test(serviceInfoSnapshot);
+    }
+
+    synchronized void enqueue(String message)
+    {
+        if (this.messages.size() >= MAX_QUEUED_MESSAGES)
+        {
+            this.messages.poll();
+            this.droppedMessages++;
+        }
+
+        this.messages.offer(message);
+    }
+
+    /**
+     * Queues an update, which replaces or is merged into the pending update with the same key
+     *
+     * @param key    the key of the updated entity
+     * @param update the update message
+     * @param delta  true, if the update contains only the changed fields and has to be merged into a pending update
+     */
+    synchronized void enqueueUpdate(String key, JsonObject update, boolean delta)
+    {
+        JsonObject pending = this.updates.get(key);
+
+        if (delta && pending != null && pending.has("service") && update.has("delta"))
+        {
+            JsonObject snapshot = new JsonObject();
+            snapshot.add("type", pending.get("type"));
+            snapshot.add("service", JsonDelta.apply(pending.getAsJsonObject("service"), update.getAsJsonObject("delta")));
+
+            this.updates.put(key, snapshot);
+            return;
+        }
+
+        this.updates.put(key, delta && pending != null ? JsonDelta.merge(pending, update) : update);
+    }
+
+    /**
+     * Queues the snapshot of a service, which replaces the pending update with the same key. The following delta updates
+     * of the service are applied to the pending snapshot.
+     *
+     * @param key     the key of the service
+     * @param message the snapshot message, which contains the snapshot in the field "service"
+     */
+    synchronized void enqueueSnapshot(String key, JsonObject message)
+    {
+        this.updates.put(key, message);
+    }
+
+    synchronized void removeUpdate(String key)
+    {
+        this.updates.remove(key);
+    }
+
+    /**
+     * Sends the queued messages, until the channel isn't writable anymore
+     */
+    void flush()
+    {
+        String message;
+
+        while (this.channel.isWritable() && (message = this.poll()) != null)
+            this.channel.sendWebSocketFrame(WebSocketFrameType.TEXT, message);
+    }
+
+    private synchronized String poll()
+    {
+        if (this.droppedMessages > 0)
+        {
+            String message = new JsonDocument("type", "dropped").append("count", this.droppedMessages).toJson();
+            this.droppedMessages = 0;
+
+            return message;
+        }
+
+        if (!this.messages.isEmpty()) return this.messages.poll();
+
+        Iterator<JsonObject> iterator = this.updates.values().iterator();
+
+        if (!iterator.hasNext()) return null;
+
+        JsonObject update = iterator.next();
+        iterator.remove();
+
+        return update.toString();
+    }
+
+    synchronized boolean hasPendingMessages()
+    {
+        return this.droppedMessages > 0 || !this.messages.isEmpty() || !this.updates.isEmpty();
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    static final class Filter {
+
+        private final Set<String> types, tasks, groups, services;
+
+        Filter(JsonDocument document)
+        {
+            this.types = toSet(document.get("types"));
+            this.tasks = toSet(document.get("tasks"));
+            this.groups = toSet(document.get("groups"));
+            this.services = toSet(document.get("services"));
+        }
+
+        boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
+        {
+            if (this.tasks.isEmpty() && this.groups.isEmpty() && this.services.isEmpty()) return true;
+
+            if (this.tasks.contains(serviceInfoSnapshot.getServiceId().getTaskName().toLowerCase()) ||
+                this.services.contains(serviceInfoSnapshot.getServiceId().getName().toLowerCase()) ||
+                this.services.contains(serviceInfoSnapshot.getServiceId().getUniqueId().toString()))
+                return true;
+
+            if (serviceInfoSnapshot.getConfiguration().getGroups() != null)
+                for (String group : serviceInfoSnapshot.getConfiguration().getGroups())
+                    if (group != null && this.groups.contains(group.toLowerCase()))
+                        return true;
+
+            return false;
+        }
+
+        private static Set<String> toSet(JsonElement jsonElement)
+        {
+            Set<String> set = new HashSet<>();
+
+            if (jsonElement != null && jsonElement.isJsonArray())
+                for (JsonElement item : jsonElement.getAsJsonArray())
+                    if (item.isJsonPrimitive())
+                        set.add(item.getAsString().toLowerCase());
+
+            return set;
+        }
+    }
+}
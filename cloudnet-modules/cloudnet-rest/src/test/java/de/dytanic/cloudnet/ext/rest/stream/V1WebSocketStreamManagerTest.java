@@ -0,0 +1,254 @@
+package de.dytanic.cloudnet.ext.rest.stream;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceConnectNetworkEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceStopEvent;
+import de.dytanic.cloudnet.driver.network.http.IHttpChannel;
+import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketChannel;
+import de.dytanic.cloudnet.driver.network.http.websocket.IWebSocketListener;
+import de.dytanic.cloudnet.driver.network.http.websocket.WebSocketFrameType;
+import de.dytanic.cloudnet.driver.service.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class V1WebSocketStreamManagerTest {
+
+    @Test
+    public void testLifecycleChangesReachUpdateSubscribers() throws Exception
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = createServiceInfoSnapshot();
+        V1WebSocketStreamManager streamManager = new V1WebSocketStreamManager(() -> Collections.singletonList(serviceInfoSnapshot), () -> null);
+        WebSocketChannel channel = new WebSocketChannel();
+
+        try
+        {
+            streamManager.addChannel(channel);
+            channel.subscribe("update");
+
+            Assert.assertEquals("service_snapshot", channel.awaitFrame(0).getString("type"));
+
+            serviceInfoSnapshot.setLifeCycle(ServiceLifeCycle.STOPPED);
+            streamManager.handle(new CloudServiceStopEvent(serviceInfoSnapshot));
+
+            JsonDocument update = channel.awaitFrame(1);
+
+            Assert.assertEquals("service_update", update.getString("type"));
+            Assert.assertEquals("STOPPED", update.getDocument("delta").getString("lifeCycle"));
+        } finally
+        {
+            streamManager.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotIsNotDropped() throws Exception
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = createServiceInfoSnapshot();
+        V1WebSocketStreamManager streamManager = new V1WebSocketStreamManager(() -> Collections.singletonList(serviceInfoSnapshot), () -> null);
+        WebSocketChannel channel = new WebSocketChannel();
+
+        try
+        {
+            streamManager.addChannel(channel);
+
+            channel.writable = false;
+            channel.subscribe("lifecycle", "update");
+
+            for (int i = 0; i < Integer.getInteger("cloudnet.rest.websocket.queue.max", 1024) + 16; i++)
+                streamManager.handle(new CloudServiceConnectNetworkEvent(serviceInfoSnapshot));
+
+            channel.writable = true;
+
+            JsonDocument dropped = channel.awaitFrame(0);
+
+            Assert.assertEquals("dropped", dropped.getString("type"));
+            Assert.assertEquals(16, dropped.getInt("count"));
+
+            Assert.assertTrue(channel.awaitFrame("service_snapshot"));
+        } finally
+        {
+            streamManager.close();
+        }
+    }
+
+    @Test
+    public void testUpdateIsAppliedToPendingSnapshot() throws Exception
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = createServiceInfoSnapshot();
+        V1WebSocketStreamManager streamManager = new V1WebSocketStreamManager(() -> Collections.singletonList(serviceInfoSnapshot), () -> null);
+        WebSocketChannel channel = new WebSocketChannel();
+
+        try
+        {
+            streamManager.addChannel(channel);
+
+            channel.writable = false;
+            channel.subscribe("update");
+
+            serviceInfoSnapshot.setConnected(false);
+            streamManager.handle(new CloudServiceInfoUpdateEvent(serviceInfoSnapshot));
+
+            channel.writable = true;
+
+            JsonDocument snapshot = channel.awaitFrame(0);
+
+            Assert.assertEquals("service_snapshot", snapshot.getString("type"));
+            Assert.assertFalse(snapshot.getDocument("service").getBoolean("connected"));
+            Assert.assertEquals("RUNNING", snapshot.getDocument("service").getString("lifeCycle"));
+
+            Thread.sleep(200);
+            Assert.assertEquals(1, channel.frames.size());
+        } finally
+        {
+            streamManager.close();
+        }
+    }
+
+    private static ServiceInfoSnapshot createServiceInfoSnapshot()
+    {
+        ServiceId serviceId = new ServiceId(UUID.randomUUID(), "Node-1", "Lobby", 1, ServiceEnvironmentType.MINECRAFT_SERVER);
+
+        return new ServiceInfoSnapshot(
+            System.currentTimeMillis(),
+            serviceId,
+            null,
+            true,
+            ServiceLifeCycle.RUNNING,
+            null,
+            new ServiceConfiguration(
+                serviceId,
+                "jvm",
+                true,
+                false,
+                new String[]{"Lobby"},
+                new ServiceRemoteInclusion[0],
+                new ServiceTemplate[]{new ServiceTemplate("Lobby", "default", "local")},
+                new ServiceDeployment[0],
+                new ProcessConfiguration(ServiceEnvironmentType.MINECRAFT_SERVER, 256, null),
+                44955
+            )
+        );
+    }
+
+    private static final class WebSocketChannel implements IWebSocketChannel {
+
+        private final List<IWebSocketListener> listeners = Iterables.newCopyOnWriteArrayList();
+
+        private final List<JsonDocument> frames = Iterables.newCopyOnWriteArrayList();
+
+        private volatile boolean writable = true;
+
+        private void subscribe(String... types) throws Exception
+        {
+            byte[] message = new JsonDocument("action", "subscribe").append("types", types).toJson().getBytes(StandardCharsets.UTF_8);
+
+            for (IWebSocketListener listener : this.listeners)
+                listener.handle(this, WebSocketFrameType.TEXT, message);
+        }
+
+        private JsonDocument awaitFrame(int index) throws InterruptedException
+        {
+            for (int i = 0; i < 200 && this.frames.size() <= index; i++)
+                Thread.sleep(10);
+
+            Assert.assertTrue(this.frames.size() > index);
+
+            return this.frames.get(index);
+        }
+
+        private boolean awaitFrame(String type) throws InterruptedException
+        {
+            for (int i = 0; i < 200; i++)
+            {
+                for (JsonDocument frame : this.frames)
+                    if (type.equals(frame.getString("type")))
+                        return true;
+
+                Thread.sleep(10);
+            }
+
+            return false;
+        }
+
+        @Override
+        public IWebSocketChannel addListener(IWebSocketListener... listeners)
+        {
+            Collections.addAll(this.listeners, listeners);
+            return this;
+        }
+
+        @Override
+        public IWebSocketChannel removeListener(IWebSocketListener... listeners)
+        {
+            return this;
+        }
+
+        @Override
+        public IWebSocketChannel removeListener(Collection<Class<? extends IWebSocketListener>> classes)
+        {
+            return this;
+        }
+
+        @Override
+        public IWebSocketChannel removeListener(ClassLoader classLoader)
+        {
+            return this;
+        }
+
+        @Override
+        public IWebSocketChannel clearListeners()
+        {
+            this.listeners.clear();
+            return this;
+        }
+
+        @Override
+        public Collection<IWebSocketListener> getListeners()
+        {
+            return this.listeners;
+        }
+
+        @Override
+        public IWebSocketChannel sendWebSocketFrame(WebSocketFrameType webSocketFrameType, String text)
+        {
+            this.frames.add(JsonDocument.newDocument(text));
+            return this;
+        }
+
+        @Override
+        public IWebSocketChannel sendWebSocketFrame(WebSocketFrameType webSocketFrameType, byte[] bytes)
+        {
+            return this.sendWebSocketFrame(webSocketFrameType, new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close(int statusCode, String reasonText)
+        {
+        }
+
+        @Override
+        public boolean isWritable()
+        {
+            return this.writable;
+        }
+
+        @Override
+        public IHttpChannel channel()
+        {
+            return null;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
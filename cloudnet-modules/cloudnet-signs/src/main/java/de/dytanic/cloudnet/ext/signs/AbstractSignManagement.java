@@ -43,36 +43,41 @@ public abstract class AbstractSignManagement {
 
     public abstract void onSignRemove(Sign sign);
 
+    /**
+     * Sends the new sign to the node of this service, which stores the sign and sends it to all lobbies of the provided
+     * group of the sign
+     */
     public void sendSignAddUpdate(Sign sign)
     {
         Validate.checkNotNull(sign);
 
-        CloudNetDriver.getInstance()
-            .sendChannelMessage(
-                SignConstants.SIGN_CHANNEL_NAME,
-                SignConstants.SIGN_CHANNEL_ADD_SIGN_MESSAGE,
-                new JsonDocument("sign", sign)
-            );
+        this.sendSignUpdate(SignConstants.SIGN_CHANNEL_SYNC_ID_ADD_SIGN_PROPERTY, sign);
     }
 
     public void sendSignRemoveUpdate(Sign sign)
     {
         Validate.checkNotNull(sign);
 
-        CloudNetDriver.getInstance()
-            .sendChannelMessage(
-                SignConstants.SIGN_CHANNEL_NAME,
-                SignConstants.SIGN_CHANNEL_REMOVE_SIGN_MESSAGE,
-                new JsonDocument("sign", sign)
-            );
+        this.sendSignUpdate(SignConstants.SIGN_CHANNEL_SYNC_ID_REMOVE_SIGN_PROPERTY, sign);
     }
 
     public Collection<Sign> getSignsFromNode()
+    {
+        return this.getSignsFromNode(null);
+    }
+
+    /**
+     * Returns the signs, which are provided by one of the given lobby groups
+     *
+     * @param groups the lobby groups or null for all signs of the network
+     */
+    public Collection<Sign> getSignsFromNode(Collection<String> groups)
     {
         ITask<Collection<Sign>> signs = CloudNetDriver.getInstance().sendCallablePacket(
             CloudNetDriver.getInstance().getNetworkClient().getChannels().iterator().next(),
             SignConstants.SIGN_CHANNEL_SYNC_CHANNEL_PROPERTY,
-            new JsonDocument(PacketConstants.SYNC_PACKET_ID_PROPERTY, SignConstants.SIGN_CHANNEL_SYNC_ID_GET_SIGNS_COLLECTION_PROPERTY),
+            new JsonDocument(PacketConstants.SYNC_PACKET_ID_PROPERTY, SignConstants.SIGN_CHANNEL_SYNC_ID_GET_SIGNS_COLLECTION_PROPERTY)
+                .append("groups", groups),
             new byte[0],
             new Function<Pair<JsonDocument, byte[]>, Collection<Sign>>() {
                 @Override
@@ -105,6 +110,23 @@ public abstract class AbstractSignManagement {
         );
     }
 
+    private void sendSignUpdate(String id, Sign sign)
+    {
+        CloudNetDriver.getInstance().sendCallablePacket(
+            CloudNetDriver.getInstance().getNetworkClient().getChannels().iterator().next(),
+            SignConstants.SIGN_CHANNEL_SYNC_CHANNEL_PROPERTY,
+            new JsonDocument(PacketConstants.SYNC_PACKET_ID_PROPERTY, id).append("sign", sign),
+            new byte[0],
+            new Function<Pair<JsonDocument, byte[]>, Void>() {
+                @Override
+                public Void apply(Pair<JsonDocument, byte[]> documentPair)
+                {
+                    return null;
+                }
+            }
+        );
+    }
+
     public boolean isImportantCloudService(ServiceInfoSnapshot serviceInfoSnapshot)
     {
         return serviceInfoSnapshot != null &&
@@ -21,6 +21,8 @@ public final class SignConstants {
         SIGN_CHANNEL_SYNC_CHANNEL_PROPERTY = "cloudnet_signs_channel",
         SIGN_CHANNEL_SYNC_ID_GET_SIGNS_COLLECTION_PROPERTY = "signs_get_signs_collection",
         SIGN_CHANNEL_SYNC_ID_GET_SIGNS_CONFIGURATION_PROPERTY = "signs_get_signs_configuration",
+        SIGN_CHANNEL_SYNC_ID_ADD_SIGN_PROPERTY = "signs_add_sign",
+        SIGN_CHANNEL_SYNC_ID_REMOVE_SIGN_PROPERTY = "signs_remove_sign",
         SIGN_CHANNEL_UPDATE_SIGN_CONFIGURATION = "update_sign_configuration",
         SIGN_CHANNEL_ADD_SIGN_MESSAGE = "add_sign",
         SIGN_CHANNEL_REMOVE_SIGN_MESSAGE = "remove_sign";
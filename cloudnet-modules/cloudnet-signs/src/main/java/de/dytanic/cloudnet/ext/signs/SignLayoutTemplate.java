@@ -0,0 +1,247 @@
+package de.dytanic.cloudnet.ext.signs;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.unsafe.CPUUsageResolver;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * A compiled {@link SignLayout}. The lines of the layout are split once into text and placeholder tokens. The rendered
+ * lines of a service are cached together with the values of the placeholders, which are used by the layout, and are
+ * only rendered again, if one of these values has changed.
+ * <p>
+ * The lines of a sign without service keep their placeholders, so they are rendered once by the compilation.
+ */
+public final class SignLayoutTemplate {
+
+    @Getter
+    private final SignLayout signLayout;
+
+    private final Token[][] lines;
+
+    private final Placeholder[] placeholders;
+
+    private final String[] staticLines;
+
+    private final UnaryOperator<String> colorTranslator;
+
+    private final Map<UUID, RenderedLines> renderedLines = Maps.newConcurrentHashMap();
+
+    /**
+     * Compiles the lines of the layout
+     *
+     * @param signLayout      the layout, which should be compiled
+     * @param colorTranslator the function, which translates the color codes of a rendered line
+     */
+    public SignLayoutTemplate(SignLayout signLayout, UnaryOperator<String> colorTranslator)
+    {
+        Validate.checkNotNull(signLayout);
+        Validate.checkNotNull(colorTranslator);
+
+        this.signLayout = signLayout;
+        this.colorTranslator = colorTranslator;
+
+        String[] lines = signLayout.getLines() != null ? signLayout.getLines() : new String[0];
+        List<Placeholder> placeholders = Iterables.newArrayList();
+
+        this.lines = new Token[lines.length][];
+        this.staticLines = new String[lines.length];
+
+        for (int index = 0; index < lines.length; index++)
+        {
+            this.lines[index] = compile(lines[index] != null ? lines[index] : "null", placeholders);
+            this.staticLines[index] = colorTranslator.apply(lines[index] != null ? lines[index] : "null");
+        }
+
+        this.placeholders = placeholders.toArray(new Placeholder[0]);
+    }
+
+    /**
+     * Returns the rendered lines of the layout for the sign. The returned array must not be modified.
+     *
+     * @param sign                the sign, which shows the layout
+     * @param serviceInfoSnapshot the service of the sign or null
+     */
+    public String[] render(Sign sign, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        Validate.checkNotNull(sign);
+
+        if (serviceInfoSnapshot == null) return this.staticLines;
+
+        String[] values = new String[this.placeholders.length];
+
+        for (int index = 0; index < values.length; index++)
+            values[index] = this.placeholders[index].resolve(sign, serviceInfoSnapshot);
+
+        UUID uniqueId = serviceInfoSnapshot.getServiceId().getUniqueId();
+        RenderedLines renderedLines = this.renderedLines.get(uniqueId);
+
+        if (renderedLines != null && Arrays.equals(renderedLines.values, values))
+            return renderedLines.lines;
+
+        String[] lines = new String[this.lines.length];
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (int index = 0; index < lines.length; index++)
+        {
+            stringBuilder.setLength(0);
+
+            for (Token token : this.lines[index])
+                stringBuilder.append(token.text != null ? token.text : values[token.valueIndex]);
+
+            lines[index] = this.colorTranslator.apply(stringBuilder.toString());
+        }
+
+        this.renderedLines.put(uniqueId, new RenderedLines(values, lines));
+        return lines;
+    }
+
+    /**
+     * Removes the cached lines of the service
+     */
+    public void evict(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        this.renderedLines.remove(uniqueId);
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private static Token[] compile(String line, List<Placeholder> placeholders)
+    {
+        List<Token> tokens = Iterables.newArrayList();
+        StringBuilder text = new StringBuilder();
+
+        int index = 0;
+
+        while (index < line.length())
+        {
+            int start = line.indexOf('%', index), end = start != -1 ? line.indexOf('%', start + 1) : -1;
+
+            if (end == -1)
+            {
+                text.append(line, index, line.length());
+                break;
+            }
+
+            Placeholder placeholder = Placeholder.byName(line.substring(start + 1, end));
+
+            if (placeholder == null)
+            {
+                text.append(line, index, end);
+                index = end;
+                continue;
+            }
+
+            text.append(line, index, start);
+
+            if (text.length() > 0)
+            {
+                tokens.add(new Token(text.toString(), -1));
+                text.setLength(0);
+            }
+
+            int valueIndex = placeholders.indexOf(placeholder);
+
+            if (valueIndex == -1)
+            {
+                valueIndex = placeholders.size();
+                placeholders.add(placeholder);
+            }
+
+            tokens.add(new Token(null, valueIndex));
+            index = end + 1;
+        }
+
+        if (text.length() > 0) tokens.add(new Token(text.toString(), -1));
+
+        return tokens.toArray(new Token[0]);
+    }
+
+    private enum Placeholder {
+
+        TASK("task", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getTaskName()),
+        TASK_ID("task_id", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getTaskServiceId()),
+        GROUP("group", (sign, serviceInfoSnapshot) -> sign.getTargetGroup()),
+        NAME("name", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getName()),
+        UNIQUE_ID("uuid", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getUniqueId().toString().split("-")[0]),
+        NODE("node", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getNodeUniqueId()),
+        ENVIRONMENT("environment", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getServiceId().getEnvironment()),
+        LIFE_CYCLE("life_cycle", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getLifeCycle()),
+        RUNTIME("runtime", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getConfiguration().getRuntime()),
+        PORT("port", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getConfiguration().getPort()),
+        CPU_USAGE("cpu_usage", (sign, serviceInfoSnapshot) -> CPUUsageResolver.CPU_USAGE_OUTPUT_FORMAT.format(serviceInfoSnapshot.getProcessSnapshot().getCpuUsage())),
+        THREADS("threads", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProcessSnapshot().getThreads().size()),
+        ONLINE("online", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().contains("Online") &&
+            serviceInfoSnapshot.getProperties().getBoolean("Online") ? "Online" : "Offline"),
+        ONLINE_PLAYERS("online_players", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getInt("Online-Count")),
+        MAX_PLAYERS("max_players", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getInt("Max-Players")),
+        MOTD("motd", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getString("Motd")),
+        EXTRA("extra", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getString("Extra")),
+        STATE("state", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getString("State")),
+        VERSION("version", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().getString("Version")),
+        WHITELIST("whitelist", (sign, serviceInfoSnapshot) -> serviceInfoSnapshot.getProperties().contains("Whitelist-Enabled") &&
+            serviceInfoSnapshot.getProperties().getBoolean("Whitelist-Enabled") ? "Enabled" : "Disabled");
+
+        private static final Map<String, Placeholder> BY_NAME = Maps.newHashMap();
+
+        static
+        {
+            for (Placeholder placeholder : values())
+                BY_NAME.put(placeholder.name, placeholder);
+        }
+
+        private final String name;
+
+        private final BiFunction<Sign, ServiceInfoSnapshot, Object> resolver;
+
+        Placeholder(String name, BiFunction<Sign, ServiceInfoSnapshot, Object> resolver)
+        {
+            this.name = name;
+            this.resolver = resolver;
+        }
+
+        private String resolve(Sign sign, ServiceInfoSnapshot serviceInfoSnapshot)
+        {
+            return String.valueOf(this.resolver.apply(sign, serviceInfoSnapshot));
+        }
+
+        private static Placeholder byName(String name)
+        {
+            return BY_NAME.get(name);
+        }
+    }
+
+    private static final class Token {
+
+        private final String text;
+
+        private final int valueIndex;
+
+        private Token(String text, int valueIndex)
+        {
+            this.text = text;
+            this.valueIndex = valueIndex;
+        }
+    }
+
+    private static final class RenderedLines {
+
+        private final String[] values;
+
+        private final String[] lines;
+
+        private RenderedLines(String[] values, String[] lines)
+        {
+            this.values = values;
+            this.lines = lines;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package de.dytanic.cloudnet.ext.signs;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.driver.service.ServiceTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Binds the services to the signs of a lobby. The signs are grouped by their target group and template path, the n-th
+ * sign of a group, sorted by the sign id, shows the n-th service of the group. The services of a group are kept sorted
+ * by their priority and name, so a change of a service only affects the signs between its old and its new position.
+ * <p>
+ * Every method passes the signs, which are bound to another service or whose service has changed, to the given
+ * consumer. The instance is thread safe.
+ */
+public final class SignServiceAssignments {
+
+    private static final Comparator<ServiceEntry> SERVICE_ENTRY_COMPARATOR = new Comparator<ServiceEntry>() {
+        @Override
+        public int compare(ServiceEntry o1, ServiceEntry o2)
+        {
+            int result = Integer.compare(o1.priority, o2.priority);
+
+            if (result == 0) result = o1.name.compareTo(o2.name);
+
+            return result != 0 ? result : o1.uniqueId.compareTo(o2.uniqueId);
+        }
+    };
+
+    private static final Comparator<Sign> SIGN_COMPARATOR = new Comparator<Sign>() {
+        @Override
+        public int compare(Sign o1, Sign o2)
+        {
+            return Long.compare(o1.getSignId(), o2.getSignId());
+        }
+    };
+
+    private final Map<String, SignGroup> groups = Maps.newHashMap();
+
+    private final Map<Long, SignGroup> signGroups = Maps.newHashMap();
+
+    private final Map<UUID, ServiceEntry> services = Maps.newHashMap();
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public synchronized void addSign(Sign sign, Consumer<Sign> changedSigns)
+    {
+        Validate.checkNotNull(sign);
+        Validate.checkNotNull(changedSigns);
+
+        if (this.signGroups.containsKey(sign.getSignId())) return;
+
+        SignGroup group = this.groups.get(groupKey(sign));
+
+        if (group == null)
+        {
+            group = new SignGroup(sign.getTargetGroup(), sign.getTemplatePath());
+            this.groups.put(groupKey(sign), group);
+
+            for (ServiceEntry entry : this.services.values())
+                if (group.matches(entry.serviceInfoSnapshot))
+                {
+                    entry.groups.add(group);
+                    group.services.add(entry);
+                }
+
+            group.services.sort(SERVICE_ENTRY_COMPARATOR);
+        }
+
+        int index = Collections.binarySearch(group.signs, sign, SIGN_COMPARATOR);
+        index = index < 0 ? -index - 1 : index;
+
+        group.signs.add(index, sign);
+        this.signGroups.put(sign.getSignId(), group);
+
+        group.mark(index, group.signs.size() - 1, changedSigns);
+    }
+
+    public synchronized void removeSign(Sign sign, Consumer<Sign> changedSigns)
+    {
+        Validate.checkNotNull(sign);
+        Validate.checkNotNull(changedSigns);
+
+        SignGroup group = this.signGroups.remove(sign.getSignId());
+
+        if (group == null) return;
+
+        int index = Collections.binarySearch(group.signs, sign, SIGN_COMPARATOR);
+
+        if (index < 0) return;
+
+        group.signs.remove(index);
+
+        if (group.signs.isEmpty())
+        {
+            this.groups.remove(groupKey(sign));
+
+            for (ServiceEntry entry : group.services)
+                entry.groups.remove(group);
+
+            return;
+        }
+
+        group.mark(index, group.signs.size() - 1, changedSigns);
+    }
+
+    /**
+     * Adds or moves the service in the groups of its signs
+     *
+     * @param serviceInfoSnapshot the current snapshot of the service
+     * @param priority            the priority of the service, services with a lower priority are bound to the first
+     *                            signs of a group
+     * @param changedSigns        the consumer of the changed signs
+     */
+    public synchronized void updateService(ServiceInfoSnapshot serviceInfoSnapshot, int priority, Consumer<Sign> changedSigns)
+    {
+        Validate.checkNotNull(serviceInfoSnapshot);
+        Validate.checkNotNull(changedSigns);
+
+        UUID uniqueId = serviceInfoSnapshot.getServiceId().getUniqueId();
+        ServiceEntry entry = this.services.get(uniqueId);
+
+        if (entry == null)
+        {
+            entry = new ServiceEntry(uniqueId, serviceInfoSnapshot.getServiceId().getName());
+            entry.serviceInfoSnapshot = serviceInfoSnapshot;
+            entry.priority = priority;
+
+            for (SignGroup group : this.groups.values())
+                if (group.matches(serviceInfoSnapshot))
+                {
+                    entry.groups.add(group);
+
+                    int index = group.insert(entry);
+                    group.mark(index, group.services.size() - 1, changedSigns);
+                }
+
+            this.services.put(uniqueId, entry);
+            return;
+        }
+
+        entry.serviceInfoSnapshot = serviceInfoSnapshot;
+
+        Map<SignGroup, Integer> oldIndexes = Maps.newHashMap();
+
+        for (SignGroup group : entry.groups)
+        {
+            int index = Collections.binarySearch(group.services, entry, SERVICE_ENTRY_COMPARATOR);
+
+            if (index < 0) continue;
+
+            if (entry.priority == priority)
+                group.mark(index, index, changedSigns);
+            else
+            {
+                group.services.remove(index);
+                oldIndexes.put(group, index);
+            }
+        }
+
+        if (entry.priority == priority) return;
+
+        entry.priority = priority;
+
+        for (Map.Entry<SignGroup, Integer> oldIndex : oldIndexes.entrySet())
+        {
+            int newIndex = oldIndex.getKey().insert(entry);
+            oldIndex.getKey().mark(Math.min(oldIndex.getValue(), newIndex), Math.max(oldIndex.getValue(), newIndex), changedSigns);
+        }
+    }
+
+    public synchronized void removeService(UUID uniqueId, Consumer<Sign> changedSigns)
+    {
+        Validate.checkNotNull(uniqueId);
+        Validate.checkNotNull(changedSigns);
+
+        ServiceEntry entry = this.services.remove(uniqueId);
+
+        if (entry == null) return;
+
+        for (SignGroup group : entry.groups)
+        {
+            int index = Collections.binarySearch(group.services, entry, SERVICE_ENTRY_COMPARATOR);
+
+            if (index < 0) continue;
+
+            group.services.remove(index);
+            group.mark(index, group.services.size(), changedSigns);
+        }
+    }
+
+    /**
+     * Returns the service, which is bound to the sign, or null, if the group of the sign has less services than signs
+     */
+    public synchronized ServiceInfoSnapshot getService(Sign sign)
+    {
+        Validate.checkNotNull(sign);
+
+        SignGroup group = this.signGroups.get(sign.getSignId());
+
+        if (group == null) return null;
+
+        int index = Collections.binarySearch(group.signs, sign, SIGN_COMPARATOR);
+
+        return index >= 0 && index < group.services.size() ? group.services.get(index).serviceInfoSnapshot : null;
+    }
+
+    public synchronized boolean containsSign(Sign sign)
+    {
+        Validate.checkNotNull(sign);
+
+        return this.signGroups.containsKey(sign.getSignId());
+    }
+
+    public synchronized void clear()
+    {
+        this.groups.clear();
+        this.signGroups.clear();
+        this.services.clear();
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private static String groupKey(Sign sign)
+    {
+        return sign.getTargetGroup() + ":" + sign.getTemplatePath();
+    }
+
+    private static final class ServiceEntry {
+
+        private final UUID uniqueId;
+
+        private final String name;
+
+        private final Collection<SignGroup> groups = Iterables.newArrayList();
+
+        private ServiceInfoSnapshot serviceInfoSnapshot;
+
+        private int priority;
+
+        private ServiceEntry(UUID uniqueId, String name)
+        {
+            this.uniqueId = uniqueId;
+            this.name = name;
+        }
+    }
+
+    private static final class SignGroup {
+
+        private final String targetGroup, templatePath;
+
+        private final List<Sign> signs = Iterables.newArrayList();
+
+        private final List<ServiceEntry> services = Iterables.newArrayList();
+
+        private SignGroup(String targetGroup, String templatePath)
+        {
+            this.targetGroup = targetGroup;
+            this.templatePath = templatePath;
+        }
+
+        private boolean matches(ServiceInfoSnapshot serviceInfoSnapshot)
+        {
+            if (this.templatePath == null)
+                return Iterables.contains(this.targetGroup, serviceInfoSnapshot.getConfiguration().getGroups());
+
+            for (ServiceTemplate template : serviceInfoSnapshot.getConfiguration().getTemplates())
+                if (this.templatePath.equals(template.getTemplatePath()))
+                    return true;
+
+            return false;
+        }
+
+        private int insert(ServiceEntry entry)
+        {
+            int index = Collections.binarySearch(this.services, entry, SERVICE_ENTRY_COMPARATOR);
+            index = index < 0 ? -index - 1 : index;
+
+            this.services.add(index, entry);
+            return index;
+        }
+
+        private void mark(int fromIndex, int toIndex, Consumer<Sign> changedSigns)
+        {
+            for (int index = fromIndex; index <= toIndex && index < this.signs.size(); index++)
+                changedSigns.accept(this.signs.get(index));
+        }
+    }
+}
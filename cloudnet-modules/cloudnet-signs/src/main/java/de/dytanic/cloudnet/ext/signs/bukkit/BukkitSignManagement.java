@@ -4,11 +4,8 @@ import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.collection.Pair;
-import de.dytanic.cloudnet.common.unsafe.CPUUsageResolver;
-import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 import de.dytanic.cloudnet.driver.service.ServiceLifeCycle;
-import de.dytanic.cloudnet.driver.service.ServiceTemplate;
 import de.dytanic.cloudnet.ext.signs.*;
 import de.dytanic.cloudnet.wrapper.Wrapper;
 import lombok.AllArgsConstructor;
@@ -25,20 +22,37 @@ import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+/**
+ * Renders the signs of the lobby. The services are bound to the signs by a {@link SignServiceAssignments}, which reports
+ * the signs, whose binding has changed with a service event. Only these signs are rendered again, the block updates are
+ * done in one task per tick with a max count of sign updates per tick.
+ */
 @Getter
 public final class BukkitSignManagement extends AbstractSignManagement {
 
+    private static final int SIGN_UPDATES_PER_TICK = Integer.getInteger("cloudnet.signs.updates.per.tick", 50);
+
     @Getter
     private static BukkitSignManagement instance;
 
-    private static final Comparator<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>>
-        ENTRY_COMPARATOR = new ServiceInfoSnapshotEntryComparator(),
-        ENTRY_COMPARATOR_2 = new ServiceInfoSnapshotEntryComparator2();
-
     private final Map<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> services = Maps.newConcurrentHashMap();
 
+    private final SignServiceAssignments assignments = new SignServiceAssignments();
+
+    private final Queue<Sign> changedSigns = Iterables.newConcurrentLinkedQueue();
+
+    private final Map<Long, Boolean> changedSignIds = Maps.newConcurrentHashMap();
+
+    private final Map<Long, Sign> startingSigns = Maps.newConcurrentHashMap(), searchingSigns = Maps.newConcurrentHashMap();
+
+    private final Map<Long, RenderedSign> renderedSigns = Maps.newConcurrentHashMap();
+
+    private final Map<SignLayout, SignLayoutTemplate> layoutTemplates = Collections.synchronizedMap(new IdentityHashMap<>());
+
     private final BukkitCloudNetSignsPlugin plugin;
 
+    private SignConfigurationEntry renderedSignConfiguration;
+
     public BukkitSignManagement(BukkitCloudNetSignsPlugin plugin)
     {
         instance = this;
@@ -46,10 +60,16 @@ public final class BukkitSignManagement extends AbstractSignManagement {
 
         this.plugin = plugin;
         this.signs = Iterables.newCopyOnWriteArrayList();
-        this.signs.addAll(getSignsFromNode());
+        this.signs.addAll(getSignsFromNode(Arrays.asList(Wrapper.getInstance().getServiceConfiguration().getGroups())));
+
+        for (Sign sign : this.signs)
+            if (this.isProvidedSign(sign))
+                this.assignments.addSign(sign, this::markSignChanged);
 
         this.executeSearchingTask();
         this.executeStartingTask();
+
+        Bukkit.getScheduler().runTaskTimer(this.plugin, this::flushSignUpdates, 1, 1);
     }
 
     @Override
@@ -60,8 +80,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, ServiceInfoState.STOPPED));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, ServiceInfoState.STOPPED);
     }
 
     @Override
@@ -72,8 +91,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, ServiceInfoState.STARTING));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, ServiceInfoState.STARTING);
     }
 
     @Override
@@ -84,8 +102,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, fromServiceInfoSnapshot(serviceInfoSnapshot, entry)));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, fromServiceInfoSnapshot(serviceInfoSnapshot, entry));
     }
 
     @Override
@@ -96,8 +113,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, fromServiceInfoSnapshot(serviceInfoSnapshot, entry)));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, fromServiceInfoSnapshot(serviceInfoSnapshot, entry));
     }
 
     @Override
@@ -108,8 +124,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, ServiceInfoState.STOPPED));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, ServiceInfoState.STOPPED);
     }
 
     @Override
@@ -120,8 +135,7 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         SignConfigurationEntry entry = getOwnSignConfigurationEntry();
         if (entry == null) return;
 
-        services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, ServiceInfoState.STOPPED));
-        this.updateSigns();
+        this.putService(serviceInfoSnapshot, ServiceInfoState.STOPPED);
     }
 
     @Override
@@ -133,7 +147,13 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         if (entry == null) return;
 
         services.remove(serviceInfoSnapshot.getServiceId().getUniqueId());
-        this.updateSigns();
+        this.assignments.removeService(serviceInfoSnapshot.getServiceId().getUniqueId(), this::markSignChanged);
+
+        synchronized (this.layoutTemplates)
+        {
+            for (SignLayoutTemplate signLayoutTemplate : this.layoutTemplates.values())
+                signLayoutTemplate.evict(serviceInfoSnapshot.getServiceId().getUniqueId());
+        }
     }
 
     @Override
@@ -142,7 +162,9 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         Validate.checkNotNull(sign);
 
         this.signs.add(sign);
-        CloudNetDriver.getInstance().getTaskScheduler().schedule(this::updateSigns);
+
+        if (this.isProvidedSign(sign))
+            this.assignments.addSign(sign, this::markSignChanged);
     }
 
     @Override
@@ -161,177 +183,192 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         if (signEntry != null)
             signs.remove(signEntry);
 
-        CloudNetDriver.getInstance().getTaskScheduler().schedule(this::updateSigns);
+        this.assignments.removeSign(sign, this::markSignChanged);
+
+        this.startingSigns.remove(sign.getSignId());
+        this.searchingSigns.remove(sign.getSignId());
+        this.renderedSigns.remove(sign.getSignId());
     }
 
     /*= -------------------------------------------------------------------------------- =*/
 
+    /**
+     * Renders all signs of this lobby again
+     */
     public void updateSigns()
     {
-        SignConfigurationEntry signConfiguration = getOwnSignConfigurationEntry();
-        if (signConfiguration == null) return;
+        for (Sign sign : this.signs)
+            if (this.isProvidedSign(sign))
+                this.markSignChanged(sign);
+    }
 
-        List<Sign> signs = Iterables.newArrayList(Iterables.filter(this.signs, new Predicate<Sign>() {
-            @Override
-            public boolean test(Sign sign)
-            {
-                return Iterables.contains(sign.getProvidedGroup(), Wrapper.getInstance().getServiceConfiguration().getGroups());
-            }
-        }));
+    private void putService(ServiceInfoSnapshot serviceInfoSnapshot, ServiceInfoState state)
+    {
+        this.services.put(serviceInfoSnapshot.getServiceId().getUniqueId(), new Pair<>(serviceInfoSnapshot, state));
 
-        Collections.sort(signs);
-        if (signs.isEmpty()) return;
+        if (state == ServiceInfoState.STOPPED)
+            this.assignments.removeService(serviceInfoSnapshot.getServiceId().getUniqueId(), this::markSignChanged);
+        else
+            this.assignments.updateService(serviceInfoSnapshot, state == ServiceInfoState.STARTING ? 1 : 0, this::markSignChanged);
+    }
 
-        List<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>> cachedFilter = Iterables.newArrayList();
-        List<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>> entries = Iterables.newArrayList(Iterables.filter(services.entrySet(),
-            new Predicate<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>>() {
-                @Override
-                public boolean test(Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> item)
-                {
-                    return item.getValue().getSecond() != ServiceInfoState.STOPPED;
-                }
-            }));
+    private void markSignChanged(Sign sign)
+    {
+        if (this.changedSignIds.put(sign.getSignId(), true) == null)
+            this.changedSigns.offer(sign);
+    }
 
-        entries.sort(ENTRY_COMPARATOR);
+    private boolean isProvidedSign(Sign sign)
+    {
+        return Iterables.contains(sign.getProvidedGroup(), Wrapper.getInstance().getServiceConfiguration().getGroups());
+    }
 
-        for (Sign sign : signs)
+    private void flushSignUpdates()
+    {
+        SignConfigurationEntry signConfiguration = getOwnSignConfigurationEntry();
+
+        if (signConfiguration != this.renderedSignConfiguration)
         {
+            this.renderedSignConfiguration = signConfiguration;
+            this.compileLayoutTemplates(signConfiguration);
+            this.updateSigns();
+        }
 
-            Location location = null;
-            Block block = null;
+        if (signConfiguration == null) return;
 
-            try
-            {
-                location = toLocation(sign.getWorldPosition());
-                block = location.getBlock();
-
-                if (!(block.getState() instanceof org.bukkit.block.Sign) &&
-                    block.getType() != Material.SIGN_POST &&
-                    block.getType() != Material.WALL_SIGN &&
-                    block.getType() != Material.SIGN)
-                {
-                    block = null;
-                    location = null;
-                    throw new Exception();
-                }
-
-            } catch (Throwable ignored)
-            {
-            }
+        Sign sign;
 
-            if (location == null || block == null) continue;
+        for (int count = 0; count < SIGN_UPDATES_PER_TICK && (sign = this.changedSigns.poll()) != null; count++)
+        {
+            this.changedSignIds.remove(sign.getSignId());
 
-            Iterables.filter(entries, new Predicate<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>>() {
+            if (this.assignments.containsSign(sign))
+                this.renderSign(sign, signConfiguration);
+        }
+    }
 
-                @Override
-                public boolean test(Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> entry)
-                {
-                    boolean access = Iterables.contains(sign.getTargetGroup(), entry.getValue().getFirst().getConfiguration().getGroups());
+    private void renderSign(Sign sign, SignConfigurationEntry signConfiguration)
+    {
+        Location location = toLocation(sign.getWorldPosition());
 
-                    if (sign.getTemplatePath() != null)
-                    {
-                        boolean condition = false;
+        if (location == null || !(location.getBlock().getState() instanceof org.bukkit.block.Sign)) return;
 
-                        for (ServiceTemplate template : entry.getValue().getFirst().getConfiguration().getTemplates())
-                            if (sign.getTemplatePath().equals(template.getTemplatePath()))
-                            {
-                                condition = true;
-                                break;
-                            }
+        ServiceInfoSnapshot serviceInfoSnapshot = this.assignments.getService(sign);
+        Pair<ServiceInfoSnapshot, ServiceInfoState> entry = serviceInfoSnapshot != null ? this.services.get(serviceInfoSnapshot.getServiceId().getUniqueId()) : null;
 
-                        access = condition;
-                    }
+        ServiceInfoState state = entry != null ? entry.getSecond() : ServiceInfoState.STOPPED;
+        SignLayout signLayout = null;
 
-                    return access;
-                }
+        if (entry != null) serviceInfoSnapshot = entry.getFirst();
 
-            }, cachedFilter);
+        this.startingSigns.remove(sign.getSignId());
+        this.searchingSigns.remove(sign.getSignId());
 
-            cachedFilter.sort(ENTRY_COMPARATOR_2);
+        switch (state)
+        {
+            case STOPPED:
+            {
+                sign.setServiceInfoSnapshot(null);
+                serviceInfoSnapshot = null;
+                this.searchingSigns.put(sign.getSignId(), sign);
 
-            if (!cachedFilter.isEmpty())
+                signLayout = getAnimationLayout(signConfiguration.getSearchLayouts(), indexes[1].get());
+            }
+            break;
+            case STARTING:
             {
-                Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> entry = cachedFilter.get(0);
+                sign.setServiceInfoSnapshot(null);
+                this.startingSigns.put(sign.getSignId(), sign);
 
-                sign.setServiceInfoSnapshot(entry.getValue().getFirst());
+                signLayout = getAnimationLayout(signConfiguration.getStartingLayouts(), indexes[0].get());
+            }
+            break;
+            case EMPTY_ONLINE:
+            {
+                sign.setServiceInfoSnapshot(serviceInfoSnapshot);
 
-                switch (entry.getValue().getSecond())
-                {
-                    case STOPPED:
-                    {
-                        sign.setServiceInfoSnapshot(null);
+                SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
 
-                        if (!signConfiguration.getSearchLayouts().getSignLayouts().isEmpty())
-                            updateSignNext(location, sign, block, signConfiguration.getSearchLayouts().getSignLayouts().get(indexes[1].get()), null);
-                    }
-                    break;
-                    case STARTING:
-                    {
-                        sign.setServiceInfoSnapshot(null);
+                if (taskEntry != null)
+                    signLayout = taskEntry.getEmptyLayout();
 
-                        if (!signConfiguration.getStartingLayouts().getSignLayouts().isEmpty())
-                            updateSignNext(location, sign, block, signConfiguration.getStartingLayouts().getSignLayouts().get(indexes[0].get()), entry.getValue().getFirst());
-                    }
-                    break;
-                    case EMPTY_ONLINE:
-                    {
-                        SignLayout signLayout = null;
+                if (signLayout == null)
+                    signLayout = signConfiguration.getDefaultEmptyLayout();
+            }
+            break;
+            case ONLINE:
+            {
+                sign.setServiceInfoSnapshot(serviceInfoSnapshot);
 
-                        SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
+                SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
 
-                        if (taskEntry != null)
-                            signLayout = taskEntry.getEmptyLayout();
+                if (taskEntry != null)
+                    signLayout = taskEntry.getOnlineLayout();
 
-                        if (signLayout == null)
-                            signLayout = signConfiguration.getDefaultEmptyLayout();
+                if (signLayout == null)
+                    signLayout = signConfiguration.getDefaultOnlineLayout();
+            }
+            break;
+            case FULL_ONLINE:
+            {
+                sign.setServiceInfoSnapshot(serviceInfoSnapshot);
 
-                        updateSignNext(location, sign, block, signLayout, entry.getValue().getFirst());
-                    }
-                    break;
-                    case ONLINE:
-                    {
-                        SignLayout signLayout = null;
+                SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
 
-                        SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
+                if (taskEntry != null)
+                    signLayout = taskEntry.getFullLayout();
 
-                        if (taskEntry != null)
-                            signLayout = taskEntry.getOnlineLayout();
+                if (signLayout == null)
+                    signLayout = signConfiguration.getDefaultFullLayout();
+            }
+            break;
+        }
 
-                        if (signLayout == null)
-                            signLayout = signConfiguration.getDefaultOnlineLayout();
+        if (signLayout != null)
+            this.updateSign(location, sign, (org.bukkit.block.Sign) location.getBlock().getState(), signLayout, serviceInfoSnapshot);
+    }
 
-                        updateSignNext(location, sign, block, signLayout, entry.getValue().getFirst());
-                    }
-                    break;
-                    case FULL_ONLINE:
-                    {
-                        SignLayout signLayout = null;
+    /**
+     * Compiles all layouts of the configuration, including every frame of the starting and searching animations, so an
+     * animation tick only swaps the prerendered lines of the animated signs
+     */
+    private void compileLayoutTemplates(SignConfigurationEntry signConfiguration)
+    {
+        this.layoutTemplates.clear();
 
-                        SignConfigurationTaskEntry taskEntry = getValidSignConfigurationTaskEntryFromSignConfigurationEntry(signConfiguration, sign.getTargetGroup());
+        if (signConfiguration == null) return;
 
-                        if (taskEntry != null)
-                            signLayout = taskEntry.getFullLayout();
+        this.getLayoutTemplate(signConfiguration.getDefaultOnlineLayout());
+        this.getLayoutTemplate(signConfiguration.getDefaultEmptyLayout());
+        this.getLayoutTemplate(signConfiguration.getDefaultFullLayout());
 
-                        if (signLayout == null)
-                            signLayout = signConfiguration.getDefaultFullLayout();
+        if (signConfiguration.getTaskLayouts() != null)
+            for (SignConfigurationTaskEntry taskEntry : signConfiguration.getTaskLayouts())
+            {
+                this.getLayoutTemplate(taskEntry.getOnlineLayout());
+                this.getLayoutTemplate(taskEntry.getEmptyLayout());
+                this.getLayoutTemplate(taskEntry.getFullLayout());
+            }
 
-                        updateSignNext(location, sign, block, signLayout, entry.getValue().getFirst());
-                    }
-                    break;
-                }
+        for (SignLayoutConfiguration signLayoutConfiguration : new SignLayoutConfiguration[]{signConfiguration.getStartingLayouts(), signConfiguration.getSearchLayouts()})
+            if (signLayoutConfiguration != null && signLayoutConfiguration.getSignLayouts() != null)
+                for (SignLayout signLayout : signLayoutConfiguration.getSignLayouts())
+                    this.getLayoutTemplate(signLayout);
+    }
 
-                entries.remove(entry);
+    private SignLayoutTemplate getLayoutTemplate(SignLayout signLayout)
+    {
+        if (signLayout == null) return null;
 
-            } else
-            {
-                sign.setServiceInfoSnapshot(null);
+        return this.layoutTemplates.computeIfAbsent(signLayout, key -> new SignLayoutTemplate(key, line -> ChatColor.translateAlternateColorCodes('&', line)));
+    }
 
-                if (!signConfiguration.getSearchLayouts().getSignLayouts().isEmpty())
-                    updateSignNext(location, sign, block, signConfiguration.getSearchLayouts().getSignLayouts().get(indexes[1].get()), null);
-            }
+    private SignLayout getAnimationLayout(SignLayoutConfiguration signLayoutConfiguration, int index)
+    {
+        if (signLayoutConfiguration == null || signLayoutConfiguration.getSignLayouts() == null || signLayoutConfiguration.getSignLayouts().isEmpty())
+            return null;
 
-            cachedFilter.clear();
-        }
+        return signLayoutConfiguration.getSignLayouts().get(Math.max(index, 0) % signLayoutConfiguration.getSignLayouts().size());
     }
 
     private SignConfigurationTaskEntry getValidSignConfigurationTaskEntryFromSignConfigurationEntry(SignConfigurationEntry entry, String targetTask)
@@ -380,19 +417,6 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         return null;
     }
 
-    private void updateSignNext(Location location, Sign sign, Block block, SignLayout signLayout, ServiceInfoSnapshot serviceInfoSnapshot)
-    {
-        Bukkit.getScheduler().runTask(this.plugin, new Runnable() {
-            @Override
-            public void run()
-            {
-                org.bukkit.block.Sign bukkitSign = (org.bukkit.block.Sign) block.getState();
-
-                updateSign(location, sign, bukkitSign, signLayout, serviceInfoSnapshot);
-            }
-        });
-    }
-
     private void updateSign(Location location, Sign sign, org.bukkit.block.Sign bukkitSign, SignLayout signLayout, ServiceInfoSnapshot serviceInfoSnapshot) //serviceInfoSnapshot nullable
     {
         Validate.checkNotNull(location);
@@ -402,10 +426,14 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         if (signLayout.getLines() != null &&
             signLayout.getLines().length == 4)
         {
-            String[] lines = new String[4];
+            String[] lines = this.getLayoutTemplate(signLayout).render(sign, serviceInfoSnapshot);
 
-            for (int i = 0; i < lines.length; i++)
-                lines[i] = addDataToLine(sign, signLayout.getLines()[i], serviceInfoSnapshot);
+            RenderedSign renderedSign = this.renderedSigns.get(sign.getSignId());
+
+            if (renderedSign != null && renderedSign.signLayout == signLayout && Arrays.equals(renderedSign.lines, lines))
+                return;
+
+            this.renderedSigns.put(sign.getSignId(), new RenderedSign(signLayout, lines));
 
             bukkitSign.setLine(0, lines[0]);
             bukkitSign.setLine(1, lines[1]);
@@ -417,42 +445,6 @@ public final class BukkitSignManagement extends AbstractSignManagement {
         }
     }
 
-    private String addDataToLine(Sign sign, String input, ServiceInfoSnapshot serviceInfoSnapshot)
-    {
-        Validate.checkNotNull(input);
-
-        if (serviceInfoSnapshot == null) return ChatColor.translateAlternateColorCodes('&', input);
-
-        input = input.replace("%task%", serviceInfoSnapshot.getServiceId().getTaskName() + "");
-        input = input.replace("%task_id%", serviceInfoSnapshot.getServiceId().getTaskServiceId() + "");
-        input = input.replace("%group%", sign.getTargetGroup() + "");
-        input = input.replace("%name%", serviceInfoSnapshot.getServiceId().getName() + "");
-        input = input.replace("%uuid%", serviceInfoSnapshot.getServiceId().getUniqueId().toString().split("-")[0] + "");
-        input = input.replace("%node%", serviceInfoSnapshot.getServiceId().getNodeUniqueId() + "");
-        input = input.replace("%environment%", serviceInfoSnapshot.getServiceId().getEnvironment() + "");
-        input = input.replace("%life_cycle%", serviceInfoSnapshot.getLifeCycle() + "");
-        input = input.replace("%runtime%", serviceInfoSnapshot.getConfiguration().getRuntime() + "");
-        input = input.replace("%port%", serviceInfoSnapshot.getConfiguration().getPort() + "");
-        input = input.replace("%cpu_usage%", CPUUsageResolver.CPU_USAGE_OUTPUT_FORMAT.format(serviceInfoSnapshot.getProcessSnapshot().getCpuUsage()) + "");
-        input = input.replace("%threads%", serviceInfoSnapshot.getProcessSnapshot().getThreads().size() + "");
-        input = input.replace("%online%",
-            (serviceInfoSnapshot.getProperties().contains("Online") && serviceInfoSnapshot.getProperties().getBoolean("Online")
-                ? "Online" : "Offline"
-            ) + "");
-        input = input.replace("%online_players%", serviceInfoSnapshot.getProperties().getInt("Online-Count") + "");
-        input = input.replace("%max_players%", serviceInfoSnapshot.getProperties().getInt("Max-Players") + "");
-        input = input.replace("%motd%", serviceInfoSnapshot.getProperties().getString("Motd") + "");
-        input = input.replace("%extra%", serviceInfoSnapshot.getProperties().getString("Extra") + "");
-        input = input.replace("%state%", serviceInfoSnapshot.getProperties().getString("State") + "");
-        input = input.replace("%version%", serviceInfoSnapshot.getProperties().getString("Version") + "");
-        input = input.replace("%whitelist%", (serviceInfoSnapshot.getProperties().contains("Whitelist-Enabled") &&
-            serviceInfoSnapshot.getProperties().getBoolean("Whitelist-Enabled")
-            ? "Enabled" : "Disabled"
-        ) + "");
-
-        return ChatColor.translateAlternateColorCodes('&', input);
-    }
-
     private void changeBlock(Location location, String blockType, int subId)
     {
         Validate.checkNotNull(location);
@@ -620,7 +612,8 @@ public final class BukkitSignManagement extends AbstractSignManagement {
             Bukkit.getScheduler().runTaskLater(this.plugin, this::executeStartingTask, 20);
         }
 
-        CloudNetDriver.getInstance().getTaskScheduler().schedule(this::updateSigns);
+        for (Sign sign : this.startingSigns.values())
+            this.markSignChanged(sign);
     }
 
     private void executeSearchingTask()
@@ -649,25 +642,17 @@ public final class BukkitSignManagement extends AbstractSignManagement {
             Bukkit.getScheduler().runTaskLater(this.plugin, this::executeSearchingTask, 20);
         }
 
-        CloudNetDriver.getInstance().getTaskScheduler().schedule(this::updateSigns);
+        for (Sign sign : this.searchingSigns.values())
+            this.markSignChanged(sign);
     }
 
-    private static final class ServiceInfoSnapshotEntryComparator implements Comparator<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>> {
+    @AllArgsConstructor
+    private static final class RenderedSign {
 
-        @Override
-        public int compare(Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> o1, Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> o2)
-        {
-            return o1.getValue().getFirst().getServiceId().getName().compareTo(o2.getValue().getFirst().getServiceId().getName());
-        }
-    }
+        private final SignLayout signLayout;
 
-    private static final class ServiceInfoSnapshotEntryComparator2 implements Comparator<Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>>> {
+        private final String[] lines;
 
-        @Override
-        public int compare(Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> o1, Map.Entry<UUID, Pair<ServiceInfoSnapshot, ServiceInfoState>> o2)
-        {
-            return o1.getValue().getSecond().getValue() + o2.getValue().getSecond().getValue();
-        }
     }
 
     @Getter
@@ -1,13 +1,13 @@
 package de.dytanic.cloudnet.ext.signs.node;
 
-import de.dytanic.cloudnet.CloudNet;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
-import de.dytanic.cloudnet.database.IDatabase;
 import de.dytanic.cloudnet.driver.module.ModuleLifeCycle;
 import de.dytanic.cloudnet.driver.module.ModuleTask;
-import de.dytanic.cloudnet.driver.util.DefaultModuleHelper;
+import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerChannelMessage;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
 import de.dytanic.cloudnet.ext.signs.Sign;
 import de.dytanic.cloudnet.ext.signs.SignConfiguration;
 import de.dytanic.cloudnet.ext.signs.SignConfigurationReaderAndWriter;
@@ -17,17 +17,16 @@ import de.dytanic.cloudnet.ext.signs.node.http.V1SignConfigurationHttpHandler;
 import de.dytanic.cloudnet.ext.signs.node.listener.CloudNetSignsModuleListener;
 import de.dytanic.cloudnet.ext.signs.node.listener.IncludePluginListener;
 import de.dytanic.cloudnet.module.NodeCloudNetModule;
+import de.dytanic.cloudnet.service.ICloudService;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.File;
 import java.util.Collection;
-import java.util.function.Predicate;
+import java.util.Map;
 
 public final class CloudNetSignsModule extends NodeCloudNetModule {
 
-    private static final String SIGN_STORE_DOCUMENT = "signs_store";
-
     @Getter
     private static CloudNetSignsModule instance;
 
@@ -38,6 +37,9 @@ public final class CloudNetSignsModule extends NodeCloudNetModule {
     @Getter
     private File configurationFile;
 
+    @Getter
+    private final NodeSignStore signStore = new NodeSignStore();
+
     public CloudNetSignsModule()
     {
         instance = this;
@@ -69,55 +71,112 @@ public final class CloudNetSignsModule extends NodeCloudNetModule {
         getHttpServer().registerHandler("/api/v1/modules/signs/config", new V1SignConfigurationHttpHandler("cloudnet.http.v1.modules.signs.config"));
     }
 
-    public void addSignToFile(Sign sign)
+    @ModuleTask(order = 126, event = ModuleLifeCycle.STARTED)
+    public void loadSigns()
+    {
+        signStore.load();
+    }
+
+    /**
+     * Adds the sign to the store and sends it to the lobbies of its group
+     *
+     * @param sign  the sign, which should be added
+     * @param local true, if the sign was created on a service of this node, so it is persisted and published to the
+     *              other nodes of the cluster
+     */
+    public void addSign(Sign sign, boolean local)
+    {
+        this.addSign(sign, local, local);
+    }
+
+    private void addSign(Sign sign, boolean persist, boolean local)
     {
         Validate.checkNotNull(sign);
 
-        Collection<Sign> signs = this.loadSigns();
-        signs.add(sign);
+        Sign previousSign = signStore.add(sign, persist);
+
+        if (sign.equals(previousSign)) return;
+
+        if (previousSign != null)
+            this.publishSignUpdate(SignConstants.SIGN_CHANNEL_REMOVE_SIGN_MESSAGE, previousSign);
+
+        this.publishSignUpdate(SignConstants.SIGN_CHANNEL_ADD_SIGN_MESSAGE, sign);
 
-        this.write(signs);
+        if (local)
+            this.publishClusterSignUpdate(SignConstants.SIGN_CHANNEL_ADD_SIGN_MESSAGE, sign);
     }
 
-    public void removeSignToFile(Sign sign)
+    /**
+     * Removes the sign at the position of the given sign from the store and from the lobbies of its group
+     *
+     * @param sign  the sign, which should be removed
+     * @param local true, if the sign was removed on a service of this node, so the sign is deleted from the database and
+     *              the removal is published to the other nodes of the cluster
+     */
+    public void removeSign(Sign sign, boolean local)
+    {
+        this.removeSign(sign, local, local);
+    }
+
+    private void removeSign(Sign sign, boolean persist, boolean local)
     {
         Validate.checkNotNull(sign);
 
-        Collection<Sign> signs = this.loadSigns();
+        Sign removedSign = signStore.remove(sign, persist);
 
-        Sign first = Iterables.first(signs, new Predicate<Sign>() {
-            @Override
-            public boolean test(Sign s)
-            {
-                return sign.getSignId() == s.getSignId();
-            }
-        });
+        if (removedSign == null) return;
 
-        if (first != null)
-            signs.remove(first);
+        this.publishSignUpdate(SignConstants.SIGN_CHANNEL_REMOVE_SIGN_MESSAGE, removedSign);
 
-        signs.remove(first);
-        this.write(signs);
+        if (local)
+            this.publishClusterSignUpdate(SignConstants.SIGN_CHANNEL_REMOVE_SIGN_MESSAGE, removedSign);
     }
 
-    public Collection<Sign> loadSigns()
+    /**
+     * Replaces the signs of the store with the signs of another node. Only the differences are sent to the lobbies and
+     * written into the database, so removed signs don't come back with the next load of the store.
+     */
+    public void setSigns(Collection<Sign> signs)
     {
-        IDatabase database = getDatabaseProvider().getDatabase(DefaultModuleHelper.DEFAULT_CONFIGURATION_DATABASE_NAME);
-        JsonDocument document = database.get(SIGN_STORE_DOCUMENT);
+        Validate.checkNotNull(signs);
+
+        Map<Long, Sign> signsById = Maps.newHashMap();
+
+        for (Sign sign : signs)
+            if (sign != null && sign.getWorldPosition() != null)
+                signsById.put(sign.getSignId(), sign);
 
-        return document != null ? document.get("signs", SignConstants.COLLECTION_SIGNS, Iterables.newArrayList()) : Iterables.newArrayList();
+        for (Sign sign : signStore.getSigns())
+            if (!signsById.containsKey(sign.getSignId()))
+                this.removeSign(sign, true, false);
+
+        for (Sign sign : signsById.values())
+            this.addSign(sign, true, false);
     }
 
-    public void write(Collection<Sign> signs)
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private void publishSignUpdate(String message, Sign sign)
     {
-        Validate.checkNotNull(signs);
+        Packet packet = null;
 
-        IDatabase database = getDatabaseProvider().getDatabase(DefaultModuleHelper.DEFAULT_CONFIGURATION_DATABASE_NAME);
-        JsonDocument document = database.get(SIGN_STORE_DOCUMENT);
+        for (ICloudService cloudService : getCloudNet().getCloudServiceManager().getCloudServices().values())
+        {
+            if (cloudService.getNetworkChannel() == null ||
+                !Iterables.contains(sign.getProvidedGroup(), cloudService.getServiceConfiguration().getGroups()))
+                continue;
 
-        if (document == null)
-            document = new JsonDocument();
+            if (packet == null)
+                packet = new PacketClientServerChannelMessage(SignConstants.SIGN_CHANNEL_NAME, message, new JsonDocument("sign", sign));
 
-        database.update(SIGN_STORE_DOCUMENT, document.append("signs", signs));
+            cloudService.getNetworkChannel().sendPacket(packet);
+        }
+    }
+
+    private void publishClusterSignUpdate(String message, Sign sign)
+    {
+        getCloudNet().getClusterNodeServerProvider().sendPacket(
+            new PacketClientServerChannelMessage(SignConstants.SIGN_CLUSTER_CHANNEL_NAME, message, new JsonDocument("sign", sign))
+        );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package de.dytanic.cloudnet.ext.signs.node;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.database.AbstractDatabaseProvider;
+import de.dytanic.cloudnet.database.IDatabase;
+import de.dytanic.cloudnet.driver.util.DefaultModuleHelper;
+import de.dytanic.cloudnet.ext.signs.Sign;
+import de.dytanic.cloudnet.ext.signs.SignConstants;
+import de.dytanic.cloudnet.ext.signs.SignPosition;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Stores every sign as an own document of the signs database, keyed by the world position of the sign. The signs are
+ * kept in memory too, indexed by their position and by the lobby group, which provides the sign, so adding or removing a
+ * sign only writes one document and a lobby only loads the signs of its own groups.
+ * <p>
+ * The signs of the old "signs_store" document are moved into the signs database by the first load.
+ */
+public final class NodeSignStore {
+
+    public static final String DATABASE_NAME = "cloudNet_module_signs";
+
+    private static final String LEGACY_SIGN_STORE_DOCUMENT = "signs_store";
+
+    private final Map<String, Sign> signs = Maps.newHashMap();
+
+    private final Map<String, Map<String, Sign>> signsByGroup = Maps.newHashMap();
+
+    private final Supplier<AbstractDatabaseProvider> databaseProvider;
+
+    public NodeSignStore()
+    {
+        this(() -> CloudNet.getInstance().getDatabaseProvider());
+    }
+
+    NodeSignStore(Supplier<AbstractDatabaseProvider> databaseProvider)
+    {
+        this.databaseProvider = databaseProvider;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public synchronized void load()
+    {
+        this.signs.clear();
+        this.signsByGroup.clear();
+
+        IDatabase database = this.getDatabase();
+        IDatabase configurationDatabase = this.databaseProvider.get().getDatabase(DefaultModuleHelper.DEFAULT_CONFIGURATION_DATABASE_NAME);
+        JsonDocument legacyDocument = configurationDatabase.get(LEGACY_SIGN_STORE_DOCUMENT);
+
+        if (legacyDocument != null)
+        {
+            Collection<Sign> legacySigns = legacyDocument.get("signs", SignConstants.COLLECTION_SIGNS, Iterables.newArrayList());
+
+            for (Sign sign : legacySigns)
+                if (sign != null && sign.getWorldPosition() != null)
+                    database.update(positionKey(sign.getWorldPosition()), new JsonDocument("sign", sign));
+
+            configurationDatabase.delete(LEGACY_SIGN_STORE_DOCUMENT);
+        }
+
+        for (JsonDocument document : database.documents())
+        {
+            Sign sign = document.get("sign", Sign.TYPE);
+
+            if (sign != null && sign.getWorldPosition() != null)
+                this.put(sign);
+        }
+    }
+
+    /**
+     * Adds the sign or replaces the sign at the same position
+     *
+     * @param sign    the sign, which should be added
+     * @param persist true, if the sign should be written into the database
+     * @return the replaced sign or null
+     */
+    public synchronized Sign add(Sign sign, boolean persist)
+    {
+        Validate.checkNotNull(sign);
+        Validate.checkNotNull(sign.getWorldPosition());
+
+        Sign previousSign = this.put(sign);
+
+        if (persist && !sign.equals(previousSign))
+            this.getDatabase().update(positionKey(sign.getWorldPosition()), new JsonDocument("sign", sign));
+
+        return previousSign;
+    }
+
+    /**
+     * Removes the sign at the position of the given sign
+     *
+     * @param sign    the sign, which should be removed
+     * @param persist true, if the sign should be deleted from the database
+     * @return the removed sign or null, if there is no sign at the position
+     */
+    public synchronized Sign remove(Sign sign, boolean persist)
+    {
+        Validate.checkNotNull(sign);
+        Validate.checkNotNull(sign.getWorldPosition());
+
+        String key = positionKey(sign.getWorldPosition());
+        Sign removedSign = this.signs.remove(key);
+
+        if (removedSign == null) return null;
+
+        this.removeFromGroup(removedSign.getProvidedGroup(), key);
+
+        if (persist)
+            this.getDatabase().delete(key);
+
+        return removedSign;
+    }
+
+    public synchronized Collection<Sign> getSigns()
+    {
+        return Iterables.newArrayList(this.signs.values());
+    }
+
+    /**
+     * Returns the signs, which are provided by one of the given lobby groups
+     */
+    public synchronized Collection<Sign> getSigns(Collection<String> groups)
+    {
+        Validate.checkNotNull(groups);
+
+        Collection<Sign> signs = Iterables.newArrayList();
+
+        for (String group : groups)
+        {
+            Map<String, Sign> groupSigns = this.signsByGroup.get(group);
+
+            if (groupSigns != null)
+                signs.addAll(groupSigns.values());
+        }
+
+        return signs;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private Sign put(Sign sign)
+    {
+        String key = positionKey(sign.getWorldPosition());
+        Sign previousSign = this.signs.put(key, sign);
+
+        if (previousSign != null)
+            this.removeFromGroup(previousSign.getProvidedGroup(), key);
+
+        this.signsByGroup.computeIfAbsent(sign.getProvidedGroup(), group -> Maps.newHashMap()).put(key, sign);
+
+        return previousSign;
+    }
+
+    private void removeFromGroup(String group, String key)
+    {
+        Map<String, Sign> groupSigns = this.signsByGroup.get(group);
+
+        if (groupSigns == null) return;
+
+        groupSigns.remove(key);
+
+        if (groupSigns.isEmpty())
+            this.signsByGroup.remove(group);
+    }
+
+    private IDatabase getDatabase()
+    {
+        return this.databaseProvider.get().getDatabase(DATABASE_NAME);
+    }
+
+    static String positionKey(SignPosition signPosition)
+    {
+        return signPosition.getGroup() + ":" + signPosition.getWorld() + ":" +
+            (int) Math.floor(signPosition.getX()) + ":" +
+            (int) Math.floor(signPosition.getY()) + ":" +
+            (int) Math.floor(signPosition.getZ());
+    }
+}
@@ -1,5 +1,6 @@
 package de.dytanic.cloudnet.ext.signs.node.listener;
 
+import com.google.gson.reflect.TypeToken;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
@@ -11,10 +12,15 @@ import de.dytanic.cloudnet.ext.signs.SignConfigurationReaderAndWriter;
 import de.dytanic.cloudnet.ext.signs.SignConstants;
 import de.dytanic.cloudnet.ext.signs.node.CloudNetSignsModule;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 
 public final class CloudNetSignsModuleListener {
 
+    private static final Type TYPE_COLLECTION_STRING = new TypeToken<Collection<String>>() {
+    }.getType();
+
     @EventListener
     public void handle(NetworkChannelAuthClusterNodeSuccessEvent event)
     {
@@ -23,7 +29,7 @@ public final class CloudNetSignsModuleListener {
             SignConstants.SIGN_CHANNEL_UPDATE_SIGN_CONFIGURATION,
             new JsonDocument()
                 .append("signConfiguration", CloudNetSignsModule.getInstance().getSignConfiguration())
-                .append("signs", CloudNetSignsModule.getInstance().loadSigns())
+                .append("signs", CloudNetSignsModule.getInstance().getSignStore().getSigns())
         );
     }
 
@@ -36,7 +42,32 @@ public final class CloudNetSignsModuleListener {
         {
             case SignConstants.SIGN_CHANNEL_SYNC_ID_GET_SIGNS_COLLECTION_PROPERTY:
             {
-                event.setCallbackPacket(new JsonDocument("signs", CloudNetSignsModule.getInstance().loadSigns()));
+                Collection<String> groups = event.getHeader().get("groups", TYPE_COLLECTION_STRING);
+
+                event.setCallbackPacket(new JsonDocument("signs", groups != null ?
+                    CloudNetSignsModule.getInstance().getSignStore().getSigns(groups) :
+                    CloudNetSignsModule.getInstance().getSignStore().getSigns()
+                ));
+            }
+            break;
+            case SignConstants.SIGN_CHANNEL_SYNC_ID_ADD_SIGN_PROPERTY:
+            {
+                Sign sign = event.getHeader().get("sign", Sign.TYPE);
+
+                if (sign != null && sign.getWorldPosition() != null)
+                    CloudNetSignsModule.getInstance().addSign(sign, true);
+
+                event.setCallbackPacket(new JsonDocument());
+            }
+            break;
+            case SignConstants.SIGN_CHANNEL_SYNC_ID_REMOVE_SIGN_PROPERTY:
+            {
+                Sign sign = event.getHeader().get("sign", Sign.TYPE);
+
+                if (sign != null && sign.getWorldPosition() != null)
+                    CloudNetSignsModule.getInstance().removeSign(sign, true);
+
+                event.setCallbackPacket(new JsonDocument());
             }
             break;
             case SignConstants.SIGN_CHANNEL_SYNC_ID_GET_SIGNS_CONFIGURATION_PROPERTY:
@@ -61,34 +92,25 @@ public final class CloudNetSignsModuleListener {
                     CloudNetSignsModule.getInstance().setSignConfiguration(signConfiguration);
                     SignConfigurationReaderAndWriter.write(signConfiguration, CloudNetSignsModule.getInstance().getConfigurationFile());
 
-                    CloudNetSignsModule.getInstance().write(signs);
+                    CloudNetSignsModule.getInstance().setSigns(signs != null ? signs : Collections.emptyList());
                 }
                 break;
-            }
-
-        if (event.getChannel().equals(SignConstants.SIGN_CHANNEL_NAME))
-            switch (event.getMessage().toLowerCase())
-            {
                 case SignConstants.SIGN_CHANNEL_ADD_SIGN_MESSAGE:
                 {
                     Sign sign = event.getData().get("sign", Sign.TYPE);
 
-                    if (sign != null)
-                    {
-                        CloudNetSignsModule.getInstance().addSignToFile(sign);
-                    }
+                    if (sign != null && sign.getWorldPosition() != null)
+                        CloudNetSignsModule.getInstance().addSign(sign, false);
                 }
                 break;
                 case SignConstants.SIGN_CHANNEL_REMOVE_SIGN_MESSAGE:
                 {
                     Sign sign = event.getData().get("sign", Sign.TYPE);
 
-                    if (sign != null)
-                    {
-                        CloudNetSignsModule.getInstance().removeSignToFile(sign);
-                    }
+                    if (sign != null && sign.getWorldPosition() != null)
+                        CloudNetSignsModule.getInstance().removeSign(sign, false);
                 }
                 break;
             }
     }
-}
\ No newline at end of file
+}
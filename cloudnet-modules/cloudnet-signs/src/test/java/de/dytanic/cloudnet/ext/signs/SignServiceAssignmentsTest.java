@@ -0,0 +1,156 @@
+package de.dytanic.cloudnet.ext.signs;
+
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.driver.service.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public final class SignServiceAssignmentsTest {
+
+    @Test
+    public void testSignMarking()
+    {
+        SignServiceAssignments assignments = new SignServiceAssignments();
+        List<Sign> changedSigns = Iterables.newArrayList();
+
+        Sign first = this.createSign(1, "Lobby", null), second = this.createSign(2, "Lobby", null),
+            third = this.createSign(3, "Lobby", null);
+
+        assignments.addSign(second, changedSigns::add);
+        assignments.addSign(third, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(second, third), changedSigns);
+
+        ServiceInfoSnapshot lobby = this.createServiceInfoSnapshot(1, "Lobby");
+        assignments.updateService(lobby, 0, sign -> {
+        });
+
+        Assert.assertEquals(lobby, assignments.getService(second));
+        Assert.assertNull(assignments.getService(third));
+
+        //a sign in front of the other signs moves all following signs to the next service
+        changedSigns.clear();
+        assignments.addSign(first, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(first, second, third), changedSigns);
+        Assert.assertEquals(lobby, assignments.getService(first));
+        Assert.assertNull(assignments.getService(second));
+
+        assignments.addSign(first, sign -> Assert.fail());
+
+        changedSigns.clear();
+        assignments.removeSign(first, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(second, third), changedSigns);
+        Assert.assertFalse(assignments.containsSign(first));
+        Assert.assertNull(assignments.getService(first));
+        Assert.assertEquals(lobby, assignments.getService(second));
+
+        assignments.removeSign(first, sign -> Assert.fail());
+
+        //a sign of another group doesn't change the signs of the lobby group
+        Sign templateSign = this.createSign(4, null, "Lobby/default");
+
+        changedSigns.clear();
+        assignments.addSign(templateSign, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(templateSign), changedSigns);
+        Assert.assertEquals(lobby, assignments.getService(templateSign));
+    }
+
+    @Test
+    public void testServiceReorder()
+    {
+        SignServiceAssignments assignments = new SignServiceAssignments();
+        List<Sign> changedSigns = Iterables.newArrayList();
+
+        Sign first = this.createSign(1, "Lobby", null), second = this.createSign(2, "Lobby", null),
+            third = this.createSign(3, "Lobby", null), fourth = this.createSign(4, "Lobby", null);
+
+        for (Sign sign : Arrays.asList(first, second, third, fourth))
+            assignments.addSign(sign, changedSigns::add);
+
+        ServiceInfoSnapshot lobby1 = this.createServiceInfoSnapshot(1, "Lobby"), lobby2 = this.createServiceInfoSnapshot(2, "Lobby"),
+            lobby3 = this.createServiceInfoSnapshot(3, "Lobby");
+
+        changedSigns.clear();
+        assignments.updateService(lobby1, 0, changedSigns::add);
+        assignments.updateService(lobby2, 0, changedSigns::add);
+        assignments.updateService(lobby3, 0, changedSigns::add);
+        assignments.updateService(this.createServiceInfoSnapshot(4, "Other"), 0, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(first, second, third), changedSigns);
+        Assert.assertEquals(lobby1, assignments.getService(first));
+        Assert.assertEquals(lobby3, assignments.getService(third));
+        Assert.assertNull(assignments.getService(fourth));
+
+        //an update without a new priority only changes the sign of the service
+        changedSigns.clear();
+        assignments.updateService(lobby2, 0, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(second), changedSigns);
+
+        //a new priority changes the signs between the old and the new position of the service
+        changedSigns.clear();
+        assignments.updateService(lobby3, -1, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(first, second, third), changedSigns);
+        Assert.assertEquals(lobby3, assignments.getService(first));
+        Assert.assertEquals(lobby1, assignments.getService(second));
+        Assert.assertEquals(lobby2, assignments.getService(third));
+
+        changedSigns.clear();
+        assignments.updateService(lobby1, 1, changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(second, third), changedSigns);
+        Assert.assertEquals(lobby2, assignments.getService(second));
+        Assert.assertEquals(lobby1, assignments.getService(third));
+
+        //a removed service moves the following services to the previous signs
+        changedSigns.clear();
+        assignments.removeService(lobby3.getServiceId().getUniqueId(), changedSigns::add);
+
+        Assert.assertEquals(Arrays.asList(first, second, third), changedSigns);
+        Assert.assertEquals(lobby2, assignments.getService(first));
+        Assert.assertEquals(lobby1, assignments.getService(second));
+        Assert.assertNull(assignments.getService(third));
+    }
+
+    private Sign createSign(long signId, String targetGroup, String templatePath)
+    {
+        Sign sign = new Sign("Lobby", targetGroup, new SignPosition(signId, 64, 0, 0, 0, "Lobby", "world"), templatePath);
+        sign.setSignId(signId);
+
+        return sign;
+    }
+
+    private ServiceInfoSnapshot createServiceInfoSnapshot(int taskServiceId, String group)
+    {
+        ServiceId serviceId = new ServiceId(UUID.randomUUID(), "Node-1", group, taskServiceId, ServiceEnvironmentType.MINECRAFT_SERVER);
+
+        return new ServiceInfoSnapshot(
+            System.currentTimeMillis(),
+            serviceId,
+            null,
+            true,
+            ServiceLifeCycle.RUNNING,
+            null,
+            new ServiceConfiguration(
+                serviceId,
+                "jvm",
+                true,
+                false,
+                new String[]{group},
+                new ServiceRemoteInclusion[0],
+                new ServiceTemplate[]{new ServiceTemplate(group, "default", "local")},
+                new ServiceDeployment[0],
+                new ProcessConfiguration(ServiceEnvironmentType.MINECRAFT_SERVER, 256, null),
+                44955
+            )
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package de.dytanic.cloudnet.ext.signs.node;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.database.AbstractDatabaseProvider;
+import de.dytanic.cloudnet.database.IDatabase;
+import de.dytanic.cloudnet.database.h2.H2DatabaseProvider;
+import de.dytanic.cloudnet.driver.util.DefaultModuleHelper;
+import de.dytanic.cloudnet.ext.signs.Sign;
+import de.dytanic.cloudnet.ext.signs.SignPosition;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public final class NodeSignStoreTest {
+
+    @Test
+    public void testPositionKey()
+    {
+        Assert.assertEquals("Lobby:world:1:64:-1", NodeSignStore.positionKey(new SignPosition(1.2, 64.9, -0.5, 0, 0, "Lobby", "world")));
+        Assert.assertEquals("Lobby:world:1:64:-1", NodeSignStore.positionKey(new SignPosition(1.8, 64.1, -0.1, 90, 0, "Lobby", "world")));
+        Assert.assertNotEquals("Lobby:world:1:64:-1", NodeSignStore.positionKey(new SignPosition(1.2, 64.9, -0.5, 0, 0, "Lobby", "world_nether")));
+        Assert.assertNotEquals("Lobby:world:1:64:-1", NodeSignStore.positionKey(new SignPosition(1.2, 64.9, 0.5, 0, 0, "Lobby", "world")));
+    }
+
+    @Test
+    public void testStore() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = new H2DatabaseProvider("build/h2signs");
+        Assert.assertTrue(databaseProvider.init());
+
+        try
+        {
+            databaseProvider.getDatabase(NodeSignStore.DATABASE_NAME).clear();
+
+            NodeSignStore signStore = new NodeSignStore(() -> databaseProvider);
+            signStore.load();
+
+            Sign sign = this.createSign(1, "Lobby", 1.2, 64.9, -0.5), replacingSign = this.createSign(2, "Lobby", 1.8, 64.1, -0.1),
+                premiumSign = this.createSign(3, "PremiumLobby", 10, 64, 10);
+
+            Assert.assertNull(signStore.add(sign, true));
+            Assert.assertEquals(sign, signStore.add(replacingSign, true));
+            Assert.assertNull(signStore.add(premiumSign, false));
+
+            Assert.assertEquals(2, signStore.getSigns().size());
+            Assert.assertEquals(Collections.singletonList(replacingSign), signStore.getSigns(Collections.singletonList("Lobby")));
+            Assert.assertEquals(2, signStore.getSigns(Arrays.asList("Lobby", "PremiumLobby")).size());
+
+            IDatabase database = databaseProvider.getDatabase(NodeSignStore.DATABASE_NAME);
+
+            Assert.assertEquals(1, database.documents().size());
+            Assert.assertEquals(replacingSign, database.get("Lobby:world:1:64:-1").get("sign", Sign.TYPE));
+
+            Assert.assertEquals(replacingSign, signStore.remove(sign, true));
+            Assert.assertNull(signStore.remove(sign, true));
+            Assert.assertTrue(signStore.getSigns(Collections.singletonList("Lobby")).isEmpty());
+            Assert.assertEquals(0, database.documents().size());
+
+            signStore.load();
+
+            Assert.assertTrue(signStore.getSigns().isEmpty());
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    @Test
+    public void testLegacyMigration() throws Exception
+    {
+        AbstractDatabaseProvider databaseProvider = new H2DatabaseProvider("build/h2signs");
+        Assert.assertTrue(databaseProvider.init());
+
+        try
+        {
+            databaseProvider.getDatabase(NodeSignStore.DATABASE_NAME).clear();
+
+            IDatabase configurationDatabase = databaseProvider.getDatabase(DefaultModuleHelper.DEFAULT_CONFIGURATION_DATABASE_NAME);
+
+            Sign sign = this.createSign(1, "Lobby", 0, 64, 0), premiumSign = this.createSign(2, "PremiumLobby", 10, 64, 10);
+            Sign invalidSign = this.createSign(3, "Lobby", 0, 0, 0);
+            invalidSign.setWorldPosition(null);
+
+            configurationDatabase.update("signs_store", new JsonDocument("signs", Arrays.asList(sign, premiumSign, invalidSign)));
+
+            NodeSignStore signStore = new NodeSignStore(() -> databaseProvider);
+            signStore.load();
+
+            Assert.assertEquals(2, signStore.getSigns().size());
+            Assert.assertEquals(Collections.singletonList(sign), signStore.getSigns(Collections.singletonList("Lobby")));
+            Assert.assertFalse(configurationDatabase.contains("signs_store"));
+            Assert.assertEquals(2, databaseProvider.getDatabase(NodeSignStore.DATABASE_NAME).documents().size());
+
+            //the migrated signs are loaded from the signs database
+            signStore = new NodeSignStore(() -> databaseProvider);
+            signStore.load();
+
+            Assert.assertEquals(2, signStore.getSigns().size());
+        } finally
+        {
+            databaseProvider.close();
+        }
+    }
+
+    private Sign createSign(long signId, String providedGroup, double x, double y, double z)
+    {
+        Sign sign = new Sign(providedGroup, "Lobby", new SignPosition(x, y, z, 0, 0, providedGroup, "world"), null);
+        sign.setSignId(signId);
+
+        return sign;
+    }
+}
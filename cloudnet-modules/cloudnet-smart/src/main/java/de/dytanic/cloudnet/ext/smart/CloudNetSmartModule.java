@@ -17,17 +17,21 @@ import de.dytanic.cloudnet.ext.smart.listener.CloudNetTickListener;
 import de.dytanic.cloudnet.ext.smart.listener.CloudServiceListener;
 import de.dytanic.cloudnet.ext.smart.template.TemplateInstaller;
 import de.dytanic.cloudnet.ext.smart.util.SmartServiceTaskConfig;
+import de.dytanic.cloudnet.ext.smart.util.SmartTaskStatistics;
 import de.dytanic.cloudnet.module.NodeCloudNetModule;
 import lombok.Getter;
 
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 @Getter
 public final class CloudNetSmartModule extends NodeCloudNetModule {
 
+    private static final String TASK_STATISTICS_DATABASE_NAME = "cloudNet_module_smart_statistics";
+
     private static final Type SMART_SERVICE_TASKS_CONFIGURATIONS = new TypeToken<Collection<SmartServiceTaskConfig>>() {
     }.getType();
 
@@ -38,6 +42,8 @@ public final class CloudNetSmartModule extends NodeCloudNetModule {
 
     private final Collection<SmartServiceTaskConfig> smartServiceTaskConfigurations = Iterables.newCopyOnWriteArrayList();
 
+    private final Map<String, SmartTaskStatistics> taskStatistics = Maps.newConcurrentHashMap();
+
     /*= ------------------------------------------------------------------------------------------------ =*/
 
     public CloudNetSmartModule()
@@ -63,8 +69,54 @@ public final class CloudNetSmartModule extends NodeCloudNetModule {
         registerListeners(new CloudNetTickListener(), new CloudServiceListener());
     }
 
+    @ModuleTask(order = 127, event = ModuleLifeCycle.STOPPED)
+    public void saveAllTaskStatistics()
+    {
+        for (SmartTaskStatistics smartTaskStatistics : taskStatistics.values())
+            saveTaskStatistics(smartTaskStatistics);
+    }
+
     /*= ------------------------------------------------------------------------------------------------ =*/
 
+    public SmartTaskStatistics getTaskStatistics(String task)
+    {
+        return taskStatistics.computeIfAbsent(task, new Function<String, SmartTaskStatistics>() {
+            @Override
+            public SmartTaskStatistics apply(String task)
+            {
+                SmartTaskStatistics smartTaskStatistics = new SmartTaskStatistics(task);
+                JsonDocument document = getCloudNet().getDatabaseProvider().getDatabase(TASK_STATISTICS_DATABASE_NAME).get(task);
+
+                if (document != null)
+                    smartTaskStatistics.load(document);
+
+                return smartTaskStatistics;
+            }
+        });
+    }
+
+    public void saveTaskStatistics(SmartTaskStatistics smartTaskStatistics)
+    {
+        getCloudNet().getDatabaseProvider().getDatabase(TASK_STATISTICS_DATABASE_NAME).update(smartTaskStatistics.getTask(), smartTaskStatistics.toDocument());
+    }
+
+    /**
+     * Returns true, if the node, which would create the next service of the task, has enough unreserved memory for the
+     * service
+     */
+    public boolean hasFreeMemory(ServiceTask serviceTask)
+    {
+        int memory = serviceTask.getProcessConfiguration().getMaxHeapMemorySize();
+        NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot = CloudNet.getInstance().searchLogicNode(serviceTask);
+
+        if (networkClusterNodeInfoSnapshot != null && !networkClusterNodeInfoSnapshot.getNode()
+            .getUniqueId().equalsIgnoreCase(getCloudNetConfig().getIdentity().getUniqueId()))
+
+            return networkClusterNodeInfoSnapshot.getMaxMemory() - networkClusterNodeInfoSnapshot.getReservedMemory() >= memory;
+        else
+            return getCloudNet().getConfig().getMaxMemory() - getCloudNet().getCloudServiceManager().getCurrentReservedMemory() >= memory;
+    }
+
     public int getPercentOfFreeMemory(ServiceTask serviceTask)
     {
         NetworkClusterNodeInfoSnapshot networkClusterNodeInfoSnapshot = CloudNet.getInstance().searchLogicNode(serviceTask);
@@ -196,7 +248,9 @@ public final class CloudNetSmartModule extends NodeCloudNetModule {
                     false,
                     100,
                     300,
-                    TemplateInstaller.INSTALL_ALL
+                    TemplateInstaller.INSTALL_ALL,
+                    true,
+                    30
                 )
             )));
 
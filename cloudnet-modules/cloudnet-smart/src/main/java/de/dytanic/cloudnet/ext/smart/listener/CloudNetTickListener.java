@@ -2,6 +2,7 @@ package de.dytanic.cloudnet.ext.smart.listener;
 
 import de.dytanic.cloudnet.CloudNet;
 import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.instance.CloudNetTickEvent;
@@ -11,11 +12,13 @@ import de.dytanic.cloudnet.driver.service.ServiceTask;
 import de.dytanic.cloudnet.ext.smart.CloudNetServiceSmartProfile;
 import de.dytanic.cloudnet.ext.smart.CloudNetSmartModule;
 import de.dytanic.cloudnet.ext.smart.util.SmartServiceTaskConfig;
+import de.dytanic.cloudnet.ext.smart.util.SmartTaskStatistics;
 import de.dytanic.cloudnet.service.ICloudService;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +30,8 @@ public final class CloudNetTickListener {
 
     private final AtomicInteger ticksPerSecond = new AtomicInteger();
 
+    private final Map<String, Integer> stoppableServiceCounts = Maps.newHashMap();
+
     @EventListener
     public void handle(CloudNetTickEvent event)
     {
@@ -45,6 +50,9 @@ public final class CloudNetTickListener {
         List<SmartServiceTaskConfig> smartServiceTaskConfigs = Iterables.newArrayList(CloudNetSmartModule.getInstance().getSmartServiceTaskConfigurations());
         Collections.sort(smartServiceTaskConfigs);
 
+        long time = System.currentTimeMillis();
+        stoppableServiceCounts.clear();
+
         for (SmartServiceTaskConfig task : smartServiceTaskConfigs)
         {
             ServiceTask serviceTask = CloudNetDriver.getInstance().getServiceTask(task.getTask());
@@ -56,65 +64,106 @@ public final class CloudNetTickListener {
                     serviceTask.getAssociatedNodes().isEmpty()
                 ))
             {
-                this.handleMinOnlineCount(task, serviceTask);
-                this.autoGeneratePreparedServices(task, serviceTask);
+                Collection<ServiceInfoSnapshot> runningServices = Iterables.newArrayList(), preparedServices = Iterables.newArrayList();
+
+                for (ServiceInfoSnapshot serviceInfoSnapshot : CloudNetDriver.getInstance().getCloudService(serviceTask.getName()))
+                    if (serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.RUNNING)
+                        runningServices.add(serviceInfoSnapshot);
+                    else if (serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.PREPARED || serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.DEFINED)
+                        preparedServices.add(serviceInfoSnapshot);
+
+                int prewarmedServices = this.handlePredictiveScaling(task, serviceTask, runningServices, preparedServices, time);
+
+                this.handleMinOnlineCount(task, serviceTask, runningServices, time);
+                this.autoGeneratePreparedServices(task, serviceTask, preparedServices, prewarmedServices);
             }
         }
     }
 
-    private void handleMinOnlineCount(SmartServiceTaskConfig task, ServiceTask serviceTask)
+    /**
+     * Records the player count of the task and starts a service, if the forecast of the player count at the time, when a
+     * service started now would be ready, exceeds the capacity of the running services
+     *
+     * @return the amount of additional prepared services, which are needed for the forecast of the following period
+     */
+    private int handlePredictiveScaling(SmartServiceTaskConfig task, ServiceTask serviceTask, Collection<ServiceInfoSnapshot> runningServices,
+                                        Collection<ServiceInfoSnapshot> preparedServices, long time)
     {
-        Collection<ServiceInfoSnapshot> services = Iterables.filter(
-            CloudNetDriver.getInstance().getCloudService(serviceTask.getName()), new Predicate<ServiceInfoSnapshot>() {
-                @Override
-                public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-                {
-                    return serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.RUNNING;
-                }
-            });
+        SmartTaskStatistics smartTaskStatistics = CloudNetSmartModule.getInstance().getTaskStatistics(task.getTask());
+
+        int playerCount = 0, maxPlayers = 0;
 
-        if (task.getMinServiceOnlineCount() > 0 && services.size() < task.getMinServiceOnlineCount())
+        for (ServiceInfoSnapshot serviceInfoSnapshot : runningServices)
         {
-            if (services.size() < task.getMinServiceOnlineCount())
-            {
-                ServiceInfoSnapshot serviceInfoSnapshot = CloudNetSmartModule.getInstance().getFreeNonStartedService(serviceTask.getName());
+            if (serviceInfoSnapshot.getProperties().contains("Online-Count"))
+                playerCount += serviceInfoSnapshot.getProperties().getInt("Online-Count");
 
-                if (serviceInfoSnapshot == null)
-                    serviceInfoSnapshot = CloudNetSmartModule.getInstance().createSmartCloudService(serviceTask, task);
+            if (serviceInfoSnapshot.getProperties().contains("Max-Players"))
+                maxPlayers = Math.max(maxPlayers, serviceInfoSnapshot.getProperties().getInt("Max-Players"));
+        }
 
-                if (serviceInfoSnapshot != null)
-                {
-                    CloudNetSmartModule.getInstance().getProvidedSmartServices().remove(serviceInfoSnapshot.getServiceId().getUniqueId());
-                    CloudNetDriver.getInstance().setCloudServiceLifeCycle(serviceInfoSnapshot, ServiceLifeCycle.RUNNING);
-                    services.add(serviceInfoSnapshot);
-                }
+        if (smartTaskStatistics.addPlayerCount(playerCount, time))
+            CloudNetSmartModule.getInstance().saveTaskStatistics(smartTaskStatistics);
+
+        if (!task.isPredictiveScaling() || maxPlayers <= 0) return 0;
+
+        double capacity = task.getPercentOfPlayersForANewServiceByInstance() > 0 && task.getPercentOfPlayersForANewServiceByInstance() < 100 ?
+            maxPlayers * task.getPercentOfPlayersForANewServiceByInstance() / 100D : maxPlayers;
+        double horizon = smartTaskStatistics.getStartLatencySeconds() + Math.max(0, task.getPredictiveScalingLeadTimeInSeconds());
+
+        int predictedServices = (int) Math.ceil(smartTaskStatistics.forecast(horizon, time) / capacity),
+            prewarmedServices = (int) Math.ceil(smartTaskStatistics.forecast(horizon * 2, time) / capacity);
+
+        stoppableServiceCounts.put(task.getTask(), runningServices.size() - Math.max(predictedServices, task.getMinServiceOnlineCount()));
+
+        if (runningServices.size() < predictedServices)
+        {
+            ServiceInfoSnapshot serviceInfoSnapshot = preparedServices.isEmpty() ? null : preparedServices.iterator().next();
+
+            if (serviceInfoSnapshot == null && CloudNetSmartModule.getInstance().hasFreeMemory(serviceTask))
+                serviceInfoSnapshot = CloudNetSmartModule.getInstance().createSmartCloudService(serviceTask, task);
+
+            if (serviceInfoSnapshot != null)
+            {
+                preparedServices.remove(serviceInfoSnapshot);
+                this.startService(serviceInfoSnapshot, time);
+                runningServices.add(serviceInfoSnapshot);
             }
         }
+
+        return Math.max(0, prewarmedServices - runningServices.size());
     }
 
-    private void autoGeneratePreparedServices(SmartServiceTaskConfig task, ServiceTask serviceTask)
+    private void handleMinOnlineCount(SmartServiceTaskConfig task, ServiceTask serviceTask, Collection<ServiceInfoSnapshot> runningServices, long time)
     {
-        Collection<ServiceInfoSnapshot> services = Iterables.filter(
-            CloudNetDriver.getInstance().getCloudService(serviceTask.getName()), new Predicate<ServiceInfoSnapshot>() {
-                @Override
-                public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-                {
-                    return serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.PREPARED ||
-                        serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.DEFINED;
-                }
-            });
-
-        if (task.getPreparedServices() > 0 && services.size() < task.getPreparedServices())
+        if (task.getMinServiceOnlineCount() > 0 && runningServices.size() < task.getMinServiceOnlineCount())
         {
-            if (services.size() < task.getPreparedServices())
-            {
-                ServiceInfoSnapshot serviceInfoSnapshot = CloudNetSmartModule.getInstance().createSmartCloudService(serviceTask, task);
+            ServiceInfoSnapshot serviceInfoSnapshot = CloudNetSmartModule.getInstance().getFreeNonStartedService(serviceTask.getName());
 
-                if (serviceInfoSnapshot != null) services.add(serviceInfoSnapshot);
+            if (serviceInfoSnapshot == null)
+                serviceInfoSnapshot = CloudNetSmartModule.getInstance().createSmartCloudService(serviceTask, task);
+
+            if (serviceInfoSnapshot != null)
+            {
+                CloudNetSmartModule.getInstance().getProvidedSmartServices().remove(serviceInfoSnapshot.getServiceId().getUniqueId());
+                this.startService(serviceInfoSnapshot, time);
+                runningServices.add(serviceInfoSnapshot);
             }
         }
     }
 
+    private void autoGeneratePreparedServices(SmartServiceTaskConfig task, ServiceTask serviceTask, Collection<ServiceInfoSnapshot> preparedServices,
+                                              int prewarmedServices)
+    {
+        if (preparedServices.size() < task.getPreparedServices() ||
+            (preparedServices.size() < task.getPreparedServices() + prewarmedServices && CloudNetSmartModule.getInstance().hasFreeMemory(serviceTask)))
+        {
+            ServiceInfoSnapshot serviceInfoSnapshot = CloudNetSmartModule.getInstance().createSmartCloudService(serviceTask, task);
+
+            if (serviceInfoSnapshot != null) preparedServices.add(serviceInfoSnapshot);
+        }
+    }
+
     private void handleAutoStop()
     {
         Collection<ServiceInfoSnapshot> serviceInfoSnapshots = Iterables.filter(CloudNetDriver.getInstance().getCloudServices(), new Predicate<ServiceInfoSnapshot>() {
@@ -133,6 +182,14 @@ public final class CloudNetTickListener {
             SmartServiceTaskConfig taskConfig = getSmartTaskConfig(serviceInfoSnapshot);
             CloudNetServiceSmartProfile cloudServiceProfile = CloudNetSmartModule.getInstance().getProvidedSmartServices().get(serviceInfoSnapshot.getServiceId().getUniqueId());
 
+            Integer stoppableServiceCount = stoppableServiceCounts.get(serviceInfoSnapshot.getServiceId().getTaskName());
+
+            if (stoppableServiceCount != null && stoppableServiceCount <= 0)
+            {
+                cloudServiceProfile.getAutoStopCount().set(taskConfig.getAutoStopTimeByUnusedServiceInSeconds());
+                continue;
+            }
+
             if (taskConfig.getAutoStopTimeByUnusedServiceInSeconds() > 0 &&
                 taskConfig.getPercentOfPlayersToCheckShouldAutoStopTheServiceInFuture() > -1 &&
                 getPercentOf(
@@ -141,7 +198,12 @@ public final class CloudNetTickListener {
                 ) <= taskConfig.getPercentOfPlayersToCheckShouldAutoStopTheServiceInFuture())
             {
                 if (cloudServiceProfile.getAutoStopCount().decrementAndGet() <= 0)
+                {
+                    if (stoppableServiceCount != null)
+                        stoppableServiceCounts.put(serviceInfoSnapshot.getServiceId().getTaskName(), stoppableServiceCount - 1);
+
                     CloudNetDriver.getInstance().setCloudServiceLifeCycle(serviceInfoSnapshot, ServiceLifeCycle.STOPPED);
+                }
 
             } else
                 cloudServiceProfile.getAutoStopCount().set(taskConfig.getAutoStopTimeByUnusedServiceInSeconds());
@@ -190,7 +252,7 @@ public final class CloudNetTickListener {
 
                     if (serviceInfoSnapshot != null)
                     {
-                        CloudNetDriver.getInstance().setCloudServiceLifeCycle(serviceInfoSnapshot, ServiceLifeCycle.RUNNING);
+                        this.startService(serviceInfoSnapshot, System.currentTimeMillis());
                         break;
                     }
                 }
@@ -198,6 +260,14 @@ public final class CloudNetTickListener {
         }
     }
 
+    private void startService(ServiceInfoSnapshot serviceInfoSnapshot, long time)
+    {
+        CloudNetSmartModule.getInstance().getTaskStatistics(serviceInfoSnapshot.getServiceId().getTaskName())
+            .markServiceStarting(serviceInfoSnapshot.getServiceId().getUniqueId(), time);
+
+        CloudNetDriver.getInstance().setCloudServiceLifeCycle(serviceInfoSnapshot, ServiceLifeCycle.RUNNING);
+    }
+
     private SmartServiceTaskConfig getSmartTaskConfig(ServiceInfoSnapshot serviceInfoSnapshot)
     {
         return Iterables.first(CloudNetSmartModule.getInstance()
@@ -3,10 +3,12 @@ package de.dytanic.cloudnet.ext.smart.listener;
 import com.google.gson.reflect.TypeToken;
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
+import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
 import de.dytanic.cloudnet.event.cluster.NetworkChannelAuthClusterNodeSuccessEvent;
 import de.dytanic.cloudnet.event.service.CloudServicePostDeleteEvent;
 import de.dytanic.cloudnet.ext.smart.CloudNetSmartModule;
 import de.dytanic.cloudnet.ext.smart.util.SmartServiceTaskConfig;
+import de.dytanic.cloudnet.ext.smart.util.SmartTaskStatistics;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -32,9 +34,25 @@ public final class CloudServiceListener {
         CloudNetSmartModule.getInstance().publishUpdateConfiguration(event.getChannel());
     }
 
+    @EventListener
+    public void handle(CloudServiceInfoUpdateEvent event)
+    {
+        if (!event.getServiceInfo().getProperties().contains("Online-Count")) return;
+
+        SmartTaskStatistics smartTaskStatistics = CloudNetSmartModule.getInstance().getTaskStatistics().get(event.getServiceInfo().getServiceId().getTaskName());
+
+        if (smartTaskStatistics != null)
+            smartTaskStatistics.markServiceStarted(event.getServiceInfo().getServiceId().getUniqueId(), System.currentTimeMillis());
+    }
+
     @EventListener
     public void handle(CloudServicePostDeleteEvent event)
     {
         CloudNetSmartModule.getInstance().getProvidedSmartServices().remove(event.getCloudService().getServiceId().getUniqueId());
+
+        SmartTaskStatistics smartTaskStatistics = CloudNetSmartModule.getInstance().getTaskStatistics().get(event.getCloudService().getServiceId().getTaskName());
+
+        if (smartTaskStatistics != null)
+            smartTaskStatistics.removeService(event.getCloudService().getServiceId().getUniqueId());
     }
 }
\ No newline at end of file
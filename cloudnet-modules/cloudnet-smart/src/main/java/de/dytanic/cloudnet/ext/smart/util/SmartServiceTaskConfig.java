@@ -34,6 +34,10 @@ public class SmartServiceTaskConfig implements Comparable<SmartServiceTaskConfig
 
     protected TemplateInstaller templateInstaller;
 
+    protected boolean predictiveScaling;
+
+    protected int predictiveScalingLeadTimeInSeconds;
+
     @Override
     public int compareTo(SmartServiceTaskConfig o)
     {
@@ -0,0 +1,169 @@
+package de.dytanic.cloudnet.ext.smart.util;
+
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The player count time series and the start latencies of the services of a task.
+ * <p>
+ * The player counts are smoothed by a Holt double exponential smoothing (level and trend per second). Additionally, the
+ * mean player count of every hour of the week is kept as seasonal profile, which is smoothed over the weeks, so a
+ * forecast, which crosses an hour, includes the usual change between the two hours.
+ */
+public final class SmartTaskStatistics {
+
+    private static final int HOURS_OF_WEEK = 7 * 24;
+
+    private static final double LEVEL_SMOOTHING = 0.3, TREND_SMOOTHING = 0.1, SEASONAL_SMOOTHING = 0.3, START_LATENCY_SMOOTHING = 0.3;
+
+    private static final double DEFAULT_START_LATENCY_SECONDS = 30;
+
+    @Getter
+    private final String task;
+
+    private final double[] seasonal = new double[HOURS_OF_WEEK];
+
+    private final Map<UUID, Long> startingServices = Maps.newHashMap();
+
+    private double level, trend;
+
+    private boolean initialized;
+
+    private int currentHour = -1, currentHourSamples;
+
+    private double currentHourSum;
+
+    private double startLatencySeconds = DEFAULT_START_LATENCY_SECONDS;
+
+    public SmartTaskStatistics(String task)
+    {
+        this.task = task;
+
+        Arrays.fill(this.seasonal, -1);
+    }
+
+    /*= ------------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Adds the player count of all running services of the task. This method should be called once per second.
+     *
+     * @return true, if an hour of the seasonal profile was completed and the statistics should be saved
+     */
+    public synchronized boolean addPlayerCount(int playerCount, long time)
+    {
+        if (!this.initialized)
+        {
+            this.level = playerCount;
+            this.trend = 0;
+            this.initialized = true;
+        } else
+        {
+            double previousLevel = this.level;
+
+            this.level = LEVEL_SMOOTHING * playerCount + (1 - LEVEL_SMOOTHING) * (this.level + this.trend);
+            this.trend = TREND_SMOOTHING * (this.level - previousLevel) + (1 - TREND_SMOOTHING) * this.trend;
+        }
+
+        int hour = hourOfWeek(time);
+        boolean completed = false;
+
+        if (hour != this.currentHour)
+        {
+            if (this.currentHour != -1 && this.currentHourSamples > 0)
+            {
+                double mean = this.currentHourSum / this.currentHourSamples;
+
+                this.seasonal[this.currentHour] = this.seasonal[this.currentHour] < 0 ? mean :
+                    SEASONAL_SMOOTHING * mean + (1 - SEASONAL_SMOOTHING) * this.seasonal[this.currentHour];
+                completed = true;
+            }
+
+            this.currentHour = hour;
+            this.currentHourSum = 0;
+            this.currentHourSamples = 0;
+        }
+
+        this.currentHourSum += playerCount;
+        this.currentHourSamples++;
+
+        return completed;
+    }
+
+    /**
+     * Returns the expected player count of the task in the given amount of seconds
+     */
+    public synchronized double forecast(double seconds, long time)
+    {
+        if (!this.initialized) return 0;
+
+        double forecast = this.level + this.trend * seconds;
+
+        int hour = hourOfWeek(time), targetHour = hourOfWeek(time + (long) (seconds * 1000));
+
+        if (hour != targetHour && this.seasonal[hour] >= 0 && this.seasonal[targetHour] >= 0)
+            forecast += this.seasonal[targetHour] - this.seasonal[hour];
+
+        return Math.max(0, forecast);
+    }
+
+    /*= ------------------------------------------------------------------------------------------------ =*/
+
+    public synchronized void markServiceStarting(UUID uniqueId, long time)
+    {
+        this.startingServices.put(uniqueId, time);
+    }
+
+    /**
+     * Adds the start latency of the service, if the service was started by the smart module
+     */
+    public synchronized void markServiceStarted(UUID uniqueId, long time)
+    {
+        Long startTime = this.startingServices.remove(uniqueId);
+
+        if (startTime != null)
+            this.startLatencySeconds = START_LATENCY_SMOOTHING * ((time - startTime) / 1000D) + (1 - START_LATENCY_SMOOTHING) * this.startLatencySeconds;
+    }
+
+    public synchronized void removeService(UUID uniqueId)
+    {
+        this.startingServices.remove(uniqueId);
+    }
+
+    public synchronized double getStartLatencySeconds()
+    {
+        return this.startLatencySeconds;
+    }
+
+    /*= ------------------------------------------------------------------------------------------------ =*/
+
+    public synchronized JsonDocument toDocument()
+    {
+        return new JsonDocument("seasonal", this.seasonal).append("startLatencySeconds", this.startLatencySeconds);
+    }
+
+    public synchronized void load(JsonDocument document)
+    {
+        double[] seasonal = document.get("seasonal", double[].class);
+
+        if (seasonal != null && seasonal.length == HOURS_OF_WEEK)
+            System.arraycopy(seasonal, 0, this.seasonal, 0, HOURS_OF_WEEK);
+
+        if (document.contains("startLatencySeconds"))
+            this.startLatencySeconds = document.getDouble("startLatencySeconds");
+    }
+
+    private static int hourOfWeek(long time)
+    {
+        ZonedDateTime dateTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+
+        return (dateTime.getDayOfWeek().getValue() - 1) * 24 + dateTime.getHour();
+    }
+}
@@ -0,0 +1,75 @@
+package de.dytanic.cloudnet.ext.smart.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+public final class SmartTaskStatisticsTest {
+
+    @Test
+    public void testForecastAcrossHours()
+    {
+        SmartTaskStatistics statistics = new SmartTaskStatistics("Lobby");
+
+        Assert.assertEquals(0, statistics.forecast(60, time(10, 30, 0)), 0);
+
+        long time = time(10, 0, 0);
+
+        for (int i = 0; i < 600; i++, time += 1000)
+            Assert.assertFalse(statistics.addPlayerCount(10, time));
+
+        //the first sample of the next hour completes the seasonal mean of the previous hour
+        time = time(11, 0, 0);
+        Assert.assertTrue(statistics.addPlayerCount(30, time));
+
+        for (int i = 1; i < 600; i++)
+            Assert.assertFalse(statistics.addPlayerCount(30, time += 1000));
+
+        Assert.assertTrue(statistics.addPlayerCount(30, time(12, 0, 0)));
+
+        //the smoothed level has reached the player count and the trend is flat
+        Assert.assertEquals(30, statistics.forecast(60, time(11, 30, 0)), 0.5);
+
+        //a forecast, which crosses an hour, adds the seasonal change between both hours
+        Assert.assertEquals(50, statistics.forecast(60, time(10, 59, 30)), 0.5);
+
+        //the current hour 12 has no seasonal mean yet
+        Assert.assertEquals(30, statistics.forecast(60, time(11, 59, 30)), 0.5);
+
+        SmartTaskStatistics loadedStatistics = new SmartTaskStatistics("Lobby");
+        loadedStatistics.load(statistics.toDocument());
+
+        Assert.assertEquals(0, loadedStatistics.forecast(60, time(10, 59, 30)), 0);
+
+        loadedStatistics.addPlayerCount(30, time(10, 30, 0));
+
+        Assert.assertEquals(50, loadedStatistics.forecast(60, time(10, 59, 30)), 0.001);
+    }
+
+    @Test
+    public void testStartLatency()
+    {
+        SmartTaskStatistics statistics = new SmartTaskStatistics("Lobby");
+        double startLatencySeconds = statistics.getStartLatencySeconds();
+
+        statistics.markServiceStarted(UUID.randomUUID(), 1000);
+
+        Assert.assertEquals(startLatencySeconds, statistics.getStartLatencySeconds(), 0);
+
+        UUID uniqueId = UUID.randomUUID();
+
+        statistics.markServiceStarting(uniqueId, 0);
+        statistics.markServiceStarted(uniqueId, (long) (startLatencySeconds * 1000) + 10000);
+
+        Assert.assertTrue(statistics.getStartLatencySeconds() > startLatencySeconds);
+    }
+
+    private static long time(int hour, int minute, int second)
+    {
+        //2019-06-03 is a monday
+        return LocalDateTime.of(2019, 6, 3, hour, minute, second).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
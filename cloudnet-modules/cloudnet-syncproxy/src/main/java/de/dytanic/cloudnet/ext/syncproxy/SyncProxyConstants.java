@@ -12,6 +12,8 @@ public final class SyncProxyConstants {
         SYNC_PROXY_UPDATE_CONFIGURATION = "update_sync_bungee_configuration",
         SYNC_PROXY_SYNC_CHANNEL_PROPERTY = "cloudnet_sync_bungee_channel",
         SIGN_CHANNEL_SYNC_ID_GET_SYNC_PROXY_CONFIGURATION_PROPERTY = "sync_bungee_get_sync_bungee_configuration",
+        SYNC_PROXY_SYNC_ID_GET_ONLINE_COUNT_PROPERTY = "sync_bungee_get_online_count",
+        SYNC_PROXY_UPDATE_ONLINE_COUNT = "update_sync_bungee_online_count",
         SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT = "Online-Count";
 
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package de.dytanic.cloudnet.ext.syncproxy;
+
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.concurrent.ITask;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.CloudNetDriver;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The online counts of the login configuration groups, which are aggregated by the node. The node sums up the
+ * "Online-Count" properties of all proxies of a group and sends the sum to the proxies of the group, if it has changed.
+ * <p>
+ * The last count, which this proxy has reported, is replaced by the current player count of the proxy.
+ */
+public final class SyncProxyOnlineCount {
+
+    private final Map<String, Integer> onlineCounts = Maps.newConcurrentHashMap();
+
+    private volatile int reportedOnlineCount;
+
+    /**
+     * Requests the current online count of the group from the node
+     */
+    public void load(String group)
+    {
+        if (group == null) return;
+
+        ITask<Integer> task = CloudNetDriver.getInstance().sendCallablePacket(CloudNetDriver.getInstance().getNetworkClient().getChannels().iterator().next(),
+            SyncProxyConstants.SYNC_PROXY_SYNC_CHANNEL_PROPERTY,
+            SyncProxyConstants.SYNC_PROXY_SYNC_ID_GET_ONLINE_COUNT_PROPERTY,
+            new JsonDocument("group", group),
+            new Function<JsonDocument, Integer>() {
+                @Override
+                public Integer apply(JsonDocument document)
+                {
+                    return document.getInt("onlineCount");
+                }
+            });
+
+        try
+        {
+            this.onlineCounts.putIfAbsent(group, task.get(5, TimeUnit.SECONDS));
+        } catch (Exception ex)
+        {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Applies an online count update of the node
+     *
+     * @return true, if the update contains a new online count
+     */
+    public boolean update(JsonDocument data)
+    {
+        String group = data.getString("group");
+
+        if (group == null || !data.contains("onlineCount")) return false;
+
+        Integer previousOnlineCount = this.onlineCounts.put(group, data.getInt("onlineCount"));
+
+        return previousOnlineCount == null || previousOnlineCount != data.getInt("onlineCount");
+    }
+
+    /**
+     * Sets the online count, which is published with the service info of this proxy
+     */
+    public void setReportedOnlineCount(int reportedOnlineCount)
+    {
+        this.reportedOnlineCount = reportedOnlineCount;
+    }
+
+    /**
+     * Returns the online count of the group
+     *
+     * @param group            the target group of the login configuration
+     * @param localOnlineCount the current player count of this proxy
+     */
+    public int getOnlineCount(String group, int localOnlineCount)
+    {
+        Integer onlineCount = group != null ? this.onlineCounts.get(group) : null;
+
+        if (onlineCount == null) return localOnlineCount;
+
+        return Math.max(0, onlineCount - this.reportedOnlineCount) + localOnlineCount;
+    }
+}
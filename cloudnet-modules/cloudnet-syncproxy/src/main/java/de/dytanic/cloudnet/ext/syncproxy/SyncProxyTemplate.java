@@ -0,0 +1,148 @@
+package de.dytanic.cloudnet.ext.syncproxy;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * A tab list or motd text, which is split once into text and placeholder tokens. The color codes of the text are
+ * translated by the compilation, so the rendering only appends the tokens and the values of the placeholders.
+ */
+public final class SyncProxyTemplate {
+
+    private final String[] texts;
+
+    private final int[] valueIndexes;
+
+    private final boolean usesValues;
+
+    /**
+     * Compiles the text
+     *
+     * @param text            the text with placeholders like %online_players%
+     * @param colorTranslator the function, which translates the color codes of the text
+     * @param placeholders    the names of the placeholders, the values of the placeholders are passed in this order to
+     *                        {@link #render(Object...)}. Unknown placeholders are kept as text.
+     */
+    public SyncProxyTemplate(String text, UnaryOperator<String> colorTranslator, String... placeholders)
+    {
+        Validate.checkNotNull(colorTranslator);
+        Validate.checkNotNull(placeholders);
+
+        if (text == null) text = "null";
+
+        List<String> names = Arrays.asList(placeholders), texts = Iterables.newArrayList();
+        List<Integer> valueIndexes = Iterables.newArrayList();
+        StringBuilder stringBuilder = new StringBuilder();
+
+        int index = 0;
+
+        while (index < text.length())
+        {
+            int start = text.indexOf('%', index), end = start != -1 ? text.indexOf('%', start + 1) : -1;
+
+            if (end == -1)
+            {
+                stringBuilder.append(text, index, text.length());
+                break;
+            }
+
+            int valueIndex = names.indexOf(text.substring(start + 1, end));
+
+            if (valueIndex == -1)
+            {
+                stringBuilder.append(text, index, end);
+                index = end;
+                continue;
+            }
+
+            stringBuilder.append(text, index, start);
+
+            texts.add(colorTranslator.apply(stringBuilder.toString()));
+            valueIndexes.add(valueIndex);
+
+            stringBuilder.setLength(0);
+            index = end + 1;
+        }
+
+        texts.add(colorTranslator.apply(stringBuilder.toString()));
+
+        this.texts = texts.toArray(new String[0]);
+        this.valueIndexes = new int[valueIndexes.size()];
+
+        for (int i = 0; i < this.valueIndexes.length; i++)
+            this.valueIndexes[i] = valueIndexes.get(i);
+
+        this.usesValues = this.valueIndexes.length > 0;
+    }
+
+    /**
+     * Returns true, if the text contains at least one of the placeholders
+     */
+    public boolean usesValues()
+    {
+        return this.usesValues;
+    }
+
+    /**
+     * Renders the text with the values of the placeholders in the order of the placeholder names of the template
+     */
+    public String render(Object... values)
+    {
+        if (!this.usesValues) return this.texts[0];
+
+        StringBuilder stringBuilder = new StringBuilder(this.texts[0]);
+
+        for (int index = 0; index < this.valueIndexes.length; index++)
+            stringBuilder.append(values[this.valueIndexes[index]]).append(this.texts[index + 1]);
+
+        return stringBuilder.toString();
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Compiles every text only once, as long as the text is used by the configuration
+     */
+    public static final class Cache {
+
+        private static final int MAX_SIZE = 256;
+
+        private final Map<String, SyncProxyTemplate> templates = Maps.newConcurrentHashMap();
+
+        private final UnaryOperator<String> colorTranslator;
+
+        private final String[] placeholders;
+
+        public Cache(UnaryOperator<String> colorTranslator, String... placeholders)
+        {
+            Validate.checkNotNull(colorTranslator);
+            Validate.checkNotNull(placeholders);
+
+            this.colorTranslator = colorTranslator;
+            this.placeholders = placeholders;
+        }
+
+        public SyncProxyTemplate get(String text)
+        {
+            if (text == null) text = "null";
+
+            SyncProxyTemplate template = this.templates.get(text);
+
+            if (template == null)
+            {
+                if (this.templates.size() >= MAX_SIZE) this.templates.clear();
+
+                template = new SyncProxyTemplate(text, this.colorTranslator, this.placeholders);
+                this.templates.put(text, template);
+            }
+
+            return template;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package de.dytanic.cloudnet.ext.syncproxy.bungee;
 
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
-import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
@@ -21,8 +20,6 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -36,7 +33,17 @@ public final class BungeeCloudNetSyncProxyPlugin extends Plugin {
 
     /*= ---------------------------------------------------------------------- =*/
 
-    private final Map<UUID, Integer> onlineCountOfProxies = Maps.newConcurrentHashMap();
+    private final SyncProxyOnlineCount onlineCount = new SyncProxyOnlineCount();
+
+    private final SyncProxyTemplate.Cache tabListTemplates = new SyncProxyTemplate.Cache(
+        text -> ChatColor.translateAlternateColorCodes('&', text),
+        "proxy", "proxy_uniqueId", "server", "online_players", "max_players", "proxy_task_name", "name", "ping", "time"
+    );
+
+    private final SyncProxyTemplate.Cache motdTemplates = new SyncProxyTemplate.Cache(
+        text -> ChatColor.translateAlternateColorCodes('&', text),
+        "proxy", "proxy_uniqueId", "task", "node", "online_players", "max_players"
+    );
 
     /*= ---------------------------------------------------------------------- =*/
 
@@ -108,13 +115,24 @@ public final class BungeeCloudNetSyncProxyPlugin extends Plugin {
 
     public int getSyncProxyOnlineCount()
     {
-        int onlinePlayers = ProxyServer.getInstance().getOnlineCount();
+        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
-        for (Map.Entry<UUID, Integer> entry : onlineCountOfProxies.entrySet())
-            if (!Wrapper.getInstance().getServiceId().getUniqueId().equals(entry.getKey()))
-                onlinePlayers += entry.getValue();
+        return onlineCount.getOnlineCount(
+            syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getTargetGroup() : null,
+            ProxyServer.getInstance().getOnlineCount()
+        );
+    }
 
-        return onlinePlayers;
+    public String renderMotd(String text, int onlinePlayers, int maxPlayers)
+    {
+        return motdTemplates.get(text).render(
+            Wrapper.getInstance().getServiceId().getName(),
+            Wrapper.getInstance().getServiceId().getUniqueId(),
+            Wrapper.getInstance().getServiceId().getTaskName(),
+            Wrapper.getInstance().getServiceId().getNodeUniqueId(),
+            onlinePlayers,
+            maxPlayers
+        );
     }
 
     public void setTabList(ProxiedPlayer proxiedPlayer)
@@ -138,14 +156,12 @@ public final class BungeeCloudNetSyncProxyPlugin extends Plugin {
             methodSetTabHeader.invoke(
                 proxiedPlayer,
                 methodFromLegacyTest.invoke(null, tabListHeader != null ?
-                    replaceTabListItem(proxiedPlayer, syncProxyProxyLoginConfiguration,
-                        ChatColor.translateAlternateColorCodes('&', tabListHeader + ""))
+                    replaceTabListItem(proxiedPlayer, syncProxyProxyLoginConfiguration, tabListHeader)
                     :
                     ""
                 ),
                 methodFromLegacyTest.invoke(null, tabListFooter != null ?
-                    replaceTabListItem(proxiedPlayer, syncProxyProxyLoginConfiguration,
-                        ChatColor.translateAlternateColorCodes('&', tabListFooter + ""))
+                    replaceTabListItem(proxiedPlayer, syncProxyProxyLoginConfiguration, tabListFooter)
                     :
                     ""
                 )
@@ -158,23 +174,22 @@ public final class BungeeCloudNetSyncProxyPlugin extends Plugin {
 
     private String replaceTabListItem(ProxiedPlayer proxiedPlayer, SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration, String input)
     {
-        return input
-            .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-            .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId().toString() + "")
-            .replace("%server%", proxiedPlayer.getServer() != null ? proxiedPlayer.getServer().getInfo().getName() : "")
-            .replace("%online_players%",
-                (
-                    syncProxyProxyLoginConfiguration != null ? getSyncProxyOnlineCount() : ProxyServer.getInstance().getOnlineCount()
-                ) + "")
-            .replace("%max_players%",
-                (
-                    syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getMaxPlayers() :
-                        proxiedPlayer.getPendingConnection().getListener().getMaxPlayers()
-                ) + "")
-            .replace("%proxy_task_name%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-            .replace("%name%", proxiedPlayer.getName() + "")
-            .replace("%ping%", proxiedPlayer.getPing() + "")
-            .replace("%time%", DATE_FORMAT.format(System.currentTimeMillis()) + "");
+        SyncProxyTemplate template = tabListTemplates.get(input);
+
+        if (!template.usesValues()) return template.render();
+
+        return template.render(
+            Wrapper.getInstance().getServiceId().getName(),
+            Wrapper.getInstance().getServiceId().getUniqueId(),
+            proxiedPlayer.getServer() != null ? proxiedPlayer.getServer().getInfo().getName() : "",
+            syncProxyProxyLoginConfiguration != null ? getSyncProxyOnlineCount() : ProxyServer.getInstance().getOnlineCount(),
+            syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getMaxPlayers() :
+                proxiedPlayer.getPendingConnection().getListener().getMaxPlayers(),
+            Wrapper.getInstance().getServiceId().getTaskName(),
+            proxiedPlayer.getName(),
+            proxiedPlayer.getPing(),
+            DATE_FORMAT.format(System.currentTimeMillis())
+        );
     }
 
     /*= ------------------------------------------------------------------------------------------------------------------- =*/
@@ -226,13 +241,6 @@ public final class BungeeCloudNetSyncProxyPlugin extends Plugin {
         SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
         if (syncProxyProxyLoginConfiguration != null && syncProxyProxyLoginConfiguration.getTargetGroup() != null)
-        {
-            for (ServiceInfoSnapshot serviceInfoSnapshot : CloudNetDriver.getInstance().getCloudServiceByGroup(syncProxyProxyLoginConfiguration.getTargetGroup()))
-                if ((serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftBedrockProxy() ||
-                    serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftJavaProxy()) &&
-                    serviceInfoSnapshot.getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                    getOnlineCountOfProxies().put(serviceInfoSnapshot.getServiceId().getUniqueId(),
-                        serviceInfoSnapshot.getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-        }
+            onlineCount.load(syncProxyProxyLoginConfiguration.getTargetGroup());
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ import de.dytanic.cloudnet.ext.syncproxy.SyncProxyMotd;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyProxyLoginConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.bungee.BungeeCloudNetSyncProxyPlugin;
 import de.dytanic.cloudnet.ext.syncproxy.bungee.util.LoginPendingConnectionCommandSender;
-import de.dytanic.cloudnet.wrapper.Wrapper;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.ServerPing;
@@ -48,20 +47,17 @@ public final class BungeeProxyLoginConfigurationImplListener implements Listener
 
             if (syncProxyMotd != null)
             {
-                int onlinePlayers = BungeeCloudNetSyncProxyPlugin.getInstance().getSyncProxyOnlineCount();
+                int onlinePlayers = BungeeCloudNetSyncProxyPlugin.getInstance().getSyncProxyOnlineCount(),
+                    maxPlayers = syncProxyMotd.isAutoSlot() ?
+                        (syncProxyMotd.getAutoSlotMaxPlayersDistance() + onlinePlayers) :
+                        syncProxyProxyLoginConfiguration.getMaxPlayers();
 
                 ServerPing serverPing = createServerPingInstance(
                     event,
-                    ChatColor.translateAlternateColorCodes('&', syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine() + "")
-                        .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-                        .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId() + "")
-                        .replace("%task%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-                        .replace("%node%", Wrapper.getInstance().getServiceId().getNodeUniqueId() + ""),
+                    BungeeCloudNetSyncProxyPlugin.getInstance().renderMotd(syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine(), onlinePlayers, maxPlayers),
                     syncProxyMotd.getProtocolText(),
                     onlinePlayers,
-                    syncProxyMotd.isAutoSlot() ?
-                        (syncProxyMotd.getAutoSlotMaxPlayersDistance() + onlinePlayers) :
-                        syncProxyProxyLoginConfiguration.getMaxPlayers(),
+                    maxPlayers,
                     syncProxyMotd.getPlayerInfo()
                 );
 
@@ -151,15 +147,11 @@ public final class BungeeProxyLoginConfigurationImplListener implements Listener
             return ServerPing.class.getConstructor(protocolClass, playersClass, String.class, faviconClass)
                 .newInstance(
                     protocolText == null && protocol != null ? protocol : protocolClass.getConstructor(String.class, int.class).newInstance(
-                        ChatColor.translateAlternateColorCodes('&',
-                            (protocolText == null ? ProxyServer.getInstance().getName() + " " + ProxyServer.getInstance().getGameVersion() : protocolText)
-                                .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-                                .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId() + "")
-                                .replace("%task%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-                                .replace("%node%", Wrapper.getInstance().getServiceId().getNodeUniqueId() + "")
-                                .replace("%online_players%", onlinePlayers + "")
-                                .replace("%max_players%", maxPlayers + "")
-                                + ""),
+                        BungeeCloudNetSyncProxyPlugin.getInstance().renderMotd(
+                            protocolText == null ? ProxyServer.getInstance().getName() + " " + ProxyServer.getInstance().getGameVersion() : protocolText,
+                            onlinePlayers,
+                            maxPlayers
+                        ),
                         (protocolText == null ? ProxyServer.getInstance().getProtocolVersion() : 1)),
                     //supports all BungeeCord versions
                     playersClass.getConstructor(int.class, int.class, array.getClass()).newInstance(maxPlayers, onlinePlayers, array),
@@ -2,9 +2,6 @@ package de.dytanic.cloudnet.ext.syncproxy.bungee.listener;
 
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceDisconnectNetworkEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceStopEvent;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConstants;
@@ -24,43 +21,12 @@ public final class BungeeSyncProxyCloudNetListener {
     public void handle(ServiceInfoSnapshotConfigureEvent event)
     {
         if (BungeeCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration() != null)
-            event.getServiceInfoSnapshot().getProperties().append(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT, ProxyServer.getInstance().getOnlineCount());
-    }
-
-    @EventListener
-    public void handle(CloudServiceInfoUpdateEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
-
-        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = BungeeCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration();
-
-        if (syncProxyProxyLoginConfiguration != null)
-            if (BungeeCloudNetSyncProxyPlugin.getInstance().inGroup(event.getServiceInfo(), syncProxyProxyLoginConfiguration) &&
-                event.getServiceInfo().getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                BungeeCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().put(event.getServiceInfo().getServiceId().getUniqueId(), event.getServiceInfo()
-                    .getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-
-        for (ProxiedPlayer proxiedPlayer : ProxyServer.getInstance().getPlayers())
-            BungeeCloudNetSyncProxyPlugin.getInstance().setTabList(proxiedPlayer);
-    }
-
-    @EventListener
-    public void handle(CloudServiceStopEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
-
-        BungeeCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
-    }
-
-    @EventListener
-    public void handle(CloudServiceDisconnectNetworkEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
+        {
+            int onlineCount = ProxyServer.getInstance().getOnlineCount();
 
-        BungeeCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
+            event.getServiceInfoSnapshot().getProperties().append(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT, onlineCount);
+            BungeeCloudNetSyncProxyPlugin.getInstance().getOnlineCount().setReportedOnlineCount(onlineCount);
+        }
     }
 
     @EventListener
@@ -80,6 +46,13 @@ public final class BungeeSyncProxyCloudNetListener {
                 handlePlayerNotWhitelisted();
             }
             break;
+            case SyncProxyConstants.SYNC_PROXY_UPDATE_ONLINE_COUNT:
+            {
+                if (BungeeCloudNetSyncProxyPlugin.getInstance().getOnlineCount().update(event.getData()))
+                    for (ProxiedPlayer proxiedPlayer : ProxyServer.getInstance().getPlayers())
+                        BungeeCloudNetSyncProxyPlugin.getInstance().setTabList(proxiedPlayer);
+            }
+            break;
         }
     }
 
@@ -10,7 +10,6 @@ import de.dytanic.cloudnet.ext.syncproxy.node.listener.IncludePluginListener;
 import de.dytanic.cloudnet.ext.syncproxy.node.listener.SyncProxyConfigUpdateListener;
 import de.dytanic.cloudnet.module.NodeCloudNetModule;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.io.File;
 
@@ -20,12 +19,14 @@ public final class CloudNetSyncProxyModule extends NodeCloudNetModule {
     private static CloudNetSyncProxyModule instance;
 
     @Getter
-    @Setter
     private SyncProxyConfiguration syncProxyConfiguration;
 
     @Getter
     private File configurationFile;
 
+    @Getter
+    private final SyncProxyOnlineCountAggregator onlineCountAggregator = new SyncProxyOnlineCountAggregator();
+
     public CloudNetSyncProxyModule()
     {
         instance = this;
@@ -38,10 +39,16 @@ public final class CloudNetSyncProxyModule extends NodeCloudNetModule {
         syncProxyConfiguration = SyncProxyConfigurationWriterAndReader.read(configurationFile);
     }
 
+    public void setSyncProxyConfiguration(SyncProxyConfiguration syncProxyConfiguration)
+    {
+        this.syncProxyConfiguration = syncProxyConfiguration;
+        this.onlineCountAggregator.markChanged();
+    }
+
     @ModuleTask(order = 64, event = ModuleLifeCycle.STARTED)
     public void initListeners()
     {
-        registerListeners(new IncludePluginListener(), new SyncProxyConfigUpdateListener());
+        registerListeners(new IncludePluginListener(), new SyncProxyConfigUpdateListener(), onlineCountAggregator);
     }
 
     @ModuleTask(order = 60, event = ModuleLifeCycle.STARTED)
@@ -0,0 +1,193 @@
+package de.dytanic.cloudnet.ext.syncproxy.node;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.event.EventListener;
+import de.dytanic.cloudnet.driver.event.events.instance.CloudNetTickEvent;
+import de.dytanic.cloudnet.driver.event.events.service.*;
+import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerChannelMessage;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfiguration;
+import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConstants;
+import de.dytanic.cloudnet.ext.syncproxy.SyncProxyProxyLoginConfiguration;
+import de.dytanic.cloudnet.service.ICloudService;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sums up the "Online-Count" properties of the proxies of the cluster per target group of the login configurations.
+ * Every node knows the service infos of all proxies, so it only sends the sums to its own proxies. A sum is sent at most
+ * "cloudnet.syncproxy.online.count.updates.per.second" times per second and only, if it has changed.
+ */
+public final class SyncProxyOnlineCountAggregator {
+
+    private static final int UPDATE_INTERVAL_TICKS = Math.max(1,
+        CloudNet.TPS / Math.max(1, Integer.getInteger("cloudnet.syncproxy.online.count.updates.per.second", 2)));
+
+    private final Map<UUID, ProxyOnlineCount> proxies = Maps.newConcurrentHashMap();
+
+    private final Map<String, Integer> publishedOnlineCounts = Maps.newHashMap();
+
+    private volatile boolean changed;
+
+    private int ticks;
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    @EventListener
+    public void handle(CloudServiceInfoUpdateEvent event)
+    {
+        ServiceInfoSnapshot serviceInfoSnapshot = event.getServiceInfo();
+
+        if (!isProxy(serviceInfoSnapshot)) return;
+
+        if (!serviceInfoSnapshot.getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
+        {
+            this.remove(serviceInfoSnapshot);
+            return;
+        }
+
+        ProxyOnlineCount proxyOnlineCount = new ProxyOnlineCount(
+            serviceInfoSnapshot.getConfiguration().getGroups(),
+            serviceInfoSnapshot.getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT)
+        );
+
+        ProxyOnlineCount previousOnlineCount = this.proxies.put(serviceInfoSnapshot.getServiceId().getUniqueId(), proxyOnlineCount);
+
+        if (previousOnlineCount == null || previousOnlineCount.onlineCount != proxyOnlineCount.onlineCount)
+            this.changed = true;
+    }
+
+    @EventListener
+    public void handle(CloudServiceStopEvent event)
+    {
+        this.remove(event.getServiceInfo());
+    }
+
+    @EventListener
+    public void handle(CloudServiceDisconnectNetworkEvent event)
+    {
+        this.remove(event.getServiceInfo());
+    }
+
+    @EventListener
+    public void handle(CloudServiceUnregisterEvent event)
+    {
+        this.remove(event.getServiceInfo());
+    }
+
+    @EventListener
+    public void handle(CloudNetTickEvent event)
+    {
+        if (++this.ticks < UPDATE_INTERVAL_TICKS) return;
+
+        this.ticks = 0;
+
+        if (this.changed)
+        {
+            this.changed = false;
+            this.publishOnlineCounts();
+        }
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Publishes the online counts of all login configurations with the next tick, for example after a configuration
+     * update
+     */
+    public void markChanged()
+    {
+        this.changed = true;
+    }
+
+    /**
+     * Returns the sum of the online counts of all proxies of the group
+     */
+    public int getOnlineCount(String group)
+    {
+        int onlineCount = 0;
+
+        for (ProxyOnlineCount proxyOnlineCount : this.proxies.values())
+            if (Iterables.contains(group, proxyOnlineCount.groups))
+                onlineCount += proxyOnlineCount.onlineCount;
+
+        return onlineCount;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private void remove(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        if (isProxy(serviceInfoSnapshot) && this.proxies.remove(serviceInfoSnapshot.getServiceId().getUniqueId()) != null)
+            this.changed = true;
+    }
+
+    private synchronized void publishOnlineCounts()
+    {
+        SyncProxyConfiguration syncProxyConfiguration = CloudNetSyncProxyModule.getInstance().getSyncProxyConfiguration();
+
+        if (syncProxyConfiguration == null || syncProxyConfiguration.getLoginConfigurations() == null) return;
+
+        Map<String, Integer> onlineCounts = Maps.newHashMap();
+
+        for (SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration : syncProxyConfiguration.getLoginConfigurations())
+            if (syncProxyProxyLoginConfiguration.getTargetGroup() != null)
+                onlineCounts.put(syncProxyProxyLoginConfiguration.getTargetGroup(), 0);
+
+        for (ProxyOnlineCount proxyOnlineCount : this.proxies.values())
+            for (String group : proxyOnlineCount.groups)
+                if (onlineCounts.containsKey(group))
+                    onlineCounts.put(group, onlineCounts.get(group) + proxyOnlineCount.onlineCount);
+
+        this.publishedOnlineCounts.keySet().retainAll(onlineCounts.keySet());
+
+        for (Map.Entry<String, Integer> entry : onlineCounts.entrySet())
+        {
+            Integer publishedOnlineCount = this.publishedOnlineCounts.put(entry.getKey(), entry.getValue());
+
+            if (publishedOnlineCount != null && publishedOnlineCount.equals(entry.getValue())) continue;
+
+            Packet packet = null;
+
+            for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
+            {
+                if (cloudService.getNetworkChannel() == null || !isProxy(cloudService.getServiceInfoSnapshot()) ||
+                    !Iterables.contains(entry.getKey(), cloudService.getServiceConfiguration().getGroups()))
+                    continue;
+
+                if (packet == null)
+                    packet = new PacketClientServerChannelMessage(
+                        SyncProxyConstants.SYNC_PROXY_CHANNEL_NAME,
+                        SyncProxyConstants.SYNC_PROXY_UPDATE_ONLINE_COUNT,
+                        new JsonDocument("group", entry.getKey()).append("onlineCount", entry.getValue())
+                    );
+
+                cloudService.getNetworkChannel().sendPacket(packet);
+            }
+        }
+    }
+
+    private static boolean isProxy(ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        return serviceInfoSnapshot != null && (serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftJavaProxy() ||
+            serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftBedrockProxy());
+    }
+
+    private static final class ProxyOnlineCount {
+
+        private final String[] groups;
+
+        private final int onlineCount;
+
+        private ProxyOnlineCount(String[] groups, int onlineCount)
+        {
+            this.groups = groups != null ? groups : new String[0];
+            this.onlineCount = onlineCount;
+        }
+    }
+}
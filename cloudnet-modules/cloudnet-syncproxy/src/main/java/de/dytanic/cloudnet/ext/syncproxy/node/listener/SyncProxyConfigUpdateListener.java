@@ -25,6 +25,12 @@ public final class SyncProxyConfigUpdateListener {
                 event.setCallbackPacket(new JsonDocument("syncProxyConfiguration", CloudNetSyncProxyModule.getInstance().getSyncProxyConfiguration()));
             }
             break;
+            case SyncProxyConstants.SYNC_PROXY_SYNC_ID_GET_ONLINE_COUNT_PROPERTY:
+            {
+                event.setCallbackPacket(new JsonDocument("onlineCount",
+                    CloudNetSyncProxyModule.getInstance().getOnlineCountAggregator().getOnlineCount(event.getHeader().getString("group"))));
+            }
+            break;
         }
     }
 
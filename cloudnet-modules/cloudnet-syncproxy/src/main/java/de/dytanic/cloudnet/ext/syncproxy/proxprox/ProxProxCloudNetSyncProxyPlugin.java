@@ -2,14 +2,15 @@ package de.dytanic.cloudnet.ext.syncproxy.proxprox;
 
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
-import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConstants;
+import de.dytanic.cloudnet.ext.syncproxy.SyncProxyOnlineCount;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyProxyLoginConfiguration;
+import de.dytanic.cloudnet.ext.syncproxy.SyncProxyTemplate;
 import de.dytanic.cloudnet.ext.syncproxy.proxprox.listener.ProxProxProxyLoginConfigurationImplListener;
 import de.dytanic.cloudnet.ext.syncproxy.proxprox.listener.ProxProxSyncProxyCloudNetListener;
 import de.dytanic.cloudnet.wrapper.Wrapper;
@@ -20,9 +21,6 @@ import io.gomint.proxprox.api.plugin.annotation.Name;
 import io.gomint.proxprox.api.plugin.annotation.Version;
 import lombok.Getter;
 
-import java.util.Map;
-import java.util.UUID;
-
 @Getter
 @Name("CloudNet-SyncProxy")
 @Version(major = 1, minor = 0)
@@ -39,7 +37,12 @@ public final class ProxProxCloudNetSyncProxyPlugin extends Plugin {
 
     /*= ---------------------------------------------------------------------- =*/
 
-    private final Map<UUID, Integer> onlineCountOfProxies = Maps.newConcurrentHashMap();
+    private final SyncProxyOnlineCount onlineCount = new SyncProxyOnlineCount();
+
+    private final SyncProxyTemplate.Cache motdTemplates = new SyncProxyTemplate.Cache(
+        text -> text,
+        "proxy", "proxy_uniqueId", "task", "node", "online_players", "max_players"
+    );
 
     /*= ---------------------------------------------------------------------- =*/
 
@@ -95,13 +98,24 @@ public final class ProxProxCloudNetSyncProxyPlugin extends Plugin {
 
     public int getSyncProxyOnlineCount()
     {
-        int onlinePlayers = getProxyServer().getPlayers().size();
+        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
-        for (Map.Entry<UUID, Integer> entry : onlineCountOfProxies.entrySet())
-            if (!Wrapper.getInstance().getServiceId().getUniqueId().equals(entry.getKey()))
-                onlinePlayers += entry.getValue();
+        return onlineCount.getOnlineCount(
+            syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getTargetGroup() : null,
+            getProxyServer().getPlayers().size()
+        );
+    }
 
-        return onlinePlayers;
+    public String renderMotd(String text, int onlinePlayers, int maxPlayers)
+    {
+        return motdTemplates.get(text).render(
+            Wrapper.getInstance().getServiceId().getName(),
+            Wrapper.getInstance().getServiceId().getUniqueId(),
+            Wrapper.getInstance().getServiceId().getTaskName(),
+            Wrapper.getInstance().getServiceId().getNodeUniqueId(),
+            onlinePlayers,
+            maxPlayers
+        );
     }
 
     /*= ------------------------------------------------------------------------------------------------------------------- =*/
@@ -118,13 +132,6 @@ public final class ProxProxCloudNetSyncProxyPlugin extends Plugin {
         SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
         if (syncProxyProxyLoginConfiguration != null && syncProxyProxyLoginConfiguration.getTargetGroup() != null)
-        {
-            for (ServiceInfoSnapshot serviceInfoSnapshot : CloudNetDriver.getInstance().getCloudServiceByGroup(syncProxyProxyLoginConfiguration.getTargetGroup()))
-                if ((serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftBedrockProxy() ||
-                    serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftJavaProxy()) &&
-                    serviceInfoSnapshot.getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                    getOnlineCountOfProxies().put(serviceInfoSnapshot.getServiceId().getUniqueId(),
-                        serviceInfoSnapshot.getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-        }
+            onlineCount.load(syncProxyProxyLoginConfiguration.getTargetGroup());
     }
 }
\ No newline at end of file
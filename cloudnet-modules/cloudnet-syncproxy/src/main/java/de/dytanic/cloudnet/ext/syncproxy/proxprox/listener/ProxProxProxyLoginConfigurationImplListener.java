@@ -4,7 +4,6 @@ import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyMotd;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyProxyLoginConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.proxprox.ProxProxCloudNetSyncProxyPlugin;
-import de.dytanic.cloudnet.wrapper.Wrapper;
 import io.gomint.proxprox.api.ChatColor;
 import io.gomint.proxprox.api.event.PlayerLoginEvent;
 import io.gomint.proxprox.api.event.ProxyPingEvent;
@@ -46,11 +45,8 @@ public final class ProxProxProxyLoginConfigurationImplListener implements Listen
                     (syncProxyMotd.getAutoSlotMaxPlayersDistance() + onlinePlayers) :
                     syncProxyProxyLoginConfiguration.getMaxPlayers());
 
-                event.setMotd((syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine() + "")
-                    .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-                    .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId() + "")
-                    .replace("%task%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-                    .replace("%node%", Wrapper.getInstance().getServiceId().getNodeUniqueId() + ""));
+                event.setMotd(ProxProxCloudNetSyncProxyPlugin.getInstance().renderMotd(
+                    syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine(), onlinePlayers, event.getMaxPlayers()));
             }
         }
     }
@@ -2,9 +2,6 @@ package de.dytanic.cloudnet.ext.syncproxy.proxprox.listener;
 
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceDisconnectNetworkEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceStopEvent;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConstants;
@@ -20,43 +17,12 @@ public final class ProxProxSyncProxyCloudNetListener {
     public void handle(ServiceInfoSnapshotConfigureEvent event)
     {
         if (ProxProxCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration() != null)
-            event.getServiceInfoSnapshot().getProperties().append(
-                SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT,
-                ProxProxCloudNetSyncProxyPlugin.getProxyServer().getPlayers().size()
-            );
-    }
-
-    @EventListener
-    public void handle(CloudServiceInfoUpdateEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
-
-        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = ProxProxCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration();
-
-        if (syncProxyProxyLoginConfiguration != null)
-            if (ProxProxCloudNetSyncProxyPlugin.getInstance().inGroup(event.getServiceInfo(), syncProxyProxyLoginConfiguration) &&
-                event.getServiceInfo().getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                ProxProxCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().put(event.getServiceInfo().getServiceId().getUniqueId(), event.getServiceInfo()
-                    .getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-    }
-
-    @EventListener
-    public void handle(CloudServiceStopEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
-
-        ProxProxCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
-    }
-
-    @EventListener
-    public void handle(CloudServiceDisconnectNetworkEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy() &&
-            !event.getServiceInfo().getServiceId().getEnvironment().isMinecraftBedrockProxy()) return;
+        {
+            int onlineCount = ProxProxCloudNetSyncProxyPlugin.getProxyServer().getPlayers().size();
 
-        ProxProxCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
+            event.getServiceInfoSnapshot().getProperties().append(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT, onlineCount);
+            ProxProxCloudNetSyncProxyPlugin.getInstance().getOnlineCount().setReportedOnlineCount(onlineCount);
+        }
     }
 
     @EventListener
@@ -76,6 +42,9 @@ public final class ProxProxSyncProxyCloudNetListener {
                 handlePlayerNotWhitelisted();
             }
             break;
+            case SyncProxyConstants.SYNC_PROXY_UPDATE_ONLINE_COUNT:
+                ProxProxCloudNetSyncProxyPlugin.getInstance().getOnlineCount().update(event.getData());
+                break;
         }
     }
 
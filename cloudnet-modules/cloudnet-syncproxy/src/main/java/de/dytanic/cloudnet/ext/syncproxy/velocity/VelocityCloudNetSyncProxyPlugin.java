@@ -9,7 +9,6 @@ import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
-import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
@@ -23,8 +22,6 @@ import net.kyori.text.TextComponent;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
-import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -50,7 +47,17 @@ public final class VelocityCloudNetSyncProxyPlugin {
 
     /*= ---------------------------------------------------------------------- =*/
 
-    private final Map<UUID, Integer> onlineCountOfProxies = Maps.newConcurrentHashMap();
+    private final SyncProxyOnlineCount onlineCount = new SyncProxyOnlineCount();
+
+    private final SyncProxyTemplate.Cache tabListTemplates = new SyncProxyTemplate.Cache(
+        text -> text.replace("&", "§"),
+        "proxy", "proxy_uniqueId", "server", "online_players", "max_players", "proxy_task_name", "name", "ping", "time"
+    );
+
+    private final SyncProxyTemplate.Cache motdTemplates = new SyncProxyTemplate.Cache(
+        text -> text.replace("&", "§"),
+        "proxy", "proxy_uniqueId", "task", "node", "online_players", "max_players"
+    );
 
     /*= ---------------------------------------------------------------------- =*/
 
@@ -85,13 +92,24 @@ public final class VelocityCloudNetSyncProxyPlugin {
 
     public int getSyncProxyOnlineCount()
     {
-        int onlinePlayers = proxyServer.getPlayerCount();
+        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
-        for (Map.Entry<UUID, Integer> entry : onlineCountOfProxies.entrySet())
-            if (!Wrapper.getInstance().getServiceId().getUniqueId().equals(entry.getKey()))
-                onlinePlayers += entry.getValue();
+        return onlineCount.getOnlineCount(
+            syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getTargetGroup() : null,
+            proxyServer.getPlayerCount()
+        );
+    }
 
-        return onlinePlayers;
+    public String renderMotd(String text, int onlinePlayers, int maxPlayers)
+    {
+        return motdTemplates.get(text).render(
+            Wrapper.getInstance().getServiceId().getName(),
+            Wrapper.getInstance().getServiceId().getUniqueId(),
+            Wrapper.getInstance().getServiceId().getTaskName(),
+            Wrapper.getInstance().getServiceId().getNodeUniqueId(),
+            onlinePlayers,
+            maxPlayers
+        );
     }
 
     public void updateSyncProxyConfigurationInNetwork(SyncProxyConfiguration syncProxyConfiguration)
@@ -150,24 +168,22 @@ public final class VelocityCloudNetSyncProxyPlugin {
 
     private String replaceTabListItem(Player player, SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration, String input)
     {
-        return input
-            .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-            .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId().toString() + "")
-            .replace("%server%", player.getCurrentServer().isPresent() ? player.getCurrentServer().get().getServerInfo().getName() : "")
-            .replace("%online_players%",
-                (
-                    syncProxyProxyLoginConfiguration != null ? getSyncProxyOnlineCount() : proxyServer.getPlayerCount()
-                ) + "")
-            .replace("%max_players%",
-                (
-                    syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getMaxPlayers() :
-                        proxyServer.getConfiguration().getShowMaxPlayers()
-                ) + "")
-            .replace("%proxy_task_name%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-            .replace("%name%", player.getUsername() + "")
-            .replace("%ping%", player.getPing() + "")
-            .replace("%time%", DATE_FORMAT.format(System.currentTimeMillis()) + "")
-            .replace("&", "§");
+        SyncProxyTemplate template = tabListTemplates.get(input);
+
+        if (!template.usesValues()) return template.render();
+
+        return template.render(
+            Wrapper.getInstance().getServiceId().getName(),
+            Wrapper.getInstance().getServiceId().getUniqueId(),
+            player.getCurrentServer().isPresent() ? player.getCurrentServer().get().getServerInfo().getName() : "",
+            syncProxyProxyLoginConfiguration != null ? getSyncProxyOnlineCount() : proxyServer.getPlayerCount(),
+            syncProxyProxyLoginConfiguration != null ? syncProxyProxyLoginConfiguration.getMaxPlayers() :
+                proxyServer.getConfiguration().getShowMaxPlayers(),
+            Wrapper.getInstance().getServiceId().getTaskName(),
+            player.getUsername(),
+            player.getPing(),
+            DATE_FORMAT.format(System.currentTimeMillis())
+        );
     }
 
     /*= ------------------------------------------------------- =*/
@@ -224,14 +240,7 @@ public final class VelocityCloudNetSyncProxyPlugin {
         SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = getProxyLoginConfiguration();
 
         if (syncProxyProxyLoginConfiguration != null && syncProxyProxyLoginConfiguration.getTargetGroup() != null)
-        {
-            for (ServiceInfoSnapshot serviceInfoSnapshot : CloudNetDriver.getInstance().getCloudServiceByGroup(syncProxyProxyLoginConfiguration.getTargetGroup()))
-                if ((serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftBedrockProxy() ||
-                    serviceInfoSnapshot.getServiceId().getEnvironment().isMinecraftJavaProxy()) &&
-                    serviceInfoSnapshot.getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                    getOnlineCountOfProxies().put(serviceInfoSnapshot.getServiceId().getUniqueId(),
-                        serviceInfoSnapshot.getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-        }
+            onlineCount.load(syncProxyProxyLoginConfiguration.getTargetGroup());
     }
 
 }
\ No newline at end of file
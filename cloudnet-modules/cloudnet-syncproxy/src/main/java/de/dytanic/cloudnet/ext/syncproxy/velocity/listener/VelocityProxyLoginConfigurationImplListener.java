@@ -9,7 +9,6 @@ import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyMotd;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyProxyLoginConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.velocity.VelocityCloudNetSyncProxyPlugin;
-import de.dytanic.cloudnet.wrapper.Wrapper;
 import net.kyori.text.TextComponent;
 
 import java.util.Collections;
@@ -47,14 +46,7 @@ public final class VelocityProxyLoginConfigurationImplListener {
 
                 event.setPing(new ServerPing(
                     syncProxyMotd.getProtocolText() != null ? new ServerPing.Version(1,
-                        syncProxyMotd.getProtocolText()
-                            .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-                            .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId() + "")
-                            .replace("%task%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-                            .replace("%node%", Wrapper.getInstance().getServiceId().getNodeUniqueId() + "")
-                            .replace("%online_players%", onlinePlayers + "")
-                            .replace("%max_players%", syncProxyProxyLoginConfiguration.getMaxPlayers() + "")
-                            .replace("&", "§")) :
+                        VelocityCloudNetSyncProxyPlugin.getInstance().renderMotd(syncProxyMotd.getProtocolText(), onlinePlayers, syncProxyProxyLoginConfiguration.getMaxPlayers())) :
                         event.getPing().getVersion(),
                     new ServerPing.Players(
                         onlinePlayers,
@@ -78,12 +70,8 @@ public final class VelocityProxyLoginConfigurationImplListener {
                             :
                             Collections.EMPTY_LIST
                     ),
-                    TextComponent.of((syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine() + "")
-                        .replace("%proxy%", Wrapper.getInstance().getServiceId().getName() + "")
-                        .replace("%proxy_uniqueId%", Wrapper.getInstance().getServiceId().getUniqueId() + "")
-                        .replace("%task%", Wrapper.getInstance().getServiceId().getTaskName() + "")
-                        .replace("%node%", Wrapper.getInstance().getServiceId().getNodeUniqueId() + "")
-                        .replace("&", "§")),
+                    TextComponent.of(VelocityCloudNetSyncProxyPlugin.getInstance().renderMotd(
+                        syncProxyMotd.getFirstLine() + "\n" + syncProxyMotd.getSecondLine(), onlinePlayers, syncProxyProxyLoginConfiguration.getMaxPlayers())),
                     event.getPing().getFavicon().isPresent() ? event.getPing().getFavicon().get() : null,
                     event.getPing().getModinfo().isPresent() ? event.getPing().getModinfo().get() : null
                 ));
@@ -3,9 +3,6 @@ package de.dytanic.cloudnet.ext.syncproxy.velocity.listener;
 import com.velocitypowered.api.proxy.Player;
 import de.dytanic.cloudnet.driver.event.EventListener;
 import de.dytanic.cloudnet.driver.event.events.channel.ChannelMessageReceiveEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceDisconnectNetworkEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
-import de.dytanic.cloudnet.driver.event.events.service.CloudServiceStopEvent;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfiguration;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConfigurationProvider;
 import de.dytanic.cloudnet.ext.syncproxy.SyncProxyConstants;
@@ -20,41 +17,12 @@ public final class VelocitySyncProxyCloudNetListener {
     public void handle(ServiceInfoSnapshotConfigureEvent event)
     {
         if (VelocityCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration() != null)
-            event.getServiceInfoSnapshot().getProperties().append(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT,
-                VelocityCloudNetSyncProxyPlugin.getInstance().getProxyServer().getPlayerCount());
-    }
-
-    @EventListener
-    public void handle(CloudServiceInfoUpdateEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy()) return;
-
-        SyncProxyProxyLoginConfiguration syncProxyProxyLoginConfiguration = VelocityCloudNetSyncProxyPlugin.getInstance().getProxyLoginConfiguration();
-
-        if (syncProxyProxyLoginConfiguration != null)
-            if (VelocityCloudNetSyncProxyPlugin.getInstance().inGroup(event.getServiceInfo(), syncProxyProxyLoginConfiguration) &&
-                event.getServiceInfo().getProperties().contains(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT))
-                VelocityCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().put(event.getServiceInfo().getServiceId().getUniqueId(), event.getServiceInfo()
-                    .getProperties().getInt(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT));
-
-        for (Player player : VelocityCloudNetSyncProxyPlugin.getInstance().getProxyServer().getAllPlayers())
-            VelocityCloudNetSyncProxyPlugin.getInstance().setTabList(player);
-    }
-
-    @EventListener
-    public void handle(CloudServiceStopEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy()) return;
-
-        VelocityCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
-    }
-
-    @EventListener
-    public void handle(CloudServiceDisconnectNetworkEvent event)
-    {
-        if (!event.getServiceInfo().getServiceId().getEnvironment().isMinecraftJavaProxy()) return;
+        {
+            int onlineCount = VelocityCloudNetSyncProxyPlugin.getInstance().getProxyServer().getPlayerCount();
 
-        VelocityCloudNetSyncProxyPlugin.getInstance().getOnlineCountOfProxies().remove(event.getServiceInfo().getServiceId().getUniqueId());
+            event.getServiceInfoSnapshot().getProperties().append(SyncProxyConstants.SYNC_PROXY_SERVICE_INFO_SNAPSHOT_ONLINE_COUNT, onlineCount);
+            VelocityCloudNetSyncProxyPlugin.getInstance().getOnlineCount().setReportedOnlineCount(onlineCount);
+        }
     }
 
     @EventListener
@@ -74,6 +42,13 @@ public final class VelocitySyncProxyCloudNetListener {
                 handlePlayerNotWhitelisted();
             }
             break;
+            case SyncProxyConstants.SYNC_PROXY_UPDATE_ONLINE_COUNT:
+            {
+                if (VelocityCloudNetSyncProxyPlugin.getInstance().getOnlineCount().update(event.getData()))
+                    for (Player player : VelocityCloudNetSyncProxyPlugin.getInstance().getProxyServer().getAllPlayers())
+                        VelocityCloudNetSyncProxyPlugin.getInstance().setTabList(player);
+            }
+            break;
         }
     }
 
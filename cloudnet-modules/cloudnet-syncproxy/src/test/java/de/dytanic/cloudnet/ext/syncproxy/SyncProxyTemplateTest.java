@@ -0,0 +1,24 @@
+package de.dytanic.cloudnet.ext.syncproxy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class SyncProxyTemplateTest {
+
+    @Test
+    public void testTemplate()
+    {
+        SyncProxyTemplate.Cache cache = new SyncProxyTemplate.Cache(text -> text.replace("&", "#"), "proxy", "online_players");
+
+        SyncProxyTemplate template = cache.get("&7%proxy% | %online_players%/%max_players% 100%");
+
+        Assert.assertTrue(template.usesValues());
+        Assert.assertEquals("#7Proxy-1 | 5/%max_players% 100%", template.render("Proxy-1", 5));
+        Assert.assertSame(template, cache.get("&7%proxy% | %online_players%/%max_players% 100%"));
+
+        template = cache.get("&eCloudNet");
+
+        Assert.assertFalse(template.usesValues());
+        Assert.assertEquals("#eCloudNet", template.render());
+    }
+}
@@ -1,11 +1,13 @@
 package de.dytanic.cloudnet.wrapper;
 
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.collection.Pair;
 import de.dytanic.cloudnet.common.concurrent.ITask;
 import de.dytanic.cloudnet.common.concurrent.ListenableTask;
+import de.dytanic.cloudnet.common.document.gson.JsonDelta;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.common.logging.ILogger;
 import de.dytanic.cloudnet.common.unsafe.CPUUsageResolver;
@@ -20,6 +22,7 @@ import de.dytanic.cloudnet.driver.network.cluster.NetworkClusterNodeInfoSnapshot
 import de.dytanic.cloudnet.driver.network.def.PacketConstants;
 import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerChannelMessage;
 import de.dytanic.cloudnet.driver.network.netty.NettyNetworkClient;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.ssl.SSLConfiguration;
 import de.dytanic.cloudnet.driver.permission.IPermissionGroup;
 import de.dytanic.cloudnet.driver.permission.IPermissionUser;
@@ -35,6 +38,8 @@ import de.dytanic.cloudnet.wrapper.event.service.ServiceInfoSnapshotConfigureEve
 import de.dytanic.cloudnet.wrapper.module.WrapperModuleProviderHandler;
 import de.dytanic.cloudnet.wrapper.network.NetworkClientChannelHandler;
 import de.dytanic.cloudnet.wrapper.network.listener.*;
+import de.dytanic.cloudnet.wrapper.network.packet.PacketClientChannelMessageSubscription;
+import de.dytanic.cloudnet.wrapper.network.packet.PacketClientPermissionUserSubscription;
 import de.dytanic.cloudnet.wrapper.network.packet.PacketClientServiceInfoUpdate;
 import de.dytanic.cloudnet.wrapper.runtime.RuntimeApplicationClassLoader;
 import lombok.Getter;
@@ -65,6 +70,8 @@ public final class Wrapper extends CloudNetDriver {
 
     private static final int TPS = 10;
 
+    private static final int SERVICE_INFO_KEYFRAME_INTERVAL = Integer.getInteger("cloudnet.wrapper.snapshot.keyframe.interval", 12);
+
     /**
      * The configuration of the wrapper, which was created from the CloudNet node.
      * The properties are mirrored from the configuration file.
@@ -117,6 +124,20 @@ public final class Wrapper extends CloudNetDriver {
         lastServiceInfoSnapShot = this.config.getServiceInfoSnapshot(),
         currentServiceInfoSnapshot = this.config.getServiceInfoSnapshot();
 
+    /**
+     * The published ServiceInfoSnapshots as json by their sequence, which are not acknowledged by the node yet, and the
+     * last acknowledged one, which is the base of the next delta update
+     */
+    private final Object serviceInfoPublishLock = new Object();
+
+    private final NavigableMap<Long, JsonObject> publishedServiceInfoSnapshots = new TreeMap<>();
+
+    private JsonObject acknowledgedServiceInfoSnapshot;
+
+    private long publishedServiceInfoSequence, acknowledgedServiceInfoSequence;
+
+    private int serviceInfoUpdatesSinceKeyframe;
+
     /*= ---------------------------------------------------------- =*/
 
     Wrapper(List<String> commandLineArguments, ILogger logger)
@@ -138,15 +159,17 @@ public final class Wrapper extends CloudNetDriver {
                 this.config.getSslConfig().contains("privateKeyPath") ?
                     new File(".wrapper/privateKey") :
                     null
-            ), taskScheduler);
+            ), taskScheduler, this.config.getNetworkTransportConfig());
         else
-            this.networkClient = new NettyNetworkClient(NetworkClientChannelHandler::new);
+            this.networkClient = new NettyNetworkClient(NetworkClientChannelHandler::new, null, null, this.config.getNetworkTransportConfig());
 
         //- Packet client registry
         this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_EVENTBUS_CHANNEL, new PacketServerServiceInfoPublisherListener());
         this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_EVENTBUS_CHANNEL, new PacketServerUpdatePermissionsListener());
         this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_EVENTBUS_CHANNEL, new PacketServerChannelMessageListener());
         this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerClusterNodeInfoUpdateListener());
+        this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new PacketServerServiceInfoKeyframeRequestListener());
+        this.networkClient.getPacketRegistry().addListener(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new PacketServerServiceInfoAcknowledgementListener());
         //-
 
         this.moduleProvider.setModuleProviderHandler(new WrapperModuleProviderHandler());
@@ -2638,6 +2661,11 @@ public final class Wrapper extends CloudNetDriver {
      * @return the new ServiceInfoSnapshot instance
      */
     public ServiceInfoSnapshot createServiceInfoSnapshot()
+    {
+        return this.createServiceInfoSnapshot(collectThreads());
+    }
+
+    private ServiceInfoSnapshot createServiceInfoSnapshot(Collection<ThreadSnapshot> threads)
     {
         MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
 
@@ -2654,35 +2682,159 @@ public final class Wrapper extends CloudNetDriver {
                 ManagementFactory.getClassLoadingMXBean().getLoadedClassCount(),
                 ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(),
                 ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount(),
-                Iterables.map(Thread.getAllStackTraces().keySet(), new Function<Thread, ThreadSnapshot>() {
-                    @Override
-                    public ThreadSnapshot apply(Thread thread)
-                    {
-                        return new ThreadSnapshot(thread.getId(), thread.getName(), thread.getState(), thread.isDaemon(), thread.getPriority());
-                    }
-                }),
+                threads,
                 CPUUsageResolver.getProcessCPUUsage()
             ),
             this.getServiceConfiguration()
         );
     }
 
+    private static Collection<ThreadSnapshot> collectThreads()
+    {
+        return Iterables.map(Thread.getAllStackTraces().keySet(), new Function<Thread, ThreadSnapshot>() {
+            @Override
+            public ThreadSnapshot apply(Thread thread)
+            {
+                return new ThreadSnapshot(thread.getId(), thread.getName(), thread.getState(), thread.isDaemon(), thread.getPriority());
+            }
+        });
+    }
+
     /**
      * This method should be used to send the current ServiceInfoSnapshot and all subscribers on the network and to update their information.
      * It calls the ServiceInfoSnapshotConfigureEvent before send the update to the node.
      *
      * @see ServiceInfoSnapshotConfigureEvent
+     * @see #publishServiceInfoUpdate(boolean)
      */
     public void publishServiceInfoUpdate()
     {
-        ServiceInfoSnapshot serviceInfoSnapshot = this.createServiceInfoSnapshot();
+        this.publishServiceInfoUpdate(false);
+    }
+
+    /**
+     * Sends the current ServiceInfoSnapshot to the node. The update contains only the fields, which have changed since
+     * the last update, which the node has acknowledged, and the node applies them to its ServiceInfoSnapshot of this
+     * service. Every few updates, if the node requests it or if no update was acknowledged yet, a keyframe with the
+     * complete ServiceInfoSnapshot is sent. The thread list of the process is only collected for keyframes.
+     *
+     * @param keyframe true, if the complete ServiceInfoSnapshot should be sent
+     */
+    public void publishServiceInfoUpdate(boolean keyframe)
+    {
+        synchronized (this.serviceInfoPublishLock)
+        {
+            keyframe |= this.acknowledgedServiceInfoSnapshot == null || ++this.serviceInfoUpdatesSinceKeyframe >= SERVICE_INFO_KEYFRAME_INTERVAL;
+
+            if (keyframe) this.serviceInfoUpdatesSinceKeyframe = 0;
+        }
+
+        ProcessSnapshot processSnapshot = this.currentServiceInfoSnapshot.getProcessSnapshot();
+        ServiceInfoSnapshot serviceInfoSnapshot = this.createServiceInfoSnapshot(keyframe || processSnapshot == null || processSnapshot.getThreads() == null ?
+            collectThreads() : processSnapshot.getThreads());
 
         this.eventManager.callEvent(new ServiceInfoSnapshotConfigureEvent(serviceInfoSnapshot));
 
-        this.lastServiceInfoSnapShot = this.currentServiceInfoSnapshot;
-        this.currentServiceInfoSnapshot = serviceInfoSnapshot;
+        synchronized (this.serviceInfoPublishLock)
+        {
+            this.lastServiceInfoSnapShot = this.currentServiceInfoSnapshot;
+            this.currentServiceInfoSnapshot = serviceInfoSnapshot;
+
+            JsonObject snapshot = JsonDocument.GSON.toJsonTree(serviceInfoSnapshot).getAsJsonObject();
+            long sequence = ++this.publishedServiceInfoSequence;
+
+            IPacket packet = keyframe || this.acknowledgedServiceInfoSnapshot == null ?
+                new PacketClientServiceInfoUpdate(snapshot, sequence) :
+                new PacketClientServiceInfoUpdate(
+                    JsonDelta.diff(this.acknowledgedServiceInfoSnapshot, snapshot),
+                    this.acknowledgedServiceInfoSequence,
+                    sequence
+                );
+
+            //every update is based on a snapshot, which the node has acknowledged, so a queued update can be replaced by a later one
+            for (INetworkChannel channel : this.networkClient.getChannels())
+                channel.sendDroppablePacket(packet, "serviceInfo_update");
+
+            this.publishedServiceInfoSnapshots.put(sequence, snapshot);
+
+            while (this.publishedServiceInfoSnapshots.size() > SERVICE_INFO_KEYFRAME_INTERVAL)
+                this.publishedServiceInfoSnapshots.pollFirstEntry();
+        }
+    }
+
+    /**
+     * Marks the published ServiceInfoSnapshot with the given sequence as applied by the node, so that the following
+     * delta updates are based on it
+     *
+     * @param sequence the sequence of the update, which the node has applied
+     */
+    public void acknowledgeServiceInfoUpdate(long sequence)
+    {
+        synchronized (this.serviceInfoPublishLock)
+        {
+            if (sequence <= this.acknowledgedServiceInfoSequence) return;
+
+            JsonObject snapshot = this.publishedServiceInfoSnapshots.get(sequence);
+
+            if (snapshot == null) return;
+
+            this.acknowledgedServiceInfoSnapshot = snapshot;
+            this.acknowledgedServiceInfoSequence = sequence;
+            this.publishedServiceInfoSnapshots.headMap(sequence, true).clear();
+        }
+    }
+
+    /**
+     * Subscribes channels for the channel messages of this service. A service without any subscription receives every
+     * channel message of the network. After the first subscription, the node routes only the messages of the subscribed
+     * channels to this service, so every listener of the ChannelMessageReceiveEvent has to subscribe its channels.
+     *
+     * @param channels the names of the channels
+     */
+    public void subscribeChannelMessages(String... channels)
+    {
+        Validate.checkNotNull(channels);
+
+        this.networkClient.sendPacket(new PacketClientChannelMessageSubscription(Arrays.asList(channels), true));
+    }
+
+    /**
+     * Removes the subscriptions of channels for the channel messages of this service
+     *
+     * @param channels the names of the channels
+     * @see #subscribeChannelMessages(String...)
+     */
+    public void unsubscribeChannelMessages(String... channels)
+    {
+        Validate.checkNotNull(channels);
+
+        this.networkClient.sendPacket(new PacketClientChannelMessageSubscription(Arrays.asList(channels), false));
+    }
+
+    /**
+     * Subscribes the updates of a permission user on the node. The node sends the updates of a single permission user
+     * only to the services, which have subscribed the user, for example while the player is online on this service.
+     *
+     * @param uniqueId the uniqueId of the permission user
+     */
+    public void subscribePermissionUser(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
+
+        this.networkClient.sendPacket(new PacketClientPermissionUserSubscription(uniqueId, true));
+    }
+
+    /**
+     * Removes the subscription of the updates of a permission user on the node
+     *
+     * @param uniqueId the uniqueId of the permission user
+     * @see #subscribePermissionUser(UUID)
+     */
+    public void unsubscribePermissionUser(UUID uniqueId)
+    {
+        Validate.checkNotNull(uniqueId);
 
-        this.networkClient.sendPacket(new PacketClientServiceInfoUpdate(serviceInfoSnapshot));
+        this.networkClient.sendPacket(new PacketClientPermissionUserSubscription(uniqueId, false));
     }
 
     /**
@@ -3,6 +3,7 @@ package de.dytanic.cloudnet.wrapper.conf;
 import com.google.gson.reflect.TypeToken;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.service.ServiceConfiguration;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 import lombok.Getter;
@@ -38,6 +39,8 @@ public final class DocumentWrapperConfiguration implements IWrapperConfiguration
 
     private JsonDocument sslConfig;
 
+    private NetworkTransportConfiguration networkTransportConfig;
+
     public DocumentWrapperConfiguration()
     {
         this.load();
@@ -52,5 +55,8 @@ public final class DocumentWrapperConfiguration implements IWrapperConfiguration
         this.serviceConfiguration = document.get("serviceConfiguration", SERVICE_CFG_TYPE);
         this.serviceInfoSnapshot = document.get("serviceInfoSnapshot", SERVICE_INFO_TYPE);
         this.sslConfig = document.getDocument("sslConfig");
+        this.networkTransportConfig = document.contains("networkTransportConfig") ?
+            document.get("networkTransportConfig", NetworkTransportConfiguration.class) :
+            NetworkTransportConfiguration.DEFAULT;
     }
 }
\ No newline at end of file
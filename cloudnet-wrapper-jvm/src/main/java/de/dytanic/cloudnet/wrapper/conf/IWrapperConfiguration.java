@@ -2,6 +2,7 @@ package de.dytanic.cloudnet.wrapper.conf;
 
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.service.ServiceConfiguration;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 
@@ -47,4 +48,11 @@ public interface IWrapperConfiguration {
      * @return a document instance, which includes all important ssl settings, for a client ssl connection
      */
     JsonDocument getSslConfig();
+
+    /**
+     * The transport settings of the network client, which connects to the node
+     *
+     * @return the transport configuration of the network client
+     */
+    NetworkTransportConfiguration getNetworkTransportConfig();
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package de.dytanic.cloudnet.wrapper.network.listener;
+
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+import de.dytanic.cloudnet.wrapper.Wrapper;
+
+public final class PacketServerServiceInfoAcknowledgementListener implements IPacketListener {
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("serviceInfo_acknowledgement"))
+            Wrapper.getInstance().acknowledgeServiceInfoUpdate(packet.getHeader().getLong("serviceInfo_acknowledgement"));
+    }
+}
@@ -0,0 +1,16 @@
+package de.dytanic.cloudnet.wrapper.network.listener;
+
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+import de.dytanic.cloudnet.wrapper.Wrapper;
+
+public final class PacketServerServiceInfoKeyframeRequestListener implements IPacketListener {
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("serviceInfo_keyframe_request"))
+            Wrapper.getInstance().runTask(() -> Wrapper.getInstance().publishServiceInfoUpdate(true));
+    }
+}
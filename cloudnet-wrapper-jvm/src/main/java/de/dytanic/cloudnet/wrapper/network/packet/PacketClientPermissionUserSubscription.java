@@ -0,0 +1,17 @@
+package de.dytanic.cloudnet.wrapper.network.packet;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.def.PacketConstants;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+import java.util.UUID;
+
+public final class PacketClientPermissionUserSubscription extends Packet {
+
+    public PacketClientPermissionUserSubscription(UUID uniqueId, boolean subscribe)
+    {
+        super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("message", "permission_user_subscription")
+            .append("uniqueId", uniqueId)
+            .append("subscribe", subscribe), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
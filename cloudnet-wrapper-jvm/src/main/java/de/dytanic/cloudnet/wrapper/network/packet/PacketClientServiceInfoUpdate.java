@@ -1,5 +1,6 @@
 package de.dytanic.cloudnet.wrapper.network.packet;
 
+import com.google.gson.JsonObject;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.network.def.PacketConstants;
 import de.dytanic.cloudnet.driver.network.protocol.Packet;
@@ -11,4 +12,25 @@ public final class PacketClientServiceInfoUpdate extends Packet {
     {
         super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("message", "update_serviceInfo").append("serviceInfoSnapshot", serviceInfoSnapshot), Packet.EMPTY_PACKET_BYTE_ARRAY);
     }
-}
\ No newline at end of file
+
+    /**
+     * A keyframe, which contains the complete serialized ServiceInfoSnapshot
+     */
+    public PacketClientServiceInfoUpdate(JsonObject serviceInfoSnapshot, long sequence)
+    {
+        super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("message", "update_serviceInfo")
+            .append("serviceInfoSnapshot", serviceInfoSnapshot)
+            .append("sequence", sequence), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+
+    /**
+     * A delta, which contains the changed fields of the ServiceInfoSnapshot since the update with the base sequence
+     */
+    public PacketClientServiceInfoUpdate(JsonObject delta, long baseSequence, long sequence)
+    {
+        super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("message", "update_serviceInfo")
+            .append("delta", delta)
+            .append("baseSequence", baseSequence)
+            .append("sequence", sequence), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
@@ -64,12 +64,14 @@ import de.dytanic.cloudnet.event.command.CommandPreProcessEvent;
 import de.dytanic.cloudnet.event.permission.PermissionServiceSetEvent;
 import de.dytanic.cloudnet.log.QueuedConsoleLogHandler;
 import de.dytanic.cloudnet.module.NodeModuleProviderHandler;
+import de.dytanic.cloudnet.network.ChannelMessageRouter;
 import de.dytanic.cloudnet.network.NetworkClientChannelHandlerImpl;
 import de.dytanic.cloudnet.network.NetworkServerChannelHandlerImpl;
 import de.dytanic.cloudnet.network.listener.*;
 import de.dytanic.cloudnet.network.packet.*;
 import de.dytanic.cloudnet.permission.DefaultDatabasePermissionManagement;
 import de.dytanic.cloudnet.permission.DefaultPermissionManagementHandler;
+import de.dytanic.cloudnet.permission.PermissionReplicationManager;
 import de.dytanic.cloudnet.permission.command.DefaultPermissionUserCommandSender;
 import de.dytanic.cloudnet.permission.command.IPermissionUserCommandSender;
 import de.dytanic.cloudnet.service.DefaultCloudServiceManager;
@@ -125,6 +127,12 @@ public final class CloudNet extends CloudNetDriver {
     @Getter
     private final ITaskScheduler networkTaskScheduler = new DefaultTaskScheduler();
 
+    @Getter
+    private final PermissionReplicationManager permissionReplicationManager = new PermissionReplicationManager();
+
+    @Getter
+    private final ChannelMessageRouter channelMessageRouter = new ChannelMessageRouter();
+
     /*= ----------------------------------------------------------- =*/
 
     @Getter
@@ -211,13 +219,19 @@ public final class CloudNet extends CloudNetDriver {
 
         this.networkClient = new NettyNetworkClient(NetworkClientChannelHandlerImpl::new,
             this.config.getClientSslConfig().isEnabled() ? this.config.getClientSslConfig().toSslConfiguration() : null,
-            networkTaskScheduler
+            networkTaskScheduler,
+            this.config.getNetworkTransportConfig()
         );
         this.networkServer = new NettyNetworkServer(NetworkServerChannelHandlerImpl::new,
             this.config.getClientSslConfig().isEnabled() ? this.config.getServerSslConfig().toSslConfiguration() : null,
-            networkTaskScheduler
+            networkTaskScheduler,
+            this.config.getNetworkTransportConfig()
+        );
+        this.httpServer = new NettyHttpServer(
+            this.config.getClientSslConfig().isEnabled() ? this.config.getWebSslConfig().toSslConfiguration() : null,
+            this.config.getNetworkTransportConfig()
         );
-        this.httpServer = new NettyHttpServer(this.config.getClientSslConfig().isEnabled() ? this.config.getWebSslConfig().toSslConfiguration() : null);
+        this.httpServer.setCompression(this.config.getHttpCompressionConfig());
 
         this.initPacketRegistryListeners();
         this.clusterNodeServerProvider.setClusterServers(this.config.getClusterConfig());
@@ -413,7 +427,7 @@ public final class CloudNet extends CloudNetDriver {
         Validate.checkNotNull(message);
         Validate.checkNotNull(data);
 
-        this.sendAll(new PacketClientServerChannelMessage(channel, message, data));
+        this.channelMessageRouter.route(channel, new PacketClientServerChannelMessage(channel, message, data));
     }
 
     @Override
@@ -802,13 +816,7 @@ public final class CloudNet extends CloudNetDriver {
     @Override
     public Collection<ServiceInfoSnapshot> getStartedCloudServices()
     {
-        return Iterables.filter(this.getCloudServices(), new Predicate<ServiceInfoSnapshot>() {
-            @Override
-            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-            {
-                return serviceInfoSnapshot.getLifeCycle() == ServiceLifeCycle.RUNNING;
-            }
-        });
+        return this.cloudServiceManager.getServiceInfoSnapshots(ServiceLifeCycle.RUNNING);
     }
 
     @Override
@@ -824,13 +832,7 @@ public final class CloudNet extends CloudNetDriver {
     {
         Validate.checkNotNull(group);
 
-        return Iterables.filter(this.cloudServiceManager.getGlobalServiceInfoSnapshots().values(), new Predicate<ServiceInfoSnapshot>() {
-            @Override
-            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-            {
-                return Iterables.contains(group, serviceInfoSnapshot.getConfiguration().getGroups());
-            }
-        });
+        return this.cloudServiceManager.getServiceInfoSnapshotsByGroup(group);
     }
 
     @Override
@@ -852,13 +854,7 @@ public final class CloudNet extends CloudNetDriver {
     {
         Validate.checkNotNull(group);
 
-        int amount = 0;
-
-        for (ServiceInfoSnapshot serviceInfoSnapshot : this.getCloudServiceManager().getGlobalServiceInfoSnapshots().values())
-            if (Iterables.contains(group, serviceInfoSnapshot.getConfiguration().getGroups()))
-                amount++;
-
-        return amount;
+        return this.cloudServiceManager.getServiceInfoSnapshotsByGroup(group).size();
     }
 
     @Override
@@ -866,13 +862,7 @@ public final class CloudNet extends CloudNetDriver {
     {
         Validate.checkNotNull(taskName);
 
-        int amount = 0;
-
-        for (ServiceInfoSnapshot serviceInfoSnapshot : this.getCloudServiceManager().getGlobalServiceInfoSnapshots().values())
-            if (serviceInfoSnapshot.getServiceId().getTaskName().equals(taskName))
-                amount++;
-
-        return amount;
+        return this.cloudServiceManager.getServiceInfoSnapshots(taskName).size();
     }
 
     @Override
@@ -1020,13 +1010,7 @@ public final class CloudNet extends CloudNetDriver {
     {
         Validate.checkNotNull(environment);
 
-        return cloudServiceManager.getServiceInfoSnapshots(new Predicate<ServiceInfoSnapshot>() {
-            @Override
-            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-            {
-                return serviceInfoSnapshot.getServiceId().getEnvironment() == environment;
-            }
-        });
+        return cloudServiceManager.getServiceInfoSnapshots(environment);
     }
 
     @Override
@@ -2121,16 +2105,10 @@ public final class CloudNet extends CloudNetDriver {
 
     public void publishUpdateJsonPermissionManagement()
     {
-        if (permissionManagement instanceof DefaultJsonFilePermissionManagement)
-            clusterNodeServerProvider.sendPacket(new PacketServerSetJsonFilePermissions(
-                permissionManagement.getUsers(),
-                permissionManagement.getGroups()
-            ));
+        IPacket packet = permissionReplicationManager.createFullSyncPacket();
 
-        if (permissionManagement instanceof DefaultDatabasePermissionManagement)
-            clusterNodeServerProvider.sendPacket(new PacketServerSetDatabaseGroupFilePermissions(
-                permissionManagement.getGroups()
-            ));
+        if (packet != null)
+            clusterNodeServerProvider.sendPacket(packet);
     }
 
     public void publishH2DatabaseDataToCluster(INetworkChannel channel)
@@ -2194,6 +2172,8 @@ public final class CloudNet extends CloudNetDriver {
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetGroupConfigurationListListener());
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetJsonFilePermissionsListener());
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetDatabaseGroupFilePermissionsListener());
+        this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerPermissionsResyncRequestListener());
+        this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerChannelMessageSubscriptionsListener());
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetServiceTaskListListener());
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerDeployLocalTemplateListener());
         this.getNetworkClient().getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerClusterNodeInfoUpdateListener());
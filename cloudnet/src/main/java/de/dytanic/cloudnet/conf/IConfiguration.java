@@ -1,8 +1,10 @@
 package de.dytanic.cloudnet.conf;
 
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.network.cluster.NetworkCluster;
 import de.dytanic.cloudnet.driver.network.cluster.NetworkClusterNode;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
 
 import java.util.Collection;
 
@@ -32,6 +34,12 @@ public interface IConfiguration {
 
     ConfigurationOptionSSL getWebSslConfig();
 
+    NetworkTransportConfiguration getNetworkTransportConfig();
+
+    NetworkTransportConfiguration getWrapperNetworkTransportConfig();
+
+    HttpCompressionConfiguration getHttpCompressionConfig();
+
     void setIpWhitelist(Collection<String> whitelist);
 
     void setClusterConfig(NetworkCluster clusterConfig);
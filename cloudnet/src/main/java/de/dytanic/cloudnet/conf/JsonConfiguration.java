@@ -6,8 +6,10 @@ import de.dytanic.cloudnet.common.collection.Iterables;
 import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.common.unsafe.CPUUsageResolver;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
+import de.dytanic.cloudnet.driver.network.NetworkTransportConfiguration;
 import de.dytanic.cloudnet.driver.network.cluster.NetworkCluster;
 import de.dytanic.cloudnet.driver.network.cluster.NetworkClusterNode;
+import de.dytanic.cloudnet.driver.network.http.HttpCompressionConfiguration;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -62,6 +64,10 @@ public final class JsonConfiguration implements IConfiguration {
 
     private ConfigurationOptionSSL clientSslConfig, serverSslConfig, webSslConfig;
 
+    private NetworkTransportConfiguration networkTransportConfig, wrapperNetworkTransportConfig;
+
+    private HttpCompressionConfiguration httpCompressionConfig;
+
     private String jVMCommand;
 
     @Setter
@@ -165,6 +171,20 @@ public final class JsonConfiguration implements IConfiguration {
         this.serverSslConfig = this.document.get("serverSslConfig", ConfigurationOptionSSL.class, fallback);
         this.webSslConfig = this.document.get("webSslConfig", ConfigurationOptionSSL.class, fallback);
 
+        this.networkTransportConfig = this.document.get("networkTransportConfig", NetworkTransportConfiguration.class, NetworkTransportConfiguration.DEFAULT);
+        this.wrapperNetworkTransportConfig = this.document.get("wrapperNetworkTransportConfig", NetworkTransportConfiguration.class, new NetworkTransportConfiguration(
+            1,
+            1,
+            false,
+            1,
+            32 * 1024,
+            64 * 1024,
+            true,
+            false
+        ));
+
+        this.httpCompressionConfig = this.document.get("httpCompressionConfig", HttpCompressionConfiguration.class, HttpCompressionConfiguration.DISABLED);
+
         if (System.getProperty("cloudnet.cluster.id") != null)
             this.clusterConfig.setClusterId(UUID.fromString(System.getProperty("cloudnet.cluster.id")));
 
@@ -193,6 +213,9 @@ public final class JsonConfiguration implements IConfiguration {
             .append("clientSslConfig", this.clientSslConfig)
             .append("serverSslConfig", this.serverSslConfig)
             .append("webSslConfig", this.webSslConfig)
+            .append("networkTransportConfig", this.networkTransportConfig)
+            .append("wrapperNetworkTransportConfig", this.wrapperNetworkTransportConfig)
+            .append("httpCompressionConfig", this.httpCompressionConfig)
             .write(CONFIG_FILE_PATH);
     }
 
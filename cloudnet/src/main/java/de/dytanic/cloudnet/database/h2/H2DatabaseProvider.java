@@ -8,6 +8,9 @@ import de.dytanic.cloudnet.common.concurrent.DefaultTaskScheduler;
 import de.dytanic.cloudnet.common.concurrent.ITaskScheduler;
 import de.dytanic.cloudnet.common.concurrent.IThrowableCallback;
 import de.dytanic.cloudnet.database.AbstractDatabaseProvider;
+import de.dytanic.cloudnet.driver.metrics.Counter;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import org.h2.Driver;
 
 import java.io.File;
@@ -19,6 +22,15 @@ public final class H2DatabaseProvider extends AbstractDatabaseProvider {
 
     private static final long NEW_CREATION_DELAY = 600000;
 
+    private static final Histogram UPDATE_TIME = MetricsRegistry.getDefault()
+        .timer("cloudnet_database_operation_seconds", "The execution time of the database statements", "provider", "h2", "operation", "update");
+
+    private static final Histogram QUERY_TIME = MetricsRegistry.getDefault()
+        .timer("cloudnet_database_operation_seconds", "The execution time of the database statements", "provider", "h2", "operation", "query");
+
+    private static final Counter FAILURES = MetricsRegistry.getDefault()
+        .counter("cloudnet_database_operation_failures_total", "The count of failed database statements", "provider", "h2");
+
     protected final NetorHashMap<String, Long, H2Database> cachedDatabaseInstances = new NetorHashMap<>();
 
     protected final ITaskScheduler taskScheduler;
@@ -146,6 +158,8 @@ public final class H2DatabaseProvider extends AbstractDatabaseProvider {
         Validate.checkNotNull(query);
         Validate.checkNotNull(objects);
 
+        long startNanos = System.nanoTime();
+
         try (PreparedStatement preparedStatement = connection.prepareStatement(query))
         {
             int i = 1;
@@ -156,7 +170,11 @@ public final class H2DatabaseProvider extends AbstractDatabaseProvider {
 
         } catch (SQLException e)
         {
+            FAILURES.increment();
             e.printStackTrace();
+        } finally
+        {
+            UPDATE_TIME.recordSince(startNanos);
         }
 
         return -1;
@@ -168,6 +186,8 @@ public final class H2DatabaseProvider extends AbstractDatabaseProvider {
         Validate.checkNotNull(callback);
         Validate.checkNotNull(objects);
 
+        long startNanos = System.nanoTime();
+
         try (PreparedStatement preparedStatement = connection.prepareStatement(query))
         {
             int i = 1;
@@ -181,7 +201,11 @@ public final class H2DatabaseProvider extends AbstractDatabaseProvider {
 
         } catch (Throwable e)
         {
+            FAILURES.increment();
             e.printStackTrace();
+        } finally
+        {
+            QUERY_TIME.recordSince(startNanos);
         }
 
         return null;
@@ -3,6 +3,7 @@ package de.dytanic.cloudnet.http;
 import de.dytanic.cloudnet.CloudNet;
 import de.dytanic.cloudnet.common.Validate;
 import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
 import de.dytanic.cloudnet.common.encrypt.EncryptTo;
 import de.dytanic.cloudnet.driver.network.http.HttpCookie;
 import de.dytanic.cloudnet.driver.network.http.IHttpContext;
@@ -13,13 +14,19 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
 
+/**
+ * The sessions of the REST API. The sessions are stored by their cookie value, which binds the session to the address
+ * of the client, and expire in a timer wheel with one slot per minute.
+ */
 public final class V1HttpSession {
 
     private static final String COOKIE_NAME = "CloudNet-REST_V1-Session." + new Random().nextInt();
 
     private static final long EXPIRE_TIME = 1000 * 60 * 60 * 24;
 
-    private final Collection<SessionEntry> entries = Iterables.newCopyOnWriteArrayList();
+    private final Map<String, SessionEntry> entries = Maps.newConcurrentHashMap();
+
+    private final ExpiryWheel expiryWheel = new ExpiryWheel();
 
     public boolean auth(IHttpContext context) throws Exception
     {
@@ -35,28 +42,23 @@ public final class V1HttpSession {
         String[] credentials = new String(Base64.getDecoder().decode(typeAndCredentials[1]), StandardCharsets.UTF_8).split(":");
         if (credentials.length != 2) return false;
 
-        List<IPermissionUser> permissionUsers = CloudNet.getInstance().getPermissionManagement().getUser(credentials[0]);
-        IPermissionUser permissionUser = Iterables.first(permissionUsers, new Predicate<IPermissionUser>() {
-            @Override
-            public boolean test(IPermissionUser iPermissionUser)
-            {
-                return iPermissionUser.checkPassword(credentials[1]);
-            }
-        });
+        String userUniqueId = this.verifyCredentials(credentials[0], credentials[1]);
 
-        if (permissionUser == null) return false;
+        if (userUniqueId == null) return false;
 
         SessionEntry sessionEntry = new SessionEntry(
             System.nanoTime(),
             System.currentTimeMillis(),
             context.channel().clientAddress().getHost(),
             UUID.randomUUID().toString(),
-            permissionUser.getUniqueId().toString()
+            userUniqueId
         );
 
+        String key = createKey(sessionEntry, context);
+
         context.addCookie(new HttpCookie(
             COOKIE_NAME,
-            createKey(sessionEntry, context),
+            key,
             null,
             "/",
             sessionEntry.lastUsageMillis + EXPIRE_TIME))
@@ -64,7 +66,8 @@ public final class V1HttpSession {
             .statusCode(200)
         ;
 
-        entries.add(sessionEntry);
+        entries.put(key, sessionEntry);
+        expiryWheel.schedule(key, sessionEntry.lastUsageMillis + EXPIRE_TIME);
         return true;
     }
 
@@ -93,20 +96,21 @@ public final class V1HttpSession {
     {
         if (cookieValue == null || context == null) return null;
 
-        for (SessionEntry entry : this.entries)
-            if (cookieValue.equals(createKey(entry, context)))
-                return entry;
+        expiryWheel.advance(System.currentTimeMillis());
+
+        SessionEntry sessionEntry = this.entries.get(cookieValue);
 
-        return null;
+        return sessionEntry != null && sessionEntry.host.equals(context.channel().clientAddress().getHost()) ? sessionEntry : null;
     }
 
     public void logout(IHttpContext context) throws Exception
     {
         Validate.checkNotNull(context);
 
-        SessionEntry sessionEntry = getValidSessionEntry(getCookieValue(context), context);
-        if (sessionEntry != null)
-            this.entries.remove(sessionEntry);
+        String cookieValue = getCookieValue(context);
+
+        if (getValidSessionEntry(cookieValue, context) != null)
+            this.entries.remove(cookieValue);
 
         context.removeCookie(COOKIE_NAME);
     }
@@ -127,6 +131,20 @@ public final class V1HttpSession {
         return CloudNet.getInstance().getPermissionManagement().getUser(UUID.fromString(sessionEntry.userUniqueId));
     }
 
+    private String verifyCredentials(String name, String password)
+    {
+        List<IPermissionUser> permissionUsers = CloudNet.getInstance().getPermissionManagement().getUser(name);
+        IPermissionUser permissionUser = Iterables.first(permissionUsers, new Predicate<IPermissionUser>() {
+            @Override
+            public boolean test(IPermissionUser iPermissionUser)
+            {
+                return iPermissionUser.checkPassword(password);
+            }
+        });
+
+        return permissionUser != null ? permissionUser.getUniqueId().toString() : null;
+    }
+
     private String getCookieValue(IHttpContext context) throws Exception
     {
         HttpCookie httpCookie = context.cookie(COOKIE_NAME);
@@ -157,4 +175,63 @@ public final class V1HttpSession {
         String host, uniqueId, userUniqueId;
 
     }
-}
\ No newline at end of file
+
+    /**
+     * A hashed timer wheel for the session keys. The slot of a key is only checked, when the wheel passes it, a session
+     * which was used in the meantime is moved to the slot of its new expiry time.
+     */
+    private final class ExpiryWheel {
+
+        private static final long TICK_MILLIS = 1000 * 60;
+
+        private final List<Set<String>> slots = Iterables.newArrayList();
+
+        private long currentTick = System.currentTimeMillis() / TICK_MILLIS;
+
+        private ExpiryWheel()
+        {
+            for (int index = 0; index < 64; index++)
+                this.slots.add(new HashSet<>());
+        }
+
+        private synchronized void schedule(String key, long expireMillis)
+        {
+            this.slots.get((int) (Math.max(expireMillis / TICK_MILLIS, this.currentTick + 1) % this.slots.size())).add(key);
+        }
+
+        private synchronized void advance(long currentMillis)
+        {
+            long tick = currentMillis / TICK_MILLIS;
+
+            for (int passed = 0; this.currentTick < tick && passed < this.slots.size(); passed++)
+            {
+                this.currentTick++;
+                this.expire(this.slots.get((int) (this.currentTick % this.slots.size())), currentMillis);
+            }
+
+            this.currentTick = Math.max(this.currentTick, tick);
+        }
+
+        private void expire(Set<String> slot, long currentMillis)
+        {
+            if (slot.isEmpty()) return;
+
+            List<String> keys = Iterables.newArrayList(slot);
+            slot.clear();
+
+            for (String key : keys)
+            {
+                SessionEntry sessionEntry = entries.get(key);
+
+                if (sessionEntry == null) continue;
+
+                long expireMillis = sessionEntry.lastUsageMillis + EXPIRE_TIME;
+
+                if (expireMillis <= currentMillis)
+                    entries.remove(key);
+                else
+                    this.schedule(key, expireMillis);
+            }
+        }
+    }
+}
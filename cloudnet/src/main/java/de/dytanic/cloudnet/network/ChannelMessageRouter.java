@@ -0,0 +1,408 @@
+package de.dytanic.cloudnet.network;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.cluster.IClusterNodeServer;
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.network.packet.PacketServerChannelMessageSubscriptions;
+import de.dytanic.cloudnet.service.ICloudService;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes the channel messages of the cluster only to the services and nodes, which have subscribed the channel of the message.
+ * <p>
+ * A service or node without any subscription receives every channel message, so the subscription is an opt-in. A node
+ * advertises the union of its own subscriptions and the subscriptions of its services to the other nodes of the cluster.
+ * <p>
+ * The messages are queued per receiver and written with a single flush every flush interval. If a receiver is not writable,
+ * the messages of a channel with the DROP quality of service are dropped, all other messages are kept in the queue up to
+ * the max queue size. The messages of a receiver keep their order, but they can be written after other packets, which are
+ * sent to the receiver within the flush interval. A flush interval of 0 writes the messages directly, as long as the
+ * receiver is writable and has no queued messages.
+ */
+public final class ChannelMessageRouter {
+
+    private static final long FLUSH_INTERVAL_MILLIS = Long.getLong("cloudnet.channelmessage.flush.interval", 5);
+
+    private static final int MAX_QUEUED_PACKETS = Integer.getInteger("cloudnet.channelmessage.queue.max", 16384);
+
+    private final Map<UUID, Set<String>> serviceSubscriptions = Maps.newConcurrentHashMap();
+
+    private final Map<String, Collection<String>> nodeSubscriptions = Maps.newConcurrentHashMap();
+
+    private final Map<String, QoS> channelQoS = Maps.newConcurrentHashMap();
+
+    private final Map<Long, ReceiverQueue> receiverQueues = Maps.newConcurrentHashMap();
+
+    private final AtomicLong droppedPackets = new AtomicLong();
+
+    private final Object flushLock = new Object();
+
+    private volatile Set<String> localSubscriptions;
+
+    private volatile Collection<String> advertisedSubscriptions;
+
+    private boolean flushScheduled;
+
+    private Thread flushThread;
+
+    /*= ----------------------------------------------------------------------------------------- =*/
+
+    /**
+     * Routes a channel message to all local services and to all other nodes, which have subscribed the channel
+     *
+     * @param channel the channel of the message
+     * @param packet  the packet of the message
+     */
+    public void route(String channel, IPacket packet)
+    {
+        this.routeToServices(channel, packet);
+        this.routeToNodes(channel, packet);
+    }
+
+    public void routeToServices(String channel, IPacket packet)
+    {
+        Validate.checkNotNull(channel);
+        Validate.checkNotNull(packet);
+
+        String key = channel.toLowerCase(Locale.ROOT);
+
+        for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
+        {
+            INetworkChannel networkChannel = cloudService.getNetworkChannel();
+
+            if (networkChannel == null) continue;
+
+            Set<String> subscriptions = this.serviceSubscriptions.get(cloudService.getServiceId().getUniqueId());
+
+            if (subscriptions == null || subscriptions.contains(key))
+                this.enqueue(networkChannel, key, packet);
+        }
+    }
+
+    public void routeToNodes(String channel, IPacket packet)
+    {
+        Validate.checkNotNull(channel);
+        Validate.checkNotNull(packet);
+
+        String key = channel.toLowerCase(Locale.ROOT);
+
+        for (IClusterNodeServer clusterNodeServer : CloudNet.getInstance().getClusterNodeServerProvider().getNodeServers())
+        {
+            INetworkChannel networkChannel = clusterNodeServer.getChannel();
+
+            if (networkChannel == null) continue;
+
+            Collection<String> subscriptions = this.nodeSubscriptions.get(clusterNodeServer.getNodeInfo().getUniqueId());
+
+            if (subscriptions == null || subscriptions.contains(key))
+                this.enqueue(networkChannel, key, packet);
+        }
+    }
+
+    /*= ----------------------------------------------------------------------------------------- =*/
+
+    /**
+     * Subscribes channels for the modules of this node. After the first subscription, this node only receives the
+     * messages of the subscribed channels from the other nodes, if no local service receives all messages.
+     *
+     * @param channels the channels, which should be subscribed
+     */
+    public void subscribe(String... channels)
+    {
+        Validate.checkNotNull(channels);
+
+        synchronized (this)
+        {
+            Set<String> subscriptions = this.localSubscriptions != null ? new HashSet<>(this.localSubscriptions) : new HashSet<>();
+
+            for (String channel : channels)
+                if (channel != null)
+                    subscriptions.add(channel.toLowerCase(Locale.ROOT));
+
+            this.localSubscriptions = subscriptions;
+        }
+
+        this.publishSubscriptions();
+    }
+
+    public void subscribeService(UUID serviceUniqueId, Collection<String> channels)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+        Validate.checkNotNull(channels);
+
+        Set<String> subscriptions = this.serviceSubscriptions.computeIfAbsent(serviceUniqueId, key -> Maps.<String, Boolean>newConcurrentHashMap().keySet(true));
+
+        for (String channel : channels)
+            if (channel != null)
+                subscriptions.add(channel.toLowerCase(Locale.ROOT));
+
+        this.publishSubscriptions();
+    }
+
+    public void unsubscribeService(UUID serviceUniqueId, Collection<String> channels)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+        Validate.checkNotNull(channels);
+
+        Set<String> subscriptions = this.serviceSubscriptions.get(serviceUniqueId);
+
+        if (subscriptions == null) return;
+
+        for (String channel : channels)
+            if (channel != null)
+                subscriptions.remove(channel.toLowerCase(Locale.ROOT));
+
+        this.publishSubscriptions();
+    }
+
+    public void removeService(UUID serviceUniqueId, INetworkChannel networkChannel)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+
+        this.serviceSubscriptions.remove(serviceUniqueId);
+
+        if (networkChannel != null)
+            this.receiverQueues.remove(networkChannel.getChannelId());
+
+        this.publishSubscriptions();
+    }
+
+    /**
+     * Sets the advertised subscriptions of another node
+     *
+     * @param nodeUniqueId the unique id of the node
+     * @param channels     the subscribed channels or null, if the node receives every message
+     */
+    public void setNodeSubscriptions(String nodeUniqueId, Collection<String> channels)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        if (channels == null)
+            this.nodeSubscriptions.remove(nodeUniqueId);
+        else
+            this.nodeSubscriptions.put(nodeUniqueId, new HashSet<>(channels));
+    }
+
+    public void removeNode(String nodeUniqueId, INetworkChannel networkChannel)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        this.nodeSubscriptions.remove(nodeUniqueId);
+
+        if (networkChannel != null)
+            this.receiverQueues.remove(networkChannel.getChannelId());
+    }
+
+    /**
+     * Returns the subscriptions, which this node advertises to the other nodes
+     *
+     * @return the subscribed channels of this node and its services or null, if this node receives every message
+     */
+    public Collection<String> getAdvertisedSubscriptions()
+    {
+        Set<String> localSubscriptions = this.localSubscriptions;
+
+        if (localSubscriptions == null) return null;
+
+        Set<String> subscriptions = new HashSet<>(localSubscriptions);
+
+        for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
+        {
+            if (cloudService.getNetworkChannel() == null) continue;
+
+            Set<String> serviceSubscriptions = this.serviceSubscriptions.get(cloudService.getServiceId().getUniqueId());
+
+            if (serviceSubscriptions == null) return null;
+
+            subscriptions.addAll(serviceSubscriptions);
+        }
+
+        return subscriptions;
+    }
+
+    public void setQoS(String channel, QoS qos)
+    {
+        Validate.checkNotNull(channel);
+        Validate.checkNotNull(qos);
+
+        this.channelQoS.put(channel.toLowerCase(Locale.ROOT), qos);
+    }
+
+    public QoS getQoS(String channel)
+    {
+        Validate.checkNotNull(channel);
+
+        return this.channelQoS.getOrDefault(channel.toLowerCase(Locale.ROOT), QoS.QUEUE);
+    }
+
+    public long getDroppedPackets()
+    {
+        return this.droppedPackets.get();
+    }
+
+    /*= ----------------------------------------------------------------------------------------- =*/
+
+    /**
+     * Writes all queued messages to their writable receivers with one flush per receiver
+     */
+    public void flush()
+    {
+        for (ReceiverQueue receiverQueue : this.receiverQueues.values())
+        {
+            if (receiverQueue.size.get() == 0 || !receiverQueue.networkChannel.isWritable()) continue;
+
+            List<IPacket> packets = Iterables.newArrayList();
+            IPacket packet;
+
+            while ((packet = receiverQueue.packets.poll()) != null)
+            {
+                receiverQueue.size.decrementAndGet();
+                packets.add(packet);
+            }
+
+            if (!packets.isEmpty())
+                receiverQueue.networkChannel.sendPacket(packets.toArray(new IPacket[0]));
+        }
+    }
+
+    private void enqueue(INetworkChannel networkChannel, String channel, IPacket packet)
+    {
+        if (!networkChannel.isWritable() && this.getQoS(channel) == QoS.DROP)
+        {
+            this.droppedPackets.incrementAndGet();
+            return;
+        }
+
+        ReceiverQueue receiverQueue = this.receiverQueues.computeIfAbsent(networkChannel.getChannelId(), key -> new ReceiverQueue(networkChannel));
+
+        if (FLUSH_INTERVAL_MILLIS <= 0 && receiverQueue.size.get() == 0 && networkChannel.isWritable())
+        {
+            networkChannel.sendPacket(packet);
+            return;
+        }
+
+        if (receiverQueue.size.incrementAndGet() > MAX_QUEUED_PACKETS)
+        {
+            receiverQueue.size.decrementAndGet();
+            this.droppedPackets.incrementAndGet();
+            return;
+        }
+
+        receiverQueue.packets.offer(packet);
+        this.scheduleFlush();
+    }
+
+    private void scheduleFlush()
+    {
+        synchronized (this.flushLock)
+        {
+            if (this.flushThread == null)
+            {
+                this.flushThread = new Thread(this::runFlushLoop, "ChannelMessageRouter");
+                this.flushThread.setDaemon(true);
+                this.flushThread.start();
+            }
+
+            if (!this.flushScheduled)
+            {
+                this.flushScheduled = true;
+                this.flushLock.notify();
+            }
+        }
+    }
+
+    private void runFlushLoop()
+    {
+        while (!Thread.currentThread().isInterrupted())
+        {
+            try
+            {
+                synchronized (this.flushLock)
+                {
+                    while (!this.flushScheduled) this.flushLock.wait();
+                }
+
+                Thread.sleep(FLUSH_INTERVAL_MILLIS);
+
+                synchronized (this.flushLock)
+                {
+                    this.flushScheduled = false;
+                }
+
+                this.flush();
+
+                boolean pending = false;
+
+                for (ReceiverQueue receiverQueue : this.receiverQueues.values())
+                    if (receiverQueue.size.get() > 0)
+                        pending = true;
+
+                if (pending) this.scheduleFlush();
+
+            } catch (InterruptedException ex)
+            {
+                return;
+            } catch (Exception ex)
+            {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Sends the advertised subscriptions of this node to the other nodes, if they have changed since the last call
+     */
+    public void publishSubscriptions()
+    {
+        Collection<String> subscriptions = this.getAdvertisedSubscriptions();
+
+        synchronized (this)
+        {
+            if (Objects.equals(subscriptions, this.advertisedSubscriptions)) return;
+
+            this.advertisedSubscriptions = subscriptions;
+        }
+
+        CloudNet.getInstance().getClusterNodeServerProvider().sendPacket(new PacketServerChannelMessageSubscriptions(
+            CloudNet.getInstance().getConfig().getIdentity().getUniqueId(),
+            subscriptions
+        ));
+    }
+
+    /**
+     * The quality of service of a channel, if a receiver of its messages is not writable
+     */
+    public enum QoS {
+
+        /**
+         * The messages are queued, until the receiver is writable again
+         */
+        QUEUE,
+
+        /**
+         * The messages are dropped, because a later message replaces their information
+         */
+        DROP
+    }
+
+    private static final class ReceiverQueue {
+
+        private final INetworkChannel networkChannel;
+
+        private final Queue<IPacket> packets = Iterables.newConcurrentLinkedQueue();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private ReceiverQueue(INetworkChannel networkChannel)
+        {
+            this.networkChannel = networkChannel;
+        }
+    }
+}
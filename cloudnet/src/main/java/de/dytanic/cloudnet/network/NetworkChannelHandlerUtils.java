@@ -15,8 +15,6 @@ import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
 import de.dytanic.cloudnet.service.ICloudService;
 
 import java.util.Collection;
-import java.util.Map;
-import java.util.UUID;
 
 final class NetworkChannelHandlerUtils {
 
@@ -55,15 +53,16 @@ final class NetworkChannelHandlerUtils {
             e.printStackTrace();
         }
 
+        CloudNet.getInstance().getChannelMessageRouter().removeNode(clusterNodeServer.getNodeInfo().getUniqueId(), channel);
+
         Collection<Packet> removed = Iterables.newArrayList();
 
-        for (Map.Entry<UUID, ServiceInfoSnapshot> entry : CloudNet.getInstance().getCloudServiceManager().getGlobalServiceInfoSnapshots().entrySet())
-            if (entry.getValue().getServiceId().getNodeUniqueId().equalsIgnoreCase(clusterNodeServer.getNodeInfo().getUniqueId()))
-            {
-                CloudNet.getInstance().getCloudServiceManager().getGlobalServiceInfoSnapshots().remove(entry.getKey());
-                removed.add(new PacketClientServerServiceInfoPublisher(entry.getValue(), PacketClientServerServiceInfoPublisher.PublisherType.UNREGISTER));
-                CloudNet.getInstance().getEventManager().callEvent(new CloudServiceUnregisterEvent(entry.getValue()));
-            }
+        for (ServiceInfoSnapshot serviceInfoSnapshot : CloudNet.getInstance().getCloudServiceManager().getServiceInfoSnapshotsByNode(clusterNodeServer.getNodeInfo().getUniqueId()))
+        {
+            CloudNet.getInstance().getCloudServiceManager().getGlobalServiceInfoSnapshots().remove(serviceInfoSnapshot.getServiceId().getUniqueId());
+            removed.add(new PacketClientServerServiceInfoPublisher(serviceInfoSnapshot, PacketClientServerServiceInfoPublisher.PublisherType.UNREGISTER));
+            CloudNet.getInstance().getEventManager().callEvent(new CloudServiceUnregisterEvent(serviceInfoSnapshot));
+        }
 
         for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
             if (cloudService.getNetworkChannel() != null)
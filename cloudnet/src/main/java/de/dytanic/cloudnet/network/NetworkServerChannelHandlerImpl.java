@@ -82,6 +82,8 @@ public final class NetworkServerChannelHandlerImpl implements INetworkChannelHan
     private void closeAsCloudService(ICloudService cloudService, INetworkChannel channel)
     {
         cloudService.setNetworkChannel(null);
+        CloudNet.getInstance().getChannelMessageRouter().removeService(cloudService.getServiceId().getUniqueId(), channel);
+        CloudNet.getInstance().getPermissionReplicationManager().removeSubscriptions(cloudService.getServiceId().getUniqueId());
         System.out.println(LanguageManager.getMessage("cloud-service-networking-disconnected")
             .replace("%id%", cloudService.getServiceId().getUniqueId().toString() + "")
             .replace("%task%", cloudService.getServiceId().getTaskName() + "")
@@ -13,13 +13,11 @@ import de.dytanic.cloudnet.driver.network.def.packet.PacketClientAuthorization;
 import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerServiceInfoPublisher;
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
-import de.dytanic.cloudnet.driver.permission.DefaultJsonFilePermissionManagement;
 import de.dytanic.cloudnet.driver.service.ServiceId;
 import de.dytanic.cloudnet.driver.service.ServiceTemplate;
 import de.dytanic.cloudnet.event.cluster.NetworkChannelAuthClusterNodeSuccessEvent;
 import de.dytanic.cloudnet.event.network.NetworkChannelAuthCloudServiceSuccessEvent;
 import de.dytanic.cloudnet.network.packet.*;
-import de.dytanic.cloudnet.permission.DefaultDatabasePermissionManagement;
 import de.dytanic.cloudnet.service.ICloudService;
 import de.dytanic.cloudnet.template.ITemplateStorage;
 import de.dytanic.cloudnet.template.LocalTemplateStorage;
@@ -57,6 +55,8 @@ public final class PacketClientAuthorizationListener implements IPacketListener
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetServiceTaskListListener());
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetJsonFilePermissionsListener());
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerSetDatabaseGroupFilePermissionsListener());
+                                channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerPermissionsResyncRequestListener());
+                                channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerChannelMessageSubscriptionsListener());
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerDeployLocalTemplateListener());
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerClusterNodeInfoUpdateListener());
                                 channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new PacketServerConsoleLogEntryReceiveListener());
@@ -105,6 +105,8 @@ public final class PacketClientAuthorizationListener implements IPacketListener
                             channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_EVENTBUS_CHANNEL, new PacketServerChannelMessageWrapperListener());
                             //*= ------------------------------------
                             channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new PacketClientServiceInfoUpdateListener());
+                            channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new PacketClientPermissionUserSubscriptionListener());
+                            channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new PacketClientChannelMessageSubscriptionListener());
 
                             channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CALLABLE_CHANNEL, new PacketClientCallablePacketReceiveListener());
                             channel.getPacketRegistry().addListener(PacketConstants.INTERNAL_CALLABLE_CHANNEL, new PacketClientSyncAPIPacketListener());
@@ -113,6 +115,7 @@ public final class PacketClientAuthorizationListener implements IPacketListener
                             channel.sendPacket(new PacketServerAuthorizationResponse(true, "successful"));
 
                             cloudService.setNetworkChannel(channel);
+                            getCloudNet().getChannelMessageRouter().publishSubscriptions();
                             cloudService.getServiceInfoSnapshot().setConnected(true);
 
                             CloudNetDriver.getInstance().getEventManager().callEvent(new NetworkChannelAuthCloudServiceSuccessEvent(cloudService, channel));
@@ -142,22 +145,20 @@ public final class PacketClientAuthorizationListener implements IPacketListener
     private void sendSetupInformationPackets(INetworkChannel channel, boolean secondNodeConnection)
     {
         channel.sendPacket(new PacketServerSetGlobalServiceInfoList(getCloudNet().getCloudServiceManager().getGlobalServiceInfoSnapshots().values()));
+        channel.sendPacket(new PacketServerChannelMessageSubscriptions(
+            getCloudNet().getConfig().getIdentity().getUniqueId(),
+            getCloudNet().getChannelMessageRouter().getAdvertisedSubscriptions()
+        ));
 
         if (!secondNodeConnection)
         {
             channel.sendPacket(new PacketServerSetGroupConfigurationList(getCloudNet().getGroupConfigurations()));
             channel.sendPacket(new PacketServerSetServiceTaskList(getCloudNet().getPermanentServiceTasks()));
 
-            if (getCloudNet().getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
-                channel.sendPacket(new PacketServerSetJsonFilePermissions(
-                    getCloudNet().getPermissionManagement().getUsers(),
-                    getCloudNet().getPermissionManagement().getGroups()
-                ));
+            IPacket permissionsPacket = getCloudNet().getPermissionReplicationManager().createFullSyncPacket();
 
-            if (getCloudNet().getPermissionManagement() instanceof DefaultDatabasePermissionManagement)
-                channel.sendPacket(new PacketServerSetDatabaseGroupFilePermissions(
-                    getCloudNet().getPermissionManagement().getGroups()
-                ));
+            if (permissionsPacket != null)
+                channel.sendPacket(permissionsPacket);
 
             ITemplateStorage templateStorage = CloudNetDriver.getInstance().getServicesRegistry().getService(ITemplateStorage.class, LocalTemplateStorage.LOCAL_TEMPLATE_STORAGE);
 
@@ -0,0 +1,43 @@
+package de.dytanic.cloudnet.network.listener;
+
+import com.google.gson.reflect.TypeToken;
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+import de.dytanic.cloudnet.service.ICloudService;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+public final class PacketClientChannelMessageSubscriptionListener implements IPacketListener {
+
+    private static final Type CHANNELS_TYPE = new TypeToken<Collection<String>>() {
+    }.getType();
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("message") && packet.getHeader().getString("message").equals("channel_message_subscription") && packet.getHeader().contains("channels"))
+        {
+            ICloudService cloudService = Iterables.first(CloudNet.getInstance().getCloudServiceManager().getCloudServices().values(), new Predicate<ICloudService>() {
+                @Override
+                public boolean test(ICloudService cloudService)
+                {
+                    return cloudService.getNetworkChannel() != null && cloudService.getNetworkChannel().equals(channel);
+                }
+            });
+
+            if (cloudService == null) return;
+
+            Collection<String> channels = packet.getHeader().get("channels", CHANNELS_TYPE);
+
+            if (packet.getHeader().getBoolean("subscribe"))
+                CloudNet.getInstance().getChannelMessageRouter().subscribeService(cloudService.getServiceId().getUniqueId(), channels);
+            else
+                CloudNet.getInstance().getChannelMessageRouter().unsubscribeService(cloudService.getServiceId().getUniqueId(), channels);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package de.dytanic.cloudnet.network.listener;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+import de.dytanic.cloudnet.service.ICloudService;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+public final class PacketClientPermissionUserSubscriptionListener implements IPacketListener {
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("message") && packet.getHeader().getString("message").equals("permission_user_subscription") && packet.getHeader().contains("uniqueId"))
+        {
+            ICloudService cloudService = Iterables.first(CloudNet.getInstance().getCloudServiceManager().getCloudServices().values(), new Predicate<ICloudService>() {
+                @Override
+                public boolean test(ICloudService cloudService)
+                {
+                    return cloudService.getNetworkChannel() != null && cloudService.getNetworkChannel().equals(channel);
+                }
+            });
+
+            if (cloudService == null) return;
+
+            UUID uniqueId = packet.getHeader().get("uniqueId", UUID.class);
+
+            if (packet.getHeader().getBoolean("subscribe"))
+                CloudNet.getInstance().getPermissionReplicationManager().subscribeUser(cloudService.getServiceId().getUniqueId(), uniqueId);
+            else
+                CloudNet.getInstance().getPermissionReplicationManager().unsubscribeUser(cloudService.getServiceId().getUniqueId(), uniqueId);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package de.dytanic.cloudnet.network.listener;
 
+import com.google.gson.JsonObject;
 import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.common.document.gson.JsonDelta;
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.event.events.service.CloudServiceInfoUpdateEvent;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
@@ -8,17 +11,45 @@ import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerServiceIn
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
 import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.network.packet.PacketServerServiceInfoAcknowledgement;
+import de.dytanic.cloudnet.network.packet.PacketServerServiceInfoKeyframeRequest;
 import de.dytanic.cloudnet.service.ICloudService;
 import de.dytanic.cloudnet.service.ICloudServiceManager;
 
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Receives the ServiceInfoSnapshot updates of one service. The wrapper sends keyframes with the complete snapshot and
+ * deltas with the changed fields since the last update, which this listener has acknowledged. Every applied update is
+ * acknowledged and kept, until a later update is based on it. A delta, whose base is unknown, is dropped and the
+ * listener requests a new keyframe from the wrapper.
+ */
 public final class PacketClientServiceInfoUpdateListener implements IPacketListener {
 
+    private static final int MAX_SNAPSHOTS = 16;
+
+    private final NavigableMap<Long, JsonObject> serviceInfoSnapshots = new TreeMap<>();
+
+    private long sequence = -1;
+
+    private boolean keyframeRequested;
+
     @Override
     public void handle(INetworkChannel channel, IPacket packet) throws Exception
     {
-        if (packet.getHeader().contains("message") && packet.getHeader().getString("message").equals("update_serviceInfo") && packet.getHeader().contains("serviceInfoSnapshot"))
+        if (packet.getHeader().contains("message") && packet.getHeader().getString("message").equals("update_serviceInfo"))
         {
-            ServiceInfoSnapshot serviceInfoSnapshot = packet.getHeader().get("serviceInfoSnapshot", ServiceInfoSnapshot.TYPE);
+            ServiceInfoSnapshot serviceInfoSnapshot;
+
+            if (packet.getHeader().contains("sequence"))
+                serviceInfoSnapshot = this.applyUpdate(channel, packet.getHeader());
+            else if (packet.getHeader().contains("serviceInfoSnapshot"))
+                serviceInfoSnapshot = packet.getHeader().get("serviceInfoSnapshot", ServiceInfoSnapshot.TYPE);
+            else
+                return;
+
+            if (serviceInfoSnapshot == null) return;
 
             ICloudServiceManager cloudServiceManager = CloudNet.getInstance().getCloudServiceManager();
 
@@ -38,4 +69,48 @@ public final class PacketClientServiceInfoUpdateListener implements IPacketListe
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies a keyframe or a delta and returns the new snapshot or null, if the update is outdated or couldn't be applied
+     */
+    private synchronized ServiceInfoSnapshot applyUpdate(INetworkChannel channel, JsonDocument header)
+    {
+        long sequence = header.getLong("sequence");
+
+        if (sequence <= this.sequence) return null;
+
+        JsonObject serviceInfoSnapshotJson, baseServiceInfoSnapshotJson;
+
+        if (header.contains("serviceInfoSnapshot"))
+        {
+            serviceInfoSnapshotJson = header.getJsonObject("serviceInfoSnapshot");
+            this.keyframeRequested = false;
+        } else if (header.contains("delta") && (baseServiceInfoSnapshotJson = this.serviceInfoSnapshots.get(header.getLong("baseSequence"))) != null)
+        {
+            serviceInfoSnapshotJson = JsonDelta.apply(baseServiceInfoSnapshotJson, header.getJsonObject("delta"));
+
+            this.serviceInfoSnapshots.headMap(header.getLong("baseSequence"), false).clear();
+        } else
+        {
+            if (!this.keyframeRequested)
+            {
+                this.keyframeRequested = true;
+                channel.sendPacket(new PacketServerServiceInfoKeyframeRequest());
+            }
+
+            return null;
+        }
+
+        if (serviceInfoSnapshotJson == null) return null;
+
+        this.serviceInfoSnapshots.put(sequence, serviceInfoSnapshotJson);
+        this.sequence = sequence;
+
+        while (this.serviceInfoSnapshots.size() > MAX_SNAPSHOTS)
+            this.serviceInfoSnapshots.pollFirstEntry();
+
+        channel.sendPacket(new PacketServerServiceInfoAcknowledgement(sequence));
+
+        return JsonDocument.GSON.fromJson(serviceInfoSnapshotJson, ServiceInfoSnapshot.TYPE);
+    }
+}
@@ -0,0 +1,26 @@
+package de.dytanic.cloudnet.network.listener;
+
+import com.google.gson.reflect.TypeToken;
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+public final class PacketServerChannelMessageSubscriptionsListener implements IPacketListener {
+
+    private static final Type CHANNELS_TYPE = new TypeToken<Collection<String>>() {
+    }.getType();
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("channel_message_subscriptions") && packet.getHeader().contains("nodeUniqueId"))
+            CloudNet.getInstance().getChannelMessageRouter().setNodeSubscriptions(
+                packet.getHeader().getString("nodeUniqueId"),
+                packet.getHeader().contains("channels") ? packet.getHeader().get("channels", CHANNELS_TYPE) : null
+            );
+    }
+}
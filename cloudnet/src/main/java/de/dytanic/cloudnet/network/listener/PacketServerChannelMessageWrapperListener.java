@@ -15,7 +15,7 @@ public final class PacketServerChannelMessageWrapperListener implements IPacketL
     {
         if (packet.getHeader().contains("channel") && packet.getHeader().contains("message") && packet.getHeader().contains("data"))
         {
-            CloudNet.getInstance().sendAll(new PacketClientServerChannelMessage(
+            CloudNet.getInstance().getChannelMessageRouter().route(packet.getHeader().getString("channel"), new PacketClientServerChannelMessage(
                 packet.getHeader().getString("channel"), packet.getHeader().getString("message"), packet.getHeader().getDocument("data"))
             );
 
@@ -0,0 +1,21 @@
+package de.dytanic.cloudnet.network.listener;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.driver.network.INetworkChannel;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+
+public final class PacketServerPermissionsResyncRequestListener implements IPacketListener {
+
+    @Override
+    public void handle(INetworkChannel channel, IPacket packet) throws Exception
+    {
+        if (packet.getHeader().contains("permissions_resync_request"))
+        {
+            IPacket permissionsPacket = CloudNet.getInstance().getPermissionReplicationManager().createFullSyncPacket();
+
+            if (permissionsPacket != null)
+                channel.sendPacket(permissionsPacket);
+        }
+    }
+}
@@ -17,6 +17,9 @@ public final class PacketServerSetDatabaseGroupFilePermissionsListener implement
     {
         if (packet.getHeader().contains("permissionGroups") && packet.getHeader().contains("set_json_database"))
         {
+            if (packet.getHeader().contains("nodeUniqueId") && packet.getHeader().contains("sequence"))
+                CloudNet.getInstance().getPermissionReplicationManager().resetSequence(packet.getHeader().getString("nodeUniqueId"), packet.getHeader().getLong("sequence"));
+
             if (CloudNet.getInstance().getPermissionManagement() instanceof DefaultDatabasePermissionManagement)
             {
                 List<PermissionGroup> permissionGroups = packet.getHeader().get("permissionGroups", new TypeToken<List<PermissionGroup>>() {
@@ -20,6 +20,9 @@ public final class PacketServerSetJsonFilePermissionsListener implements IPacket
     {
         if (packet.getHeader().contains("permissionUsers") && packet.getHeader().contains("permissionGroups") && packet.getHeader().contains("set_json_file"))
         {
+            if (packet.getHeader().contains("nodeUniqueId") && packet.getHeader().contains("sequence"))
+                CloudNet.getInstance().getPermissionReplicationManager().resetSequence(packet.getHeader().getString("nodeUniqueId"), packet.getHeader().getLong("sequence"));
+
             if (CloudNet.getInstance().getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
             {
                 List<PermissionUser> permissionUsers = packet.getHeader().get("permissionUsers", new TypeToken<List<PermissionUser>>() {
@@ -9,10 +9,13 @@ import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.def.packet.PacketServerUpdatePermissions;
 import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.network.protocol.IPacketListener;
+import de.dytanic.cloudnet.driver.permission.DefaultJsonFilePermissionManagement;
 import de.dytanic.cloudnet.driver.permission.IPermissionManagement;
 import de.dytanic.cloudnet.driver.permission.PermissionGroup;
 import de.dytanic.cloudnet.driver.permission.PermissionUser;
-import de.dytanic.cloudnet.service.ICloudService;
+import de.dytanic.cloudnet.network.packet.PacketServerPermissionsResyncRequest;
+import de.dytanic.cloudnet.permission.DefaultDatabasePermissionManagement;
+import de.dytanic.cloudnet.permission.PermissionReplicationManager;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
@@ -28,38 +31,149 @@ public final class PacketServerUpdatePermissionsListener implements IPacketListe
     {
         if (packet.getHeader().contains("permissions_event") && packet.getHeader().contains("updateType"))
         {
+            String nodeUniqueId = packet.getHeader().getString("nodeUniqueId");
+
+            if (nodeUniqueId != null && packet.getHeader().contains("sequence"))
+                switch (getReplicationManager().checkSequence(nodeUniqueId, packet.getHeader().getLong("sequence")))
+                {
+                    case DUPLICATE:
+                        return;
+                    case GAP:
+                        channel.sendPacket(new PacketServerPermissionsResyncRequest());
+                        return;
+                }
+
+            long version = nodeUniqueId != null && packet.getHeader().contains("version") ? packet.getHeader().getLong("version") : 0;
+
             switch (packet.getHeader().get("updateType", PacketServerUpdatePermissions.UpdateType.class))
             {
                 case ADD_USER:
-                    invoke0(new PermissionAddUserEvent(getPermissionManagement(), packet.getHeader().get("permissionUser", PermissionUser.TYPE)));
-                    break;
+                {
+                    PermissionUser permissionUser = packet.getHeader().get("permissionUser", PermissionUser.TYPE);
+
+                    if (!acceptUser(permissionUser, version, nodeUniqueId)) return;
+
+                    if (version > 0) updateUser0(permissionUser);
+
+                    invoke0(new PermissionAddUserEvent(getPermissionManagement(), permissionUser));
+                    getReplicationManager().forwardToServices(packet, permissionUser.getUniqueId());
+                }
+                break;
                 case ADD_GROUP:
-                    invoke0(new PermissionAddGroupEvent(getPermissionManagement(), packet.getHeader().get("permissionGroup", PermissionGroup.TYPE)));
-                    break;
+                {
+                    PermissionGroup permissionGroup = packet.getHeader().get("permissionGroup", PermissionGroup.TYPE);
+
+                    if (!acceptGroup(permissionGroup, version, nodeUniqueId)) return;
+
+                    if (version > 0) updateGroup0(permissionGroup);
+
+                    invoke0(new PermissionAddGroupEvent(getPermissionManagement(), permissionGroup));
+                    getReplicationManager().forwardToServices(packet, null);
+                }
+                break;
                 case SET_USERS:
-                    invoke0(new PermissionSetUsersEvent(getPermissionManagement(), packet.getHeader().get("permissionUsers", PERMISSION_USERS_TYPE)));
-                    break;
+                {
+                    Collection<PermissionUser> permissionUsers = packet.getHeader().get("permissionUsers", PERMISSION_USERS_TYPE);
+
+                    if (getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
+                        ((DefaultJsonFilePermissionManagement) getPermissionManagement()).setUsers0(permissionUsers);
+
+                    invoke0(new PermissionSetUsersEvent(getPermissionManagement(), permissionUsers));
+                    getReplicationManager().forwardUsersToServices(permissionUsers);
+                }
+                break;
                 case SET_GROUPS:
                     invoke0(new PermissionSetGroupsEvent(getPermissionManagement(), packet.getHeader().get("permissionGroups", PERMISSION_GROUPS_TYPE)));
+                    getReplicationManager().forwardToServices(packet, null);
                     break;
                 case DELETE_USER:
-                    invoke0(new PermissionUpdateUserEvent(getPermissionManagement(), packet.getHeader().get("permissionUser", PermissionUser.TYPE)));
-                    break;
+                {
+                    PermissionUser permissionUser = packet.getHeader().get("permissionUser", PermissionUser.TYPE);
+
+                    if (!acceptUser(permissionUser, version, nodeUniqueId)) return;
+
+                    if (version > 0 && getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
+                        ((DefaultJsonFilePermissionManagement) getPermissionManagement()).deleteUser0(permissionUser.getUniqueId());
+
+                    invoke0(new PermissionDeleteUserEvent(getPermissionManagement(), permissionUser));
+                    getReplicationManager().forwardToServices(packet, permissionUser.getUniqueId());
+                }
+                break;
                 case UPDATE_USER:
-                    invoke0(new PermissionDeleteUserEvent(getPermissionManagement(), packet.getHeader().get("permissionUser", PermissionUser.TYPE)));
-                    break;
+                {
+                    PermissionUser permissionUser = packet.getHeader().get("permissionUser", PermissionUser.TYPE);
+
+                    if (!acceptUser(permissionUser, version, nodeUniqueId)) return;
+
+                    if (version > 0) updateUser0(permissionUser);
+
+                    invoke0(new PermissionUpdateUserEvent(getPermissionManagement(), permissionUser));
+                    getReplicationManager().forwardToServices(packet, permissionUser.getUniqueId());
+                }
+                break;
                 case DELETE_GROUP:
-                    invoke0(new PermissionDeleteGroupEvent(getPermissionManagement(), packet.getHeader().get("permissionGroup", PermissionGroup.TYPE)));
-                    break;
+                {
+                    PermissionGroup permissionGroup = packet.getHeader().get("permissionGroup", PermissionGroup.TYPE);
+
+                    if (!acceptGroup(permissionGroup, version, nodeUniqueId)) return;
+
+                    if (version > 0)
+                    {
+                        if (getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
+                            ((DefaultJsonFilePermissionManagement) getPermissionManagement()).deleteGroup0(permissionGroup.getName());
+
+                        if (getPermissionManagement() instanceof DefaultDatabasePermissionManagement)
+                            ((DefaultDatabasePermissionManagement) getPermissionManagement()).deleteGroup0(permissionGroup.getName());
+                    }
+
+                    invoke0(new PermissionDeleteGroupEvent(getPermissionManagement(), permissionGroup));
+                    getReplicationManager().forwardToServices(packet, null);
+                }
+                break;
                 case UPDATE_GROUP:
-                    invoke0(new PermissionUpdateGroupEvent(getPermissionManagement(), packet.getHeader().get("permissionGroup", PermissionGroup.TYPE)));
-                    break;
-            }
+                {
+                    PermissionGroup permissionGroup = packet.getHeader().get("permissionGroup", PermissionGroup.TYPE);
 
-            sendUpdateToAllServices(packet);
+                    if (!acceptGroup(permissionGroup, version, nodeUniqueId)) return;
+
+                    if (version > 0) updateGroup0(permissionGroup);
+
+                    invoke0(new PermissionUpdateGroupEvent(getPermissionManagement(), permissionGroup));
+                    getReplicationManager().forwardToServices(packet, null);
+                }
+                break;
+            }
         }
     }
 
+    /**
+     * Returns false, if a newer version of the user was already applied. Updates without a version are always accepted.
+     */
+    private boolean acceptUser(PermissionUser permissionUser, long version, String nodeUniqueId)
+    {
+        return version <= 0 || getReplicationManager().acceptUserVersion(permissionUser.getUniqueId(), version, nodeUniqueId);
+    }
+
+    private boolean acceptGroup(PermissionGroup permissionGroup, long version, String nodeUniqueId)
+    {
+        return version <= 0 || getReplicationManager().acceptGroupVersion(permissionGroup.getName(), version, nodeUniqueId);
+    }
+
+    private void updateUser0(PermissionUser permissionUser)
+    {
+        if (getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
+            ((DefaultJsonFilePermissionManagement) getPermissionManagement()).updateUser0(permissionUser);
+    }
+
+    private void updateGroup0(PermissionGroup permissionGroup)
+    {
+        if (getPermissionManagement() instanceof DefaultJsonFilePermissionManagement)
+            ((DefaultJsonFilePermissionManagement) getPermissionManagement()).updateGroup0(permissionGroup);
+
+        if (getPermissionManagement() instanceof DefaultDatabasePermissionManagement)
+            ((DefaultDatabasePermissionManagement) getPermissionManagement()).updateGroup0(permissionGroup);
+    }
+
     private void invoke0(Event event)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(event);
@@ -70,10 +184,8 @@ public final class PacketServerUpdatePermissionsListener implements IPacketListe
         return CloudNet.getInstance().getPermissionManagement();
     }
 
-    private void sendUpdateToAllServices(IPacket packet)
+    private PermissionReplicationManager getReplicationManager()
     {
-        for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
-            if (cloudService.getNetworkChannel() != null)
-                cloudService.getNetworkChannel().sendPacket(packet);
+        return CloudNet.getInstance().getPermissionReplicationManager();
     }
-}
\ No newline at end of file
+}
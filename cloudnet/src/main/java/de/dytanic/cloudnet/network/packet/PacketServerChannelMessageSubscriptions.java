@@ -0,0 +1,17 @@
+package de.dytanic.cloudnet.network.packet;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.def.PacketConstants;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+import java.util.Collection;
+
+public final class PacketServerChannelMessageSubscriptions extends Packet {
+
+    public PacketServerChannelMessageSubscriptions(String nodeUniqueId, Collection<String> channels)
+    {
+        super(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new JsonDocument("channel_message_subscriptions", true)
+            .append("nodeUniqueId", nodeUniqueId)
+            .append("channels", channels), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
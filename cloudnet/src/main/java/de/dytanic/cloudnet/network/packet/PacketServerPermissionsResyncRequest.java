@@ -0,0 +1,13 @@
+package de.dytanic.cloudnet.network.packet;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.def.PacketConstants;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+public final class PacketServerPermissionsResyncRequest extends Packet {
+
+    public PacketServerPermissionsResyncRequest()
+    {
+        super(PacketConstants.INTERNAL_CLUSTER_CHANNEL, new JsonDocument("permissions_resync_request", true), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
@@ -0,0 +1,13 @@
+package de.dytanic.cloudnet.network.packet;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.def.PacketConstants;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+public final class PacketServerServiceInfoAcknowledgement extends Packet {
+
+    public PacketServerServiceInfoAcknowledgement(long sequence)
+    {
+        super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("serviceInfo_acknowledgement", sequence), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
@@ -0,0 +1,13 @@
+package de.dytanic.cloudnet.network.packet;
+
+import de.dytanic.cloudnet.common.document.gson.JsonDocument;
+import de.dytanic.cloudnet.driver.network.def.PacketConstants;
+import de.dytanic.cloudnet.driver.network.protocol.Packet;
+
+public final class PacketServerServiceInfoKeyframeRequest extends Packet {
+
+    public PacketServerServiceInfoKeyframeRequest()
+    {
+        super(PacketConstants.INTERNAL_WRAPPER_TO_NODE_INFO_CHANNEL, new JsonDocument("serviceInfo_keyframe_request", true), Packet.EMPTY_PACKET_BYTE_ARRAY);
+    }
+}
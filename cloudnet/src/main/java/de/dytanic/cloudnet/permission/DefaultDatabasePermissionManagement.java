@@ -26,6 +26,12 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
     @Getter
     private final Map<String, IPermissionGroup> permissionGroupsMap = Maps.newConcurrentHashMap();
 
+    /**
+     * The unique ids of the users by their name. The database of the users is replicated in the cluster without
+     * this management, so every index hit is verified with a primary key lookup and a miss falls back to a scan
+     */
+    private final Map<String, Set<UUID>> userNameIndex = Maps.newConcurrentHashMap();
+
     @Getter
     @Setter
     private IPermissionManagementHandler permissionManagementHandler;
@@ -47,6 +53,8 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
         Validate.checkNotNull(permissionUser);
 
         getDatabase().insert(permissionUser.getUniqueId().toString(), new JsonDocument(permissionUser));
+        this.indexUser(permissionUser);
+
         return permissionUser;
     }
 
@@ -54,10 +62,12 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
     public void updateUser(IPermissionUser permissionUser)
     {
         Validate.checkNotNull(permissionUser);
+        permissionUser.invalidatePermissionCache();
 
         if (permissionManagementHandler != null) permissionManagementHandler.handleUpdateUser(this, permissionUser);
 
         getDatabase().update(permissionUser.getUniqueId().toString(), new JsonDocument(permissionUser));
+        this.indexUser(permissionUser);
     }
 
     @Override
@@ -67,6 +77,8 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
 
         for (IPermissionUser permissionUser : getUser(name))
             getDatabase().delete(permissionUser.getUniqueId().toString());
+
+        this.userNameIndex.remove(name);
     }
 
     @Override
@@ -75,6 +87,9 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
         Validate.checkNotNull(permissionUser);
 
         getDatabase().delete(permissionUser.getUniqueId().toString());
+
+        Set<UUID> uniqueIds = this.userNameIndex.get(permissionUser.getName());
+        if (uniqueIds != null) uniqueIds.remove(permissionUser.getUniqueId());
     }
 
     @Override
@@ -117,7 +132,11 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
     {
         Validate.checkNotNull(name);
 
-        return Iterables.map(getDatabase().get("name", name), new Function<JsonDocument, IPermissionUser>() {
+        List<IPermissionUser> permissionUsers = this.getIndexedUsers(name);
+
+        if (permissionUsers != null) return permissionUsers;
+
+        permissionUsers = Iterables.map(getDatabase().get("name", name), new Function<JsonDocument, IPermissionUser>() {
             @Override
             public IPermissionUser apply(JsonDocument strings)
             {
@@ -129,6 +148,19 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
                 return permissionUser;
             }
         });
+
+        Set<UUID> uniqueIds = Maps.<UUID, Boolean>newConcurrentHashMap().keySet(true);
+
+        for (IPermissionUser permissionUser : permissionUsers)
+            if (name.equals(permissionUser.getName()))
+                uniqueIds.add(permissionUser.getUniqueId());
+
+        if (uniqueIds.isEmpty())
+            this.userNameIndex.remove(name);
+        else
+            this.userNameIndex.put(name, uniqueIds);
+
+        return permissionUsers;
     }
 
     @Override
@@ -156,6 +188,7 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
         Validate.checkNotNull(users);
 
         getDatabase().clear();
+        this.userNameIndex.clear();
 
         for (IPermissionUser permissionUser : users)
             if (permissionUser != null)
@@ -204,6 +237,7 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
     public void updateGroup(IPermissionGroup permissionGroup)
     {
         Validate.checkNotNull(permissionGroup);
+        permissionGroup.invalidatePermissionCache();
 
         if (permissionManagementHandler != null) permissionManagementHandler.handleUpdateGroup(this, permissionGroup);
 
@@ -296,8 +330,59 @@ public final class DefaultDatabasePermissionManagement implements IPermissionMan
         saveGroups();
     }
 
+    public void updateGroup0(IPermissionGroup permissionGroup)
+    {
+        Validate.checkNotNull(permissionGroup);
+        permissionGroup.invalidatePermissionCache();
+
+        testPermissionGroup(permissionGroup);
+        permissionGroupsMap.put(permissionGroup.getName(), permissionGroup);
+
+        saveGroups();
+    }
+
+    public void deleteGroup0(String name)
+    {
+        Validate.checkNotNull(name);
+
+        if (permissionGroupsMap.remove(name) != null) saveGroups();
+    }
+
     /*= ---------------------------------------------------------------------------- =*/
 
+    private List<IPermissionUser> getIndexedUsers(String name)
+    {
+        Set<UUID> uniqueIds = this.userNameIndex.get(name);
+
+        if (uniqueIds == null || uniqueIds.isEmpty()) return null;
+
+        List<IPermissionUser> permissionUsers = Iterables.newArrayList();
+
+        for (UUID uniqueId : uniqueIds)
+        {
+            JsonDocument jsonDocument = getDatabase().get(uniqueId.toString());
+
+            if (jsonDocument == null) return null;
+
+            IPermissionUser permissionUser = jsonDocument.toInstanceOf(PermissionUser.TYPE);
+
+            if (!name.equals(permissionUser.getName())) return null;
+
+            if (testPermissionUser(permissionUser))
+                updateUser(permissionUser);
+
+            permissionUsers.add(permissionUser);
+        }
+
+        return permissionUsers;
+    }
+
+    private void indexUser(IPermissionUser permissionUser)
+    {
+        if (permissionUser.getName() != null)
+            this.userNameIndex.computeIfAbsent(permissionUser.getName(), key -> Maps.<UUID, Boolean>newConcurrentHashMap().keySet(true)).add(permissionUser.getUniqueId());
+    }
+
     private void saveGroups()
     {
         List<IPermissionGroup> permissionGroups = Iterables.newArrayList(permissionGroupsMap.values());
@@ -1,11 +1,9 @@
 package de.dytanic.cloudnet.permission;
 
 import de.dytanic.cloudnet.CloudNet;
-import de.dytanic.cloudnet.common.concurrent.ITaskListener;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
 import de.dytanic.cloudnet.driver.event.events.permission.*;
 import de.dytanic.cloudnet.driver.network.def.packet.PacketServerUpdatePermissions;
-import de.dytanic.cloudnet.driver.network.protocol.IPacket;
 import de.dytanic.cloudnet.driver.permission.IPermissionGroup;
 import de.dytanic.cloudnet.driver.permission.IPermissionManagement;
 import de.dytanic.cloudnet.driver.permission.IPermissionManagementHandler;
@@ -19,71 +17,68 @@ public final class DefaultPermissionManagementHandler implements IPermissionMana
     public void handleAddUser(IPermissionManagement permissionManagement, IPermissionUser permissionUser)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionAddUserEvent(permissionManagement, permissionUser));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.ADD_USER, permissionUser));
+        getReplicationManager().publishUserUpdate(PacketServerUpdatePermissions.UpdateType.ADD_USER, permissionUser);
     }
 
     @Override
     public void handleUpdateUser(IPermissionManagement permissionManagement, IPermissionUser permissionUser)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionUpdateUserEvent(permissionManagement, permissionUser));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.UPDATE_USER, permissionUser));
+        getReplicationManager().publishUserUpdate(PacketServerUpdatePermissions.UpdateType.UPDATE_USER, permissionUser);
     }
 
     @Override
     public void handleDeleteUser(IPermissionManagement permissionManagement, IPermissionUser permissionUser)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionDeleteUserEvent(permissionManagement, permissionUser));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.DELETE_USER, permissionUser));
+        getReplicationManager().publishUserUpdate(PacketServerUpdatePermissions.UpdateType.DELETE_USER, permissionUser);
     }
 
     @Override
     public void handleSetUsers(IPermissionManagement permissionManagement, Collection<? extends IPermissionUser> users)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionSetUsersEvent(permissionManagement, users));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_USERS, users));
+        getReplicationManager().publishUsersUpdate(users);
     }
 
     @Override
     public void handleAddGroup(IPermissionManagement permissionManagement, IPermissionGroup permissionGroup)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionAddGroupEvent(permissionManagement, permissionGroup));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.ADD_GROUP, permissionGroup));
-        CloudNet.getInstance().publishUpdateJsonPermissionManagement();
+        getReplicationManager().publishGroupUpdate(PacketServerUpdatePermissions.UpdateType.ADD_GROUP, permissionGroup);
     }
 
     @Override
     public void handleUpdateGroup(IPermissionManagement permissionManagement, IPermissionGroup permissionGroup)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionUpdateGroupEvent(permissionManagement, permissionGroup));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.UPDATE_GROUP, permissionGroup));
-        CloudNet.getInstance().publishUpdateJsonPermissionManagement();
+        getReplicationManager().publishGroupUpdate(PacketServerUpdatePermissions.UpdateType.UPDATE_GROUP, permissionGroup);
     }
 
     @Override
     public void handleDeleteGroup(IPermissionManagement permissionManagement, IPermissionGroup permissionGroup)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionDeleteGroupEvent(permissionManagement, permissionGroup));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.DELETE_GROUP, permissionGroup));
-        CloudNet.getInstance().publishUpdateJsonPermissionManagement();
+        getReplicationManager().publishGroupUpdate(PacketServerUpdatePermissions.UpdateType.DELETE_GROUP, permissionGroup);
     }
 
     @Override
     public void handleSetGroups(IPermissionManagement permissionManagement, Collection<? extends IPermissionGroup> groups)
     {
         CloudNetDriver.getInstance().getEventManager().callEvent(new PermissionSetGroupsEvent(permissionManagement, groups));
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_GROUPS, groups));
+        getReplicationManager().publishGroupsUpdate(groups);
         CloudNet.getInstance().publishUpdateJsonPermissionManagement();
     }
 
     @Override
     public void handleReloaded(IPermissionManagement permissionManagement)
     {
-        sendAll(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_GROUPS, permissionManagement.getGroups()));
+        getReplicationManager().publishGroupsUpdate(permissionManagement.getGroups());
         CloudNet.getInstance().publishUpdateJsonPermissionManagement();
     }
 
-    private void sendAll(IPacket packet)
+    private PermissionReplicationManager getReplicationManager()
     {
-        CloudNet.getInstance().sendAllAsync(packet).addListener(ITaskListener.FIRE_EXCEPTION_ON_FAILURE);
+        return CloudNet.getInstance().getPermissionReplicationManager();
     }
 }
\ No newline at end of file
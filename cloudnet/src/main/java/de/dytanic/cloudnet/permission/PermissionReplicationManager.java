@@ -0,0 +1,309 @@
+package de.dytanic.cloudnet.permission;
+
+import de.dytanic.cloudnet.CloudNet;
+import de.dytanic.cloudnet.cluster.IClusterNodeServer;
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.common.collection.Pair;
+import de.dytanic.cloudnet.driver.network.def.packet.PacketServerUpdatePermissions;
+import de.dytanic.cloudnet.driver.network.protocol.IPacket;
+import de.dytanic.cloudnet.driver.permission.DefaultJsonFilePermissionManagement;
+import de.dytanic.cloudnet.driver.permission.IPermissionGroup;
+import de.dytanic.cloudnet.driver.permission.IPermissionManagement;
+import de.dytanic.cloudnet.driver.permission.IPermissionUser;
+import de.dytanic.cloudnet.network.packet.PacketServerSetDatabaseGroupFilePermissions;
+import de.dytanic.cloudnet.network.packet.PacketServerSetJsonFilePermissions;
+import de.dytanic.cloudnet.service.ICloudService;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replicates permission changes as single user or group deltas into the cluster and to the local services.
+ * <p>
+ * Every delta for the other nodes carries the sequence number of this node, so that a receiver can detect
+ * a lost update and request a full resync, and the version of the changed entity, so that concurrent
+ * updates of the same user or group from different nodes converge. User deltas are only sent to the services,
+ * which have subscribed the permission user, because the player is online on this service.
+ * <p>
+ * The versions are hybrid logical clocks: a new version is at least the current time in milliseconds and greater than
+ * every known version of the entity, so a restarted node doesn't start with versions, which are older than the ones
+ * it has sent before. The known versions are cleared by a full sync, which replaces all permission data.
+ */
+public final class PermissionReplicationManager {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<String, Long> receivedSequences = Maps.newConcurrentHashMap();
+
+    private final Map<String, Pair<Long, String>> entityVersions = Maps.newConcurrentHashMap();
+
+    private final Map<UUID, Set<UUID>> serviceSubscriptions = Maps.newConcurrentHashMap();
+
+    private final Object sendLock = new Object();
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public void publishUserUpdate(PacketServerUpdatePermissions.UpdateType updateType, IPermissionUser permissionUser)
+    {
+        Validate.checkNotNull(updateType);
+        Validate.checkNotNull(permissionUser);
+
+        IPacket packet = new PacketServerUpdatePermissions(updateType, permissionUser);
+
+        this.sendToNodes(packet, this.nextVersion(userKey(permissionUser.getUniqueId())));
+        this.sendToServices(packet, permissionUser.getUniqueId());
+    }
+
+    public void publishUsersUpdate(Collection<? extends IPermissionUser> permissionUsers)
+    {
+        Validate.checkNotNull(permissionUsers);
+
+        this.sendToNodes(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_USERS, permissionUsers), 0);
+        this.forwardUsersToServices(permissionUsers);
+    }
+
+    public void publishGroupUpdate(PacketServerUpdatePermissions.UpdateType updateType, IPermissionGroup permissionGroup)
+    {
+        Validate.checkNotNull(updateType);
+        Validate.checkNotNull(permissionGroup);
+
+        IPacket packet = new PacketServerUpdatePermissions(updateType, permissionGroup);
+
+        this.sendToNodes(packet, this.nextVersion(groupKey(permissionGroup.getName())));
+        this.sendToServices(packet, null);
+    }
+
+    public void publishGroupsUpdate(Collection<? extends IPermissionGroup> permissionGroups)
+    {
+        Validate.checkNotNull(permissionGroups);
+
+        IPacket packet = new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_GROUPS, permissionGroups);
+
+        this.sendToNodes(packet, 0);
+        this.sendToServices(packet, null);
+    }
+
+    /**
+     * Creates the full permission data packet of this node, which resets the sequence of this node on the receiver
+     *
+     * @return the packet with the full data or null, if the permission management doesn't support the replication
+     */
+    public IPacket createFullSyncPacket()
+    {
+        IPermissionManagement permissionManagement = CloudNet.getInstance().getPermissionManagement();
+
+        if (permissionManagement instanceof DefaultJsonFilePermissionManagement)
+            return this.appendSequence(new PacketServerSetJsonFilePermissions(
+                permissionManagement.getUsers(),
+                permissionManagement.getGroups()
+            ), this.sequence.get());
+
+        if (permissionManagement instanceof DefaultDatabasePermissionManagement)
+            return this.appendSequence(new PacketServerSetDatabaseGroupFilePermissions(
+                permissionManagement.getGroups()
+            ), this.sequence.get());
+
+        return null;
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    /**
+     * Checks the sequence number of an incoming delta from another node
+     *
+     * @param nodeUniqueId the unique id of the node, which sent the delta
+     * @param sequence     the sequence number of the delta
+     * @return APPLY, if the delta is the next expected one, DUPLICATE if it was already received or GAP if deltas are missing
+     */
+    public synchronized SequenceState checkSequence(String nodeUniqueId, long sequence)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        Long lastSequence = this.receivedSequences.get(nodeUniqueId);
+
+        if (lastSequence != null && sequence <= lastSequence) return SequenceState.DUPLICATE;
+
+        this.receivedSequences.put(nodeUniqueId, sequence);
+
+        return lastSequence == null || sequence == lastSequence + 1 ? SequenceState.APPLY : SequenceState.GAP;
+    }
+
+    /**
+     * Resets the sequence of a node after its full sync has been applied. The full sync replaces all users and groups,
+     * so the known versions of all entities are cleared too
+     *
+     * @param nodeUniqueId the unique id of the node, which sent the full sync
+     * @param sequence     the sequence number of the full sync
+     */
+    public synchronized void resetSequence(String nodeUniqueId, long sequence)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        this.receivedSequences.put(nodeUniqueId, sequence);
+        this.entityVersions.clear();
+    }
+
+    public boolean acceptUserVersion(UUID uniqueId, long version, String nodeUniqueId)
+    {
+        return this.acceptVersion(userKey(uniqueId), version, nodeUniqueId);
+    }
+
+    public boolean acceptGroupVersion(String name, long version, String nodeUniqueId)
+    {
+        return this.acceptVersion(groupKey(name), version, nodeUniqueId);
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    public void subscribeUser(UUID serviceUniqueId, UUID uniqueId)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+        Validate.checkNotNull(uniqueId);
+
+        this.serviceSubscriptions.computeIfAbsent(serviceUniqueId, key -> Maps.<UUID, Boolean>newConcurrentHashMap().keySet(true)).add(uniqueId);
+    }
+
+    public void unsubscribeUser(UUID serviceUniqueId, UUID uniqueId)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+        Validate.checkNotNull(uniqueId);
+
+        Set<UUID> subscriptions = this.serviceSubscriptions.get(serviceUniqueId);
+
+        if (subscriptions != null) subscriptions.remove(uniqueId);
+    }
+
+    public void removeSubscriptions(UUID serviceUniqueId)
+    {
+        Validate.checkNotNull(serviceUniqueId);
+
+        this.serviceSubscriptions.remove(serviceUniqueId);
+    }
+
+    /**
+     * Sends a received delta of another node to the local services, which are interested in it
+     *
+     * @param packet                 the received packet
+     * @param permissionUserUniqueId the unique id of the changed permission user or null, if the delta doesn't affect a single user
+     */
+    public void forwardToServices(IPacket packet, UUID permissionUserUniqueId)
+    {
+        this.sendToServices(packet, permissionUserUniqueId);
+    }
+
+    /**
+     * Sends every local service only the permission users of the collection, which the service has subscribed
+     *
+     * @param permissionUsers the permission users, which have been set
+     */
+    public void forwardUsersToServices(Collection<? extends IPermissionUser> permissionUsers)
+    {
+        Validate.checkNotNull(permissionUsers);
+
+        for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
+        {
+            Set<UUID> subscriptions = this.serviceSubscriptions.get(cloudService.getServiceId().getUniqueId());
+
+            if (cloudService.getNetworkChannel() == null || subscriptions == null || subscriptions.isEmpty()) continue;
+
+            Collection<IPermissionUser> users = Iterables.newArrayList();
+
+            for (IPermissionUser permissionUser : permissionUsers)
+                if (subscriptions.contains(permissionUser.getUniqueId()))
+                    users.add(permissionUser);
+
+            if (!users.isEmpty())
+                cloudService.getNetworkChannel().sendPacket(new PacketServerUpdatePermissions(PacketServerUpdatePermissions.UpdateType.SET_USERS, users));
+        }
+    }
+
+    /*= ------------------------------------------------------------------------------------------ =*/
+
+    private void sendToNodes(IPacket packet, long version)
+    {
+        Collection<IClusterNodeServer> nodeServers = CloudNet.getInstance().getClusterNodeServerProvider().getNodeServers();
+
+        if (nodeServers.isEmpty()) return;
+
+        if (version > 0) packet.getHeader().append("version", version);
+
+        //the sequence number is assigned and sent in one step, so the packets are sent in the order of their numbers
+        synchronized (this.sendLock)
+        {
+            this.appendSequence(packet, this.sequence.incrementAndGet());
+
+            for (IClusterNodeServer clusterNodeServer : nodeServers)
+                clusterNodeServer.saveSendPacket(packet);
+        }
+    }
+
+    private void sendToServices(IPacket packet, UUID permissionUserUniqueId)
+    {
+        for (ICloudService cloudService : CloudNet.getInstance().getCloudServiceManager().getCloudServices().values())
+        {
+            if (cloudService.getNetworkChannel() == null) continue;
+
+            if (permissionUserUniqueId != null)
+            {
+                Set<UUID> subscriptions = this.serviceSubscriptions.get(cloudService.getServiceId().getUniqueId());
+
+                if (subscriptions == null || !subscriptions.contains(permissionUserUniqueId)) continue;
+            }
+
+            cloudService.getNetworkChannel().sendPacket(packet);
+        }
+    }
+
+    private IPacket appendSequence(IPacket packet, long sequence)
+    {
+        packet.getHeader()
+            .append("nodeUniqueId", CloudNet.getInstance().getConfig().getIdentity().getUniqueId())
+            .append("sequence", sequence);
+
+        return packet;
+    }
+
+    private long nextVersion(String key)
+    {
+        return this.nextVersion(key, CloudNet.getInstance().getConfig().getIdentity().getUniqueId());
+    }
+
+    long nextVersion(String key, String nodeUniqueId)
+    {
+        return this.entityVersions.compute(key, (k, version) ->
+            new Pair<>(Math.max(System.currentTimeMillis(), version == null ? 1 : version.getFirst() + 1), nodeUniqueId)
+        ).getFirst();
+    }
+
+    boolean acceptVersion(String key, long version, String nodeUniqueId)
+    {
+        Pair<Long, String> result = this.entityVersions.compute(key, (k, current) ->
+            current == null || version > current.getFirst() || (version == current.getFirst() && nodeUniqueId.compareTo(current.getSecond()) > 0) ?
+                new Pair<>(version, nodeUniqueId) :
+                current
+        );
+
+        return result.getFirst() == version && result.getSecond().equals(nodeUniqueId);
+    }
+
+    static String userKey(UUID uniqueId)
+    {
+        return "user:" + uniqueId;
+    }
+
+    private static String groupKey(String name)
+    {
+        return "group:" + name;
+    }
+
+    public enum SequenceState {
+        APPLY,
+        DUPLICATE,
+        GAP
+    }
+}
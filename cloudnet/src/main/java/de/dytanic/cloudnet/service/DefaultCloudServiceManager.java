@@ -16,7 +16,6 @@ import lombok.Getter;
 
 import java.io.File;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 @Getter
@@ -28,9 +27,9 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
         tempDirectory = new File(System.getProperty("cloudnet.tempDir.services", "temp/services")),
         persistenceServicesDirectory = new File(System.getProperty("cloudnet.persistable.services.path", "local/services"));
 
-    protected final Map<UUID, ServiceInfoSnapshot> globalServiceInfoSnapshots = Maps.newConcurrentHashMap();
+    protected final IndexedServiceInfoSnapshotMap globalServiceInfoSnapshots = new IndexedServiceInfoSnapshotMap();
 
-    protected final Map<UUID, ICloudService> cloudServices = Maps.newConcurrentHashMap();
+    protected final IndexedCloudServiceMap cloudServices = new IndexedCloudServiceMap();
 
     protected final Map<String, ICloudServiceFactory> cloudServiceFactories = Maps.newConcurrentHashMap();
 
@@ -384,13 +383,7 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
     {
         Validate.checkNotNull(taskName);
 
-        return Iterables.filter(this.cloudServices.values(), new Predicate<ICloudService>() {
-            @Override
-            public boolean test(ICloudService iCloudService)
-            {
-                return iCloudService.getServiceId().getTaskName().equalsIgnoreCase(taskName);
-            }
-        });
+        return this.cloudServices.getByTask(taskName);
     }
 
     @Override
@@ -428,13 +421,7 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
     {
         Validate.checkNotNull(taskName);
 
-        return this.getServiceInfoSnapshots(new Predicate<ServiceInfoSnapshot>() {
-            @Override
-            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-            {
-                return serviceInfoSnapshot.getServiceId().getTaskName().equalsIgnoreCase(taskName);
-            }
-        });
+        return this.globalServiceInfoSnapshots.getByTask(taskName);
     }
 
     @Override
@@ -442,13 +429,31 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
     {
         Validate.checkNotNull(environment);
 
-        return this.getServiceInfoSnapshots(new Predicate<ServiceInfoSnapshot>() {
-            @Override
-            public boolean test(ServiceInfoSnapshot serviceInfoSnapshot)
-            {
-                return serviceInfoSnapshot.getServiceId().getEnvironment() == environment;
-            }
-        });
+        return this.globalServiceInfoSnapshots.getByEnvironment(environment);
+    }
+
+    @Override
+    public Collection<ServiceInfoSnapshot> getServiceInfoSnapshots(ServiceLifeCycle lifeCycle)
+    {
+        Validate.checkNotNull(lifeCycle);
+
+        return this.globalServiceInfoSnapshots.getByLifeCycle(lifeCycle);
+    }
+
+    @Override
+    public Collection<ServiceInfoSnapshot> getServiceInfoSnapshotsByGroup(String group)
+    {
+        Validate.checkNotNull(group);
+
+        return this.globalServiceInfoSnapshots.getByGroup(group);
+    }
+
+    @Override
+    public Collection<ServiceInfoSnapshot> getServiceInfoSnapshotsByNode(String nodeUniqueId)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        return this.globalServiceInfoSnapshots.getByNode(nodeUniqueId);
     }
 
     @Override
@@ -472,9 +477,8 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
 
         Collection<Integer> taskIdList = Iterables.newArrayList();
 
-        for (ServiceInfoSnapshot serviceInfoSnapshot : this.globalServiceInfoSnapshots.values())
-            if (serviceInfoSnapshot.getServiceId().getTaskName().equalsIgnoreCase(task))
-                taskIdList.add(serviceInfoSnapshot.getServiceId().getTaskServiceId());
+        for (ServiceInfoSnapshot serviceInfoSnapshot : this.globalServiceInfoSnapshots.getByTask(task))
+            taskIdList.add(serviceInfoSnapshot.getServiceId().getTaskServiceId());
 
         return taskIdList;
     }
@@ -490,39 +494,20 @@ public final class DefaultCloudServiceManager implements ICloudServiceManager {
     @Override
     public int getCurrentUsedHeapMemory()
     {
-        int value = 0;
-
-        for (ICloudService cloudService : this.cloudServices.values())
-            if (cloudService.getLifeCycle() == ServiceLifeCycle.RUNNING)
-                value += cloudService.getConfiguredMaxHeapMemory();
-
-        return value;
+        return this.cloudServices.getUsedHeapMemory();
     }
 
     @Override
     public int getCurrentReservedMemory()
     {
-        int value = 0;
-
-        for (ICloudService cloudService : this.cloudServices.values())
-            value += cloudService.getConfiguredMaxHeapMemory();
-
-        return value;
+        return this.cloudServices.getReservedMemory();
     }
 
     /*= ------------------------------------------------------- =*/
 
     private int checkAndReplacePort(int port)
     {
-        Collection<Integer> ports = Iterables.map(this.cloudServices.values(), new Function<ICloudService, Integer>() {
-            @Override
-            public Integer apply(ICloudService iCloudService)
-            {
-                return iCloudService.getServiceConfiguration().getPort();
-            }
-        });
-
-        while (ports.contains(port))
+        while (this.cloudServices.isPortUsed(port))
             port++;
 
         while (!PortValidator.checkPort(port))
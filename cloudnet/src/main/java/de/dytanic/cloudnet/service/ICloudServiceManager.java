@@ -100,6 +100,12 @@ public interface ICloudServiceManager {
 
     Collection<ServiceInfoSnapshot> getServiceInfoSnapshots(ServiceEnvironmentType environment);
 
+    Collection<ServiceInfoSnapshot> getServiceInfoSnapshots(ServiceLifeCycle lifeCycle);
+
+    Collection<ServiceInfoSnapshot> getServiceInfoSnapshotsByGroup(String group);
+
+    Collection<ServiceInfoSnapshot> getServiceInfoSnapshotsByNode(String nodeUniqueId);
+
     Collection<ServiceInfoSnapshot> getServiceInfoSnapshots(Predicate<ServiceInfoSnapshot> predicate);
 
     Collection<ServiceInfoSnapshot> getServiceInfoSnapshots();
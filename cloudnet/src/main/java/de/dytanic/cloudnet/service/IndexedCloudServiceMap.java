@@ -0,0 +1,192 @@
+package de.dytanic.cloudnet.service;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.service.ServiceLifeCycle;
+
+import java.util.*;
+
+/**
+ * The map of the local cloud services, which keeps an index by task and the reserved memory, the heap memory of the
+ * running services and the used ports as aggregates. Every put or remove updates the index and the aggregates.
+ * <p>
+ * The task, port, heap memory and life cycle are taken from the service by the put. A service has to be put again after
+ * a life cycle change, to update the heap memory of the running services.
+ */
+public final class IndexedCloudServiceMap extends AbstractMap<UUID, ICloudService> {
+
+    private final Map<UUID, ICloudService> cloudServices = Maps.newConcurrentHashMap();
+
+    private final Map<UUID, IndexKeys> indexKeys = Maps.newHashMap();
+
+    private final Map<String, Map<UUID, ICloudService>> tasks = Maps.newConcurrentHashMap();
+
+    private final Map<Integer, Integer> usedPorts = Maps.newConcurrentHashMap();
+
+    private volatile int reservedMemory, usedHeapMemory;
+
+    /*= ------------------------------------------------------- =*/
+
+    @Override
+    public synchronized ICloudService put(UUID uniqueId, ICloudService cloudService)
+    {
+        Validate.checkNotNull(uniqueId);
+        Validate.checkNotNull(cloudService);
+
+        this.removeIndexes(uniqueId);
+
+        ICloudService previousCloudService = this.cloudServices.put(uniqueId, cloudService);
+        this.addIndexes(uniqueId, cloudService);
+
+        return previousCloudService;
+    }
+
+    @Override
+    public synchronized ICloudService replace(UUID uniqueId, ICloudService cloudService)
+    {
+        return this.cloudServices.containsKey(uniqueId) ? this.put(uniqueId, cloudService) : null;
+    }
+
+    @Override
+    public synchronized ICloudService remove(Object key)
+    {
+        if (!(key instanceof UUID)) return null;
+
+        this.removeIndexes((UUID) key);
+
+        return this.cloudServices.remove(key);
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        this.cloudServices.clear();
+        this.indexKeys.clear();
+        this.tasks.clear();
+        this.usedPorts.clear();
+        this.reservedMemory = 0;
+        this.usedHeapMemory = 0;
+    }
+
+    @Override
+    public ICloudService get(Object key)
+    {
+        return this.cloudServices.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.cloudServices.containsKey(key);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.cloudServices.size();
+    }
+
+    @Override
+    public Set<UUID> keySet()
+    {
+        return Collections.unmodifiableSet(this.cloudServices.keySet());
+    }
+
+    @Override
+    public Collection<ICloudService> values()
+    {
+        return Collections.unmodifiableCollection(this.cloudServices.values());
+    }
+
+    @Override
+    public Set<Entry<UUID, ICloudService>> entrySet()
+    {
+        return Collections.unmodifiableSet(this.cloudServices.entrySet());
+    }
+
+    /*= ------------------------------------------------------- =*/
+
+    public List<ICloudService> getByTask(String taskName)
+    {
+        Validate.checkNotNull(taskName);
+
+        Map<UUID, ICloudService> index = this.tasks.get(taskName.toLowerCase());
+        return index != null ? Iterables.newArrayList(index.values()) : Iterables.newArrayList();
+    }
+
+    public boolean isPortUsed(int port)
+    {
+        return this.usedPorts.containsKey(port);
+    }
+
+    public int getReservedMemory()
+    {
+        return this.reservedMemory;
+    }
+
+    public int getUsedHeapMemory()
+    {
+        return this.usedHeapMemory;
+    }
+
+    /*= ------------------------------------------------------- =*/
+
+    private void addIndexes(UUID uniqueId, ICloudService cloudService)
+    {
+        IndexKeys indexKeys = new IndexKeys(cloudService);
+        this.indexKeys.put(uniqueId, indexKeys);
+
+        if (indexKeys.taskName != null)
+            this.tasks.computeIfAbsent(indexKeys.taskName, taskName -> Maps.newConcurrentHashMap()).put(uniqueId, cloudService);
+
+        this.usedPorts.merge(indexKeys.port, 1, Integer::sum);
+        this.reservedMemory += indexKeys.heapMemory;
+
+        if (indexKeys.running)
+            this.usedHeapMemory += indexKeys.heapMemory;
+    }
+
+    private void removeIndexes(UUID uniqueId)
+    {
+        IndexKeys indexKeys = this.indexKeys.remove(uniqueId);
+
+        if (indexKeys == null) return;
+
+        if (indexKeys.taskName != null)
+        {
+            Map<UUID, ICloudService> index = this.tasks.get(indexKeys.taskName);
+
+            if (index != null)
+            {
+                index.remove(uniqueId);
+
+                if (index.isEmpty()) this.tasks.remove(indexKeys.taskName);
+            }
+        }
+
+        this.usedPorts.computeIfPresent(indexKeys.port, (port, count) -> count > 1 ? count - 1 : null);
+        this.reservedMemory -= indexKeys.heapMemory;
+
+        if (indexKeys.running)
+            this.usedHeapMemory -= indexKeys.heapMemory;
+    }
+
+    private static final class IndexKeys {
+
+        private final String taskName;
+
+        private final int port, heapMemory;
+
+        private final boolean running;
+
+        private IndexKeys(ICloudService cloudService)
+        {
+            this.taskName = cloudService.getServiceId() != null && cloudService.getServiceId().getTaskName() != null ?
+                cloudService.getServiceId().getTaskName().toLowerCase() : null;
+            this.port = cloudService.getServiceConfiguration().getPort();
+            this.heapMemory = cloudService.getConfiguredMaxHeapMemory();
+            this.running = cloudService.getLifeCycle() == ServiceLifeCycle.RUNNING;
+        }
+    }
+}
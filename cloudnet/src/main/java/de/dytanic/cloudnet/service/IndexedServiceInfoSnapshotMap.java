@@ -0,0 +1,237 @@
+package de.dytanic.cloudnet.service;
+
+import de.dytanic.cloudnet.common.Validate;
+import de.dytanic.cloudnet.common.collection.Iterables;
+import de.dytanic.cloudnet.common.collection.Maps;
+import de.dytanic.cloudnet.driver.service.ServiceEnvironmentType;
+import de.dytanic.cloudnet.driver.service.ServiceInfoSnapshot;
+import de.dytanic.cloudnet.driver.service.ServiceLifeCycle;
+
+import java.util.*;
+
+/**
+ * The map of all service info snapshots of the cluster, which keeps secondary indexes by task, group, environment, life
+ * cycle and node. Every put or remove updates all indexes, so a query by one of these properties only copies the
+ * matching snapshots.
+ * <p>
+ * The index keys are taken from the snapshot by the put. A snapshot, whose life cycle has been changed, has to be put
+ * again, to move it into the index of the new life cycle.
+ */
+public final class IndexedServiceInfoSnapshotMap extends AbstractMap<UUID, ServiceInfoSnapshot> {
+
+    private final Map<UUID, ServiceInfoSnapshot> serviceInfoSnapshots = Maps.newConcurrentHashMap();
+
+    private final Map<UUID, IndexKeys> indexKeys = Maps.newHashMap();
+
+    private final Map<String, Map<UUID, ServiceInfoSnapshot>>
+        tasks = Maps.newConcurrentHashMap(),
+        groups = Maps.newConcurrentHashMap(),
+        nodes = Maps.newConcurrentHashMap();
+
+    private final Map<ServiceEnvironmentType, Map<UUID, ServiceInfoSnapshot>> environments = Maps.newConcurrentHashMap();
+
+    private final Map<ServiceLifeCycle, Map<UUID, ServiceInfoSnapshot>> lifeCycles = Maps.newConcurrentHashMap();
+
+    /*= ------------------------------------------------------- =*/
+
+    @Override
+    public synchronized ServiceInfoSnapshot put(UUID uniqueId, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        Validate.checkNotNull(uniqueId);
+        Validate.checkNotNull(serviceInfoSnapshot);
+
+        this.removeIndexes(uniqueId);
+
+        ServiceInfoSnapshot previousServiceInfoSnapshot = this.serviceInfoSnapshots.put(uniqueId, serviceInfoSnapshot);
+        this.addIndexes(uniqueId, serviceInfoSnapshot);
+
+        return previousServiceInfoSnapshot;
+    }
+
+    @Override
+    public synchronized ServiceInfoSnapshot replace(UUID uniqueId, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        return this.serviceInfoSnapshots.containsKey(uniqueId) ? this.put(uniqueId, serviceInfoSnapshot) : null;
+    }
+
+    @Override
+    public synchronized ServiceInfoSnapshot remove(Object key)
+    {
+        if (!(key instanceof UUID)) return null;
+
+        this.removeIndexes((UUID) key);
+
+        return this.serviceInfoSnapshots.remove(key);
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        this.serviceInfoSnapshots.clear();
+        this.indexKeys.clear();
+        this.tasks.clear();
+        this.groups.clear();
+        this.nodes.clear();
+        this.environments.clear();
+        this.lifeCycles.clear();
+    }
+
+    @Override
+    public ServiceInfoSnapshot get(Object key)
+    {
+        return this.serviceInfoSnapshots.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.serviceInfoSnapshots.containsKey(key);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.serviceInfoSnapshots.size();
+    }
+
+    @Override
+    public Set<UUID> keySet()
+    {
+        return Collections.unmodifiableSet(this.serviceInfoSnapshots.keySet());
+    }
+
+    @Override
+    public Collection<ServiceInfoSnapshot> values()
+    {
+        return Collections.unmodifiableCollection(this.serviceInfoSnapshots.values());
+    }
+
+    @Override
+    public Set<Entry<UUID, ServiceInfoSnapshot>> entrySet()
+    {
+        return Collections.unmodifiableSet(this.serviceInfoSnapshots.entrySet());
+    }
+
+    /*= ------------------------------------------------------- =*/
+
+    public List<ServiceInfoSnapshot> getByTask(String taskName)
+    {
+        Validate.checkNotNull(taskName);
+
+        return copy(this.tasks.get(taskName.toLowerCase()));
+    }
+
+    public List<ServiceInfoSnapshot> getByGroup(String group)
+    {
+        Validate.checkNotNull(group);
+
+        return copy(this.groups.get(group));
+    }
+
+    public List<ServiceInfoSnapshot> getByNode(String nodeUniqueId)
+    {
+        Validate.checkNotNull(nodeUniqueId);
+
+        return copy(this.nodes.get(nodeUniqueId));
+    }
+
+    public List<ServiceInfoSnapshot> getByEnvironment(ServiceEnvironmentType environment)
+    {
+        Validate.checkNotNull(environment);
+
+        return copy(this.environments.get(environment));
+    }
+
+    public List<ServiceInfoSnapshot> getByLifeCycle(ServiceLifeCycle lifeCycle)
+    {
+        Validate.checkNotNull(lifeCycle);
+
+        return copy(this.lifeCycles.get(lifeCycle));
+    }
+
+    public int countByGroup(String group)
+    {
+        Validate.checkNotNull(group);
+
+        Map<UUID, ServiceInfoSnapshot> index = this.groups.get(group);
+        return index != null ? index.size() : 0;
+    }
+
+    /*= ------------------------------------------------------- =*/
+
+    private void addIndexes(UUID uniqueId, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        IndexKeys indexKeys = new IndexKeys(serviceInfoSnapshot);
+        this.indexKeys.put(uniqueId, indexKeys);
+
+        add(this.tasks, indexKeys.taskName, uniqueId, serviceInfoSnapshot);
+        add(this.nodes, indexKeys.nodeUniqueId, uniqueId, serviceInfoSnapshot);
+        add(this.environments, indexKeys.environment, uniqueId, serviceInfoSnapshot);
+        add(this.lifeCycles, indexKeys.lifeCycle, uniqueId, serviceInfoSnapshot);
+
+        for (String group : indexKeys.groups)
+            add(this.groups, group, uniqueId, serviceInfoSnapshot);
+    }
+
+    private void removeIndexes(UUID uniqueId)
+    {
+        IndexKeys indexKeys = this.indexKeys.remove(uniqueId);
+
+        if (indexKeys == null) return;
+
+        remove(this.tasks, indexKeys.taskName, uniqueId);
+        remove(this.nodes, indexKeys.nodeUniqueId, uniqueId);
+        remove(this.environments, indexKeys.environment, uniqueId);
+        remove(this.lifeCycles, indexKeys.lifeCycle, uniqueId);
+
+        for (String group : indexKeys.groups)
+            remove(this.groups, group, uniqueId);
+    }
+
+    private static <K> void add(Map<K, Map<UUID, ServiceInfoSnapshot>> index, K key, UUID uniqueId, ServiceInfoSnapshot serviceInfoSnapshot)
+    {
+        if (key != null)
+            index.computeIfAbsent(key, k -> Maps.newConcurrentHashMap()).put(uniqueId, serviceInfoSnapshot);
+    }
+
+    private static <K> void remove(Map<K, Map<UUID, ServiceInfoSnapshot>> index, K key, UUID uniqueId)
+    {
+        if (key == null) return;
+
+        Map<UUID, ServiceInfoSnapshot> values = index.get(key);
+
+        if (values != null)
+        {
+            values.remove(uniqueId);
+
+            if (values.isEmpty()) index.remove(key);
+        }
+    }
+
+    private static List<ServiceInfoSnapshot> copy(Map<UUID, ServiceInfoSnapshot> index)
+    {
+        return index != null ? Iterables.newArrayList(index.values()) : Iterables.newArrayList();
+    }
+
+    private static final class IndexKeys {
+
+        private final String taskName, nodeUniqueId;
+
+        private final String[] groups;
+
+        private final ServiceEnvironmentType environment;
+
+        private final ServiceLifeCycle lifeCycle;
+
+        private IndexKeys(ServiceInfoSnapshot serviceInfoSnapshot)
+        {
+            this.taskName = serviceInfoSnapshot.getServiceId() != null && serviceInfoSnapshot.getServiceId().getTaskName() != null ?
+                serviceInfoSnapshot.getServiceId().getTaskName().toLowerCase() : null;
+            this.nodeUniqueId = serviceInfoSnapshot.getServiceId() != null ? serviceInfoSnapshot.getServiceId().getNodeUniqueId() : null;
+            this.environment = serviceInfoSnapshot.getServiceId() != null ? serviceInfoSnapshot.getServiceId().getEnvironment() : null;
+            this.lifeCycle = serviceInfoSnapshot.getLifeCycle();
+            this.groups = serviceInfoSnapshot.getConfiguration() != null && serviceInfoSnapshot.getConfiguration().getGroups() != null ?
+                serviceInfoSnapshot.getConfiguration().getGroups().clone() : new String[0];
+        }
+    }
+}
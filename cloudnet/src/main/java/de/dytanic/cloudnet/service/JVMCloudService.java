@@ -11,6 +11,8 @@ import de.dytanic.cloudnet.common.language.LanguageManager;
 import de.dytanic.cloudnet.common.unsafe.CPUUsageResolver;
 import de.dytanic.cloudnet.conf.ConfigurationOptionSSL;
 import de.dytanic.cloudnet.driver.CloudNetDriver;
+import de.dytanic.cloudnet.driver.metrics.Histogram;
+import de.dytanic.cloudnet.driver.metrics.MetricsRegistry;
 import de.dytanic.cloudnet.driver.network.HostAndPort;
 import de.dytanic.cloudnet.driver.network.INetworkChannel;
 import de.dytanic.cloudnet.driver.network.def.packet.PacketClientServerServiceInfoPublisher;
@@ -40,6 +42,14 @@ final class JVMCloudService implements ICloudService {
 
     private static final Lock START_SEQUENCE_LOCK = new ReentrantLock();
 
+    private static final Histogram
+        PREPARE_STAGE_TIME = startStageTimer("prepare"),
+        INCLUSIONS_STAGE_TIME = startStageTimer("inclusions"),
+        TEMPLATES_STAGE_TIME = startStageTimer("templates"),
+        CONFIGURE_STAGE_TIME = startStageTimer("configure"),
+        PROCESS_STAGE_TIME = startStageTimer("process"),
+        START_TIME = startStageTimer("total");
+
     /*= ---------------------------------------------------------------------- =*/
 
     private final List<ServiceRemoteInclusion> includes = Iterables.newArrayList();
@@ -260,6 +270,8 @@ final class JVMCloudService implements ICloudService {
                 .replace("%id%", this.serviceId.getUniqueId().toString()));
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePrePrepareEvent(this));
 
+            long startNanos = System.nanoTime();
+
             new File(this.directory, ".wrapper").mkdirs();
 
             if (CloudNet.getInstance().getConfig().getServerSslConfig().isEnabled())
@@ -295,6 +307,8 @@ final class JVMCloudService implements ICloudService {
                 }
             }
 
+            PREPARE_STAGE_TIME.recordSince(startNanos);
+
             this.lifeCycle = ServiceLifeCycle.PREPARED;
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePostPrepareEvent(this));
 
@@ -314,13 +328,18 @@ final class JVMCloudService implements ICloudService {
         {
             if (!hasAccessFromNode()) return;
 
+            long startNanos = System.nanoTime(), stageNanos = startNanos;
+
             System.out.println(LanguageManager.getMessage("cloud-service-pre-start-prepared-message")
                 .replace("%task%", this.serviceId.getTaskName())
                 .replace("%id%", this.serviceId.getUniqueId().toString()));
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePreStartPrepareEvent(this));
 
             this.includeInclusions();
+            stageNanos = recordStage(INCLUSIONS_STAGE_TIME, stageNanos);
+
             this.includeTemplates();
+            stageNanos = recordStage(TEMPLATES_STAGE_TIME, stageNanos);
 
             this.serviceConfiguration = new ServiceConfiguration(
                 this.serviceId,
@@ -346,6 +365,7 @@ final class JVMCloudService implements ICloudService {
                 .append("serviceConfiguration", this.serviceConfiguration)
                 .append("serviceInfoSnapshot", this.serviceInfoSnapshot)
                 .append("sslConfig", CloudNet.getInstance().getConfig().getServerSslConfig())
+                .append("networkTransportConfig", CloudNet.getInstance().getConfig().getWrapperNetworkTransportConfig())
                 .write(new File(this.directory, ".wrapper/wrapper.json"));
 
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePostStartPrepareEvent(this));
@@ -359,7 +379,11 @@ final class JVMCloudService implements ICloudService {
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePreStartEvent(this));
 
             this.configureServiceEnvironment();
+            stageNanos = recordStage(CONFIGURE_STAGE_TIME, stageNanos);
+
             this.startApplication();
+            recordStage(PROCESS_STAGE_TIME, stageNanos);
+            START_TIME.recordSince(startNanos);
 
             this.lifeCycle = ServiceLifeCycle.RUNNING;
             CloudNetDriver.getInstance().getEventManager().callEvent(new CloudServicePostStartEvent(this));
@@ -368,10 +392,28 @@ final class JVMCloudService implements ICloudService {
                 .replace("%id%", this.serviceId.getUniqueId().toString()));
 
             this.serviceInfoSnapshot.setLifeCycle(ServiceLifeCycle.RUNNING);
+            this.updateServiceIndexes();
             CloudNet.getInstance().sendAll(new PacketClientServerServiceInfoPublisher(this.serviceInfoSnapshot, PacketClientServerServiceInfoPublisher.PublisherType.STARTED));
         }
     }
 
+    private static Histogram startStageTimer(String stage)
+    {
+        return MetricsRegistry.getDefault().timer(
+            "cloudnet_service_start_stage_seconds",
+            "The time of the stages, in which a local service is prepared and started",
+            "stage", stage
+        );
+    }
+
+    private static long recordStage(Histogram histogram, long stageNanos)
+    {
+        long currentNanos = System.nanoTime();
+        histogram.record(currentNanos - stageNanos);
+
+        return currentNanos;
+    }
+
     private boolean hasAccessFromNode()
     {
         if (cloudServiceManager.getCurrentUsedHeapMemory() >= CloudNet.getInstance().getConfig().getMaxMemory())
@@ -632,9 +674,7 @@ final class JVMCloudService implements ICloudService {
             "-Dcom.mojang.eula.agree=true",
             "-Djline.terminal=jline.UnsupportedTerminal",
             "-Dfile.encoding=UTF-8",
-            "-Dio.netty.noPreferDirect=true",
             "-Dclient.encoding.override=UTF-8",
-            "-Dio.netty.maxDirectMemory=0",
             "-Dio.netty.leakDetectionLevel=DISABLED",
             "-Dio.netty.recycler.maxCapacity=0",
             "-Dio.netty.recycler.maxCapacity.default=0",
@@ -642,6 +682,12 @@ final class JVMCloudService implements ICloudService {
             "-Dcloudnet.wrapper.receivedMessages.language=" + LanguageManager.getLanguage()
         ));
 
+        if (!CloudNet.getInstance().getConfig().getWrapperNetworkTransportConfig().isPreferDirectBuffers())
+            commandArguments.addAll(Arrays.asList(
+                "-Dio.netty.noPreferDirect=true",
+                "-Dio.netty.maxDirectMemory=0"
+            ));
+
         File wrapperFile = new File(System.getProperty("cloudnet.tempDir", "temp"), "caches/wrapper.jar");
 
         commandArguments.addAll(this.serviceConfiguration.getProcessConfig().getJvmOptions());
@@ -916,6 +962,7 @@ final class JVMCloudService implements ICloudService {
                 .replace("%exit_value%", exitValue + ""));
 
             this.serviceInfoSnapshot = createServiceInfoSnapshot(ServiceLifeCycle.STOPPED);
+            this.updateServiceIndexes();
 
             CloudNet.getInstance().sendAll(new PacketClientServerServiceInfoPublisher(this.serviceInfoSnapshot, PacketClientServerServiceInfoPublisher.PublisherType.STOPPED));
             return exitValue;
@@ -995,6 +1042,12 @@ final class JVMCloudService implements ICloudService {
         CloudNet.getInstance().sendAll(new PacketClientServerServiceInfoPublisher(this.serviceInfoSnapshot, PacketClientServerServiceInfoPublisher.PublisherType.UNREGISTER));
     }
 
+    private void updateServiceIndexes()
+    {
+        this.cloudServiceManager.getCloudServices().replace(this.serviceId.getUniqueId(), this);
+        this.cloudServiceManager.getGlobalServiceInfoSnapshots().replace(this.serviceId.getUniqueId(), this.serviceInfoSnapshot);
+    }
+
     private ITemplateStorage getStorage(String storageName)
     {
         ITemplateStorage storage;
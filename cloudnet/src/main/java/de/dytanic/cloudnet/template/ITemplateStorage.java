@@ -1,8 +1,12 @@
 package de.dytanic.cloudnet.template;
 
+import de.dytanic.cloudnet.common.io.FileUtils;
 import de.dytanic.cloudnet.driver.service.ServiceTemplate;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Collection;
 
@@ -23,6 +27,19 @@ public interface ITemplateStorage extends AutoCloseable {
      */
     boolean deploy(byte[] zipInput, ServiceTemplate target);
 
+    /**
+     * Deploys a zip compressed stream into a target template. The default implementation reads the stream into the memory,
+     * an implementation should override it, if it can extract the stream while it is read.
+     *
+     * @param zipInput the zip compressed stream within all files are included for the target template
+     * @param target   the target serviceTemplate to that should deploy
+     * @return true if the deployment was successful
+     */
+    default boolean deploy(InputStream zipInput, ServiceTemplate target)
+    {
+        return this.deploy(FileUtils.toByteArray(zipInput), target);
+    }
+
     /**
      * Deploys the following directory files to the target template storage.
      *
@@ -46,6 +63,24 @@ public interface ITemplateStorage extends AutoCloseable {
 
     byte[] toZipByteArray(ServiceTemplate template);
 
+    /**
+     * Writes the template zip compressed into the output stream. The default implementation creates the zip in the memory,
+     * an implementation should override it, if it can compress the files while they are written.
+     *
+     * @param template     the template, which should be compressed
+     * @param outputStream the target stream, which isn't closed by this method
+     * @return true if the template exists and was written
+     */
+    default boolean toZipStream(ServiceTemplate template, OutputStream outputStream) throws IOException
+    {
+        byte[] bytes = this.toZipByteArray(template);
+
+        if (bytes == null) return false;
+
+        outputStream.write(bytes);
+        return true;
+    }
+
     boolean delete(ServiceTemplate template);
 
     boolean has(ServiceTemplate template);
@@ -8,6 +8,8 @@ import lombok.Getter;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +45,24 @@ public final class LocalTemplateStorage implements ITemplateStorage {
         return false;
     }
 
+    @Override
+    public boolean deploy(InputStream zipInput, ServiceTemplate target)
+    {
+        Validate.checkNotNull(zipInput);
+        Validate.checkNotNull(target);
+
+        try
+        {
+            FileUtils.extract0(zipInput, new File(this.storageDirectory, target.getTemplatePath()).toPath());
+            return true;
+        } catch (IOException e)
+        {
+            e.printStackTrace();
+        }
+
+        return false;
+    }
+
     @Override
     public boolean deploy(File directory, ServiceTemplate target)
     {
@@ -174,6 +194,17 @@ public final class LocalTemplateStorage implements ITemplateStorage {
         return directory.exists() ? FileUtils.convert(new Path[]{directory.toPath()}) : null;
     }
 
+    @Override
+    public boolean toZipStream(ServiceTemplate template, OutputStream outputStream) throws IOException
+    {
+        File directory = new File(storageDirectory, template.getTemplatePath());
+
+        if (!directory.exists()) return false;
+
+        FileUtils.convert(outputStream, directory.toPath());
+        return true;
+    }
+
     @Override
     public boolean delete(ServiceTemplate template)
     {
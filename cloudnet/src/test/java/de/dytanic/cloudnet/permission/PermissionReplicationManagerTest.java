@@ -0,0 +1,77 @@
+package de.dytanic.cloudnet.permission;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public final class PermissionReplicationManagerTest {
+
+    @Test
+    public void testCheckSequence()
+    {
+        PermissionReplicationManager replicationManager = new PermissionReplicationManager();
+
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-2", 1));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-2", 2));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.DUPLICATE, replicationManager.checkSequence("Node-2", 2));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.DUPLICATE, replicationManager.checkSequence("Node-2", 1));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.GAP, replicationManager.checkSequence("Node-2", 5));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-2", 6));
+
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-3", 1));
+
+        //a restarted node starts with a new sequence after its full sync
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.DUPLICATE, replicationManager.checkSequence("Node-2", 1));
+
+        replicationManager.resetSequence("Node-2", 0);
+
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-2", 1));
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.GAP, replicationManager.checkSequence("Node-2", 3));
+    }
+
+    @Test
+    public void testAcceptVersion()
+    {
+        PermissionReplicationManager replicationManager = new PermissionReplicationManager();
+        String key = PermissionReplicationManager.userKey(UUID.randomUUID());
+
+        Assert.assertTrue(replicationManager.acceptVersion(key, 5, "Node-2"));
+        Assert.assertFalse(replicationManager.acceptVersion(key, 4, "Node-2"));
+        Assert.assertFalse(replicationManager.acceptVersion(key, 5, "Node-1"));
+        Assert.assertTrue(replicationManager.acceptVersion(key, 5, "Node-3"));
+        Assert.assertTrue(replicationManager.acceptVersion(key, 6, "Node-1"));
+
+        //the next local version is newer than every known version
+        long version = replicationManager.nextVersion(key, "Node-1");
+
+        Assert.assertTrue(version > 6);
+        Assert.assertFalse(replicationManager.acceptVersion(key, version - 1, "Node-2"));
+
+        long futureVersion = System.currentTimeMillis() + 60000;
+
+        Assert.assertTrue(replicationManager.acceptVersion(key, futureVersion, "Node-2"));
+        Assert.assertEquals(futureVersion + 1, replicationManager.nextVersion(key, "Node-1"));
+    }
+
+    @Test
+    public void testRestartedNode()
+    {
+        PermissionReplicationManager replicationManager = new PermissionReplicationManager();
+        String key = PermissionReplicationManager.userKey(UUID.randomUUID());
+
+        long version = replicationManager.nextVersion(key, "Node-2");
+        Assert.assertTrue(replicationManager.acceptVersion(key, version + 10, "Node-2"));
+
+        //the restarted node sends its full sync with a new sequence, which clears the versions of the old process
+        replicationManager.resetSequence("Node-2", 0);
+
+        Assert.assertEquals(PermissionReplicationManager.SequenceState.APPLY, replicationManager.checkSequence("Node-2", 1));
+        Assert.assertTrue(replicationManager.acceptVersion(key, 1, "Node-2"));
+
+        //the versions of a restarted node start at the current time, so they are newer than the ones before the restart
+        PermissionReplicationManager restartedReplicationManager = new PermissionReplicationManager();
+
+        Assert.assertTrue(restartedReplicationManager.nextVersion(key, "Node-3") >= version);
+    }
+}
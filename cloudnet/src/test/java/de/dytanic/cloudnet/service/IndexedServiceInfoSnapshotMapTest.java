@@ -0,0 +1,69 @@
+package de.dytanic.cloudnet.service;
+
+import de.dytanic.cloudnet.driver.service.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.UUID;
+
+public final class IndexedServiceInfoSnapshotMapTest {
+
+    @Test
+    public void testIndexes()
+    {
+        IndexedServiceInfoSnapshotMap serviceInfoSnapshots = new IndexedServiceInfoSnapshotMap();
+
+        ServiceInfoSnapshot lobby = createServiceInfoSnapshot("Lobby", 1, "Node-1", ServiceEnvironmentType.MINECRAFT_SERVER, ServiceLifeCycle.PREPARED, "Lobby", "Global");
+        ServiceInfoSnapshot proxy = createServiceInfoSnapshot("Proxy", 1, "Node-2", ServiceEnvironmentType.BUNGEECORD, ServiceLifeCycle.RUNNING, "Global");
+
+        serviceInfoSnapshots.put(lobby.getServiceId().getUniqueId(), lobby);
+        serviceInfoSnapshots.put(proxy.getServiceId().getUniqueId(), proxy);
+
+        Assert.assertEquals(1, serviceInfoSnapshots.getByTask("lobby").size());
+        Assert.assertEquals(2, serviceInfoSnapshots.getByGroup("Global").size());
+        Assert.assertEquals(1, serviceInfoSnapshots.getByNode("Node-2").size());
+        Assert.assertEquals(1, serviceInfoSnapshots.getByEnvironment(ServiceEnvironmentType.BUNGEECORD).size());
+        Assert.assertEquals(1, serviceInfoSnapshots.getByLifeCycle(ServiceLifeCycle.RUNNING).size());
+
+        lobby.setLifeCycle(ServiceLifeCycle.RUNNING);
+        serviceInfoSnapshots.replace(lobby.getServiceId().getUniqueId(), lobby);
+
+        Assert.assertEquals(2, serviceInfoSnapshots.getByLifeCycle(ServiceLifeCycle.RUNNING).size());
+        Assert.assertTrue(serviceInfoSnapshots.getByLifeCycle(ServiceLifeCycle.PREPARED).isEmpty());
+
+        serviceInfoSnapshots.remove(proxy.getServiceId().getUniqueId());
+
+        Assert.assertEquals(1, serviceInfoSnapshots.size());
+        Assert.assertEquals(1, serviceInfoSnapshots.getByGroup("Global").size());
+        Assert.assertTrue(serviceInfoSnapshots.getByNode("Node-2").isEmpty());
+        Assert.assertNull(serviceInfoSnapshots.replace(proxy.getServiceId().getUniqueId(), proxy));
+        Assert.assertEquals(1, serviceInfoSnapshots.size());
+    }
+
+    private ServiceInfoSnapshot createServiceInfoSnapshot(String task, int taskServiceId, String node, ServiceEnvironmentType environment,
+                                                          ServiceLifeCycle lifeCycle, String... groups)
+    {
+        ServiceId serviceId = new ServiceId(UUID.randomUUID(), node, task, taskServiceId, environment);
+
+        return new ServiceInfoSnapshot(
+            System.currentTimeMillis(),
+            serviceId,
+            null,
+            false,
+            lifeCycle,
+            null,
+            new ServiceConfiguration(
+                serviceId,
+                "jvm",
+                true,
+                false,
+                groups,
+                new ServiceRemoteInclusion[0],
+                new ServiceTemplate[0],
+                new ServiceDeployment[0],
+                new ProcessConfiguration(environment, 256, null),
+                44955
+            )
+        );
+    }
+}